@@ -22,6 +22,7 @@ import java.io.*;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -548,6 +549,9 @@ public final class Config extends Context implements ConfigEventListener {
 	private final ConfigMap configMap;
 	private final List<ConfigEventListener> listeners = synced(linkedList());
 
+	// Decoded entry values and their conversions, keyed by section and key.
+	private final Map<String,Map<String,CachedValue>> valueCache = new ConcurrentHashMap<>();
+
 
 	@Override /* Context */
 	public Builder copy() {
@@ -669,6 +673,51 @@ public final class Config extends Context implements ConfigEventListener {
 		return x == null ? Mod.NO_OP : x;
 	}
 
+	/**
+	 * Returns the cached value for the specified config map entry, creating it if it's not cached yet or the entry has
+	 * changed since it was cached.
+	 *
+	 * <p>
+	 * Entries are immutable and replaced on every modification, so comparing the entry instance catches changes that
+	 * aren't signaled through {@link ConfigEvents} (e.g. uncommitted changes made through another config on the same
+	 * map).
+	 */
+	CachedValue getCachedValue(String section, String key, ConfigMapEntry ce) {
+		Map<String,CachedValue> m = valueCache.get(section);
+		if (m == null) {
+			m = new ConcurrentHashMap<>();
+			Map<String,CachedValue> m2 = valueCache.putIfAbsent(section, m);
+			if (m2 != null)
+				m = m2;
+		}
+		CachedValue v = m.get(key);
+		if (v == null || v.entry != ce) {
+			v = new CachedValue(ce, removeMods(ce.getModifiers(), ce.getValue()));
+			m.put(key, v);
+		}
+		return v;
+	}
+
+	/**
+	 * The decoded value of a config map entry along with its conversions to immutable types.
+	 */
+	final class CachedValue {
+		final ConfigMapEntry entry;
+		final String value;
+
+		// The value with variables resolved, or null if it contains variables.
+		final String resolved;
+
+		// Conversions keyed by target type, only used when the resolved value is known.
+		final Map<Type,Optional<?>> conversions = new ConcurrentHashMap<>();
+
+		CachedValue(ConfigMapEntry entry, String value) {
+			this.entry = entry;
+			this.value = value;
+			this.resolved = value != null && varSession.isConstant(value) ? varSession.resolve(value) : null;
+		}
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Utility methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1185,6 +1234,15 @@ public final class Config extends Context implements ConfigEventListener {
 
 	@Override /* ConfigEventListener */
 	public synchronized void onConfigChange(ConfigEvents events) {
+		for (ConfigEvent e : events) {
+			Map<String,CachedValue> m = e.getSection() == null ? null : valueCache.get(e.getSection());
+			if (m != null) {
+				if (e.getKey() == null)
+					m.clear();
+				else
+					m.remove(e.getKey());
+			}
+		}
 		for (ConfigEventListener l : listeners)
 			l.onConfigChange(events);
 	}
@@ -29,12 +29,17 @@ import org.apache.juneau.parser.*;
 
 /**
  * A single entry in a {@link Config} file.
+ *
+ * <p>
+ * Decoded values and conversions to immutable types (strings, numbers, booleans, enums) are cached on the config for
+ * entries that don't contain variables, so repeated lookups of the same entry don't re-decode or re-parse the value.
  */
 public class Entry {
 
 	private final ConfigMapEntry configEntry;
 	private final Config config;
 	private final String value;
+	private final Config.CachedValue cached;
 
 	/**
 	 * Constructor.
@@ -47,7 +52,8 @@ public class Entry {
 	protected Entry(Config config, ConfigMap configMap, String sectionName, String entryName) {
 		this.configEntry = configMap.getEntry(sectionName, entryName);
 		this.config = config;
-		this.value = configEntry == null ? null : config.removeMods(configEntry.getModifiers(), configEntry.getValue());
+		this.cached = configEntry == null ? null : config.getCachedValue(sectionName, entryName, configEntry);
+		this.value = cached == null ? null : cached.value;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -213,7 +219,7 @@ public class Entry {
 			if (type == JsonMap.class) return (Optional<T>)asMap();
 			if (type == JsonList.class) return (Optional<T>)asList();
 			if (isEmpty()) return empty();
-			if (isSimpleType(type)) return optional((T)config.beanSession.convertToType(v, (Class<?>)type));
+			if (isSimpleType(type)) return convert(type, () -> optional((T)config.beanSession.convertToType(toString(), (Class<?>)type)));
 
 			if (parser instanceof JsonParser) {
 				char s1 = firstNonWhitespaceChar(v);
@@ -247,6 +253,8 @@ public class Entry {
 	 */
  	@Override
 	public String toString() {
+		if (cached != null && cached.resolved != null)
+			return cached.resolved;
  		return isPresent() ? config.varSession.resolve(value) : null;
 	}
 
@@ -256,7 +264,7 @@ public class Entry {
 	 * @return This entry as a string, or {@link Optional#empty()} if the entry does not exist.
 	 */
 	public Optional<String> asString() {
- 		return optional(isPresent() ? config.varSession.resolve(value) : null);
+ 		return convert(String.class, () -> optional(toString()));
 	}
 
 	/**
@@ -313,7 +321,7 @@ public class Entry {
 	 * @return The value, or {@link Optional#empty()} if the value does not exist or the value is empty.
 	 */
 	public Optional<Integer> asInteger() {
-		return optional(isEmpty() ? null : parseIntWithSuffix(toString()));
+		return convert(Integer.class, () -> optional(isEmpty() ? null : parseIntWithSuffix(toString())));
 	}
 
 
@@ -326,7 +334,7 @@ public class Entry {
 	 * @return The value, or {@link Optional#empty()} if the value does not exist or the value is empty.
 	 */
 	public Optional<Boolean> asBoolean() {
-		return optional(isEmpty() ? null : Boolean.parseBoolean(toString()));
+		return convert(Boolean.class, () -> optional(isEmpty() ? null : Boolean.parseBoolean(toString())));
 	}
 
 	/**
@@ -360,7 +368,7 @@ public class Entry {
 	 * @return The value, or {@link Optional#empty()} if the value does not exist or the value is empty.
 	 */
 	public Optional<Long> asLong() {
-		return optional(isEmpty() ? null : parseLongWithSuffix(toString()));
+		return convert(Long.class, () -> optional(isEmpty() ? null : parseLongWithSuffix(toString())));
 	}
 
 
@@ -379,7 +387,7 @@ public class Entry {
 	 * @return The value, or {@link Optional#empty()} if the value does not exist or the value is empty.
 	 */
 	public Optional<Double> asDouble() {
-		return optional(isEmpty() ? null : Double.valueOf(toString()));
+		return convert(Double.class, () -> optional(isEmpty() ? null : Double.valueOf(toString())));
 	}
 
 
@@ -398,7 +406,7 @@ public class Entry {
 	 * @return The value, or {@link Optional#empty()} if the value does not exist or the value is empty.
 	 */
 	public Optional<Float> asFloat() {
-		return optional(isEmpty() ? null : Float.valueOf(toString()));
+		return convert(Float.class, () -> optional(isEmpty() ? null : Float.valueOf(toString())));
 	}
 
 
@@ -561,6 +569,22 @@ public class Entry {
 	// Helper methods
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/*
+	 * Returns the conversion of this entry to the specified type from the config cache if the entry doesn't contain
+	 * variables.  Must only be used for conversions that produce immutable values.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Optional<T> convert(Type type, Supplier<Optional<T>> supplier) {
+		if (cached == null || cached.resolved == null)
+			return supplier.get();
+		Optional<?> o = cached.conversions.get(type);
+		if (o == null) {
+			o = supplier.get();
+			cached.conversions.putIfAbsent(type, o);
+		}
+		return (Optional<T>)o;
+	}
+
 	private boolean isEmpty() {
 		return StringUtils.isEmpty(value);
 	}
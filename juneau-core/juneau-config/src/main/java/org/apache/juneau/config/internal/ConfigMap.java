@@ -66,17 +66,20 @@ public class ConfigMap implements ConfigStoreListener {
 		load(store.read(name));
 	}
 
-	ConfigMap(ConfigStore store, String name, String contents) throws IOException {
-		this.store = store;
-		this.name = name;
-		load(contents);
-	}
-
+	/*
+	 * Parses the specified contents into this map.
+	 *
+	 * Sections whose lines are identical to those of a previously-loaded section that hasn't been modified since are
+	 * reused as-is instead of being parsed again.
+	 */
 	private ConfigMap load(String contents) throws IOException {
 		if (contents == null)
 			contents = "";
 		this.contents = contents;
 
+		Map<String,ConfigSection> previous = map();
+		previous.putAll(oentries);
+
 		entries.clear();
 		oentries.clear();
 		imports.forEach(x -> x.unregisterAll());
@@ -85,36 +88,33 @@ public class ConfigMap implements ConfigStoreListener {
 		Map<String,ConfigMap> imports = map();
 
 		List<String> lines = linkedList();
-		try (Scanner scanner = new Scanner(contents)) {
-			while (scanner.hasNextLine()) {
-				String line = scanner.nextLine();
-				char c = firstChar(line);
-				int c2 = StringUtils.lastNonWhitespaceChar(line);
-				if (c == '[') {
-					String l = line.trim();
-					if (c2 != ']' || ! isValidNewSectionName(l.substring(1, l.length()-1)))
-						throw new ConfigException("Invalid section name found in configuration:  {0}", line);
-				} else if (c == '<') {
-					String l = line.trim();
-					int i = l.indexOf('>');
-					if (i != -1) {
-						String l2 = l.substring(1, i);
-						if (! isValidConfigName(l2))
-							throw new ConfigException("Invalid import config name found in configuration:  {0}", line);
-						String l3 = l.substring(i+1);
-						if (! (isEmpty(l3) || firstChar(l3) == '#'))
-							throw new ConfigException("Invalid import config name found in configuration:  {0}", line);
-						String importName = l2.trim();
-						try {
-							if (! imports.containsKey(importName))
-								imports.put(importName, store.getMap(importName));
-						} catch (StackOverflowError e) {
-							throw new IOException("Import loop detected in configuration '"+name+"'->'"+importName+"'");
-						}
+		for (String line : splitLines(contents)) {
+			char c = firstChar(line);
+			int c2 = StringUtils.lastNonWhitespaceChar(line);
+			if (c == '[') {
+				String l = line.trim();
+				if (c2 != ']' || ! isValidNewSectionName(l.substring(1, l.length()-1)))
+					throw new ConfigException("Invalid section name found in configuration:  {0}", line);
+			} else if (c == '<') {
+				String l = line.trim();
+				int i = l.indexOf('>');
+				if (i != -1) {
+					String l2 = l.substring(1, i);
+					if (! isValidConfigName(l2))
+						throw new ConfigException("Invalid import config name found in configuration:  {0}", line);
+					String l3 = l.substring(i+1);
+					if (! (isEmpty(l3) || firstChar(l3) == '#'))
+						throw new ConfigException("Invalid import config name found in configuration:  {0}", line);
+					String importName = l2.trim();
+					try {
+						if (! imports.containsKey(importName))
+							imports.put(importName, store.getMap(importName));
+					} catch (StackOverflowError e) {
+						throw new IOException("Import loop detected in configuration '"+name+"'->'"+importName+"'");
 					}
 				}
-				lines.add(line);
 			}
+			lines.add(line);
 		}
 
 		List<Import> irl = list(imports.size());
@@ -178,14 +178,14 @@ public class ConfigMap implements ConfigStoreListener {
 				}
 			} else {
 				if (c != '#' && (c == '[' || l.indexOf('=') != -1)) {
-					sections.add(new ConfigSection(lines.subList(i+1, last+1)));
+					sections.add(section(lines.subList(i+1, last+1), previous));
 					last = i + 1;// (c == '[' ? i+1 : i);
 					state = (c == '[' ? S2 : S1);
 				}
 			}
 		}
 
-		sections.add(new ConfigSection(lines.subList(0, last+1)));
+		sections.add(section(lines.subList(0, last+1), previous));
 
 		for (int i = sections.size() - 1; i >= 0; i--) {
 			ConfigSection cs = sections.get(i);
@@ -198,6 +198,41 @@ public class ConfigMap implements ConfigStoreListener {
 		return this;
 	}
 
+	/*
+	 * Returns the previously-loaded section for the specified lines if it's unchanged, or parses a new one.
+	 */
+	private ConfigSection section(List<String> lines, Map<String,ConfigSection> previous) {
+		for (String l : lines) {
+			if (firstNonWhitespaceChar(l) == '[') {
+				ConfigSection cs = previous.get(l.substring(l.indexOf('[')+1, l.indexOf(']')).trim());
+				if (cs != null && ! cs.modified && lines.equals(cs.lines))
+					return cs;
+				break;
+			}
+		}
+		return new ConfigSection(lines);
+	}
+
+	/*
+	 * Splits the contents into lines using the same line terminators as Scanner.nextLine().
+	 */
+	private static List<String> splitLines(String s) {
+		List<String> l = list();
+		int start = 0, len = s.length();
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			if (c == '\n' || c == '\r' || c == '\u2028' || c == '\u2029' || c == '\u0085') {
+				l.add(s.substring(start, i));
+				if (c == '\r' && i+1 < len && s.charAt(i+1) == '\n')
+					i++;
+				start = i+1;
+			}
+		}
+		if (start < len)
+			l.add(s.substring(start));
+		return l;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Getters
 	//-----------------------------------------------------------------------------------------------------------------
@@ -452,7 +487,7 @@ public class ConfigMap implements ConfigStoreListener {
 					cs.setPreLines(ce.getPreLines());
 			} else if (ce.getType() == REMOVE_ENTRY) {
 				if (cs != null)
-					cs.entries.remove(ce.getKey());
+					cs.removeEntry(ce.getKey());
 			} else if (ce.getType() == REMOVE_SECTION) {
 				if (cs != null)
 					entries.remove(section);
@@ -578,8 +613,12 @@ public class ConfigMap implements ConfigStoreListener {
 		ConfigEvents changes = null;
 		try (SimpleLock x = lock.write()) {
 			if (ne(contents, newContents)) {
-				changes = findDiffs(newContents);
+				Map<String,ConfigSection> before = map();
+				before.putAll(oentries);
+				List<Import> importsBefore = list();
+				importsBefore.addAll(imports);
 				load(newContents);
+				changes = findDiffs(before, importsBefore);
 
 				// Reapply our changes on top of the modifications.
 				this.changes.forEach(y -> applyChange(false, y));
@@ -721,16 +760,19 @@ public class ConfigMap implements ConfigStoreListener {
 			listeners.forEach(x -> x.onConfigChange(changes));
 	}
 
-	private ConfigEvents findDiffs(String updatedContents) throws IOException {
+	/*
+	 * Finds the differences between the specified previously-loaded sections and imports and the ones currently loaded.
+	 * Sections that were reused during loading are unchanged and skipped.
+	 */
+	private ConfigEvents findDiffs(Map<String,ConfigSection> oldEntries, List<Import> oldImports) {
 		ConfigEvents changes = new ConfigEvents();
-		ConfigMap newMap = new ConfigMap(store, name, updatedContents);
 
 		// Imports added.
-		for (Import i : newMap.imports) {
-			if (! imports.contains(i)) {
+		for (Import i : imports) {
+			if (! oldImports.contains(i)) {
 				for (ConfigSection s : i.getConfigMap().entries.values()) {
 					for (ConfigMapEntry e : s.oentries.values()) {
-						if (! newMap.hasEntry(s.name, e.key)) {
+						if (! hasEntry(s.name, e.key)) {
 							changes.add(ConfigEvent.setEntry(name, s.name, e.key, e.value, e.modifiers, e.comment, e.preLines));
 						}
 					}
@@ -739,11 +781,11 @@ public class ConfigMap implements ConfigStoreListener {
 		}
 
 		// Imports removed.
-		for (Import i : imports) {
-			if (! newMap.imports.contains(i)) {
+		for (Import i : oldImports) {
+			if (! imports.contains(i)) {
 				for (ConfigSection s : i.getConfigMap().entries.values()) {
 					for (ConfigMapEntry e : s.oentries.values()) {
-						if (! newMap.hasEntry(s.name, e.key)) {
+						if (! hasEntry(s.name, e.key)) {
 							changes.add(ConfigEvent.removeEntry(name, s.name, e.key));
 						}
 					}
@@ -751,8 +793,10 @@ public class ConfigMap implements ConfigStoreListener {
 			}
 		}
 
-		for (ConfigSection ns : newMap.oentries.values()) {
-			ConfigSection s = oentries.get(ns.name);
+		for (ConfigSection ns : oentries.values()) {
+			ConfigSection s = oldEntries.get(ns.name);
+			if (s == ns)
+				continue;
 			if (s == null) {
 				//changes.add(ConfigEvent.setSection(ns.name, ns.preLines));
 				for (ConfigMapEntry ne : ns.entries.values()) {
@@ -774,8 +818,8 @@ public class ConfigMap implements ConfigStoreListener {
 			}
 		}
 
-		for (ConfigSection s : oentries.values()) {
-			ConfigSection ns = newMap.oentries.get(s.name);
+		for (ConfigSection s : oldEntries.values()) {
+			ConfigSection ns = oentries.get(s.name);
 			if (ns == null) {
 				//changes.add(ConfigEvent.removeSection(s.name));
 				for (ConfigMapEntry e : s.oentries.values())
@@ -813,12 +857,19 @@ public class ConfigMap implements ConfigStoreListener {
 		final Map<String,ConfigMapEntry> oentries = synced(map());
 		final Map<String,ConfigMapEntry> entries = synced(map());
 
+		// The lines this section was parsed from, or null if it was created programmatically.
+		final List<String> lines;
+
+		// Whether this section has been changed since it was parsed.
+		volatile boolean modified;
+
 		/**
 		 * Constructor.
 		 */
 		ConfigSection(String name) {
 			this.name = name;
 			this.rawLine = "[" + name + "]";
+			this.lines = null;
 		}
 
 		/**
@@ -859,18 +910,27 @@ public class ConfigMap implements ConfigStoreListener {
 
 			this.name = name;
 			this.rawLine = rawLine;
+			this.lines = copyOf(lines);  // Copied so that reused sections don't retain the lines of the whole file.
 			this.oentries.putAll(entries);
 		}
 
 		ConfigSection addEntry(String key, String value, String modifiers, String comment, List<String> preLines) {
 			ConfigMapEntry e = new ConfigMapEntry(key, value, modifiers, comment, preLines);
 			this.entries.put(e.key, e);
+			modified = true;
+			return this;
+		}
+
+		ConfigSection removeEntry(String key) {
+			this.entries.remove(key);
+			modified = true;
 			return this;
 		}
 
 		ConfigSection setPreLines(List<String> preLines) {
 			this.preLines.clear();
 			this.preLines.addAll(preLines);
+			modified = true;
 			return this;
 		}
 
@@ -12,8 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.config.store;
 
+import static java.nio.file.StandardCopyOption.*;
 import static java.nio.file.StandardWatchEventKinds.*;
 import static java.nio.file.StandardOpenOption.*;
+import static java.util.concurrent.TimeUnit.*;
 import static org.apache.juneau.collections.JsonMap.*;
 import static org.apache.juneau.internal.ThrowableUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
@@ -25,6 +27,8 @@ import java.nio.*;
 import java.nio.channels.*;
 import java.nio.charset.*;
 import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
 import java.util.concurrent.*;
 
 import org.apache.juneau.*;
@@ -38,6 +42,13 @@ import org.apache.juneau.utils.*;
  * <p>
  * Points to a file system directory containing configuration files.
  *
+ * <p>
+ * Reads of cached contents don't acquire any locks.
+ * <br>Writes replace files atomically by renaming a temporary file so that readers never see partially-written
+ * contents.
+ * <br>Writers in different processes are serialized through a lock on a hidden <c>.&lt;name&gt;.lock</c> file
+ * next to each configuration file, since the configuration file itself is replaced on every write.
+ *
  * <ul class='notes'>
  * 	<li class='note'>This class is thread safe and reusable.
  * </ul>
@@ -74,6 +85,7 @@ public class FileStore extends ConfigStore {
 		Charset charset;
 		boolean enableWatcher, updateOnWrite;
 		WatcherSensitivity watcherSensitivity;
+		int watcherDebounce, memoryMapThreshold;
 
 		/**
 		 * Constructor, default settings.
@@ -84,6 +96,8 @@ public class FileStore extends ConfigStore {
 			charset = env("ConfigFileStore.charset", Charset.defaultCharset());
 			enableWatcher = env("ConfigFileStore.enableWatcher", false);
 			watcherSensitivity = env("ConfigFileStore.watcherSensitivity", WatcherSensitivity.MEDIUM);
+			watcherDebounce = env("ConfigFileStore.watcherDebounce", 100);
+			memoryMapThreshold = env("ConfigFileStore.memoryMapThreshold", -1);
 			updateOnWrite = env("ConfigFileStore.updateOnWrite", false);
 			extensions = env("ConfigFileStore.extensions", "cfg");
 		}
@@ -100,6 +114,8 @@ public class FileStore extends ConfigStore {
 			charset = copyFrom.charset;
 			enableWatcher = copyFrom.enableWatcher;
 			watcherSensitivity = copyFrom.watcherSensitivity;
+			watcherDebounce = copyFrom.watcherDebounce;
+			memoryMapThreshold = copyFrom.memoryMapThreshold;
 			updateOnWrite = copyFrom.updateOnWrite;
 			extensions = copyFrom.extensions;
 		}
@@ -115,6 +131,8 @@ public class FileStore extends ConfigStore {
 			charset = copyFrom.charset;
 			enableWatcher = copyFrom.enableWatcher;
 			watcherSensitivity = copyFrom.watcherSensitivity;
+			watcherDebounce = copyFrom.watcherDebounce;
+			memoryMapThreshold = copyFrom.memoryMapThreshold;
 			updateOnWrite = copyFrom.updateOnWrite;
 			extensions = copyFrom.extensions;
 		}
@@ -246,6 +264,65 @@ public class FileStore extends ConfigStore {
 			return this;
 		}
 
+		/**
+		 * Watcher debounce window.
+		 *
+		 * <p>
+		 * File system events are collected until no new events arrive for the specified number of milliseconds, after
+		 * which each changed file is reloaded once.
+		 * <br>This coalesces the bursts of events produced by editors and configuration management tools into a single
+		 * notification of {@link ConfigStoreListener ConfigStoreListeners}.
+		 * <br>A value of <c>0</c> reloads files on every event.
+		 * <br>Files that keep changing are reloaded at least once every ten windows so that a steady stream of
+		 * events can't postpone the reload indefinitely.
+		 *
+		 * @param value
+		 * 	The new value for this property.
+		 * 	<br>The default is the first value found:
+		 * 	<ul>
+		 * 		<li>System property <js>"ConfigFileStore.watcherDebounce"
+		 * 		<li>Environment variable <js>"CONFIGFILESTORE_WATCHERDEBOUNCE"
+		 * 		<li><c>100</c>
+		 * 	</ul>
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder watcherDebounce(int value) {
+			watcherDebounce = value;
+			return this;
+		}
+
+		/**
+		 * Memory-map threshold.
+		 *
+		 * <p>
+		 * Files whose size in bytes is at least this value are read through a read-only memory-mapped buffer and
+		 * decoded in a single pass instead of being copied through a small intermediate buffer.
+		 * <br>Useful for very large configuration files.
+		 * <br>A negative value disables memory-mapping.
+		 *
+		 * <ul class='notes'>
+		 * 	<li class='note'>On some platforms (e.g. Windows), a mapped file cannot be renamed over or modified until
+		 * 		the mapping is garbage collected, so writes to files read this way can fail.
+		 * 		<br>Memory-mapping should only be enabled there for files that aren't written through this store.
+		 * </ul>
+		 *
+		 * @param value
+		 * 	The new value for this property.
+		 * 	<br>The default is the first value found:
+		 * 	<ul>
+		 * 		<li>System property <js>"ConfigFileStore.memoryMapThreshold"
+		 * 		<li>Environment variable <js>"CONFIGFILESTORE_MEMORYMAPTHRESHOLD"
+		 * 		<li><c>-1</c>
+		 * 	</ul>
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder memoryMapThreshold(int value) {
+			memoryMapThreshold = value;
+			return this;
+		}
+
 		/**
 		 * Update-on-write.
 		 *
@@ -364,6 +441,7 @@ public class FileStore extends ConfigStore {
 	final Charset charset;
 	final boolean enableWatcher, updateOnWrite;
 	final WatcherSensitivity watcherSensitivity;
+	final int watcherDebounce, memoryMapThreshold;
 
 	private final File dir;
 	private final WatcherThread watcher;
@@ -371,6 +449,9 @@ public class FileStore extends ConfigStore {
 	private final ConcurrentHashMap<String,String> nameCache = new ConcurrentHashMap<>();
 	private final String[] exts;
 
+	private static final String TEMP_SUFFIX = ".tmp", LOCK_SUFFIX = ".lock";
+	private static final int MAX_DEBOUNCE_WINDOWS = 10;
+
 	/**
 	 * Constructor.
 	 *
@@ -384,6 +465,8 @@ public class FileStore extends ConfigStore {
 		enableWatcher = builder.enableWatcher;
 		updateOnWrite = builder.updateOnWrite;
 		watcherSensitivity = builder.watcherSensitivity;
+		watcherDebounce = builder.watcherDebounce;
+		memoryMapThreshold = builder.memoryMapThreshold;
 		try {
 			dir = new File(directory).getCanonicalFile();
 			dir.mkdirs();
@@ -397,12 +480,22 @@ public class FileStore extends ConfigStore {
 	}
 
 	@Override /* ConfigStore */
-	public synchronized String read(String name) throws IOException {
+	public String read(String name) throws IOException {
 		name = resolveName(name);
 
 		Path p = resolveFile(name);
 		name = p.getFileName().toString();
 
+		String s = cache.get(name);
+		if (s != null)
+			return s;
+
+		return load(name, p);
+	}
+
+	private synchronized String load(String name, Path p) throws IOException {
+
+		// Another thread may have loaded it while we were waiting.
 		String s = cache.get(name);
 		if (s != null)
 			return s;
@@ -413,23 +506,30 @@ public class FileStore extends ConfigStore {
 		if (! Files.exists(p))
 			return "";
 
-		boolean isWritable = isWritable(p);
-		OpenOption[] oo = isWritable ? new OpenOption[]{READ,WRITE,CREATE} : new OpenOption[]{READ};
+		// Files are only ever replaced by renaming complete files over them, so no lock is needed to read them.
+		s = read(p);
+		cache.put(name, s);
 
-		try (FileChannel fc = FileChannel.open(p, oo)) {
-			try (FileLock lock = isWritable ? fc.lock() : null) {
-				ByteBuffer buf = ByteBuffer.allocate(1024);
-				StringBuilder sb = new StringBuilder();
-				while (fc.read(buf) != -1) {
-					sb.append(charset.decode((ByteBuffer)(((Buffer)buf).flip()))); // Fixes Java 11 issue involving overridden flip method.
-					((Buffer)buf).clear();
-				}
-				s = sb.toString();
-				cache.put(name, s);
-			}
+		return s;
+	}
+
+	private String read(Path p) throws IOException {
+		try (FileChannel fc = FileChannel.open(p, READ)) {
+			return read(fc);
 		}
+	}
 
-		return cache.get(name);
+	private String read(FileChannel fc) throws IOException {
+		long size = fc.size();
+		if (memoryMapThreshold >= 0 && size >= memoryMapThreshold && size <= Integer.MAX_VALUE)
+			return charset.decode(fc.map(FileChannel.MapMode.READ_ONLY, 0, size)).toString();
+		ByteBuffer buf = ByteBuffer.allocate(1024);
+		StringBuilder sb = new StringBuilder();
+		while (fc.read(buf) != -1) {
+			sb.append(charset.decode((ByteBuffer)(((Buffer)buf).flip()))); // Fixes Java 11 issue involving overridden flip method.
+			((Buffer)buf).clear();
+		}
+		return sb.toString();
 	}
 
 	@Override /* ConfigStore */
@@ -455,18 +555,11 @@ public class FileStore extends ConfigStore {
 			if (newContents == null)
 				Files.delete(p);
 			else {
-				try (FileChannel fc = FileChannel.open(p, READ, WRITE, CREATE)) {
-					try (FileLock lock = fc.lock()) {
+				try (FileChannel lc = FileChannel.open(lockFile(p), WRITE, CREATE)) {
+					try (FileLock lock = lc.lock()) {
 						String currentContents = "";
-						if (exists) {
-							ByteBuffer buf = ByteBuffer.allocate(1024);
-							StringBuilder sb = new StringBuilder();
-							while (fc.read(buf) != -1) {
-								sb.append(charset.decode((ByteBuffer)((Buffer)buf).flip()));
-								((Buffer)buf).clear();
-							}
-							currentContents = sb.toString();
-						}
+						if (exists)
+							currentContents = read(p);
 						if (expectedContents != null && ! eq(currentContents, expectedContents)) {
 							if (currentContents == null)
 								cache.remove(name);
@@ -474,8 +567,7 @@ public class FileStore extends ConfigStore {
 								cache.put(name, currentContents);
 							return currentContents;
 						}
-						fc.position(0);
-						fc.write(charset.encode(newContents));
+						replace(p, newContents);
 					}
 				}
 			}
@@ -490,10 +582,64 @@ public class FileStore extends ConfigStore {
 	}
 
 	@Override /* ConfigStore */
-	public synchronized boolean exists(String name) {
+	public boolean exists(String name) {
 		return Files.exists(resolveFile(name));
 	}
 
+	/*
+	 * Writes the contents to a temporary file in the same directory and renames it over the original.
+	 * Falls back to a non-atomic replace, and then to an in-place write, where the rename isn't possible (e.g. file
+	 * systems without atomic moves, or files held open by other processes on Windows).
+	 */
+	private void replace(Path p, String contents) throws IOException {
+		byte[] b = contents.getBytes(charset);
+		Path tmp = Files.createTempFile(p.getParent(), "." + p.getFileName() + ".", TEMP_SUFFIX);
+		try {
+			Files.write(tmp, b);
+			copyAttributes(p, tmp);
+			try {
+				Files.move(tmp, p, ATOMIC_MOVE, REPLACE_EXISTING);
+			} catch (FileSystemException e) {
+				try {
+					Files.move(tmp, p, REPLACE_EXISTING);
+				} catch (FileSystemException e2) {
+					Files.write(p, b);
+				}
+			}
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	/*
+	 * Temporary files are created with owner-only permissions, so give them the permissions, owner and group of the
+	 * file they replace.
+	 */
+	private static void copyAttributes(Path from, Path to) throws IOException {
+		if (! Files.exists(from))
+			return;
+		PosixFileAttributeView view = Files.getFileAttributeView(to, PosixFileAttributeView.class);
+		if (view == null)
+			return;
+		PosixFileAttributes a = Files.readAttributes(from, PosixFileAttributes.class);
+		view.setPermissions(a.permissions());
+		try {
+			if (! a.owner().equals(Files.getOwner(to)))
+				view.setOwner(a.owner());
+			view.setGroup(a.group());
+		} catch (FileSystemException e) {
+			// Changing the owner or group requires privileges we may not have.
+		}
+	}
+
+	private static Path lockFile(Path p) {
+		return p.resolveSibling("." + p.getFileName() + LOCK_SUFFIX);
+	}
+
+	private static boolean isInternalFile(String fileName) {
+		return fileName.startsWith(".") && (fileName.endsWith(TEMP_SUFFIX) || fileName.endsWith(LOCK_SUFFIX));
+	}
+
 	private Path resolveFile(String name) {
 		return dir.toPath().resolve(resolveName(name));
 	}
@@ -596,13 +742,33 @@ public class FileStore extends ConfigStore {
 		@Override /* Thread */
 		public void run() {
 			try {
-				WatchKey key;
-				while ((key = watchService.take()) != null) {
+				// Latest event for each file changed since the last quiet period.
+				Map<String,WatchEvent<Path>> pending = new LinkedHashMap<>();
+				long deadline = 0;
+				while (true) {
+					WatchKey key;
+					if (pending.isEmpty()) {
+						key = watchService.take();
+					} else {
+						long wait = Math.min(watcherDebounce, NANOSECONDS.toMillis(deadline - System.nanoTime()));
+						key = wait > 0 ? watchService.poll(wait, MILLISECONDS) : null;
+					}
+					if (key == null) {
+						dispatch(pending);
+						continue;
+					}
+					if (pending.isEmpty())
+						deadline = System.nanoTime() + MILLISECONDS.toNanos((long)watcherDebounce * MAX_DEBOUNCE_WINDOWS);
 					for (WatchEvent<?> event : key.pollEvents()) {
 						WatchEvent.Kind<?> kind = event.kind();
-						if (kind != OVERFLOW)
-							FileStore.this.onFileEvent(((WatchEvent<Path>)event));
+						if (kind != OVERFLOW) {
+							String fn = ((WatchEvent<Path>)event).context().getFileName().toString();
+							if (! isInternalFile(fn))
+								pending.put(fn, (WatchEvent<Path>)event);
+						}
 					}
+					if (watcherDebounce <= 0)
+						dispatch(pending);
 					if (! key.reset())
 						break;
 				}
@@ -611,6 +777,12 @@ public class FileStore extends ConfigStore {
 			}
 		};
 
+		private void dispatch(Map<String,WatchEvent<Path>> pending) throws IOException {
+			for (WatchEvent<Path> e : pending.values())
+				FileStore.this.onFileEvent(e);
+			pending.clear();
+		}
+
 		@Override /* Thread */
 		public void interrupt() {
 			try {
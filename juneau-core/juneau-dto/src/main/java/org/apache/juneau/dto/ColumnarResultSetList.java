@@ -0,0 +1,438 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.dto;
+
+import java.sql.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * Transforms an SQL {@link ResultSet ResultSet} into a list of maps stored in column-oriented form.
+ *
+ * <p>
+ * A memory-efficient alternative to {@link ResultSetList} for large result sets.
+ * <br>Column names are stored once, and integer, long, double and boolean columns are stored in primitive arrays
+ * instead of as boxed values.
+ * <br>Columns are only stored as primitives when the JDBC driver reports the matching wrapper class for them (see
+ * {@link ResultSetMetaData#getColumnClassName(int)}), so values are the same objects that {@link ResultSetList} contains.
+ * <br>Rows are materialized as maps only when accessed, so this list serializes identically to {@link ResultSetList}.
+ *
+ * <p>
+ * Loads the entire result set into an in-memory data structure, and then closes the result set object.
+ * <br>Use {@link #stream(ResultSet, int, int, boolean)} to serialize rows directly from the result set without loading
+ * them into memory.
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>Rows are returned as copies.  Changes made to them are not reflected in this list.
+ * </ul>
+ *
+ * <ul class='seealso'>
+ * </ul>
+ *
+ * @serial exclude
+ */
+public final class ColumnarResultSetList extends AbstractList<Map<String,Object>> {
+
+	private final String[] columns;
+	private final Column[] data;
+	private final boolean includeRowNums;
+	private final int firstRowNum;
+	private int size;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param rs The result set to load into this DTO.
+	 * @param pos The start position (zero-indexed).
+	 * @param limit The maximum number of rows to retrieve.
+	 * @param includeRowNums Make the first column be the row number.
+	 * @throws SQLException Database error.
+	 */
+	public ColumnarResultSetList(ResultSet rs, int pos, int limit, boolean includeRowNums) throws SQLException {
+		try {
+			Cursor c = new Cursor(rs, pos, limit, includeRowNums);
+			this.columns = c.columns;
+			this.includeRowNums = includeRowNums;
+			this.firstRowNum = c.rowNum;
+			int cc = c.colTypes.length, capacity = Math.max(0, Math.min(limit, 64));
+			data = new Column[cc];
+			for (int i = 0; i < cc; i++)
+				data[i] = Column.of(c.colTypes[i], c.colClasses[i], capacity);
+			while (c.next()) {
+				for (int i = 0; i < cc; i++)
+					data[i].read(size, rs, i+1);
+				size++;
+			}
+		} finally {
+			rs.close();
+		}
+	}
+
+	/**
+	 * Returns a single-pass view of the rows in the specified result set.
+	 *
+	 * <p>
+	 * Rows are read from the result set as they are iterated and are not retained, so arbitrarily large result sets
+	 * can be serialized with constant memory.
+	 * <br>The result set is closed once the last row has been read.
+	 *
+	 * <ul class='notes'>
+	 * 	<li class='note'>The rows can only be iterated once.
+	 * 		<br>Only the first row can be revisited, which is enough for serializers that inspect the first entry
+	 * 		before writing a collection.
+	 * 	<li class='note'>{@link Collection#size()} is not supported.
+	 * 		<br>Serializers that make multiple passes over a collection (such as {@link org.apache.juneau.html.HtmlSerializer}
+	 * 		when rendering tables) should use a {@link ColumnarResultSetList} instead.
+	 * 	<li class='note'>The caller is responsible for closing the result set if the rows are not fully iterated.
+	 * </ul>
+	 *
+	 * @param rs The result set to read from.
+	 * @param pos The start position (zero-indexed).
+	 * @param limit The maximum number of rows to retrieve.
+	 * @param includeRowNums Make the first column be the row number.
+	 * @return A new collection backed by the result set.
+	 * @throws SQLException Database error.
+	 */
+	public static Collection<Map<String,Object>> stream(ResultSet rs, int pos, int limit, boolean includeRowNums) throws SQLException {
+		return new RowStream(new Cursor(rs, pos, limit, includeRowNums));
+	}
+
+	@Override /* List */
+	public Map<String,Object> get(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		int offset = includeRowNums ? 1 : 0;
+		Object[] row = new Object[columns.length];
+		if (includeRowNums)
+			row[0] = firstRowNum + index;
+		for (int i = 0; i < data.length; i++)
+			row[i+offset] = data[i].get(index);
+		return new SimpleMap<>(columns, row);
+	}
+
+	@Override /* List */
+	public int size() {
+		return size;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Cursor
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Reads the column metadata and positions the result set at the start position.
+	 * Same positioning and limit semantics as ResultSetList.
+	 */
+	private static final class Cursor {
+		final ResultSet rs;
+		final String[] columns;
+		final int[] colTypes;
+		final String[] colClasses;
+		final int offset;
+		int rowNum, limit;
+
+		Cursor(ResultSet rs, int pos, int limit, boolean includeRowNums) throws SQLException {
+			this.rs = rs;
+			this.rowNum = pos;
+			this.limit = limit;
+
+			ResultSetMetaData rsmd = rs.getMetaData();
+			offset = (includeRowNums ? 1 : 0);
+			int cc = rsmd.getColumnCount();
+			columns = new String[cc + offset];
+			if (includeRowNums)
+				columns[0] = "ROW";
+			colTypes = new int[cc];
+			colClasses = new String[cc];
+
+			for (int i = 0; i < cc; i++) {
+				columns[i+offset] = rsmd.getColumnName(i+1);
+				colTypes[i] = rsmd.getColumnType(i+1);
+				colClasses[i] = columnClassName(rsmd, i+1);
+			}
+
+			while (--pos > 0 && rs.next()) {}
+		}
+
+		// Returns null if the driver doesn't report the class, in which case the column is stored as objects.
+		private static String columnClassName(ResultSetMetaData rsmd, int col) {
+			try {
+				return rsmd.getColumnClassName(col);
+			} catch (Exception e) {
+				return null;
+			}
+		}
+
+		boolean next() throws SQLException {
+			return limit-- > 0 && rs.next();
+		}
+
+		Map<String,Object> row() {
+			Object[] row = new Object[colTypes.length + offset];
+			if (offset > 0)
+				row[0] = rowNum++;
+			for (int i = 0; i < colTypes.length; i++)
+				row[i+offset] = ResultSetList.readEntry(rs, i+1, colTypes[i]);
+			return new SimpleMap<>(columns, row);
+		}
+	}
+
+	private static final class RowStream extends AbstractCollection<Map<String,Object>> {
+		private final Cursor cursor;
+		private Map<String,Object> first;
+		private int read;
+		private boolean done;
+
+		RowStream(Cursor cursor) {
+			this.cursor = cursor;
+		}
+
+		// Reads the next row from the cursor, or returns null if there are no more rows.
+		private Map<String,Object> read() {
+			if (done)
+				return null;
+			try {
+				if (cursor.next()) {
+					read++;
+					return cursor.row();
+				}
+				done = true;
+				cursor.rs.close();
+				return null;
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private Map<String,Object> first() {
+			if (first == null && read == 0)
+				first = read();
+			return first;
+		}
+
+		@Override /* Collection */
+		public boolean isEmpty() {
+			return first() == null;
+		}
+
+		@Override /* Collection */
+		public int size() {
+			throw new UnsupportedOperationException("Size of result set stream is not known until all rows are read.");
+		}
+
+		@Override /* Collection */
+		public Iterator<Map<String,Object>> iterator() {
+			return new Iterator<Map<String,Object>>() {
+				int index;
+				Map<String,Object> next;
+
+				@Override /* Iterator */
+				public boolean hasNext() {
+					if (next == null) {
+						if (index == 0)
+							next = first();
+						else if (index == read)
+							next = read();
+						else
+							throw new IllegalStateException("Result set stream can only be iterated once.");
+					}
+					return next != null;
+				}
+
+				@Override /* Iterator */
+				public Map<String,Object> next() {
+					if (! hasNext())
+						throw new NoSuchElementException();
+					Map<String,Object> m = next;
+					next = null;
+					index++;
+					return m;
+				}
+			};
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Columns
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Storage for the values of a single column.
+	 * Values that couldn't be read are stored as their error messages, same as ResultSetList.
+	 */
+	private abstract static class Column {
+		final BitSet nulls = new BitSet();
+		Map<Integer,Object> errors;
+
+		/*
+		 * Only uses primitive storage when the driver reports the matching wrapper class, since getObject() can return
+		 * other types for these SQL types (e.g. Short for SMALLINT or Long for unsigned INTEGER columns).
+		 */
+		static Column of(int dataType, String className, int capacity) {
+			switch (dataType) {
+				case Types.TINYINT:
+				case Types.SMALLINT:
+				case Types.INTEGER:
+					if (Integer.class.getName().equals(className))
+						return new IntColumn(capacity);
+					break;
+				case Types.BIGINT:
+					if (Long.class.getName().equals(className))
+						return new LongColumn(capacity);
+					break;
+				case Types.FLOAT:
+				case Types.DOUBLE:
+					if (Double.class.getName().equals(className))
+						return new DoubleColumn(capacity);
+					break;
+				case Types.BIT:
+				case Types.BOOLEAN:
+					if (Boolean.class.getName().equals(className))
+						return new BooleanColumn();
+					break;
+			}
+			return new ObjectColumn(dataType, capacity);
+		}
+
+		final void read(int row, ResultSet rs, int col) {
+			try {
+				set(row, rs, col);
+			} catch (Exception e) {
+				if (errors == null)
+					errors = new HashMap<>();
+				errors.put(row, e.getLocalizedMessage());
+			}
+		}
+
+		final Object get(int row) {
+			if (nulls.get(row))
+				return null;
+			if (errors != null && errors.containsKey(row))
+				return errors.get(row);
+			return value(row);
+		}
+
+		abstract void set(int row, ResultSet rs, int col) throws Exception;
+
+		abstract Object value(int row);
+
+		static int grow(int length, int row) {
+			return Math.max(row + 1, Math.max(16, length * 2));
+		}
+	}
+
+	private static final class IntColumn extends Column {
+		int[] values;
+
+		IntColumn(int capacity) {
+			values = new int[capacity];
+		}
+
+		@Override
+		void set(int row, ResultSet rs, int col) throws Exception {
+			if (row >= values.length)
+				values = Arrays.copyOf(values, grow(values.length, row));
+			values[row] = rs.getInt(col);
+			if (rs.wasNull())
+				nulls.set(row);
+		}
+
+		@Override
+		Object value(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class LongColumn extends Column {
+		long[] values;
+
+		LongColumn(int capacity) {
+			values = new long[capacity];
+		}
+
+		@Override
+		void set(int row, ResultSet rs, int col) throws Exception {
+			if (row >= values.length)
+				values = Arrays.copyOf(values, grow(values.length, row));
+			values[row] = rs.getLong(col);
+			if (rs.wasNull())
+				nulls.set(row);
+		}
+
+		@Override
+		Object value(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+		double[] values;
+
+		DoubleColumn(int capacity) {
+			values = new double[capacity];
+		}
+
+		@Override
+		void set(int row, ResultSet rs, int col) throws Exception {
+			if (row >= values.length)
+				values = Arrays.copyOf(values, grow(values.length, row));
+			values[row] = rs.getDouble(col);
+			if (rs.wasNull())
+				nulls.set(row);
+		}
+
+		@Override
+		Object value(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class BooleanColumn extends Column {
+		final BitSet values = new BitSet();
+
+		@Override
+		void set(int row, ResultSet rs, int col) throws Exception {
+			values.set(row, rs.getBoolean(col));
+			if (rs.wasNull())
+				nulls.set(row);
+		}
+
+		@Override
+		Object value(int row) {
+			return values.get(row);
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+		final int dataType;
+		Object[] values;
+
+		ObjectColumn(int dataType, int capacity) {
+			this.dataType = dataType;
+			values = new Object[capacity];
+		}
+
+		@Override
+		void set(int row, ResultSet rs, int col) throws Exception {
+			if (row >= values.length)
+				values = Arrays.copyOf(values, grow(values.length, row));
+			values[row] = ResultSetList.readEntry(rs, col, dataType);
+		}
+
+		@Override
+		Object value(int row) {
+			return values[row];
+		}
+	}
+}
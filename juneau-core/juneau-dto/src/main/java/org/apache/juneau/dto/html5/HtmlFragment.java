@@ -0,0 +1,90 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.dto.html5;
+
+import static org.apache.juneau.html.annotation.HtmlFormat.*;
+import static org.apache.juneau.xml.annotation.XmlFormat.*;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.xml.annotation.*;
+
+/**
+ * An immutable, pre-rendered fragment of HTML.
+ *
+ * <p>
+ * The content is serialized once when the fragment is created, and the rendered markup is written as-is every time the
+ * fragment is serialized afterwards.
+ * <br>Useful for parts of pages that don't change between requests (e.g. navigation menus or footers) so that the
+ * element tree doesn't need to be rebuilt and serialized on every request.
+ *
+ * <h5 class='figure'>Example:</h5>
+ * <p class='bjava'>
+ * 	<jk>static final</jk> HtmlFragment <jsf>FOOTER</jsf> = HtmlFragment.<jsm>of</jsm>(<jsm>div</jsm>(<jsm>a</jsm>(<js>"http://foo"</js>, <js>"Foo"</js>)));
+ *
+ * 	Div <jv>page</jv> = <jsm>div</jsm>(<jsm>p</jsm>(<js>"Content"</js>), <jsf>FOOTER</jsf>);
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>Relative URIs are resolved when the fragment is rendered, so the content should not contain
+ * 		request-dependent URIs unless rendered using a serializer with the appropriate {@link org.apache.juneau.UriContext}.
+ * </ul>
+ *
+ * <ul class='seealso'>
+ * 	<li class='jc'>{@link HtmlText}
+ * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-dto.jd.Html5">Overview &gt; juneau-dto &gt; HTML5</a>
+ * </ul>
+ */
+@Xml(format=XMLTEXT)
+@org.apache.juneau.html.annotation.Html(format=PLAIN_TEXT)
+public final class HtmlFragment {
+
+	private final String html;
+
+	/**
+	 * Creates a fragment by serializing the specified content using {@link HtmlSerializer#DEFAULT}.
+	 *
+	 * @param content The content to render.  Typically an {@link HtmlElement}.
+	 * @return A new fragment.
+	 * @throws SerializeException If the content could not be serialized.
+	 */
+	public static HtmlFragment of(Object content) throws SerializeException {
+		return of(HtmlSerializer.DEFAULT, content);
+	}
+
+	/**
+	 * Creates a fragment by serializing the specified content using the specified serializer.
+	 *
+	 * @param serializer The serializer to render the content with.
+	 * @param content The content to render.  Typically an {@link HtmlElement}.
+	 * @return A new fragment.
+	 * @throws SerializeException If the content could not be serialized.
+	 */
+	public static HtmlFragment of(HtmlSerializer serializer, Object content) throws SerializeException {
+		return new HtmlFragment(serializer.serialize(content));
+	}
+
+	private HtmlFragment(String html) {
+		this.html = html;
+	}
+
+	/**
+	 * Returns the rendered markup of this fragment.
+	 *
+	 * @return The rendered markup of this fragment.
+	 */
+	@Override /* Object */
+	public String toString() {
+		return html;
+	}
+}
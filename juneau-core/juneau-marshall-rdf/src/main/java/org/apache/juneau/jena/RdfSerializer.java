@@ -85,7 +85,7 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 			DEFAULT_JUNEAU_NS = Namespace.of("j", "http://www.apache.org/juneau/"),
 			DEFAULT_JUNEAUBP_NS = Namespace.of("jp", "http://www.apache.org/juneaubp/");
 
-		boolean addBeanTypesRdf, addLiteralTypes, addRootProperty, disableAutoDetectNamespaces, disableUseXmlNamespaces, looseCollections;
+		boolean addBeanTypesRdf, addLiteralTypes, addRootProperty, disableAutoDetectNamespaces, disableUseXmlNamespaces, looseCollections, streamTriples;
 		String language;
 		Namespace juneauNs, juneauBpNs;
 		RdfCollectionFormat collectionFormat;
@@ -103,6 +103,7 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 			disableAutoDetectNamespaces = env("Rdf.disableAutoDetectNamespaces", false);
 			disableUseXmlNamespaces = env("Rdf.disableUseXmlNamespaces", false);
 			looseCollections = env("Rdf.looseCollections", false);
+			streamTriples = env("Rdf.streamTriples", false);
 			language = env("Rdf.language", "RDF/XML-ABBREV");
 			collectionFormat = env("Rdf.collectionFormat", RdfCollectionFormat.DEFAULT);
 			juneauNs = DEFAULT_JUNEAU_NS;
@@ -124,6 +125,7 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 			disableAutoDetectNamespaces = ! copyFrom.autoDetectNamespaces;
 			disableUseXmlNamespaces = ! copyFrom.useXmlNamespaces;
 			looseCollections = copyFrom.looseCollections;
+			streamTriples = copyFrom.streamTriples;
 			language = copyFrom.language;
 			collectionFormat = copyFrom.collectionFormat;
 			juneauNs = copyFrom.juneauNs;
@@ -145,6 +147,7 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 			disableAutoDetectNamespaces = copyFrom.disableAutoDetectNamespaces;
 			disableUseXmlNamespaces = copyFrom.disableUseXmlNamespaces;
 			looseCollections = copyFrom.looseCollections;
+			streamTriples = copyFrom.streamTriples;
 			language = copyFrom.language;
 			collectionFormat = copyFrom.collectionFormat;
 			juneauNs = copyFrom.juneauNs;
@@ -173,6 +176,7 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 				disableAutoDetectNamespaces,
 				disableUseXmlNamespaces,
 				looseCollections,
+				streamTriples,
 				language,
 				collectionFormat,
 				juneauNs,
@@ -1118,6 +1122,59 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 			return language(Constants.LANG_NTRIPLE);
 		}
 
+		/**
+		 * Stream N-Triple and Turtle output.
+		 *
+		 * <p>
+		 * When enabled and the language is {@link Constants#LANG_NTRIPLE N-TRIPLE} or {@link Constants#LANG_TURTLE TURTLE},
+		 * statements are written to the output as the POJO is traversed instead of first being collected in an in-memory
+		 * Jena model.
+		 * <br>Memory usage no longer grows with the number of statements, and output starts immediately.
+		 *
+		 * <ul class='notes'>
+		 * 	<li class='note'>
+		 * 		Statements are written in N-Triple notation in both cases, which is valid Turtle.
+		 * 		<br>Streamed Turtle output therefore doesn't use namespace prefixes or abbreviated syntax.
+		 * 	<li class='note'>
+		 * 		Other languages are always written through the model.
+		 * 	<li class='note'>
+		 * 		Statements are written in traversal order and blank nodes are labeled <js>"_:b1"</js>, <js>"_:b2"</js>, etc...
+		 * 	<li class='note'>
+		 * 		Jena writer settings are ignored when output is streamed.
+		 * 	<li class='note'>
+		 * 		Only serialization is affected.
+		 * 		<br>{@link RdfParser} still reads N-Triples into a model, because a resource's statements can appear
+		 * 		anywhere in the document and the root resource is only known once all of it has been read.
+		 * </ul>
+		 *
+		 * <h5 class='section'>Example:</h5>
+		 * <p class='bjava'>
+		 * 	WriterSerializer <jv>serializer</jv> = RdfSerializer
+		 * 		.<jsm>create</jsm>()
+		 * 		.ntriple()
+		 * 		.streamTriples()
+		 * 		.build();
+		 * </p>
+		 *
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder streamTriples() {
+			return streamTriples(true);
+		}
+
+		/**
+		 * Same as {@link #streamTriples()} but allows you to explicitly specify the value.
+		 *
+		 * @param value The value for this setting.
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder streamTriples(boolean value) {
+			streamTriples = value;
+			return this;
+		}
+
 		/**
 		 * RDF language.
 		 *
@@ -1841,7 +1898,8 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 		useXmlNamespaces,
 		looseCollections,
 		autoDetectNamespaces,
-		addBeanTypesRdf;
+		addBeanTypesRdf,
+		streamTriples;
 
 	final String language;
 	final Namespace juneauNs, juneauBpNs;
@@ -1870,6 +1928,7 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 		addRootProperty = builder.addRootProperty;
 		useXmlNamespaces = ! builder.disableUseXmlNamespaces;
 		looseCollections = builder.looseCollections;
+		streamTriples = builder.streamTriples;
 		autoDetectNamespaces = ! builder.disableAutoDetectNamespaces;
 		language = builder.language;
 		juneauNs = builder.juneauNs;
@@ -2021,6 +2080,18 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 		return looseCollections;
 	}
 
+	/**
+	 * Stream N-Triple and Turtle output.
+	 *
+	 * @see RdfSerializer.Builder#streamTriples()
+	 * @return
+	 * 	<jk>true</jk> if N-Triple and Turtle output is written directly while the POJO is traversed instead of through
+	 * 	an in-memory model.
+	 */
+	protected final boolean isStreamTriples() {
+		return streamTriples;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Jena properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -2152,6 +2223,7 @@ public class RdfSerializer extends WriterSerializer implements RdfMetaProvider {
 			.append("addRootProperty", addRootProperty)
 			.append("useXmlNamespaces", useXmlNamespaces)
 			.append("looseCollections", looseCollections)
+			.append("streamTriples", streamTriples)
 			.append("autoDetectNamespaces", autoDetectNamespaces)
 			.append("language", language)
 			.append("juneauNs", juneauNs)
@@ -20,6 +20,7 @@ import java.io.*;
 import java.lang.reflect.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import org.apache.jena.rdf.model.*;
@@ -218,11 +219,14 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 	// Instance
 	//-----------------------------------------------------------------------------------------------------------------
 
+	private static final String RDF_NS = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+
 	private final RdfSerializer ctx;
 	private final Property pRoot, pValue;
 	private final Model model;
 	private final RDFWriter writer;
 	private final Namespace[] namespaces;
+	private final boolean streamTriples;
 
 	/**
 	 * Constructor.
@@ -242,6 +246,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		pRoot = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_ROOT);
 		pValue = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_VALUE);
 		writer = model.getWriter(ctx.getLanguage());
+		streamTriples = ctx.isStreamTriples() && (ctx.getLanguage().equals(LANG_NTRIPLE) || ctx.getLanguage().equals(LANG_TURTLE));
 
 		// Only apply properties with this prefix!
 		String propPrefix = LANG_PROP_MAP.get(ctx.getLanguage());
@@ -287,6 +292,11 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 	@Override /* Serializer */
 	protected void doSerialize(SerializerPipe out, Object o) throws SerializeException {
 
+		if (streamTriples) {
+			doSerializeTriples(new RdfTripleWriter(out.getWriter()), o);
+			return;
+		}
+
 		Resource r = null;
 
 		ClassMeta<?> cm = getClassMetaForObject(o);
@@ -560,6 +570,265 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 	}
 
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// Streaming N-Triple output
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Same as the model-based methods above, except that statements are written to the output as soon as both their
+	 * subject and object are known.  Nodes are represented by their N-Triple terms.
+	 */
+
+	private void doSerializeTriples(RdfTripleWriter w, Object o) throws SerializeException {
+
+		ClassMeta<?> cm = getClassMetaForObject(o);
+		if (isLooseCollections() && cm != null && cm.isCollectionOrArray()) {
+			Collection c = cm.isCollection() ? (Collection)o : toList(cm.getInnerClass(), o);
+			forEachEntry(c, x -> serializeAnything(w, x, false, object(), "root", null, null));
+		} else {
+			String r = serializeAnything(w, o, false, getExpectedRootType(o), "root", null, null);
+			if (RdfTripleWriter.isLiteral(r)) {
+				String n = r;
+				r = w.blank();
+				w.triple(r, getJuneauNs().getUri() + RDF_juneauNs_VALUE, n);
+			}
+
+			if (isAddRootProp())
+				w.triple(r, getJuneauNs().getUri() + RDF_juneauNs_ROOT, w.literal("true"));
+		}
+	}
+
+	private String serializeAnything(RdfTripleWriter w, Object o, boolean isURI, ClassMeta<?> eType, String attrName, BeanPropertyMeta bpm, String parent) throws SerializeException {
+
+		ClassMeta<?> aType = null;       // The actual type
+		ClassMeta<?> wType = null;       // The wrapped type
+		ClassMeta<?> sType = object();   // The serialized type
+
+		aType = push2(attrName, o, eType);
+
+		if (eType == null)
+			eType = object();
+
+		// Handle recursion
+		if (aType == null) {
+			o = null;
+			aType = object();
+		}
+
+		// Handle Optional<X>
+		if (isOptional(aType)) {
+			o = getOptionalValue(o);
+			eType = getOptionalType(eType);
+			aType = getClassMetaForObject(o, object());
+		}
+
+		if (o != null) {
+
+			if (aType.isDelegate()) {
+				wType = aType;
+				aType = ((Delegate)o).getClassMeta();
+			}
+
+			sType = aType;
+
+			// Swap if necessary
+			ObjectSwap swap = aType.getSwap(this);
+			if (swap != null) {
+				o = swap(swap, o);
+				sType = swap.getSwapClassMeta(this);
+
+				// If the getSwapClass() method returns Object, we need to figure out
+				// the actual type now.
+				if (sType.isObject())
+					sType = getClassMetaForObject(o);
+			}
+		} else {
+			sType = eType.getSerializedClassMeta(this);
+		}
+
+		String typeName = getBeanTypeName(this, eType, aType, bpm);
+
+		String n = null;
+
+		if (o == null || sType.isChar() && ((Character)o).charValue() == 0) {
+			if (bpm == null || isKeepNullProperties())
+				n = w.resource(RDF_NIL);
+
+		} else if (sType.isUri() || isURI) {
+			// Note that RDF URIs must be absolute to be valid!
+			String uri = getUri(o, null);
+			if (StringUtils.isAbsoluteUri(uri))
+				n = w.resource(uri);
+			else
+				n = w.literal(encodeTextInvalidChars(uri));
+
+		} else if (sType.isCharSequence() || sType.isChar()) {
+			n = w.literal(encodeTextInvalidChars(o));
+
+		} else if (sType.isNumber() || sType.isBoolean()) {
+			if (! isAddLiteralTypes())
+				n = w.literal(o.toString());
+			else
+				n = w.typedLiteral(o);
+
+		} else if (sType.isMap() || (wType != null && wType.isMap())) {
+			if (o instanceof BeanMap) {
+				BeanMap bm = (BeanMap)o;
+				Object uri = null;
+				RdfBeanMeta rbm = getRdfBeanMeta(bm.getMeta());
+				if (rbm.hasBeanUri())
+					uri = rbm.getBeanUriProperty().get(bm, null);
+				n = w.resourceOrBlank(getUri(uri, null));
+				serializeBeanMap(w, bm, n, typeName);
+			} else {
+				n = w.blank();
+				serializeMap(w, (Map)o, n, sType);
+			}
+
+		} else if (sType.isBean()) {
+			BeanMap bm = toBeanMap(o);
+			Object uri = null;
+			RdfBeanMeta rbm = getRdfBeanMeta(bm.getMeta());
+			if (rbm.hasBeanUri())
+				uri = rbm.getBeanUriProperty().get(bm, null);
+			n = w.resourceOrBlank(getUri(uri, null));
+			serializeBeanMap(w, bm, n, typeName);
+
+		} else if (sType.isCollectionOrArray() || (wType != null && wType.isCollection())) {
+
+			Collection c = sort(sType.isCollection() ? (Collection)o : toList(sType.getInnerClass(), o));
+			RdfCollectionFormat f = getCollectionFormat();
+			RdfClassMeta cRdf = getRdfClassMeta(sType);
+			RdfBeanPropertyMeta bpRdf = getRdfBeanPropertyMeta(bpm);
+
+			if (cRdf.getCollectionFormat() != RdfCollectionFormat.DEFAULT)
+				f = cRdf.getCollectionFormat();
+			if (bpRdf.getCollectionFormat() != RdfCollectionFormat.DEFAULT)
+				f = bpRdf.getCollectionFormat();
+
+			switch (f) {
+				case BAG: n = serializeToContainer(w, c, eType, RDF_BAG); break;
+				case LIST: n = serializeToList(w, c, eType); break;
+				case MULTI_VALUED:
+					// Values of a root collection need a subject of their own.
+					if (parent == null)
+						parent = n = w.blank();
+					serializeToMultiProperties(w, c, eType, bpm, attrName, parent);
+					break;
+				default: n = serializeToContainer(w, c, eType, RDF_SEQ);
+			}
+
+		} else if (sType.isReader()) {
+			n = w.literal(encodeTextInvalidChars(read((Reader)o, SerializerSession::handleThrown)));
+		} else if (sType.isInputStream()) {
+			n = w.literal(encodeTextInvalidChars(read((InputStream)o, SerializerSession::handleThrown)));
+
+		} else {
+			n = w.literal(encodeTextInvalidChars(toString(o)));
+		}
+
+		pop();
+
+		return n;
+	}
+
+	private void serializeMap(RdfTripleWriter w, Map<?,?> m, String r, ClassMeta<?> type) throws SerializeException {
+
+		ClassMeta<?> keyType = type.getKeyType(), valueType = type.getValueType();
+
+		forEachEntry(m, x -> {
+			Object value = x.getValue();
+			Object key = generalize(x.getKey(), keyType);
+			String n = serializeAnything(w, value, false, valueType, toString(key), null, r);
+			if (n != null)
+				w.triple(r, getJuneauBpNs().getUri() + encodeElementName(toString(key)), n);
+		});
+	}
+
+	private void serializeBeanMap(RdfTripleWriter w, BeanMap<?> m, String r, String typeName) throws SerializeException {
+
+		if (typeName != null) {
+			BeanPropertyMeta pm = m.getMeta().getTypeProperty();
+			serializeBeanProperty(w, new BeanPropertyValue(pm, pm.getName(), typeName, null), r);
+		}
+
+		Predicate<Object> checkNull = x -> isKeepNullProperties() || x != null;
+		m.forEachValue(checkNull, (pMeta,key,value,thrown) -> {
+			serializeBeanProperty(w, new BeanPropertyValue(pMeta, key, value, thrown), r);
+		});
+	}
+
+	private void serializeBeanProperty(RdfTripleWriter w, BeanPropertyValue x, String r) throws SerializeException {
+		BeanPropertyMeta bpMeta = x.getMeta();
+		ClassMeta<?> cMeta = bpMeta.getClassMeta();
+		RdfBeanPropertyMeta bpRdf = getRdfBeanPropertyMeta(bpMeta);
+		XmlBeanPropertyMeta bpXml = getXmlBeanPropertyMeta(bpMeta);
+
+		if (bpRdf.isBeanUri())
+			return;
+
+		String key = x.getName();
+		Object value = x.getValue();
+		Throwable t = x.getThrown();
+		if (t != null)
+			onBeanGetterException(bpMeta, t);
+
+		if (canIgnoreValue(cMeta, key, value))
+			return;
+
+		Namespace ns = bpRdf.getNamespace();
+		if (ns == null && isUseXmlNamespaces())
+			ns = bpXml.getNamespace();
+		if (ns == null)
+			ns = getJuneauBpNs();
+
+		String n = serializeAnything(w, value, bpMeta.isUri(), cMeta, key, bpMeta, r);
+		if (n != null)
+			w.triple(r, ns.getUri() + encodeElementName(key), n);
+	}
+
+	private String serializeToContainer(RdfTripleWriter w, Collection c, ClassMeta<?> type, String containerType) throws SerializeException {
+		ClassMeta<?> elementType = type.getElementType();
+		String r = w.blank();
+		w.triple(r, RDF_NS + "type", w.resource(containerType));
+		AtomicInteger i = new AtomicInteger();
+		c.forEach(x -> w.triple(r, RDF_NS + "_" + i.incrementAndGet(), serializeAnything(w, x, false, elementType, null, null, null)));
+		return r;
+	}
+
+	private String serializeToList(RdfTripleWriter w, Collection c, ClassMeta<?> type) throws SerializeException {
+		ClassMeta<?> elementType = type.getElementType();
+		String nil = w.resource(RDF_NIL);
+		if (c.isEmpty())
+			return nil;
+		String r = w.blank();
+		String cell = r;
+		for (Iterator i = c.iterator(); i.hasNext();) {
+			w.triple(cell, RDF_NS + "first", serializeAnything(w, i.next(), false, elementType, null, null, null));
+			String next = i.hasNext() ? w.blank() : nil;
+			w.triple(cell, RDF_NS + "rest", next);
+			cell = next;
+		}
+		return r;
+	}
+
+	private void serializeToMultiProperties(RdfTripleWriter w, Collection c, ClassMeta<?> sType,
+			BeanPropertyMeta bpm, String attrName, String parent) throws SerializeException {
+
+		ClassMeta<?> elementType = sType.getElementType();
+		RdfBeanPropertyMeta bpRdf = getRdfBeanPropertyMeta(bpm);
+		XmlBeanPropertyMeta bpXml = getXmlBeanPropertyMeta(bpm);
+
+		Namespace ns = bpRdf.getNamespace();
+		if (ns == null && isUseXmlNamespaces())
+			ns = bpXml.getNamespace();
+		if (ns == null)
+			ns = getJuneauBpNs();
+		String p = ns.getUri() + encodeElementName(attrName);
+
+		c.forEach(x -> w.triple(parent, p, serializeAnything(w, x, false, elementType, null, null, null)));
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Common properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -608,6 +877,18 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		return ctx.getLanguage();
 	}
 
+	/**
+	 * Stream N-Triple and Turtle output.
+	 *
+	 * @see RdfSerializer.Builder#streamTriples()
+	 * @return
+	 * 	<jk>true</jk> if N-Triple and Turtle output is written directly while the POJO is traversed instead of through
+	 * 	an in-memory model.
+	 */
+	protected final boolean isStreamTriples() {
+		return ctx.isStreamTriples();
+	}
+
 	/**
 	 * Collections should be serialized and parsed as loose collections.
 	 *
@@ -0,0 +1,197 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import java.io.*;
+import java.math.*;
+
+import org.apache.juneau.serializer.*;
+
+/**
+ * Specialized writer for streaming RDF statements in N-Triple notation.
+ *
+ * <p>
+ * Nodes are represented by their N-Triple terms (e.g. <js>"&lt;http://foo&gt;"</js>, <js>"_:b1"</js>,
+ * <js>"\"foo\""</js>) so that statements can be written as soon as both ends are known, without building a model.
+ *
+ * <p>
+ * Since N-Triple notation is a subset of Turtle, the output of this writer is also valid Turtle.
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>
+ * 		This class is not intended for external use.
+ * </ul>
+ */
+final class RdfTripleWriter extends SerializerWriter {
+
+	private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
+
+	private int blankNodes;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The wrapped writer.
+	 */
+	RdfTripleWriter(Writer out) {
+		super(out, false, 0, false, '"', null);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified term is a literal.
+	 *
+	 * @param term The N-Triple term.
+	 * @return <jk>true</jk> if the specified term is a literal.
+	 */
+	static boolean isLiteral(String term) {
+		return term.charAt(0) == '"';
+	}
+
+	/**
+	 * Allocates a new blank node.
+	 *
+	 * @return The N-Triple term for the new blank node.
+	 */
+	String blank() {
+		return "_:b" + (++blankNodes);
+	}
+
+	/**
+	 * Returns the N-Triple term for the specified resource URI.
+	 *
+	 * @param uri The absolute resource URI.
+	 * @return The N-Triple term.
+	 */
+	String resource(String uri) {
+		StringBuilder sb = new StringBuilder(uri.length() + 2).append('<');
+		for (int i = 0; i < uri.length(); i++) {
+			char c = uri.charAt(i);
+			if (c <= 0x20 || c == '<' || c == '>' || c == '"' || c == '{' || c == '}' || c == '|' || c == '^' || c == '`' || c == '\\')
+				unicode(sb, c);
+			else
+				sb.append(c);
+		}
+		return sb.append('>').toString();
+	}
+
+	/**
+	 * Returns the N-Triple term for the specified resource URI, or a new blank node if the URI is <jk>null</jk>.
+	 *
+	 * @param uri The absolute resource URI, or <jk>null</jk>.
+	 * @return The N-Triple term.
+	 */
+	String resourceOrBlank(String uri) {
+		return uri == null ? blank() : resource(uri);
+	}
+
+	/**
+	 * Returns the N-Triple term for the specified plain literal.
+	 *
+	 * @param value The literal value.
+	 * @return The N-Triple term.
+	 */
+	String literal(String value) {
+		return quote(value).toString();
+	}
+
+	/**
+	 * Returns the N-Triple term for the specified typed literal.
+	 *
+	 * <p>
+	 * Uses the same XML Schema datatypes that Jena assigns to the corresponding Java types.
+	 * <br>Values of other types are written as plain literals.
+	 *
+	 * @param value The literal value.
+	 * @return The N-Triple term.
+	 */
+	String typedLiteral(Object value) {
+		String type = null, lexical = value.toString();
+		if (value instanceof Integer)
+			type = "int";
+		else if (value instanceof Long)
+			type = "long";
+		else if (value instanceof Short)
+			type = "short";
+		else if (value instanceof Byte)
+			type = "byte";
+		else if (value instanceof Boolean)
+			type = "boolean";
+		else if (value instanceof BigInteger)
+			type = "integer";
+		else if (value instanceof BigDecimal) {
+			type = "decimal";
+			lexical = ((BigDecimal)value).toPlainString();
+		} else if (value instanceof Double || value instanceof Float) {
+			type = value instanceof Double ? "double" : "float";
+			double d = ((Number)value).doubleValue();
+			if (Double.isInfinite(d))
+				lexical = d > 0 ? "INF" : "-INF";
+		}
+		if (type == null)
+			return literal(lexical);
+		return quote(lexical).append("^^<").append(XSD).append(type).append('>').toString();
+	}
+
+	/**
+	 * Writes a single statement.
+	 *
+	 * @param subject The N-Triple term of the subject.
+	 * @param predicate The absolute URI of the predicate.
+	 * @param object The N-Triple term of the object.
+	 * @return This object.
+	 */
+	RdfTripleWriter triple(String subject, String predicate, String object) {
+		w(subject).w(' ').w(resource(predicate)).w(' ').w(object).w(" .\n");
+		return this;
+	}
+
+	@Override /* SerializerWriter */
+	public RdfTripleWriter w(char c) {
+		super.w(c);
+		return this;
+	}
+
+	@Override /* SerializerWriter */
+	public RdfTripleWriter w(String s) {
+		super.w(s);
+		return this;
+	}
+
+	private static StringBuilder quote(String value) {
+		StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"': sb.append("\\\""); break;
+				case '\\': sb.append("\\\\"); break;
+				case '\n': sb.append("\\n"); break;
+				case '\r': sb.append("\\r"); break;
+				case '\t': sb.append("\\t"); break;
+				default:
+					if (c < 0x20)
+						unicode(sb, c);
+					else
+						sb.append(c);
+			}
+		}
+		return sb.append('"');
+	}
+
+	private static void unicode(StringBuilder sb, char c) {
+		sb.append("\\u");
+		String h = Integer.toHexString(c).toUpperCase();
+		for (int i = h.length(); i < 4; i++)
+			sb.append('0');
+		sb.append(h);
+	}
+}
@@ -0,0 +1,180 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.math.*;
+import java.net.*;
+import java.util.*;
+
+import org.apache.jena.rdf.model.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.jena.annotation.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+/**
+ * Verifies that streamed N-Triple and Turtle output describes the same graph as the output of the Jena model.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class RdfSerializer_StreamTriples_Test {
+
+	public static class A {
+		public String s = "foo \"bar\"\n\tbaz\\";
+		public int i = 1;
+		public long l = 2;
+		public double d = 1.5;
+		public Double inf = Double.POSITIVE_INFINITY;
+		public boolean b = true;
+		public BigDecimal bd = new BigDecimal("1E+3");
+		public URI uri = URI.create("http://foo/bar");
+		public String nul = null;
+		public B b1 = new B();
+		public List<String> list = Arrays.asList("x", "y", null);
+		public String[] array = {"x"};
+		public Map<String,Object> map = new LinkedHashMap<>();
+		@Rdf(collectionFormat=RdfCollectionFormat.BAG)
+		public List<Integer> bag = Arrays.asList(1, 2);
+		@Rdf(collectionFormat=RdfCollectionFormat.LIST)
+		public List<B> rdfList = Arrays.asList(new B(), new B());
+		@Rdf(collectionFormat=RdfCollectionFormat.LIST)
+		public List<B> emptyList = Collections.emptyList();
+		@Rdf(collectionFormat=RdfCollectionFormat.MULTI_VALUED)
+		public List<String> multi = Arrays.asList("m1", "m2");
+
+		public A() {
+			map.put("k1", "v1");
+			map.put("k 2", 2);
+			map.put("k3", new B());
+		}
+	}
+
+	@Bean(typeName="B")
+	public static class B {
+		@Rdf(beanUri=true)
+		public URI id;
+		public String f = "f";
+	}
+
+	public static class C {
+		public String s;
+		public Integer i;
+		public B b;
+		public List<String> list;
+		@Rdf(collectionFormat=RdfCollectionFormat.LIST)
+		public List<B> rdfList;
+		@Rdf(collectionFormat=RdfCollectionFormat.MULTI_VALUED)
+		public List<String> multi;
+		public Map<String,Integer> map;
+
+		static C create() {
+			C c = new C();
+			c.s = "foo\nbar";
+			c.i = 1;
+			c.b = new B();
+			c.list = Arrays.asList("x", "y");
+			c.rdfList = Arrays.asList(new B(), new B());
+			c.multi = Arrays.asList("m1");
+			c.map = Collections.singletonMap("k", 2);
+			return c;
+		}
+	}
+
+	private static Model model(String ntriples) {
+		return model(ntriples, "N-TRIPLE");
+	}
+
+	private static Model model(String s, String lang) {
+		return ModelFactory.createDefaultModel().read(new StringReader(s), null, lang);
+	}
+
+	private static void assertSameGraph(RdfSerializer.Builder b, Object o) throws Exception {
+		String expected = b.copy().build().serialize(o), actual = b.copy().streamTriples().build().serialize(o);
+		assertNotEquals(expected, actual);
+		assertTrue(actual, model(expected).isIsomorphicWith(model(actual)));
+	}
+
+	@Test
+	public void a01_bean() throws Exception {
+		assertSameGraph(RdfSerializer.create().ntriple(), new A());
+	}
+
+	@Test
+	public void a02_literalTypes() throws Exception {
+		assertSameGraph(RdfSerializer.create().ntriple().addLiteralTypes(), new A());
+	}
+
+	@Test
+	public void a03_rootAndBeanTypes() throws Exception {
+		assertSameGraph(RdfSerializer.create().ntriple().addRootProperty().addBeanTypesRdf(), new A());
+	}
+
+	@Test
+	public void a04_beanUri() throws Exception {
+		B b = new B();
+		b.id = URI.create("http://foo/b");
+		assertSameGraph(RdfSerializer.create().ntriple(), b);
+		assertSameGraph(RdfSerializer.create().ntriple(), Arrays.asList(b, b));
+	}
+
+	@Test
+	public void a05_rootValues() throws Exception {
+		assertSameGraph(RdfSerializer.create().ntriple().addRootProperty(), "foo");
+		assertSameGraph(RdfSerializer.create().ntriple().addRootProperty(), 123);
+		assertSameGraph(RdfSerializer.create().ntriple().addRootProperty(), Arrays.asList(new B(), new B()));
+		assertSameGraph(RdfSerializer.create().ntriple().looseCollections(), Arrays.asList(new B(), new B()));
+	}
+
+	@Test
+	public void a06_rootMultiValuedCollection() throws Exception {
+		String s = RdfSerializer.create().ntriple().streamTriples().collectionFormat(RdfCollectionFormat.MULTI_VALUED).addRootProperty().build().serialize(Arrays.asList("x", "y"));
+		assertFalse(s, s.contains("null"));
+		Model m = model(s);
+		assertEquals(s, 3, m.size());
+		Resource r = m.listSubjects().next();
+		assertTrue(s, r.isAnon());
+		assertEquals(s, 3, r.listProperties().toList().size());
+	}
+
+	@Test
+	public void b01_roundTrip() throws Exception {
+		C c = C.create();
+		String s = RdfSerializer.create().ntriple().streamTriples().build().serialize(c);
+		C c2 = RdfParser.create().ntriple().build().parse(s, C.class);
+		assertEquals(toJson(c), toJson(c2));
+	}
+
+	@Test
+	public void c01_turtle() throws Exception {
+		String expected = RdfSerializer.create().turtle().build().serialize(new A());
+		String actual = RdfSerializer.create().turtle().streamTriples().build().serialize(new A());
+		assertNotEquals(expected, actual);
+		assertTrue(actual, model(expected, "TURTLE").isIsomorphicWith(model(actual, "TURTLE")));
+		assertEquals(RdfSerializer.create().ntriple().streamTriples().build().serialize(new A()), actual);
+	}
+
+	@Test
+	public void c02_otherLanguagesUseModel() throws Exception {
+		WriterSerializer s = RdfSerializer.create().xml().streamTriples().build();
+		String actual = s.serialize(new A());
+		assertTrue(actual, actual.startsWith("<rdf:RDF"));
+		assertTrue(actual, model(RdfSerializer.create().xml().build().serialize(new A()), "RDF/XML").isIsomorphicWith(model(actual, "RDF/XML")));
+	}
+
+	private static String toJson(Object o) throws Exception {
+		return org.apache.juneau.json.Json5Serializer.create().sortProperties().build().serialize(o);
+	}
+}
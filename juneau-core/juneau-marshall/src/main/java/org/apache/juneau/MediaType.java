@@ -275,6 +275,14 @@ public class MediaType implements Comparable<MediaType>  {
 		return hasSubtypeMeta;
 	}
 
+	/*
+	 * Returns the subtype fragments without making a copy.
+	 * Used by MediaTypeMatcher.  The returned array must not be modified.
+	 */
+	final String[] subTypes() {
+		return subTypes;
+	}
+
 	/**
 	 * Returns a match metric against the specified media type where a larger number represents a better match.
 	 *
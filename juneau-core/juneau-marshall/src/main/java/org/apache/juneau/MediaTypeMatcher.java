@@ -0,0 +1,243 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.internal.CollectionUtils.*;
+
+import java.util.*;
+
+/**
+ * Matches <c>Accept</c> and <c>Content-Type</c> header values against a fixed list of media types.
+ *
+ * <p>
+ * Produces the same results as {@link MediaRanges#match(List)} and {@link MediaType#match(List)}, but the media types
+ * are compiled once when this object is created so that matching doesn't involve any string comparisons.
+ * <br>Types and subtypes are mapped to integer IDs, and the subtype fragments of each media type are stored as a
+ * bitmask so that the match metric described in {@link MediaType#match(MediaType, boolean)} can be computed with a
+ * handful of bitwise operations.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bjava'>
+ * 	MediaTypeMatcher <jv>matcher</jv> = <jk>new</jk> MediaTypeMatcher(<jv>serializers</jv>.getSupportedMediaTypes());
+ *
+ * 	<jk>int</jk> <jv>index</jv> = <jv>matcher</jv>.match(MediaRanges.<jsm>of</jsm>(<js>"text/json+foo;q=0.9,text/xml"</js>));
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>This class is thread safe and reusable.
+ * 	<li class='note'>If the media types contain more than 64 distinct subtype fragments, matching falls back to the
+ * 		methods on {@link MediaRanges} and {@link MediaType}.
+ * </ul>
+ *
+ * <ul class='seealso'>
+ * 	<li class='jc'>{@link MediaRanges}
+ * 	<li class='jc'>{@link MediaType}
+ * </ul>
+ */
+public final class MediaTypeMatcher {
+
+	private final List<MediaType> mediaTypes;
+	private final Map<String,Integer> typeIds = map(), subTypeIds = map(), fragmentIds = map();
+	private final Key[] keys;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param mediaTypes The media types to match against.
+	 */
+	public MediaTypeMatcher(List<? extends MediaType> mediaTypes) {
+		this.mediaTypes = Collections.unmodifiableList(mediaTypes);
+		Key[] keys = new Key[mediaTypes.size()];
+		for (int i = 0; i < keys.length; i++) {
+			MediaType mt = mediaTypes.get(i);
+			id(typeIds, mt.getType());
+			id(subTypeIds, mt.getSubType());
+			for (String st : mt.subTypes())
+				if (! "*".equals(st))
+					id(fragmentIds, st);
+		}
+		if (fragmentIds.size() <= 64) {
+			for (int i = 0; i < keys.length; i++)
+				keys[i] = key(mediaTypes.get(i));
+		} else {
+			keys = null;
+		}
+		this.keys = keys;
+	}
+
+	/**
+	 * Returns the index of the media type that best matches the specified <c>Accept</c> header.
+	 *
+	 * <p>
+	 * Equivalent to calling <c>ranges.match(mediaTypes)</c>.
+	 *
+	 * @param ranges The parsed <c>Accept</c> header value.
+	 * @return The index into the list of media types of the best match, or <c>-1</c> if no suitable match was found.
+	 */
+	public int match(MediaRanges ranges) {
+		if (ranges == null || ranges.toString().isEmpty())
+			return -1;
+		if (keys == null)
+			return ranges.match(mediaTypes);
+
+		int matchQuant = 0, matchIndex = -1;
+		float q = 0f;
+
+		// Media ranges are ordered by 'q'.
+		// So we only need to search until we've found a match.
+		MediaRange mr;
+		for (int j = 0; (mr = ranges.getRange(j)) != null; j++) {
+			float q2 = mr.getQValue();
+
+			if (q2 < q || q2 == 0)
+				break;
+
+			Key k = key(mr);
+			for (int i = 0; i < keys.length; i++) {
+				int matchQuant2 = match(k, keys[i], false);
+
+				if (matchQuant2 > matchQuant) {
+					matchIndex = i;
+					matchQuant = matchQuant2;
+					q = q2;
+				}
+			}
+		}
+
+		return matchIndex;
+	}
+
+	/**
+	 * Returns the index of the media type that best matches the specified <c>Content-Type</c> header.
+	 *
+	 * <p>
+	 * Equivalent to calling <c>contentType.match(mediaTypes)</c>.
+	 *
+	 * @param contentType The parsed <c>Content-Type</c> header value.
+	 * @return The index into the list of media types of the best match, or <c>-1</c> if no suitable match was found.
+	 */
+	public int match(MediaType contentType) {
+		if (contentType == null)
+			return -1;
+		if (keys == null)
+			return contentType.match(mediaTypes);
+
+		int matchQuant = 0, matchIndex = -1;
+
+		Key k = key(contentType);
+		for (int i = 0; i < keys.length; i++) {
+			int matchQuant2 = match(keys[i], k, true);
+			if (matchQuant2 > matchQuant) {
+				matchQuant = matchQuant2;
+				matchIndex = i;
+			}
+		}
+		return matchIndex;
+	}
+
+	/*
+	 * Same as a.mediaType.match(b.mediaType, allowExtraSubTypes).
+	 */
+	private static int match(Key a, Key b, boolean allowExtraSubTypes) {
+
+		if (! (a.exact && b.exact))
+			return a.mediaType.match(b.mediaType, allowExtraSubTypes);
+
+		// Perfect match
+		if (a.type != -1 && a.type == b.type && a.subType != -1 && a.subType == b.subType)
+			return 100000;
+
+		int c = 0;
+
+		if (a.type != -1 && a.type == b.type)
+			c += 10000;
+		else if (a.typeMeta || b.typeMeta)
+			c += 5000;
+
+		if (c == 0)
+			return 0;
+
+		// Subtypes match but are ordered different
+		if (a.fragments == b.fragments && a.unknown == 0 && b.unknown == 0 && a.subTypeMeta == b.subTypeMeta)
+			return c + 7500;
+
+		// Fragments in 'a' must be in 'b' unless 'b' has a meta subtype.
+		if (((a.fragments & ~b.fragments) != 0 || a.unknown > 0) && ! b.subTypeMeta)
+			return 0;
+
+		// Fragments in 'b' must be in 'a' unless 'a' has a meta subtype or extra subtypes are allowed.
+		int extra = 0;
+		if (! a.subTypeMeta) {
+			extra = Long.bitCount(b.fragments & ~a.fragments) + b.unknown;
+			if (extra > 0 && ! allowExtraSubTypes)
+				return 0;
+		}
+
+		return c + Long.bitCount(a.fragments & b.fragments) * 200 + extra * 10;
+	}
+
+	private static void id(Map<String,Integer> ids, String s) {
+		if (! ids.containsKey(s))
+			ids.put(s, ids.size());
+	}
+
+	private static int id(Map<String,Integer> ids, String s, int def) {
+		Integer i = ids.get(s);
+		return i == null ? def : i;
+	}
+
+	private Key key(MediaType mt) {
+		return new Key(mt, id(typeIds, mt.getType(), -1), id(subTypeIds, mt.getSubType(), -1));
+	}
+
+	/*
+	 * A media type compiled against the IDs of this matcher.
+	 */
+	private final class Key {
+		final MediaType mediaType;
+		final int type, subType, unknown;
+		final long fragments;
+		final boolean typeMeta, subTypeMeta, exact;
+
+		Key(MediaType mediaType, int type, int subType) {
+			this.mediaType = mediaType;
+			this.type = type;
+			this.subType = subType;
+			typeMeta = "*".equals(mediaType.getType());
+			subTypeMeta = mediaType.isMetaSubtype();
+
+			long fragments = 0;
+			int unknown = 0, metas = 0;
+			boolean exact = true;
+			for (String st : mediaType.subTypes()) {
+				if ("*".equals(st)) {
+					exact &= metas++ == 0;
+				} else {
+					int i = id(fragmentIds, st, -1);
+					if (i == -1) {
+						unknown++;
+					} else {
+						long bit = 1L << i;
+						exact &= (fragments & bit) == 0;
+						fragments |= bit;
+					}
+				}
+			}
+			this.fragments = fragments;
+			this.unknown = unknown;
+
+			// Duplicate fragments (e.g. "text/foo+foo") can't be represented in a bitmask.
+			this.exact = exact;
+		}
+	}
+}
@@ -262,6 +262,25 @@ public class UriResolver {
 		}
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the resolved form of the specified URI depends on the path info of the URI context.
+	 *
+	 * <p>
+	 * This is the case for request-relative URIs (e.g. <js>"request:/foo"</js>), and for relative URIs when the
+	 * relativity is {@link UriRelativity#PATH_INFO}.
+	 *
+	 * @param uri The URI to check.
+	 * @return <jk>true</jk> if the resolved form of the specified URI depends on the path info of the URI context.
+	 */
+	public boolean isPathInfoDependent(Object uri) {
+		String s = nullIfEmpty(stringify(uri));
+		if (isAbsoluteUri(s) || (resolution == NONE && ! isSpecialUri(s)) || startsWith(s, '/'))
+			return false;
+		if (s != null && (s.startsWith("context:/") || s.startsWith("servlet:/")))
+			return false;
+		return (s != null && s.startsWith("request:/")) || relativity == PATH_INFO;
+	}
+
 	private static boolean isSpecialUri(String s) {
 		if (s == null || s.length() == 0)
 			return false;
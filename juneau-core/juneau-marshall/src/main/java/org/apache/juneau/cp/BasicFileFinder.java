@@ -106,25 +106,22 @@ public class BasicFileFinder implements FileFinder {
 		return optional(read(find(name, locale).orElse(null)));
 	}
 
-	//-----------------------------------------------------------------------------------------------------------------
-	// Implementation methods
-	//-----------------------------------------------------------------------------------------------------------------
-
 	/**
-	 * The main implementation method for finding files.
+	 * Returns the file with the specified name.
 	 *
 	 * <p>
-	 * Subclasses can override this method to provide their own handling.
+	 * Same lookup as {@link #getStream(String, Locale)}, but returns the file itself so that metadata such as its size
+	 * and modification time can be retrieved without reading it.
 	 *
 	 * @param name The resource name.
 	 * 	See {@link Class#getResource(String)} for format.
 	 * @param locale
 	 * 	The locale of the resource to retrieve.
 	 * 	<br>If <jk>null</jk>, won't look for localized file names.
-	 * @return The resolved resource contents, or <jk>null</jk> if the resource was not found.
+	 * @return The resolved file, or {@link Optional#empty()} if the file was not found.
 	 * @throws IOException Thrown by underlying stream.
 	 */
-	protected Optional<InputStream> find(String name, Locale locale) throws IOException {
+	public Optional<LocalFile> getFile(String name, Locale locale) throws IOException {
 		name = StringUtils.trimSlashesAndSpaces(name);
 
 		if (isInvalidPath(name))
@@ -161,6 +158,29 @@ public class BasicFileFinder implements FileFinder {
 			}
 		}
 
+		return optional(lf);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Implementation methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * The main implementation method for finding files.
+	 *
+	 * <p>
+	 * Subclasses can override this method to provide their own handling.
+	 *
+	 * @param name The resource name.
+	 * 	See {@link Class#getResource(String)} for format.
+	 * @param locale
+	 * 	The locale of the resource to retrieve.
+	 * 	<br>If <jk>null</jk>, won't look for localized file names.
+	 * @return The resolved resource contents, or <jk>null</jk> if the resource was not found.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected Optional<InputStream> find(String name, Locale locale) throws IOException {
+		LocalFile lf = getFile(name, locale).orElse(null);
 		return optional(lf == null ? null : lf.read());
 	}
 
@@ -16,6 +16,8 @@ import static org.apache.juneau.internal.ArgUtils.*;
 import static org.apache.juneau.internal.IOUtils.*;
 
 import java.io.*;
+import java.net.*;
+import java.nio.channels.*;
 import java.nio.file.*;
 
 /**
@@ -33,6 +35,7 @@ public class LocalFile {
 	private final Path path;
 	private final String name;
 	private byte[] cache;
+	private long cacheLastModified, cpSize = -2, cpLastModified = -2;
 
 	/**
 	 * Constructor for classpath file.
@@ -63,17 +66,36 @@ public class LocalFile {
 	/**
 	 * Returns the contents of this file.
 	 *
+	 * <p>
+	 * The returned stream is a {@link LocalFileInputStream} that provides the size and modification time of the
+	 * contents being read.
+	 *
 	 * @return An input stream of the contents of this file.
 	 * @throws IOException If file could not be read.
 	 */
 	public InputStream read() throws IOException {
+		return open();
+	}
+
+	private LocalFileInputStream open() throws IOException {
 		synchronized(this) {
 			if (cache != null)
-				return new ByteArrayInputStream(cache);
+				return new LocalFileInputStream(this, new ByteArrayInputStream(cache), cache.length, cacheLastModified, null);
+		}
+		if (clazz != null) {
+			InputStream is = clazz.getResourceAsStream(clazzPath);
+			return is == null ? null : new LocalFileInputStream(this, is, size(), lastModified(), null);
+		}
+		// Read the modification time first so that it's never newer than the contents.
+		long lastModified = Files.getLastModifiedTime(path).toMillis();
+		FileInputStream is = new FileInputStream(path.toFile());
+		try {
+			FileChannel fc = is.getChannel();
+			return new LocalFileInputStream(this, is, fc.size(), lastModified, fc);
+		} catch (IOException e) {
+			is.close();
+			throw e;
 		}
-		if (clazz != null)
-			return clazz.getResourceAsStream(clazzPath);
-		return Files.newInputStream(path);
 	}
 
 	/**
@@ -83,7 +105,75 @@ public class LocalFile {
 	 * @throws IOException If file size could not be determined.
 	 */
 	public long size() throws IOException {
-		return (path == null ? -1 : Files.size(path));
+		synchronized(this) {
+			if (cache != null)
+				return cache.length;
+		}
+		if (path != null)
+			return Files.size(path);
+		if (cpSize == -2)
+			readClasspathMetadata();
+		return cpSize;
+	}
+
+	/**
+	 * Returns the time this file was last modified.
+	 *
+	 * <p>
+	 * For classpath files, this is the modification time of the file or jar entry the resource was loaded from.
+	 * <br>For cached files, this is the modification time of the cached contents.
+	 *
+	 * @return The time this file was last modified in milliseconds since the epoch, or <c>-1</c> if not known.
+	 * @throws IOException If the modification time could not be determined.
+	 */
+	public long lastModified() throws IOException {
+		synchronized(this) {
+			if (cache != null)
+				return cacheLastModified;
+		}
+		if (path != null)
+			return Files.getLastModifiedTime(path).toMillis();
+		if (cpLastModified == -2)
+			readClasspathMetadata();
+		return cpLastModified;
+	}
+
+	/**
+	 * Returns the location of this file on the file system.
+	 *
+	 * @return The location of this file, or <jk>null</jk> if this is a classpath file.
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the contents of this file have been cached in memory.
+	 *
+	 * @return <jk>true</jk> if the contents of this file have been cached in memory.
+	 */
+	public synchronized boolean isCached() {
+		return cache != null;
+	}
+
+	/*
+	 * Classpath resources don't change while the application is running, so their metadata only needs to be read once.
+	 */
+	private void readClasspathMetadata() throws IOException {
+		long size = -1, lastModified = -1;
+		URL url = clazz.getResource(clazzPath);
+		if (url != null) {
+			URLConnection c = url.openConnection();
+			c.setUseCaches(false);
+			try {
+				size = c.getContentLengthLong();
+				lastModified = c.getLastModified();
+			} finally {
+				c.getInputStream().close();
+			}
+		}
+		cpSize = size;
+		cpLastModified = lastModified <= 0 ? -1 : lastModified;
 	}
 
 	/**
@@ -94,7 +184,10 @@ public class LocalFile {
 	 */
 	public LocalFile cache() throws IOException {
 		synchronized(this) {
-			this.cache = readBytes(read());
+			LocalFileInputStream is = open();
+			long lastModified = is == null ? -1 : is.getLastModified();
+			this.cache = readBytes(is);
+			this.cacheLastModified = lastModified;
 		}
 		return this;
 	}
@@ -0,0 +1,90 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cp;
+
+import java.io.*;
+import java.nio.channels.*;
+
+/**
+ * An input stream over the contents of a {@link LocalFile}.
+ *
+ * <p>
+ * Returned by {@link LocalFile#read()}.
+ * <br>The size and modification time are captured when the stream is opened, so they describe the contents that are
+ * read from this stream even if the file is changed afterwards.
+ *
+ * <ul class='seealso'>
+ * </ul>
+ */
+public class LocalFileInputStream extends FilterInputStream {
+
+	private final LocalFile file;
+	private final long size, lastModified;
+	private final FileChannel channel;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param file The file being read.
+	 * @param in The contents of the file.
+	 * @param size The size of the contents, or <c>-1</c> if not known.
+	 * @param lastModified The modification time of the contents, or <c>-1</c> if not known.
+	 * @param channel The channel backing the contents if they are read from the file system, or <jk>null</jk>.
+	 */
+	LocalFileInputStream(LocalFile file, InputStream in, long size, long lastModified, FileChannel channel) {
+		super(in);
+		this.file = file;
+		this.size = size;
+		this.lastModified = lastModified;
+		this.channel = channel;
+	}
+
+	/**
+	 * Returns the file being read.
+	 *
+	 * @return The file being read.
+	 */
+	public LocalFile getFile() {
+		return file;
+	}
+
+	/**
+	 * Returns the size of the contents of this stream.
+	 *
+	 * @return The size of the contents of this stream in bytes, or <c>-1</c> if not known.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the time the contents of this stream were last modified.
+	 *
+	 * @return The time in milliseconds since the epoch, or <c>-1</c> if not known.
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Returns the file channel backing this stream.
+	 *
+	 * <p>
+	 * Can be used to transfer the contents with {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+	 *
+	 * @return The file channel backing this stream, or <jk>null</jk> if the contents aren't read from the file system.
+	 */
+	public FileChannel getChannel() {
+		return channel;
+	}
+}
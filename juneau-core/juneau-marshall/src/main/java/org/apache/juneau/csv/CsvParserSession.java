@@ -12,13 +12,17 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import static org.apache.juneau.internal.CollectionUtils.*;
+
 import java.io.IOException;
 import java.lang.reflect.*;
 import java.nio.charset.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
@@ -196,16 +200,218 @@ public final class CsvParserSession extends ReaderParserSession {
 		super(builder);
 	}
 
+	/**
+	 * Parses CSV input one row at a time.
+	 *
+	 * <p>
+	 * The first row of the input is treated as the header row containing the column names.
+	 * <br>Each subsequent row is converted to the specified type as it's consumed from the stream, so arbitrarily large
+	 * inputs can be processed without loading them into memory.
+	 *
+	 * <p>
+	 * Rows can be converted to beans (columns are mapped to bean properties by name), maps (keyed by column name), or
+	 * simple types (only the first column is used).
+	 *
+	 * <ul class='notes'>
+	 * 	<li class='note'>The returned stream should be closed to close the underlying input.
+	 * 	<li class='note'>Unquoted <c>null</c> values are parsed as <jk>null</jk>.
+	 * 	<li class='note'>Leading and trailing whitespace is trimmed from unquoted values only.
+	 * </ul>
+	 *
+	 * @param <T> The row type.
+	 * @param input The input.  See {@link #parse(Object, Class)} for the supported input types.
+	 * @param type The row type.
+	 * @return A lazily-populated stream of rows.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public <T> Stream<T> stream(Object input, Class<T> type) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			ParserReader r = pipe.getParserReader();
+			Iterator<T> i = r == null ? Collections.emptyIterator() : new RowReader<>(r, getClassMeta(type), getOuter());
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(i, Spliterator.ORDERED), false).onClose(() -> pipe.close());
+		} catch (IOException e) {
+			pipe.close();
+			throw new ParseException(this, e);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException {
 		try (ParserReader r = pipe.getParserReader()) {
 			if (r == null)
 				return null;
+			if (type.isCollectionOrArray()) {
+				Object outer = getOuter();
+				Collection l = (type.isCollection() && type.canCreateNewInstance(outer) ? (Collection)type.newInstance(outer) : new JsonList(this));
+				new RowReader<>(r, type.getElementType(), outer).forEachRemaining(x -> l.add(x));
+				return type.isArray() ? (T)toArray(type, l) : (T)l;
+			}
 			return parseAnything(type, r, getOuter(), null);
+		} catch (ExecutableException e) {
+			throw new ParseException(this, e);
 		}
 	}
 
 	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws ParseException {
 		throw new ParseException("Not implemented.");
 	}
+
+	/*
+	 * Reads rows from RFC 4180 formatted input and converts them to the specified row type.
+	 */
+	private final class RowReader<T> implements Iterator<T> {
+		private final ParserReader r;
+		private final ClassMeta<T> type;
+		private final Object outer;
+		private final List<String> fields = list();
+		private final StringBuilder sb = new StringBuilder();
+		private final String[] columns;
+		private final BeanPropertyMeta[] properties;
+		private final ClassMeta<?>[] columnTypes;
+		private int row;
+		private Boolean hasNext;
+
+		RowReader(ParserReader r, ClassMeta<T> type, Object outer) throws IOException, ParseException {
+			this.r = r;
+			this.type = type;
+			this.outer = outer;
+			columns = readRow() ? fields.toArray(new String[fields.size()]) : new String[0];
+			properties = new BeanPropertyMeta[columns.length];
+			columnTypes = new ClassMeta<?>[columns.length];
+			ClassMeta<?> valueType = type.isMap() ? type.getValueType() : type.isBean() ? null : type;
+			for (int i = 0; i < columns.length; i++) {
+				if (type.isBean()) {
+					properties[i] = columns[i] == null ? null : type.getBeanMeta().getPropertyMeta(columns[i]);
+					columnTypes[i] = properties[i] == null ? null : properties[i].getClassMeta();
+				} else {
+					columnTypes[i] = valueType;
+				}
+			}
+		}
+
+		@Override /* Iterator */
+		public boolean hasNext() {
+			if (hasNext == null) {
+				try {
+					hasNext = readRow();
+				} catch (IOException e) {
+					throw new ParseException(CsvParserSession.this, e);
+				}
+			}
+			return hasNext;
+		}
+
+		@Override /* Iterator */
+		public T next() {
+			if (! hasNext())
+				throw new NoSuchElementException();
+			hasNext = null;
+			return toRow();
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private T toRow() throws ParseException {
+			int cc = Math.min(columns.length, fields.size());
+			if (type.isBean()) {
+				BeanMap<T> m = newBeanMap(outer, type.getInnerClass());
+				for (int i = 0; i < cc; i++) {
+					BeanPropertyMeta pMeta = properties[i];
+					String s = fields.get(i);
+					if (pMeta == null) {
+						if (columns[i] != null)
+							onUnknownProperty(columns[i], m, s);
+					} else if (s != null || ! columnTypes[i].isPrimitive()) {
+						setCurrentProperty(pMeta);
+						pMeta.set(m, columns[i], convert(s, i));
+						setCurrentProperty(null);
+					}
+				}
+				return m.getBean();
+			}
+			if (type.isMap() || type.isObject()) {
+				Map m = (type.isMap() && type.canCreateNewInstance(outer) ? (Map)type.newInstance(outer) : newGenericMap(type.isMap() ? type : object()));
+				for (int i = 0; i < cc; i++)
+					m.put(columns[i], convert(fields.get(i), i));
+				return (T)m;
+			}
+			return cc == 0 ? null : (T)convert(fields.get(0), 0);
+		}
+
+		/*
+		 * Converts a field value to the column type.
+		 * Common types are converted directly to avoid the overhead of convertToType().
+		 */
+		private Object convert(String s, int column) throws ParseException {
+			ClassMeta<?> cm = columnTypes[column];
+			if (s == null || cm == null)
+				return s;
+			Class<?> c = cm.getInnerClass();
+			try {
+				if (c == String.class || c == Object.class)
+					return s;
+				if (c == int.class || c == Integer.class)
+					return Integer.valueOf(s);
+				if (c == long.class || c == Long.class)
+					return Long.valueOf(s);
+				if (c == double.class || c == Double.class)
+					return Double.valueOf(s);
+				if (c == float.class || c == Float.class)
+					return Float.valueOf(s);
+				if (c == short.class || c == Short.class)
+					return Short.valueOf(s);
+				if (c == boolean.class || c == Boolean.class)
+					return Boolean.valueOf(s);
+				return convertToType(s, cm);
+			} catch (RuntimeException e) {
+				throw new ParseException(CsvParserSession.this, e, "Could not convert value ''{0}'' in column ''{1}'' on row {2}.", s, columns[column], row);
+			}
+		}
+
+		/*
+		 * Reads the next non-blank row into the fields list.
+		 * Returns false if the end of the input has been reached.
+		 */
+		private boolean readRow() throws IOException, ParseException {
+			fields.clear();
+			int c = r.read();
+			while (c == '\r' || c == '\n')
+				c = r.read();
+			if (c == -1)
+				return false;
+			row++;
+			while (true) {
+				sb.setLength(0);
+				boolean quoted = c == '"';
+				if (quoted) {
+					while (true) {
+						c = r.read();
+						if (c == -1)
+							throw new ParseException(CsvParserSession.this, "Unterminated quoted value on row {0}.", row);
+						if (c == '"' && (c = r.read()) != '"')
+							break;
+						sb.append((char)c);
+					}
+				} else {
+					while (c != ',' && c != '\r' && c != '\n' && c != -1) {
+						sb.append((char)c);
+						c = r.read();
+					}
+				}
+				// Whitespace is only insignificant around unquoted values.
+				String s = quoted ? sb.toString() : sb.toString().trim();
+				fields.add(! quoted && "null".equals(s) ? null : s);
+				if (c == ',') {
+					c = r.read();
+					continue;
+				}
+				if (c == '\r' && r.peek() == '\n')
+					r.read();
+				else if (c != '\r' && c != '\n' && c != -1)
+					throw new ParseException(CsvParserSession.this, "Unexpected character ''{0}'' after quoted value on row {1}.", (char)c, row);
+				return true;
+			}
+		}
+	}
 }
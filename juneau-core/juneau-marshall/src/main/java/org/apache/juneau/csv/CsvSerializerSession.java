@@ -19,6 +19,7 @@ import java.lang.reflect.*;
 import java.nio.charset.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 import org.apache.juneau.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
@@ -210,67 +211,109 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 		super(builder);
 	}
 
+	/**
+	 * Serializes rows to CSV.
+	 *
+	 * <p>
+	 * The object can be a collection, array, {@link Iterator}, or {@link Stream} of beans, maps, or simple values, or a
+	 * single such value.
+	 * <br>Iterators and streams are consumed one row at a time so that large result sets don't need to be materialized
+	 * in memory.
+	 * <br>The columns are determined by the first row.
+	 *
+	 * <ul class='notes'>
+	 * 	<li class='note'>Streams are closed once they've been consumed.
+	 * 	<li class='note'>Map rows containing keys that aren't in the first row are rejected with a {@link SerializeException}.
+	 * </ul>
+	 */
 	@SuppressWarnings("rawtypes")
 	@Override /* SerializerSession */
 	protected final void doSerialize(SerializerPipe pipe, Object o) throws IOException, SerializeException {
 
 		try (CsvWriter w = getCsvWriter(pipe)) {
-			ClassMeta<?> cm = getClassMetaForObject(o);
-			Collection<?> l = null;
-			if (cm.isArray()) {
-				l = alist((Object[])o);
-			} else if (cm.isCollection()) {
-				l = (Collection<?>)o;
+			Iterator<?> i = null;
+			if (o instanceof Iterator) {
+				i = (Iterator<?>)o;
+			} else if (o instanceof Stream) {
+				i = ((Stream<?>)o).iterator();
 			} else {
-				l = Collections.singleton(o);
+				ClassMeta<?> cm = getClassMetaForObject(o);
+				if (cm.isArray()) {
+					i = alist((Object[])o).iterator();
+				} else if (cm.isCollection()) {
+					i = ((Collection<?>)o).iterator();
+				} else {
+					i = Collections.singleton(o).iterator();
+				}
 			}
 
 			// TODO - Doesn't support DynaBeans.
-			if (l.size() > 0) {
-				ClassMeta<?> entryType = getClassMetaForObject(l.iterator().next());
+			if (i.hasNext()) {
+				Object first = i.next();
+				ClassMeta<?> entryType = getClassMetaForObject(first);
 				if (entryType.isBean()) {
-					BeanMeta<?> bm = entryType.getBeanMeta();
-					Flag addComma = Flag.create();
-					bm.forEachProperty(x -> x.canRead(), x -> {
-						addComma.ifSet(() -> w.w(',')).set();
-						w.writeEntry(x.getName());
-					});
+					List<BeanPropertyMeta> l = list();
+					entryType.getBeanMeta().forEachProperty(x -> x.canRead(), x -> l.add(x));
+					BeanPropertyMeta[] columns = l.toArray(new BeanPropertyMeta[l.size()]);
+					for (int j = 0; j < columns.length; j++) {
+						if (j > 0)
+							w.w(',');
+						w.writeEntry(columns[j].getName());
+					}
 					w.append('\n');
-					l.forEach(x -> {
-						Flag addComma2 = Flag.create();
+					Consumer<Object> row = x -> {
 						BeanMap<?> bean = toBeanMap(x);
-						bm.forEachProperty(y -> y.canRead(), y -> {
-							addComma2.ifSet(() -> w.w(',')).set();
-							w.writeEntry(y.get(bean, y.getName()));
-						});
+						for (int j = 0; j < columns.length; j++) {
+							if (j > 0)
+								w.w(',');
+							w.writeEntry(columns[j].get(bean, columns[j].getName()));
+						}
 						w.w('\n');
-					});
+					};
+					row.accept(first);
+					i.forEachRemaining(row);
 				} else if (entryType.isMap()) {
-					Flag addComma = Flag.create();
-					Map first = (Map)l.iterator().next();
-					first.keySet().forEach(x -> {
-						addComma.ifSet(() -> w.w(',')).set();
-						w.writeEntry(x);
-					});
+					Object[] columns = ((Map)first).keySet().toArray();
+					for (int j = 0; j < columns.length; j++) {
+						if (j > 0)
+							w.w(',');
+						w.writeEntry(columns[j]);
+					}
 					w.append('\n');
-					l.stream().forEach(x -> {
-						Flag addComma2 = Flag.create();
+					Object[] values = new Object[columns.length];
+					Consumer<Object> row = x -> {
 						Map map = (Map)x;
-						map.values().forEach(y -> {
-							addComma2.ifSet(() -> w.w(',')).set();
-							w.writeEntry(y);
-						});
+						int found = 0;
+						for (int j = 0; j < columns.length; j++) {
+							values[j] = map.get(columns[j]);
+							if (values[j] != null || map.containsKey(columns[j]))
+								found++;
+						}
+						if (found != map.size())
+							throw new SerializeException(this, "Map contains keys not found in the first row: {0}", map.keySet());
+						for (int j = 0; j < columns.length; j++) {
+							if (j > 0)
+								w.w(',');
+							w.writeEntry(values[j]);
+						}
 						w.w('\n');
-					});
+					};
+					row.accept(first);
+					i.forEachRemaining(row);
 				} else {
 					w.writeEntry("value");
 					w.append('\n');
-					l.stream().forEach(x -> {
+					Consumer<Object> row = x -> {
 						w.writeEntry(x);
 						w.w('\n');
-					});
+					};
+					row.accept(first);
+					i.forEachRemaining(row);
 				}
 			}
+		} finally {
+			if (o instanceof Stream)
+				((Stream<?>)o).close();
 		}
 	}
 
@@ -45,6 +45,10 @@ public final class CsvWriter extends SerializerWriter {
 	/**
 	 * Writes an entry to the writer.
 	 *
+	 * <p>
+	 * Values containing whitespace, commas, or double-quotes are quoted, and embedded double-quotes are escaped by
+	 * doubling them.
+	 *
 	 * @param value The value to write.
 	 */
 	public void writeEntry(Object value) {
@@ -52,16 +56,33 @@ public final class CsvWriter extends SerializerWriter {
 			w("null");
 		else {
 			String s = value.toString();
+			int len = s.length(), firstQuote = -1;
 			boolean mustQuote = false;
-			for (int i = 0; i < s.length() && ! mustQuote; i++) {
+			for (int i = 0; i < len; i++) {
 				char c = s.charAt(i);
-				if (Character.isWhitespace(c) || c == ',')
+				if (c == '"') {
+					firstQuote = i;
+					mustQuote = true;
+					break;
+				}
+				if (c == ',' || Character.isWhitespace(c))
 					mustQuote = true;
 			}
-			if (mustQuote)
-				w('"').w(s).w('"');
-			else
+			if (! mustQuote)
 				w(s);
+			else if (firstQuote == -1)
+				w('"').w(s).w('"');
+			else {
+				w('"');
+				int start = 0;
+				for (int i = firstQuote; i < len; i++) {
+					if (s.charAt(i) == '"') {
+						w(s.substring(start, i + 1)).w('"');
+						start = i + 1;
+					}
+				}
+				w(s.substring(start)).w('"');
+			}
 		}
 	}
 
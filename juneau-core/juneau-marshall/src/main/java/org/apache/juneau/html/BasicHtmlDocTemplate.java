@@ -22,6 +22,13 @@ import org.apache.juneau.internal.*;
  * <p>
  * This class can be subclassed to customize page rendering.
  *
+ * <p>
+ * The head, header, nav, aside, and footer sections are rendered once and reused by later serializations as long as
+ * they don't contain any variables.
+ * <br>Sections containing URIs are reused only for the same authority, context, and servlet path, and sections
+ * containing URIs relative to the request path are never reused.
+ * <br>Subclasses must opt in to this through {@link #isReusable(String)}.
+ *
  * <ul class='seealso'>
  * 	<li class='link'><a class="doclink" href="../../../../overview-summary.html#juneau-marshall.jm.HtmlDetails">HTML Details</a>
  * </ul>
@@ -32,7 +39,10 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	public void writeTo(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
 		w.sTag("html").nl(0);
 		w.sTag(1, "head").nl(1);
-		head(session, w, o);
+		if (isReusable("head") && ! session.hasWidgets() && ! session.isPathInfoDependent(session.getStylesheet()))
+			session.writeFragment(w, "head", session.getStylesheet().length > 0, x -> head(session, x, o));
+		else
+			head(session, w, o);
 		w.eTag(1, "head").nl(1);
 		w.sTag(1, "body").nl(1);
 		body(session, w, o);
@@ -119,20 +129,26 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 
 		if (hasHeader(session)) {
 			w.sTag(2, "header").nl(2);
-			header(session, w, o);
+			if (isReusable("header"))
+				session.writeFragment(w, "header", false, x -> header(session, x, o));
+			else
+				header(session, w, o);
 			w.ie(2).eTag("header").nl(2);
 		}
 
 		if (hasNav(session)) {
 			w.sTag(2, "nav").nl(2);
-			nav(session, w, o);
+			if (isReusable("nav") && ! hasPathInfoDependentNavLinks(session))
+				session.writeFragment(w, "nav", session.getNavLinks().length > 0, x -> nav(session, x, o));
+			else
+				nav(session, w, o);
 			w.ie(2).eTag("nav").nl(2);
 		}
 
 		if (hasAside && asideFloat.is(TOP)) {
 			w.sTag(2, "section").nl(2);
 			w.sTag(3, "aside").nl(3);
-			aside(session, w, o);
+			writeAside(session, w, o);
 			w.ie(3).eTag("aside").nl(3);
 			w.ie(2).eTag("section").nl(2);
 		}
@@ -141,7 +157,7 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 
 		if (hasAside && asideFloat.is(LEFT)) {
 			w.sTag(3, "aside").nl(3);
-			aside(session, w, o);
+			writeAside(session, w, o);
 			w.ie(3).eTag("aside").nl(3);
 		}
 
@@ -151,7 +167,7 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 
 		if (hasAside && asideFloat.isAny(RIGHT, DEFAULT)) {
 			w.sTag(3, "aside").nl(3);
-			aside(session, w, o);
+			writeAside(session, w, o);
 			w.ie(3).eTag("aside").nl(3);
 		}
 
@@ -160,14 +176,17 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 		if (hasAside && asideFloat.is(BOTTOM)) {
 			w.sTag(2, "section").nl(2);
 			w.sTag(3, "aside").nl(3);
-			aside(session, w, o);
+			writeAside(session, w, o);
 			w.ie(3).eTag("aside").nl(3);
 			w.ie(2).eTag("section").nl(2);
 		}
 
 		if (hasFooter(session)) {
 			w.sTag(2, "footer").nl(2);
-			footer(session, w, o);
+			if (isReusable("footer"))
+				session.writeFragment(w, "footer", false, x -> footer(session, x, o));
+			else
+				footer(session, w, o);
 			w.ie(2).eTag("footer").nl(2);
 		}
 	}
@@ -347,6 +366,43 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 		return session.getFooter().length > 0;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the rendered contents of the specified section can be reused by later serializations.
+	 *
+	 * <p>
+	 * A reusable section is rendered once and written as-is to later pages unless its rendering resolves any
+	 * variables.
+	 * <br>Only return <jk>true</jk> for sections whose rendering is determined by the serializer settings and the URI
+	 * context alone.
+	 *
+	 * <p>
+	 * The default implementation returns <jk>true</jk> for this class and <jk>false</jk> for subclasses, since
+	 * overridden render methods may depend on the request or the object being serialized.
+	 *
+	 * @param section The section name.  One of <js>"head"</js>, <js>"header"</js>, <js>"nav"</js>, <js>"aside"</js>,
+	 * 	or <js>"footer"</js>.
+	 * @return <jk>true</jk> if the rendered contents of the specified section can be reused.
+	 */
+	protected boolean isReusable(String section) {
+		return getClass() == BasicHtmlDocTemplate.class;
+	}
+
+	private void writeAside(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
+		if (isReusable("aside"))
+			session.writeFragment(w, "aside", false, x -> aside(session, x, o));
+		else
+			aside(session, w, o);
+	}
+
+	private static boolean hasPathInfoDependentNavLinks(HtmlDocSerializerSession session) {
+		for (String l : session.getNavLinks()) {
+			int i = l.indexOf(':');
+			if (i != -1 && session.isPathInfoDependent(l.substring(i+1).trim()))
+				return true;
+		}
+		return false;
+	}
+
 	private static boolean exists(String s) {
 		return s != null && ! "NONE".equals(s);
 	}
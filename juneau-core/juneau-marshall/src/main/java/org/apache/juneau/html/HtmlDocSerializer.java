@@ -19,6 +19,7 @@ import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.regex.*;
 
@@ -1472,6 +1473,18 @@ public class HtmlDocSerializer extends HtmlStrippedDocSerializer {
 			return this;
 		}
 
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically() {
+			super.detectNamespacesStatically();
+			return this;
+		}
+
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically(boolean value) {
+			super.detectNamespacesStatically(value);
+			return this;
+		}
+
 		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
 		public Builder disableAutoDetectNamespaces() {
 			super.disableAutoDetectNamespaces();
@@ -1641,6 +1654,21 @@ public class HtmlDocSerializer extends HtmlStrippedDocSerializer {
 
 	private volatile HtmlSchemaDocSerializer schemaSerializer;
 
+	private static final int MAX_FRAGMENTS = 100;
+
+	// Page fragments found to be request-independent, rendered once and reused by all sessions.
+	// Keyed by fragment name, plus the path-independent parts of the URI context for fragments containing URIs.
+	// Least-recently-used entries are evicted first since the authority comes from the request.
+	final Map<HashKey,String> fragments = Collections.synchronizedMap(new LinkedHashMap<HashKey,String>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override /* LinkedHashMap */
+		protected boolean removeEldestEntry(Map.Entry<HashKey,String> eldest) {
+			return size() > MAX_FRAGMENTS;
+		}
+	});
+	final Set<String> dynamicFragments = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Constructor.
 	 *
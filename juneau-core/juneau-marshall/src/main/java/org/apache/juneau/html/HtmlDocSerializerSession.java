@@ -14,7 +14,7 @@ package org.apache.juneau.html;
 
 import static org.apache.juneau.collections.JsonMap.*;
 
-import java.io.IOException;
+import java.io.*;
 import java.lang.reflect.*;
 import java.nio.charset.*;
 import java.util.*;
@@ -26,6 +26,7 @@ import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.svl.*;
+import org.apache.juneau.utils.*;
 
 /**
  * Context object that lives for the duration of a single serialization of {@link HtmlSerializer} and its subclasses.
@@ -221,6 +222,7 @@ public class HtmlDocSerializerSession extends HtmlStrippedDocSerializerSession {
 	}
 
 	private final HtmlDocSerializer ctx;
+	private boolean dynamic;
 
 	@Override /* SerializerSession */
 	protected VarResolverSession createDefaultVarResolverSession() {
@@ -264,6 +266,76 @@ public class HtmlDocSerializerSession extends HtmlStrippedDocSerializerSession {
 			super.doSerialize(pipe, o);
 		}
 	}
+
+	@Override /* SerializerSession */
+	public String resolve(String string) {
+		if (! dynamic && ! getVarResolver().isConstant(string))
+			dynamic = true;
+		return super.resolve(string);
+	}
+
+	/**
+	 * Writes a fragment of the page, reusing the output of earlier serializations when possible.
+	 *
+	 * <p>
+	 * The first time a fragment is written, it's rendered into a buffer while keeping track of whether any variables
+	 * were resolved.
+	 * <br>If none were, the rendered text is kept on the serializer and written as-is by later sessions.
+	 * <br>Otherwise the fragment is considered request-dependent and is rendered every time from then on.
+	 *
+	 * @param w The writer being written to.
+	 * @param name The fragment name.
+	 * @param uriDependent
+	 * 	<jk>true</jk> if the fragment contains URIs resolved against the URI context of this session.
+	 * 	<br>Such fragments are reused for the same authority, context, and servlet path.
+	 * 	<br>Fragments containing URIs that depend on the path info must not be written through this method.
+	 * @param renderer Renders the fragment to the writer passed in.
+	 * @throws Exception Thrown by the renderer.
+	 */
+	final void writeFragment(HtmlWriter w, String name, boolean uriDependent, ThrowingConsumer<HtmlWriter> renderer) throws Exception {
+		if (ctx.dynamicFragments.contains(name)) {
+			renderer.acceptThrows(w);
+			return;
+		}
+		// The context and servlet URIs capture the parts of the URI context that don't depend on the request path.
+		HashKey key = uriDependent ? HashKey.of(name, resolveUri("context:/"), resolveUri("servlet:/")) : HashKey.of(name);
+		String s = ctx.fragments.get(key);
+		if (s == null) {
+			boolean wasDynamic = dynamic;
+			dynamic = false;
+			StringWriter sw = new StringWriter();
+			renderer.acceptThrows(new HtmlWriter(sw, isUseWhitespace(), getMaxIndent(), isTrimStrings(), getQuoteChar(), getUriResolver()));
+			s = sw.toString();
+			if (dynamic)
+				ctx.dynamicFragments.add(name);
+			else
+				ctx.fragments.put(key, s);
+			dynamic |= wasDynamic;
+		}
+		w.w(s);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if any widgets are defined on the serializer.
+	 *
+	 * @return <jk>true</jk> if any widgets are defined on the serializer.
+	 */
+	final boolean hasWidgets() {
+		return ! ctx.getWidgets().isEmpty();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if any of the specified URIs resolve differently depending on the path info.
+	 *
+	 * @param uris The URIs to check.
+	 * @return <jk>true</jk> if any of the specified URIs resolve differently depending on the path info.
+	 */
+	final boolean isPathInfoDependent(String...uris) {
+		for (String u : uris)
+			if (getUriResolver().isPathInfoDependent(u))
+				return true;
+		return false;
+	}
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
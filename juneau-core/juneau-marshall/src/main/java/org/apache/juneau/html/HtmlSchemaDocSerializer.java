@@ -924,6 +924,18 @@ public final class HtmlSchemaDocSerializer extends HtmlDocSerializer {
 			return this;
 		}
 
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically() {
+			super.detectNamespacesStatically();
+			return this;
+		}
+
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically(boolean value) {
+			super.detectNamespacesStatically(value);
+			return this;
+		}
+
 		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
 		public Builder disableAutoDetectNamespaces() {
 			super.disableAutoDetectNamespaces();
@@ -992,6 +992,18 @@ public class HtmlSchemaSerializer extends HtmlSerializer {
 			return this;
 		}
 
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically() {
+			super.detectNamespacesStatically();
+			return this;
+		}
+
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically(boolean value) {
+			super.detectNamespacesStatically(value);
+			return this;
+		}
+
 		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
 		public Builder disableAutoDetectNamespaces() {
 			super.disableAutoDetectNamespaces();
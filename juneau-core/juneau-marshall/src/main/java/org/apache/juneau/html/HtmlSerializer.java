@@ -1381,6 +1381,18 @@ public class HtmlSerializer extends XmlSerializer implements HtmlMetaProvider {
 			return this;
 		}
 
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically() {
+			super.detectNamespacesStatically();
+			return this;
+		}
+
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically(boolean value) {
+			super.detectNamespacesStatically(value);
+			return this;
+		}
+
 		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
 		public Builder disableAutoDetectNamespaces() {
 			super.disableAutoDetectNamespaces();
@@ -789,6 +789,18 @@ public class HtmlStrippedDocSerializer extends HtmlSerializer {
 			return this;
 		}
 
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically() {
+			super.detectNamespacesStatically();
+			return this;
+		}
+
+		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
+		public Builder detectNamespacesStatically(boolean value) {
+			super.detectNamespacesStatically(value);
+			return this;
+		}
+
 		@Override /* GENERATED - org.apache.juneau.xml.XmlSerializer.Builder */
 		public Builder disableAutoDetectNamespaces() {
 			super.disableAutoDetectNamespaces();
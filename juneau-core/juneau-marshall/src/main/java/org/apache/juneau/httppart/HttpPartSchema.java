@@ -3220,6 +3220,7 @@ public class HttpPartSchema {
 	final Class<? extends HttpPartParser> parser;
 	final Class<? extends HttpPartSerializer> serializer;
 	final ClassMeta<?> parsedType;
+	final HttpPartSchemaValidator validator;
 
 	HttpPartSchema(Builder b) {
 		this.name = b.name;
@@ -3276,6 +3277,7 @@ public class HttpPartSchema {
 				parsedType = String.class;
 		}
 		this.parsedType = BeanContext.DEFAULT.getClassMeta(parsedType);
+		this.validator = HttpPartSchemaValidator.compile(this);
 
 		if (b.noValidate)
 			return;
@@ -3746,6 +3748,19 @@ public class HttpPartSchema {
 		return serializer;
 	}
 
+	/**
+	 * Returns the compiled validator for this schema.
+	 *
+	 * <p>
+	 * The validator is built once when the schema is created and contains only the checks for the constraints that are
+	 * actually defined on this schema.
+	 *
+	 * @return The compiled validator for this schema.  Never <jk>null</jk>.
+	 */
+	public HttpPartSchemaValidator getValidator() {
+		return validator;
+	}
+
 	/**
 	 * Throws a {@link ParseException} if the specified pre-parsed input does not validate against this schema.
 	 *
@@ -3754,21 +3769,7 @@ public class HttpPartSchema {
 	 * @throws SchemaValidationException if the specified pre-parsed input does not validate against this schema.
 	 */
 	public String validateInput(String in) throws SchemaValidationException {
-		if (! isValidRequired(in))
-			throw new SchemaValidationException("No value specified.");
-		if (in != null) {
-			if (! isValidAllowEmpty(in))
-				throw new SchemaValidationException("Empty value not allowed.");
-			if (! isValidPattern(in))
-				throw new SchemaValidationException("Value does not match expected pattern.  Must match pattern: {0}", pattern.pattern());
-			if (! isValidEnum(in))
-				throw new SchemaValidationException("Value does not match one of the expected values.  Must be one of the following:  {0}", cdl(_enum));
-			if (! isValidMaxLength(in))
-				throw new SchemaValidationException("Maximum length of value exceeded.");
-			if (! isValidMinLength(in))
-				throw new SchemaValidationException("Minimum length of value not met.");
-		}
-		return in;
+		return validator.validateInput(in);
 	}
 
 	/**
@@ -3781,107 +3782,14 @@ public class HttpPartSchema {
 	 * @throws SchemaValidationException if the specified parsed output does not validate against this schema.
 	 */
 	public <T> T validateOutput(T o, BeanContext bc) throws SchemaValidationException {
-		if (o == null) {
-			if (! isValidRequired(o))
-				throw new SchemaValidationException("Required value not provided.");
-			return o;
-		}
-		ClassMeta<?> cm = bc.getClassMetaForObject(o);
-		switch (getType(cm)) {
-			case ARRAY: {
-				if (cm.isArray()) {
-					if (! isValidMinItems(o))
-						throw new SchemaValidationException("Minimum number of items not met.");
-					if (! isValidMaxItems(o))
-						throw new SchemaValidationException("Maximum number of items exceeded.");
-					if (! isValidUniqueItems(o))
-						throw new SchemaValidationException("Duplicate items not allowed.");
-					HttpPartSchema items = getItems();
-					if (items != null)
-						for (int i = 0; i < Array.getLength(o); i++)
-							items.validateOutput(Array.get(o, i), bc);
-				} else if (cm.isCollection()) {
-					Collection<?> c = (Collection<?>)o;
-					if (! isValidMinItems(c))
-						throw new SchemaValidationException("Minimum number of items not met.");
-					if (! isValidMaxItems(c))
-						throw new SchemaValidationException("Maximum number of items exceeded.");
-					if (! isValidUniqueItems(c))
-						throw new SchemaValidationException("Duplicate items not allowed.");
-					HttpPartSchema items = getItems();
-					if (items != null)
-						c.forEach(x -> items.validateOutput(x, bc));
-				}
-				break;
-			}
-			case INTEGER: {
-				if (cm.isNumber()) {
-					Number n = (Number)o;
-					if (! isValidMinimum(n))
-						throw new SchemaValidationException("Minimum value not met.");
-					if (! isValidMaximum(n))
-						throw new SchemaValidationException("Maximum value exceeded.");
-					if (! isValidMultipleOf(n))
-						throw new SchemaValidationException("Multiple-of not met.");
-				}
-				break;
-			}
-			case NUMBER: {
-				if (cm.isNumber()) {
-					Number n = (Number)o;
-					if (! isValidMinimum(n))
-						throw new SchemaValidationException("Minimum value not met.");
-					if (! isValidMaximum(n))
-						throw new SchemaValidationException("Maximum value exceeded.");
-					if (! isValidMultipleOf(n))
-						throw new SchemaValidationException("Multiple-of not met.");
-				}
-				break;
-			}
-			case OBJECT: {
-				if (cm.isMapOrBean()) {
-					Map<?,?> m = cm.isMap() ? (Map<?,?>)o : bc.toBeanMap(o);
-					if (! isValidMinProperties(m))
-						throw new SchemaValidationException("Minimum number of properties not met.");
-					if (! isValidMaxProperties(m))
-						throw new SchemaValidationException("Maximum number of properties exceeded.");
-					m.forEach((k,v) -> {
-						String key = k.toString();
-						HttpPartSchema s2 = getProperty(key);
-						if (s2 != null)
-							s2.validateOutput(v, bc);
-					});
-				} else if (cm.isBean()) {
-
-				}
-				break;
-			}
-			case BOOLEAN:
-			case FILE:
-			case STRING:
-			case NO_TYPE:
-				break;
-		}
-		return o;
+		return validator.validateOutput(o, bc);
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
 	// Helper methods.
 	//-----------------------------------------------------------------------------------------------------------------
 
-	private boolean isValidRequired(Object x) {
-		return x != null || ! required;
-	}
-
-	private boolean isValidMinProperties(Map<?,?> x) {
-		return minProperties == null || x.size() >= minProperties;
-	}
-
-	private boolean isValidMaxProperties(Map<?,?> x) {
-		return maxProperties == null || x.size() <= maxProperties;
-	}
-
-	private boolean isValidMinimum(Number x) {
+	boolean isValidMinimum(Number x) {
 		if (x instanceof Integer || x instanceof AtomicInteger)
 			return minimum == null || x.intValue() > minimum.intValue() || (x.intValue() == minimum.intValue() && (! exclusiveMinimum));
 		if (x instanceof Short || x instanceof Byte)
@@ -3895,7 +3803,7 @@ public class HttpPartSchema {
 		return true;
 	}
 
-	private boolean isValidMaximum(Number x) {
+	boolean isValidMaximum(Number x) {
 		if (x instanceof Integer || x instanceof AtomicInteger)
 			return maximum == null || x.intValue() < maximum.intValue() || (x.intValue() == maximum.intValue() && (! exclusiveMaximum));
 		if (x instanceof Short || x instanceof Byte)
@@ -3909,7 +3817,7 @@ public class HttpPartSchema {
 		return true;
 	}
 
-	private boolean isValidMultipleOf(Number x) {
+	boolean isValidMultipleOf(Number x) {
 		if (x instanceof Integer || x instanceof AtomicInteger)
 			return multipleOf == null || x.intValue() % multipleOf.intValue() == 0;
 		if (x instanceof Short || x instanceof Byte)
@@ -3923,64 +3831,6 @@ public class HttpPartSchema {
 		return true;
 	}
 
-	private boolean isValidAllowEmpty(String x) {
-		return allowEmptyValue || isNotEmpty(x);
-	}
-
-	private boolean isValidPattern(String x) {
-		return pattern == null || pattern.matcher(x).matches();
-	}
-
-	private boolean isValidEnum(String x) {
-		return _enum.isEmpty() || _enum.contains(x);
-	}
-
-	private boolean isValidMinLength(String x) {
-		return minLength == null || x.length() >= minLength;
-	}
-
-	private boolean isValidMaxLength(String x) {
-		return maxLength == null || x.length() <= maxLength;
-	}
-
-	private boolean isValidMinItems(Object x) {
-		return minItems == null || Array.getLength(x) >= minItems;
-	}
-
-	private boolean isValidMaxItems(Object x) {
-		return maxItems == null || Array.getLength(x) <= maxItems;
-	}
-
-	private boolean isValidUniqueItems(Object x) {
-		if (uniqueItems) {
-			Set<Object> s = new HashSet<>();
-			for (int i = 0; i < Array.getLength(x); i++) {
-				Object o = Array.get(x, i);
-				if (! s.add(o))
-					return false;
-			}
-		}
-		return true;
-	}
-
-	private boolean isValidMinItems(Collection<?> x) {
-		return minItems == null || x.size() >= minItems;
-	}
-
-	private boolean isValidMaxItems(Collection<?> x) {
-		return maxItems == null || x.size() <= maxItems;
-	}
-
-	private boolean isValidUniqueItems(Collection<?> x) {
-		if (uniqueItems && ! (x instanceof Set)) {
-			Set<Object> s = new HashSet<>();
-			for (Object o : x)
-				if (! s.add(o))
-					return false;
-		}
-		return true;
-	}
-
 	/**
 	 * Returns the schema information for the specified property.
 	 *
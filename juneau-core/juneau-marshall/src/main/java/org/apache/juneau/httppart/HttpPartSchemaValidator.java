@@ -0,0 +1,407 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.httppart;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.regex.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Compiled form of the validation rules defined on an {@link HttpPartSchema}.
+ *
+ * <p>
+ * Validators are built once per schema and consist of an immutable tree of checks specialized for the constraints that
+ * are actually present on the schema.
+ * <br>Constraints that are not specified are not represented in the tree at all, so validating a part against a schema
+ * with no constraints is effectively free.
+ *
+ * <p>
+ * Instances are obtained through {@link HttpPartSchema#getValidator()}.
+ * <br>The {@link HttpPartSchema#validateInput(String)} and {@link HttpPartSchema#validateOutput(Object, BeanContext)}
+ * methods delegate to this class.
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>This class is thread safe and reusable.
+ * </ul>
+ */
+public final class HttpPartSchemaValidator {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Static
+	//-----------------------------------------------------------------------------------------------------------------
+
+	// Maximum size of an enum for which a linear scan is used instead of a hash lookup.
+	private static final int SMALL_ENUM_SIZE = 4;
+
+	private static final InputCheck[] NO_INPUT_CHECKS = new InputCheck[0];
+
+	/**
+	 * Compiles the specified schema into a validator.
+	 *
+	 * @param schema The schema to compile.  Child schemas must already be compiled.
+	 * @return A new validator.
+	 */
+	static HttpPartSchemaValidator compile(HttpPartSchema schema) {
+		return new HttpPartSchemaValidator(schema);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private final HttpPartSchema schema;
+	private final boolean required;
+	private final InputCheck[] inputChecks;
+	private final ArrayCheck arrayCheck;
+	private final NumberCheck numberCheck;
+	private final ObjectCheck objectCheck;
+	private final boolean hasOutputChecks;
+
+	private HttpPartSchemaValidator(HttpPartSchema s) {
+		this.schema = s;
+		this.required = s.required;
+
+		List<InputCheck> l = new ArrayList<>();
+		if (! s.allowEmptyValue)
+			l.add(new AllowEmptyCheck());
+		if (s.pattern != null)
+			l.add(new PatternCheck(s.pattern));
+		if (! s._enum.isEmpty())
+			l.add(s._enum.size() <= SMALL_ENUM_SIZE ? new SmallEnumCheck(s._enum) : new EnumCheck(s._enum));
+		if (s.maxLength != null || s.minLength != null)
+			l.add(new LengthCheck(s.minLength, s.maxLength));
+		this.inputChecks = l.isEmpty() ? NO_INPUT_CHECKS : l.toArray(new InputCheck[l.size()]);
+
+		HttpPartDataType t = s.type;
+		boolean any = t == HttpPartDataType.NO_TYPE;
+		this.arrayCheck = (any || t == HttpPartDataType.ARRAY) ? ArrayCheck.of(s) : null;
+		this.numberCheck = (any || t == HttpPartDataType.INTEGER || t == HttpPartDataType.NUMBER) ? NumberCheck.of(s) : null;
+		this.objectCheck = (any || t == HttpPartDataType.OBJECT) ? ObjectCheck.of(s) : null;
+		this.hasOutputChecks = arrayCheck != null || numberCheck != null || objectCheck != null;
+	}
+
+	/**
+	 * Throws a {@link SchemaValidationException} if the specified pre-parsed input does not validate against the schema.
+	 *
+	 * @param in The input.
+	 * @return The same object passed in.
+	 * @throws SchemaValidationException if the specified pre-parsed input does not validate against the schema.
+	 */
+	public String validateInput(String in) throws SchemaValidationException {
+		if (in == null) {
+			if (required)
+				throw new SchemaValidationException("No value specified.");
+			return in;
+		}
+		for (InputCheck c : inputChecks)
+			c.check(in);
+		return in;
+	}
+
+	/**
+	 * Throws a {@link SchemaValidationException} if the specified parsed output does not validate against the schema.
+	 *
+	 * @param <T> The return type.
+	 * @param o The parsed output.
+	 * @param bc The bean context used to detect POJO types.
+	 * @return The same object passed in.
+	 * @throws SchemaValidationException if the specified parsed output does not validate against the schema.
+	 */
+	public <T> T validateOutput(T o, BeanContext bc) throws SchemaValidationException {
+		if (o == null) {
+			if (required)
+				throw new SchemaValidationException("Required value not provided.");
+			return o;
+		}
+		if (! hasOutputChecks)
+			return o;
+		if (o instanceof Number && numberCheck != null) {
+			// Numbers always resolve to INTEGER or NUMBER when a number check exists, so skip the class meta lookup.
+			numberCheck.check((Number)o);
+			return o;
+		}
+		ClassMeta<?> cm = bc.getClassMetaForObject(o);
+		OutputCheck c = null;
+		switch (schema.getType(cm)) {
+			case ARRAY: c = arrayCheck; break;
+			case INTEGER:
+			case NUMBER: c = numberCheck; break;
+			case OBJECT: c = objectCheck; break;
+			default: break;
+		}
+		if (c != null)
+			c.check(o, cm, bc);
+		return o;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this validator never rejects any value.
+	 *
+	 * @return <jk>true</jk> if this validator never rejects any value.
+	 */
+	public boolean isNoop() {
+		return ! required && inputChecks.length == 0 && ! hasOutputChecks;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if {@link #validateOutput(Object, BeanContext)} never rejects any value.
+	 *
+	 * @return <jk>true</jk> if {@link #validateOutput(Object, BeanContext)} never rejects any value.
+	 */
+	boolean isOutputNoop() {
+		return ! required && ! hasOutputChecks;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Input checks
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private interface InputCheck {
+		void check(String in) throws SchemaValidationException;
+	}
+
+	private static final class AllowEmptyCheck implements InputCheck {
+		@Override
+		public void check(String in) throws SchemaValidationException {
+			if (in.isEmpty())
+				throw new SchemaValidationException("Empty value not allowed.");
+		}
+	}
+
+	private static final class PatternCheck implements InputCheck {
+		private final Pattern pattern;
+
+		PatternCheck(Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		@Override
+		public void check(String in) throws SchemaValidationException {
+			if (! pattern.matcher(in).matches())
+				throw new SchemaValidationException("Value does not match expected pattern.  Must match pattern: {0}", pattern.pattern());
+		}
+	}
+
+	private static final class EnumCheck implements InputCheck {
+		private final Set<String> values;
+
+		EnumCheck(Set<String> values) {
+			this.values = values;
+		}
+
+		@Override
+		public void check(String in) throws SchemaValidationException {
+			if (! values.contains(in))
+				throw new SchemaValidationException("Value does not match one of the expected values.  Must be one of the following:  {0}", cdl(values));
+		}
+	}
+
+	private static final class SmallEnumCheck implements InputCheck {
+		private final Set<String> values;
+		private final String[] array;
+
+		SmallEnumCheck(Set<String> values) {
+			this.values = values;
+			this.array = values.toArray(new String[values.size()]);
+		}
+
+		@Override
+		public void check(String in) throws SchemaValidationException {
+			for (String s : array)
+				if (s.equals(in))
+					return;
+			throw new SchemaValidationException("Value does not match one of the expected values.  Must be one of the following:  {0}", cdl(values));
+		}
+	}
+
+	private static final class LengthCheck implements InputCheck {
+		private final long min, max;
+
+		LengthCheck(Long min, Long max) {
+			this.min = min == null ? Long.MIN_VALUE : min;
+			this.max = max == null ? Long.MAX_VALUE : max;
+		}
+
+		@Override
+		public void check(String in) throws SchemaValidationException {
+			int l = in.length();
+			if (l > max)
+				throw new SchemaValidationException("Maximum length of value exceeded.");
+			if (l < min)
+				throw new SchemaValidationException("Minimum length of value not met.");
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Output checks
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private interface OutputCheck {
+		void check(Object o, ClassMeta<?> cm, BeanContext bc) throws SchemaValidationException;
+	}
+
+	private static final class ArrayCheck implements OutputCheck {
+		private final long minItems, maxItems;
+		private final boolean uniqueItems;
+		private final HttpPartSchemaValidator items;
+
+		static ArrayCheck of(HttpPartSchema s) {
+			HttpPartSchemaValidator items = s.items == null || s.items.getValidator().isOutputNoop() ? null : s.items.getValidator();
+			if (s.minItems == null && s.maxItems == null && ! s.uniqueItems && items == null)
+				return null;
+			return new ArrayCheck(s, items);
+		}
+
+		private ArrayCheck(HttpPartSchema s, HttpPartSchemaValidator items) {
+			this.minItems = s.minItems == null ? Long.MIN_VALUE : s.minItems;
+			this.maxItems = s.maxItems == null ? Long.MAX_VALUE : s.maxItems;
+			this.uniqueItems = s.uniqueItems;
+			this.items = items;
+		}
+
+		@Override
+		public void check(Object o, ClassMeta<?> cm, BeanContext bc) throws SchemaValidationException {
+			if (cm.isArray()) {
+				int l = Array.getLength(o);
+				checkSize(l);
+				if (uniqueItems) {
+					Set<Object> s = new HashSet<>();
+					for (int i = 0; i < l; i++)
+						if (! s.add(Array.get(o, i)))
+							throw new SchemaValidationException("Duplicate items not allowed.");
+				}
+				if (items != null)
+					for (int i = 0; i < l; i++)
+						items.validateOutput(Array.get(o, i), bc);
+			} else if (cm.isCollection()) {
+				Collection<?> c = (Collection<?>)o;
+				checkSize(c.size());
+				if (uniqueItems && ! (c instanceof Set)) {
+					Set<Object> s = new HashSet<>();
+					for (Object x : c)
+						if (! s.add(x))
+							throw new SchemaValidationException("Duplicate items not allowed.");
+				}
+				if (items != null)
+					for (Object x : c)
+						items.validateOutput(x, bc);
+			}
+		}
+
+		private void checkSize(int l) throws SchemaValidationException {
+			if (l < minItems)
+				throw new SchemaValidationException("Minimum number of items not met.");
+			if (l > maxItems)
+				throw new SchemaValidationException("Maximum number of items exceeded.");
+		}
+	}
+
+	private static final class NumberCheck implements OutputCheck {
+		private final HttpPartSchema schema;
+		private final boolean minimum, maximum, multipleOf;
+
+		static NumberCheck of(HttpPartSchema s) {
+			if (s.minimum == null && s.maximum == null && s.multipleOf == null)
+				return null;
+			return new NumberCheck(s);
+		}
+
+		private NumberCheck(HttpPartSchema s) {
+			this.schema = s;
+			this.minimum = s.minimum != null;
+			this.maximum = s.maximum != null;
+			this.multipleOf = s.multipleOf != null;
+		}
+
+		@Override
+		public void check(Object o, ClassMeta<?> cm, BeanContext bc) throws SchemaValidationException {
+			if (cm.isNumber())
+				check((Number)o);
+		}
+
+		void check(Number n) throws SchemaValidationException {
+			if (minimum && ! schema.isValidMinimum(n))
+				throw new SchemaValidationException("Minimum value not met.");
+			if (maximum && ! schema.isValidMaximum(n))
+				throw new SchemaValidationException("Maximum value exceeded.");
+			if (multipleOf && ! schema.isValidMultipleOf(n))
+				throw new SchemaValidationException("Multiple-of not met.");
+		}
+	}
+
+	private static final class ObjectCheck implements OutputCheck {
+		private final long minProperties, maxProperties;
+		private final Map<String,HttpPartSchemaValidator> properties;
+		private final HttpPartSchemaValidator additionalProperties;
+		private final boolean checkProperties;
+
+		static ObjectCheck of(HttpPartSchema s) {
+			Map<String,HttpPartSchemaValidator> properties = null;
+			if (s.properties != null) {
+				properties = new HashMap<>();
+				for (Map.Entry<String,HttpPartSchema> e : s.properties.entrySet())
+					properties.put(e.getKey(), e.getValue().getValidator());
+			}
+			HttpPartSchemaValidator additionalProperties = s.additionalProperties == null ? null : s.additionalProperties.getValidator();
+
+			boolean checkProperties = additionalProperties != null && ! additionalProperties.isOutputNoop();
+			if (properties != null)
+				for (HttpPartSchemaValidator v : properties.values())
+					checkProperties |= ! v.isOutputNoop();
+
+			if (s.minProperties == null && s.maxProperties == null && ! checkProperties)
+				return null;
+			return new ObjectCheck(s, properties, additionalProperties, checkProperties);
+		}
+
+		private ObjectCheck(HttpPartSchema s, Map<String,HttpPartSchemaValidator> properties, HttpPartSchemaValidator additionalProperties, boolean checkProperties) {
+			this.minProperties = s.minProperties == null ? Long.MIN_VALUE : s.minProperties;
+			this.maxProperties = s.maxProperties == null ? Long.MAX_VALUE : s.maxProperties;
+			this.properties = properties;
+			this.additionalProperties = additionalProperties;
+			this.checkProperties = checkProperties;
+		}
+
+		@Override
+		public void check(Object o, ClassMeta<?> cm, BeanContext bc) throws SchemaValidationException {
+			if (cm.isMapOrBean()) {
+				Map<?,?> m = cm.isMap() ? (Map<?,?>)o : bc.toBeanMap(o);
+				int size = m.size();
+				if (size < minProperties)
+					throw new SchemaValidationException("Minimum number of properties not met.");
+				if (size > maxProperties)
+					throw new SchemaValidationException("Maximum number of properties exceeded.");
+				if (checkProperties) {
+					for (Map.Entry<?,?> e : m.entrySet()) {
+						HttpPartSchemaValidator v = getProperty(e.getKey().toString());
+						if (v != null)
+							v.validateOutput(e.getValue(), bc);
+					}
+				}
+			}
+		}
+
+		private HttpPartSchemaValidator getProperty(String name) {
+			if (properties != null) {
+				HttpPartSchemaValidator v = properties.get(name);
+				if (v != null)
+					return v;
+			}
+			return additionalProperties;
+		}
+	}
+}
@@ -13,6 +13,7 @@
 package org.apache.juneau.internal;
 
 import static org.apache.juneau.internal.SystemEnv.*;
+import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
@@ -21,7 +22,9 @@ import java.util.function.*;
  * Simple in-memory cache of objects.
  *
  * <p>
- * Essentially just a wrapper around a ConcurrentHashMap.
+ * Essentially just a wrapper around a ConcurrentHashMap that's cleared when it exceeds its maximum size.
+ * <br>Caches built with {@link Builder#lru()} instead evict approximately least-recently-used entries, which is better
+ * suited to caches keyed on values from untrusted sources such as HTTP headers.
  *
  * <ul class='seealso'>
  * </ul>
@@ -59,7 +62,7 @@ public class Cache<K,V> {
 	 * @param <V> The value type.
 	 */
 	public static class Builder<K,V> {
-		boolean disabled, logOnExit;
+		boolean disabled, logOnExit, lru;
 		int maxSize;
 		Class<V> type;
 
@@ -90,6 +93,22 @@ public class Cache<K,V> {
 			return this;
 		}
 
+		/**
+		 * Evict approximately least-recently-used entries when this cache exceeds its maximum size.
+		 *
+		 * <p>
+		 * By default, the whole cache is cleared when it exceeds its maximum size.
+		 * <br>Entries are evicted using the CLOCK algorithm:  a hit only marks the entry as referenced, and evictions
+		 * sweep over the entries, evicting the first one that hasn't been referenced since the last sweep.
+		 * <br>Lookups are as lock-free as the default cache.  Only evictions are serialized.
+		 *
+		 * @return This object.
+		 */
+		public Builder<K,V> lru() {
+			lru = true;
+			return this;
+		}
+
 		/**
 		 * Specifies the maximum size of this cache.
 		 *
@@ -117,7 +136,9 @@ public class Cache<K,V> {
 
 	private final int maxSize;
 	private final ConcurrentHashMap<K,V> cache;
-	private final AtomicInteger cacheHits = new AtomicInteger();
+	private final ConcurrentHashMap<K,ClockEntry<V>> lruCache;
+	private Iterator<Map.Entry<K,ClockEntry<V>>> clockHand;
+	private final LongAdder cacheHits = new LongAdder(), cacheMisses = new LongAdder();
 
 	/**
 	 * Constructor
@@ -125,10 +146,11 @@ public class Cache<K,V> {
 	 * @param builder The builder for this object.
 	 */
 	protected Cache(Builder<K,V> builder) {
-		cache = builder.disabled ? null : new ConcurrentHashMap<>();
 		maxSize = builder.maxSize;
+		cache = builder.disabled || builder.lru ? null : new ConcurrentHashMap<>();
+		lruCache = builder.disabled || ! builder.lru ? null : new ConcurrentHashMap<>();
 		if (builder.logOnExit) {
-			SystemUtils.shutdownMessage(()->builder.type.getSimpleName() + " cache:  hits=" + cacheHits.get() + ", misses: " + cache.size());
+			SystemUtils.shutdownMessage(()->builder.type.getSimpleName() + " cache:  hits=" + cacheHits.sum() + ", misses: " + cacheMisses.sum());
 		}
 	}
 	/**
@@ -139,17 +161,101 @@ public class Cache<K,V> {
 	 * @return The value.
 	 */
 	public V get(K key, Supplier<V> supplier) {
-		if (cache == null || key == null)
+		if (key == null)
+			return supplier.get();
+		if (lruCache != null)
+			return getLru(key, supplier);
+		if (cache == null)
 			return supplier.get();
 		V v = cache.get(key);
 		if (v == null) {
+			cacheMisses.increment();
 			if (cache.size() > maxSize)
 				cache.clear();
 			v = supplier.get();
 			cache.putIfAbsent(key, v);
 		} else {
-			cacheHits.incrementAndGet();
+			cacheHits.increment();
 		}
 		return v;
 	}
+
+	private V getLru(K key, Supplier<V> supplier) {
+		ClockEntry<V> e = lruCache.get(key);
+		if (e != null) {
+			cacheHits.increment();
+			// Only write when the flag changes so that hot entries don't keep invalidating the cache line.
+			if (! e.referenced)
+				e.referenced = true;
+			return e.value;
+		}
+		cacheMisses.increment();
+		V v = supplier.get();
+		e = lruCache.putIfAbsent(key, new ClockEntry<>(v));
+		if (e != null)
+			return e.value;
+		if (lruCache.size() > maxSize)
+			evict();
+		return v;
+	}
+
+	/*
+	 * Sweeps the clock hand over the entries, giving referenced entries a second chance, until the cache is back
+	 * within its maximum size.
+	 * Every entry is unreferenced after one full sweep, so entries are evicted unconditionally after two.
+	 */
+	private synchronized void evict() {
+		int steps = 0, maxSteps = 2 * (maxSize + 1);
+		while (lruCache.size() > maxSize) {
+			if (clockHand == null || ! clockHand.hasNext()) {
+				clockHand = lruCache.entrySet().iterator();
+				if (! clockHand.hasNext())
+					return;
+			}
+			Map.Entry<K,ClockEntry<V>> x = clockHand.next();
+			ClockEntry<V> e = x.getValue();
+			if (e.referenced && steps++ < maxSteps)
+				e.referenced = false;
+			else
+				lruCache.remove(x.getKey(), e);
+		}
+	}
+
+	/**
+	 * Returns the number of lookups that were satisfied by this cache.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return cacheHits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that required a new value to be created.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return cacheMisses.sum();
+	}
+
+	/**
+	 * Returns the number of entries currently in this cache.
+	 *
+	 * @return The number of entries currently in this cache, or <c>0</c> if the cache is disabled.
+	 */
+	public int size() {
+		if (lruCache != null)
+			return lruCache.size();
+		return cache == null ? 0 : cache.size();
+	}
+
+	private static final class ClockEntry<V> {
+		final V value;
+		volatile boolean referenced;
+
+		ClockEntry(V value) {
+			this.value = value;
+		}
+	}
 }
@@ -80,4 +80,53 @@ public class HttpUtils {
 		}
 		return '/' + n;
 	}
+
+	/**
+	 * Strips insignificant whitespace from an HTTP header value such as <c>Accept</c> or <c>Content-Type</c>.
+	 *
+	 * <p>
+	 * Whitespace at the start and end of the value and around <js>','</js>, <js>';'</js>, and <js>'='</js> delimiters
+	 * is removed.  Whitespace inside tokens and quoted strings is preserved.
+	 * <br>Header values that differ only in insignificant whitespace are normalized to the same string.
+	 *
+	 * @param value The header value.  Can be <jk>null</jk>.
+	 * @return The normalized value, or the same string if it doesn't contain any whitespace.
+	 */
+	public static String normalizeHeaderValue(String value) {
+		if (value == null)
+			return null;
+		int len = value.length(), i = 0;
+		while (i < len && ! Character.isWhitespace(value.charAt(i)))
+			i++;
+		if (i == len)
+			return value;
+		StringBuilder sb = new StringBuilder(len).append(value, 0, i);
+		boolean quoted = false;
+		for (; i < len; i++) {
+			char c = value.charAt(i);
+			if (quoted) {
+				sb.append(c);
+				if (c == '\\' && i + 1 < len)
+					sb.append(value.charAt(++i));
+				else if (c == '"')
+					quoted = false;
+			} else if (Character.isWhitespace(c)) {
+				int j = i;
+				while (j < len && Character.isWhitespace(value.charAt(j)))
+					j++;
+				if (! (isDelimiter(sb.length() == 0 ? -1 : sb.charAt(sb.length()-1)) || isDelimiter(j == len ? -1 : value.charAt(j))))
+					sb.append(value, i, j);
+				i = j - 1;
+			} else {
+				if (c == '"')
+					quoted = true;
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	private static boolean isDelimiter(int c) {
+		return c == -1 || c == ',' || c == ';' || c == '=';
+	}
 }
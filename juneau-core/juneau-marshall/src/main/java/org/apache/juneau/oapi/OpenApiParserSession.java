@@ -510,4 +510,18 @@ public class OpenApiParserSession extends UonParserSession {
 			throw new ParseException(e.getMessage());
 		}
 	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the default format to use when not otherwise specified via the part schema.
+	 *
+	 * @see OpenApiParser.Builder#format(HttpPartFormat)
+	 * @return The default format to use when not otherwise specified via the part schema.
+	 */
+	protected final HttpPartFormat getFormat() {
+		return ctx.getFormat();
+	}
 }
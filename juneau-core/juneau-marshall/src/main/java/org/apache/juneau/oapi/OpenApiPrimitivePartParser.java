@@ -0,0 +1,234 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.oapi;
+
+import org.apache.juneau.*;
+import org.apache.juneau.httppart.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Fast-path parser for simple HTTP parts that map directly to a string, integer, long, boolean, or enum value.
+ *
+ * <p>
+ * Instances are selected once up front (e.g. when a REST operation argument is built) through {@link #of(HttpPartSchema, Class)}
+ * and convert raw part values directly without going through the generic type dispatch, UON parsing and bean conversion
+ * performed by {@link OpenApiParserSession}.
+ *
+ * <p>
+ * The fast path is only taken when the result is guaranteed to be identical to {@link OpenApiParserSession}.
+ * <br>In all other cases (e.g. missing or <js>"null"</js> values, non-OpenAPI part parsers, swaps defined on the type,
+ * or input that isn't in simple canonical form), {@link #parse(HttpPartParserSession, String)} returns <jk>null</jk>
+ * and the caller is expected to fall back to the regular part parser.
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>This class is thread safe and reusable.
+ * </ul>
+ */
+public abstract class OpenApiPrimitivePartParser {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Static
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns a fast-path parser for the specified schema and type if one is applicable.
+	 *
+	 * @param schema The part schema.  Can be <jk>null</jk>.
+	 * @param type The type being parsed into.
+	 * @return A fast-path parser, or <jk>null</jk> if the schema or type cannot be handled by the fast path.
+	 */
+	public static OpenApiPrimitivePartParser of(HttpPartSchema schema, Class<?> type) {
+		if (schema == null)
+			schema = HttpPartSchema.DEFAULT;
+		if (schema.getParser() != null || schema.getCollectionFormat() != HttpPartCollectionFormat.NO_COLLECTION_FORMAT)
+			return null;
+
+		HttpPartDataType t = schema.getType();
+		HttpPartFormat f = schema.getFormat();
+		boolean noType = t == HttpPartDataType.NO_TYPE;
+
+		if (type == String.class || type.isEnum()) {
+			if ((noType || t == HttpPartDataType.STRING) && f == HttpPartFormat.NO_FORMAT)
+				return type == String.class ? new StringParser(schema) : new EnumParser(schema, type);
+		} else if (type == Integer.class || type == int.class) {
+			if ((noType || t == HttpPartDataType.INTEGER) && f.isOneOf(HttpPartFormat.NO_FORMAT, HttpPartFormat.INT32, HttpPartFormat.INT64))
+				return new IntegerParser(schema, type);
+		} else if (type == Long.class || type == long.class) {
+			if ((noType || t == HttpPartDataType.INTEGER) && f.isOneOf(HttpPartFormat.NO_FORMAT, HttpPartFormat.INT32, HttpPartFormat.INT64))
+				return new LongParser(schema, type);
+		} else if (type == Boolean.class || type == boolean.class) {
+			if ((noType || t == HttpPartDataType.BOOLEAN) && f == HttpPartFormat.NO_FORMAT)
+				return new BooleanParser(schema, type);
+		}
+		return null;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-----------------------------------------------------------------------------------------------------------------
+
+	final HttpPartSchemaValidator validator;
+	final Class<?> type;
+	final boolean stringLike;
+
+	OpenApiPrimitivePartParser(HttpPartSchema schema, Class<?> type, boolean stringLike) {
+		this.validator = schema.getValidator();
+		this.type = type;
+		this.stringLike = stringLike;
+	}
+
+	/**
+	 * Parses the specified raw part value.
+	 *
+	 * @param session The part parser session that would otherwise be used to parse the value.
+	 * @param in The raw part value.  Can be <jk>null</jk>.
+	 * @return
+	 * 	The parsed value, or <jk>null</jk> if the value could not be handled by the fast path and must be parsed by
+	 * 	the specified session instead.
+	 * @throws ParseException If the value is not valid against the schema.
+	 */
+	public Object parse(HttpPartParserSession session, String in) throws ParseException {
+		if (in == null || ! (session instanceof OpenApiParserSession) || "null".equals(in))
+			return null;
+		OpenApiParserSession s = (OpenApiParserSession)session;
+		ClassMeta<?> cm = s.getClassMeta(type);
+		if (! isApplicable(s, cm))
+			return null;
+		validator.validateInput(in);
+		Object o = parseValue(s, in);
+		if (o != null)
+			validator.validateOutput(o, cm.getBeanContext());
+		return o;
+	}
+
+	private boolean isApplicable(OpenApiParserSession s, ClassMeta<?> cm) {
+		if (stringLike) {
+			if (s.getFormat() != HttpPartFormat.NO_FORMAT)
+				return false;
+			if (s.string().getSwap(s) != null)
+				return false;
+		}
+		return cm.getSwap(s) == null && cm.getBuilderSwap(s) == null;
+	}
+
+	/**
+	 * Converts the specified non-null value.
+	 *
+	 * @param s The current parser session.
+	 * @param in The raw value.  Never <jk>null</jk>.
+	 * @return The converted value, or <jk>null</jk> if the value is not in a form handled by the fast path.
+	 */
+	abstract Object parseValue(OpenApiParserSession s, String in);
+
+	/**
+	 * Parses a canonical decimal integer consisting of an optional minus sign followed by digits with no leading zeros.
+	 *
+	 * @param in The input.
+	 * @param maxDigits The maximum number of digits allowed.
+	 * @return The parsed value, or {@link Long#MIN_VALUE} if the input is not in canonical form or has too many digits.
+	 */
+	static long parseDecimal(String in, int maxDigits) {
+		int len = in.length(), i = 0;
+		boolean neg = false;
+		if (len > 0 && in.charAt(0) == '-') {
+			neg = true;
+			i = 1;
+		}
+		int digits = len - i;
+		if (digits == 0 || digits > maxDigits)
+			return Long.MIN_VALUE;
+		if (in.charAt(i) == '0' && (digits > 1 || neg))
+			return Long.MIN_VALUE;
+		long v = 0;
+		for (; i < len; i++) {
+			int c = in.charAt(i) - '0';
+			if (c < 0 || c > 9)
+				return Long.MIN_VALUE;
+			v = v * 10 + c;
+		}
+		return neg ? -v : v;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Implementations
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static final class StringParser extends OpenApiPrimitivePartParser {
+		StringParser(HttpPartSchema schema) {
+			super(schema, String.class, true);
+		}
+
+		@Override
+		Object parseValue(OpenApiParserSession s, String in) {
+			return in;
+		}
+	}
+
+	private static final class EnumParser extends OpenApiPrimitivePartParser {
+		EnumParser(HttpPartSchema schema, Class<?> type) {
+			super(schema, type, true);
+		}
+
+		@Override
+		Object parseValue(OpenApiParserSession s, String in) {
+			try {
+				return s.getClassMeta(type).newInstanceFromString(null, in);
+			} catch (ExecutableException e) {
+				return null;
+			}
+		}
+	}
+
+	private static final class IntegerParser extends OpenApiPrimitivePartParser {
+		IntegerParser(HttpPartSchema schema, Class<?> type) {
+			super(schema, type, false);
+		}
+
+		@Override
+		Object parseValue(OpenApiParserSession s, String in) {
+			long v = parseDecimal(in, 10);
+			if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE)
+				return null;
+			return Integer.valueOf((int)v);
+		}
+	}
+
+	private static final class LongParser extends OpenApiPrimitivePartParser {
+		LongParser(HttpPartSchema schema, Class<?> type) {
+			super(schema, type, false);
+		}
+
+		@Override
+		Object parseValue(OpenApiParserSession s, String in) {
+			long v = parseDecimal(in, 18);
+			if (v == Long.MIN_VALUE)
+				return null;
+			return Long.valueOf(v);
+		}
+	}
+
+	private static final class BooleanParser extends OpenApiPrimitivePartParser {
+		BooleanParser(HttpPartSchema schema, Class<?> type) {
+			super(schema, type, false);
+		}
+
+		@Override
+		Object parseValue(OpenApiParserSession s, String in) {
+			if ("true".equals(in))
+				return Boolean.TRUE;
+			if ("false".equals(in))
+				return Boolean.FALSE;
+			return null;
+		}
+	}
+}
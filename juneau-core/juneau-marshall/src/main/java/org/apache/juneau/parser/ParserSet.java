@@ -17,7 +17,6 @@ import static org.apache.juneau.internal.ObjectUtils.*;
 import static java.util.stream.Collectors.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -477,10 +476,14 @@ public final class ParserSet {
 	// Instance
 	//-----------------------------------------------------------------------------------------------------------------
 
-	// Maps Content-Type headers to matches.
-	private final ConcurrentHashMap<String,ParserMatch> cache = new ConcurrentHashMap<>();
+	// Placeholder for cached Content-Type headers that don't match any parsers.
+	private static final ParserMatch NO_MATCH = new ParserMatch(null, null);
+
+	// Maps normalized Content-Type headers to matches.
+	private final Cache<String,ParserMatch> cache = Cache.of(String.class, ParserMatch.class).lru().build();
 
 	private final MediaType[] mediaTypes;
+	private final MediaTypeMatcher mediaTypesMatcher;
 	private final Parser[] mediaTypeParsers;
 
 	final Parser[] entries;
@@ -504,6 +507,7 @@ public final class ParserSet {
 		}
 
 		this.mediaTypes = array(lmt, MediaType.class);
+		this.mediaTypesMatcher = new MediaTypeMatcher(ulist(mediaTypes));
 		this.mediaTypeParsers = array(l, Parser.class);
 	}
 
@@ -528,23 +532,44 @@ public final class ParserSet {
 	 * <p>
 	 * The returned object includes both the parser and media type that matched.
 	 *
+	 * <p>
+	 * Results (including failed matches) are cached by header value after stripping insignificant whitespace.
+	 * <br>The cache is bounded by the <js>"juneau.cache.maxSize"</js> system property and evicts approximately
+	 * least-recently-used entries first, without locking on lookups.
+	 *
 	 * @param contentTypeHeader The HTTP <l>Content-Type</l> header value.
 	 * @return The parser and media type that matched the content type header, or <jk>null</jk> if no match was made.
 	 */
 	public ParserMatch getParserMatch(String contentTypeHeader) {
-		ParserMatch pm = cache.get(contentTypeHeader);
-		if (pm != null)
-			return pm;
+		if (contentTypeHeader == null)
+			return null;
+		String key = HttpUtils.normalizeHeaderValue(contentTypeHeader);
+		ParserMatch pm = cache.get(key, () -> findParserMatch(key));
+		return pm == NO_MATCH ? null : pm;
+	}
 
-		MediaType ct = MediaType.of(contentTypeHeader);
-		int match = ct.match(ulist(mediaTypes));
+	private ParserMatch findParserMatch(String contentTypeHeader) {
+		int match = mediaTypesMatcher.match(MediaType.of(contentTypeHeader));
+		return match >= 0 ? new ParserMatch(mediaTypes[match], mediaTypeParsers[match]) : NO_MATCH;
+	}
 
-		if (match >= 0) {
-			pm = new ParserMatch(mediaTypes[match], mediaTypeParsers[match]);
-			cache.putIfAbsent(contentTypeHeader, pm);
-		}
+	/**
+	 * Returns the number of calls to {@link #getParserMatch(String)} that were resolved from the match cache.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getMatchCacheHits() {
+		return cache.getHits();
+	}
 
-		return cache.get(contentTypeHeader);
+	/**
+	 * Returns the number of calls to {@link #getParserMatch(String)} that required the <c>Content-Type</c> header to be
+	 * matched against the media types of this set.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMatchCacheMisses() {
+		return cache.getMisses();
 	}
 
 	/**
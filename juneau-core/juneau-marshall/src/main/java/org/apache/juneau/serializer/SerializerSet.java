@@ -17,7 +17,6 @@ import static org.apache.juneau.internal.CollectionUtils.*;
 import static org.apache.juneau.internal.ObjectUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -477,11 +476,15 @@ public final class SerializerSet {
 	// Instance
 	//-----------------------------------------------------------------------------------------------------------------
 
-	// Maps Accept headers to matching serializers.
-	private final ConcurrentHashMap<String,SerializerMatch> cache = new ConcurrentHashMap<>();
+	// Placeholder for cached Accept headers that don't match any serializers.
+	private static final SerializerMatch NO_MATCH = new SerializerMatch(null, null);
+
+	// Maps normalized Accept headers to matching serializers.
+	private final Cache<String,SerializerMatch> cache = Cache.of(String.class, SerializerMatch.class).lru().build();
 
 	private final MediaRange[] mediaRanges;
 	private final List<MediaRange> mediaRangesList;
+	private final MediaTypeMatcher mediaRangesMatcher;
 	private final Serializer[] mediaTypeRangeSerializers;
 
 	private final MediaType[] mediaTypes;
@@ -512,6 +515,7 @@ public final class SerializerSet {
 
 		this.mediaRanges = lmtr.toArray(new MediaRange[lmtr.size()]);
 		this.mediaRangesList = ulist(mediaRanges);
+		this.mediaRangesMatcher = new MediaTypeMatcher(mediaRangesList);
 		this.mediaTypes = lmt.toArray(new MediaType[lmt.size()]);
 		this.mediaTypesList = ulist(mediaTypes);
 		this.mediaTypeRangeSerializers = l.toArray(new Serializer[l.size()]);
@@ -552,24 +556,44 @@ public final class SerializerSet {
 	 * <p>
 	 * The returned object includes both the serializer and media type that matched.
 	 *
+	 * <p>
+	 * Results (including failed matches) are cached by header value after stripping insignificant whitespace.
+	 * <br>The cache is bounded by the <js>"juneau.cache.maxSize"</js> system property and evicts approximately
+	 * least-recently-used entries first, without locking on lookups.
+	 *
 	 * @param acceptHeader The HTTP <l>Accept</l> header string.
 	 * @return The serializer and media type that matched the accept header, or <jk>null</jk> if no match was made.
 	 */
 	public SerializerMatch getSerializerMatch(String acceptHeader) {
 		if (acceptHeader == null)
 			return null;
-		SerializerMatch sm = cache.get(acceptHeader);
-		if (sm != null)
-			return sm;
-
-		MediaRanges a = MediaRanges.of(acceptHeader);
-		int match = a.match(mediaRangesList);
-		if (match >= 0) {
-			sm = new SerializerMatch(mediaRanges[match], mediaTypeRangeSerializers[match]);
-			cache.putIfAbsent(acceptHeader, sm);
-		}
+		String key = HttpUtils.normalizeHeaderValue(acceptHeader);
+		SerializerMatch sm = cache.get(key, () -> findSerializerMatch(key));
+		return sm == NO_MATCH ? null : sm;
+	}
+
+	private SerializerMatch findSerializerMatch(String acceptHeader) {
+		int match = mediaRangesMatcher.match(MediaRanges.of(acceptHeader));
+		return match >= 0 ? new SerializerMatch(mediaRanges[match], mediaTypeRangeSerializers[match]) : NO_MATCH;
+	}
 
-		return cache.get(acceptHeader);
+	/**
+	 * Returns the number of calls to {@link #getSerializerMatch(String)} that were resolved from the match cache.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getMatchCacheHits() {
+		return cache.getHits();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #getSerializerMatch(String)} that required the <c>Accept</c> header to be
+	 * matched against the media types of this set.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMatchCacheMisses() {
+		return cache.getMisses();
 	}
 
 	/**
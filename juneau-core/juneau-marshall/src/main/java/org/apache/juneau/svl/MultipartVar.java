@@ -14,6 +14,10 @@ package org.apache.juneau.svl;
 
 import static org.apache.juneau.internal.StringUtils.*;
 
+import java.util.regex.*;
+
+import org.apache.juneau.internal.*;
+
 /**
  * Interface for the resolution of vars that consist of a comma-delimited list.
  *
@@ -28,6 +32,8 @@ import static org.apache.juneau.internal.StringUtils.*;
  */
 public abstract class MultipartVar extends SimpleVar {
 
+	private static final Cache<String,Pattern> GLOB_PATTERNS = Cache.of(String.class, Pattern.class).lru().build();
+
 	/**
 	 * Constructor.
 	 *
@@ -46,6 +52,20 @@ public abstract class MultipartVar extends SimpleVar {
 	 */
 	public abstract String resolve(VarResolverSession session, String[] args);
 
+	/**
+	 * Returns the compiled pattern for the specified glob-style pattern.
+	 *
+	 * <p>
+	 * <js>'*'</js> and <js>'?'</js> are converted to their regular expression equivalents.
+	 * <br>Compiled patterns are cached since the same patterns are typically resolved over and over again.
+	 *
+	 * @param pattern The glob-style pattern.
+	 * @return The compiled pattern.
+	 */
+	protected static Pattern getGlobPattern(String pattern) {
+		return GLOB_PATTERNS.get(pattern, () -> Pattern.compile(pattern.replace("*", ".*").replace("?", ".")));
+	}
+
 	@Override /* Var */
 	public String resolve(VarResolverSession session, String s) {
 		String[] s2 = s.indexOf(',') == -1 ? new String[]{s.trim()} : split(s);
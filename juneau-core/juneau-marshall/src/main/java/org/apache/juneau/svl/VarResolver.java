@@ -246,6 +246,7 @@ public class VarResolver {
 	final Var[] vars;
 	private final Map<String,Var> varMap;
 	final BeanStore beanStore;
+	private final Cache<String,VarTemplate> templates = Cache.of(String.class, VarTemplate.class).lru().build();
 
 	/**
 	 * Constructor.
@@ -287,6 +288,20 @@ public class VarResolver {
 		return varMap;
 	}
 
+	/**
+	 * Returns the parsed form of the specified string.
+	 *
+	 * <p>
+	 * Templates are cached so that frequently-resolved strings are only parsed once.
+	 * <br>The cache evicts approximately least-recently-used templates when full, since strings can come from arbitrary input.
+	 *
+	 * @param s The string containing variables.
+	 * @return The parsed template.
+	 */
+	VarTemplate getTemplate(String s) {
+		return templates.get(s, () -> new VarTemplate(s, this));
+	}
+
 	/**
 	 * Returns an array of variables define in this variable resolver context.
 	 *
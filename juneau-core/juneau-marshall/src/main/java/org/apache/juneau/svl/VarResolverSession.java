@@ -13,7 +13,6 @@
 package org.apache.juneau.svl;
 
 import static org.apache.juneau.internal.ThrowableUtils.*;
-import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
 import java.lang.reflect.*;
@@ -75,20 +74,21 @@ public class VarResolverSession {
 		if (s == null || s.isEmpty() || (s.indexOf('$') == -1 && s.indexOf('\\') == -1))
 			return s;
 
+		VarTemplate t = context.getTemplate(s);
+
 		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
 		// This is a common case, so we want an optimized solution that doesn't involve string builders.
-		if (isSimpleVar(s)) {
-			String var = s.substring(1, s.indexOf('{'));
-			String val = s.substring(s.indexOf('{')+1, s.length()-1);
+		if (t.simpleVar != null) {
+			String var = t.simpleVar;
 			Var v = getVar(var);
 			if (v != null) {
 				try {
 					if (v.streamed) {
 						StringWriter sw = new StringWriter();
-						v.resolveTo(this, sw, val);
+						v.resolveTo(this, sw, t.simpleValue);
 						return sw.toString();
 					}
-					s = v.doResolve(this, val);
+					s = v.doResolve(this, t.simpleValue);
 					if (s == null)
 						s = "";
 					return (v.allowRecurse() ? resolve(s) : s);
@@ -101,13 +101,34 @@ public class VarResolverSession {
 			return s;
 		}
 
+		if (t.constant != null)
+			return t.constant;
+
 		try {
-			return resolveTo(s, new StringWriter()).toString();
+			return resolveTo(t, new StringWriter()).toString();
 		} catch (IOException e) {
 			throw asRuntimeException(e); // Never happens.
 		}
 	}
 
+	/**
+	 * Returns <jk>true</jk> if {@link #resolve(String)} would return the same value for the specified string
+	 * regardless of the state of this session.
+	 *
+	 * <p>
+	 * Strings are constant if they don't contain any variables.
+	 * <br>Variables whose names aren't registered with the resolver are included, since {@link #getVar(String)} can
+	 * be overridden.
+	 *
+	 * @param s The string to check.  Can be <jk>null</jk>.
+	 * @return <jk>true</jk> if the specified string does not depend on any variables.
+	 */
+	public boolean isConstant(String s) {
+		if (s == null || s.isEmpty() || (s.indexOf('$') == -1 && s.indexOf('\\') == -1))
+			return true;
+		return context.getTemplate(s).constantValue() != null;
+	}
+
 	/**
 	 * Convenience method for resolving variables in arbitrary objects.
 	 *
@@ -199,44 +220,6 @@ public class VarResolverSession {
 		return f.isSet();
 	}
 
-	/*
-	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
-	 * This is a common case, and we can avoid using StringWriters.
-	 */
-	private static boolean isSimpleVar(String s) {
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-		int S4 = 4;    // Found }
-
-		int length = s.length();
-		int state = S1;
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (c == '$') {
-					state = S2;
-				} else {
-					return false;
-				}
-			} else if (state == S2) {
-				if (c == '{') {
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
-					return false;
-				}
-			} else if (state == S3) {
-				if (c == '}')
-					state = S4;
-				else if (c == '{' || c == '$')
-					return false;
-			} else if (state == S4) {
-				return false;
-			}
-		}
-		return state == S4;
-	}
-
 	/**
 	 * Resolves variables in the specified string and sends the output to the specified writer.
 	 *
@@ -250,120 +233,47 @@ public class VarResolverSession {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public Writer resolveTo(String s, Writer out) throws IOException {
+		return resolveTo(context.getTemplate(s), out);
+	}
 
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-
-		int state = S1;
-		boolean isInEscape = false;
-		boolean hasInternalVar = false;
-		boolean hasInnerEscapes = false;
-		String varType = null;
-		String varVal = null;
-		int x = 0, x2 = 0;
-		int depth = 0;
-		int length = s.length();
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (isInEscape) {
-					if (c == '\\' || c == '$') {
-						out.append(c);
-					} else {
-						out.append('\\').append(c);
-					}
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-				} else if (c == '$') {
-					x = i;
-					x2 = i;
-					state = S2;
-				} else {
-					out.append(c);
-				}
-			} else if (state == S2) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					hasInnerEscapes = true;
-					isInEscape = true;
-				} else if (c == '{') {
-					varType = s.substring(x+1, i);
-					x = i;
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
-					if (hasInnerEscapes)
-						out.append(unEscapeChars(s.substring(x, i+1), AS1));
-					else
-						out.append(s, x, i+1);
-					x = i + 1;
-					state = S1;
-					hasInnerEscapes = false;
-				}
-			} else if (state == S3) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-					hasInnerEscapes = true;
-				} else if (c == '{') {
-					depth++;
-					hasInternalVar = true;
-				} else if (c == '}') {
-					if (depth > 0) {
-						depth--;
-					} else {
-						varVal = s.substring(x+1, i);
-						Var r = getVar(varType);
-						if (r == null) {
-							if (hasInnerEscapes)
-								out.append(unEscapeChars(s.substring(x2, i+1), AS2));
-							else
-								out.append(s, x2, i+1);
-							x = i+1;
-						} else {
-							varVal = (hasInternalVar && r.allowNested() ? resolve(varVal) : varVal);
-							try {
-								if (r.streamed)
-									r.resolveTo(this, out, varVal);
-								else {
-									String replacement = r.doResolve(this, varVal);
-									if (replacement == null)
-										replacement = "";
-									// If the replacement also contains variables, replace them now.
-									if (replacement.indexOf('$') != -1 && r.allowRecurse())
-										replacement = resolve(replacement);
-									out.append(replacement);
-								}
-							} catch (VarResolverException e) {
-								throw e;
-							} catch (Exception e) {
-								throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", varType, s);
-							}
-							x = i+1;
-						}
-						state = 1;
-						hasInnerEscapes = false;
-					}
+	private Writer resolveTo(VarTemplate t, Writer out) throws IOException {
+		if (t.constant != null)
+			return out.append(t.constant);
+		for (Object o : t.parts) {
+			if (o instanceof String) {
+				out.append((String)o);
+				continue;
+			}
+			VarTemplate.Node n = (VarTemplate.Node)o;
+			Var r = getVar(n.type);
+			if (r == null) {
+				out.append(n.fallback);
+				continue;
+			}
+			String varVal = n.value;
+			if (n.hasInternalVar && r.allowNested())
+				varVal = n.nested != null ? n.nested : resolve(varVal);
+			try {
+				if (r.streamed)
+					r.resolveTo(this, out, varVal);
+				else {
+					String replacement = r.doResolve(this, varVal);
+					if (replacement == null)
+						replacement = "";
+					// If the replacement also contains variables, replace them now.
+					if (replacement.indexOf('$') != -1 && r.allowRecurse())
+						replacement = resolve(replacement);
+					out.append(replacement);
 				}
+			} catch (VarResolverException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", n.type, t.source);
 			}
 		}
-		if (isInEscape)
-			out.append('\\');
-		else if (state == S2)
-			out.append('$').append(unEscapeChars(s.substring(x+1), AS1));
-		else if (state == S3)
-			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), AS2));
 		return out;
 	}
 
-	private static final AsciiSet
-		AS1 = AsciiSet.create("\\{"),
-		AS2 = AsciiSet.create("\\${}")
-	;
-
 	/**
 	 * Returns the bean from the registered bean store.
 	 *
@@ -0,0 +1,233 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * A string containing variables that has been parsed into literal and variable parts.
+ *
+ * <p>
+ * Templates are created once per string and cached on the {@link VarResolver} so that the string doesn't need to be
+ * re-scanned every time it's resolved.
+ *
+ * <p>
+ * Parts that can be determined at parse time (escaped characters and false triggers such as <js>"$X "</js>) are folded
+ * into the surrounding literal text.
+ * <br>Templates without any variables are reduced to a single constant.
+ *
+ * <p>
+ * Variables are looked up through {@link VarResolverSession#getVar(String)} every time the template is resolved, since
+ * sessions can override it.
+ * <br>So variables whose names aren't registered with the resolver are still kept as variable parts.
+ */
+final class VarTemplate {
+
+	/**
+	 * A variable part of a template.
+	 */
+	static final class Node {
+		final String type, value, fallback, nested;
+		final boolean hasInternalVar;
+
+		Node(String type, String value, boolean hasInternalVar, String fallback, String nested) {
+			this.type = type;
+			this.value = value;
+			this.hasInternalVar = hasInternalVar;
+			this.fallback = fallback;
+			this.nested = nested;
+		}
+	}
+
+	/** The original string. */
+	final String source;
+
+	/** Literal parts ({@link String}) and variable parts ({@link Node}) in order. */
+	final Object[] parts;
+
+	/** The resolved value if this template contains no variables, otherwise <jk>null</jk>. */
+	final String constant;
+
+	/** The var name and value if the string is of the simple form <js>"$X{...}"</js>, otherwise <jk>null</jk>. */
+	final String simpleVar, simpleValue;
+
+	/**
+	 * Parses the specified string.
+	 *
+	 * @param s The string to parse.
+	 * @param resolver The resolver that owns this template.
+	 */
+	VarTemplate(String s, VarResolver resolver) {
+		source = s;
+
+		if (isSimpleVar(s)) {
+			simpleVar = s.substring(1, s.indexOf('{'));
+			simpleValue = s.substring(s.indexOf('{')+1, s.length()-1);
+		} else {
+			simpleVar = simpleValue = null;
+		}
+
+		List<Object> l = new ArrayList<>();
+		StringBuilder out = new StringBuilder();
+
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+
+		int state = S1;
+		boolean isInEscape = false;
+		boolean hasInternalVar = false;
+		boolean hasInnerEscapes = false;
+		String varType = null;
+		String varVal = null;
+		int x = 0, x2 = 0;
+		int depth = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (isInEscape) {
+					if (c == '\\' || c == '$') {
+						out.append(c);
+					} else {
+						out.append('\\').append(c);
+					}
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+				} else if (c == '$') {
+					x = i;
+					x2 = i;
+					state = S2;
+				} else {
+					out.append(c);
+				}
+			} else if (state == S2) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					hasInnerEscapes = true;
+					isInEscape = true;
+				} else if (c == '{') {
+					varType = s.substring(x+1, i);
+					x = i;
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
+					if (hasInnerEscapes)
+						out.append(unEscapeChars(s.substring(x, i+1), AS1));
+					else
+						out.append(s, x, i+1);
+					x = i + 1;
+					state = S1;
+					hasInnerEscapes = false;
+				}
+			} else if (state == S3) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+					hasInnerEscapes = true;
+				} else if (c == '{') {
+					depth++;
+					hasInternalVar = true;
+				} else if (c == '}') {
+					if (depth > 0) {
+						depth--;
+					} else {
+						varVal = s.substring(x+1, i);
+						String fallback = hasInnerEscapes ? unEscapeChars(s.substring(x2, i+1), AS2) : s.substring(x2, i+1);
+						String nested = hasInternalVar ? resolver.getTemplate(varVal).constantValue() : null;
+						if (out.length() > 0) {
+							l.add(out.toString());
+							out.setLength(0);
+						}
+						l.add(new Node(varType, varVal, hasInternalVar, fallback, nested));
+						x = i+1;
+						state = 1;
+						hasInnerEscapes = false;
+					}
+				}
+			}
+		}
+		if (isInEscape)
+			out.append('\\');
+		else if (state == S2)
+			out.append('$').append(unEscapeChars(s.substring(x+1), AS1));
+		else if (state == S3)
+			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), AS2));
+		if (out.length() > 0)
+			l.add(out.toString());
+
+		parts = l.toArray();
+		constant = parts.length == 0 ? "" : parts.length == 1 && parts[0] instanceof String ? (String)parts[0] : null;
+	}
+
+	/**
+	 * Returns the value that {@link VarResolverSession#resolve(String)} would return for this template if it
+	 * doesn't depend on any variables.
+	 *
+	 * @return The constant value, or <jk>null</jk> if this template contains variables.
+	 */
+	String constantValue() {
+		if (source.isEmpty() || (source.indexOf('$') == -1 && source.indexOf('\\') == -1))
+			return source;
+		return simpleVar != null ? null : constant;
+	}
+
+	private static final AsciiSet
+		AS1 = AsciiSet.create("\\{"),
+		AS2 = AsciiSet.create("\\${}")
+	;
+
+	/*
+	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
+	 * This is a common case, and we can avoid using StringWriters.
+	 */
+	private static boolean isSimpleVar(String s) {
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+		int S4 = 4;    // Found }
+
+		int length = s.length();
+		int state = S1;
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (c == '$') {
+					state = S2;
+				} else {
+					return false;
+				}
+			} else if (state == S2) {
+				if (c == '{') {
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
+					return false;
+				}
+			} else if (state == S3) {
+				if (c == '}')
+					state = S4;
+				else if (c == '{' || c == '$')
+					return false;
+			} else if (state == S4) {
+				return false;
+			}
+		}
+		return state == S4;
+	}
+}
@@ -69,8 +69,7 @@ public class PatternExtractVar extends MultipartVar {
 		String result = "";
 		int groupId = Integer.parseInt(args[2]);
 
-		Pattern p = Pattern.compile(pattern.replace("*", ".*").replace("?", "."));
-		Matcher m = p.matcher(stringArg);
+		Matcher m = getGlobPattern(pattern).matcher(stringArg);
 
 		if (m.find() && groupId <= m.groupCount() && groupId >= 0) {
 			result = m.group(groupId);
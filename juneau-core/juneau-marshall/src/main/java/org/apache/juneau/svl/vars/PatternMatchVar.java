@@ -14,8 +14,6 @@ package org.apache.juneau.svl.vars;
 
 import static org.apache.juneau.internal.ArgUtils.*;
 
-import java.util.regex.*;
-
 import org.apache.juneau.svl.*;
 
 /**
@@ -67,7 +65,6 @@ public class PatternMatchVar extends MultipartVar {
 
 		String stringArg = args[0];
 		String pattern = args[1];
-		Pattern p = Pattern.compile(pattern.replace("*", ".*").replace("?", "."));
-		return String.valueOf(p.matcher(stringArg).matches());
+		return String.valueOf(getGlobPattern(pattern).matcher(stringArg).matches());
 	}
 }
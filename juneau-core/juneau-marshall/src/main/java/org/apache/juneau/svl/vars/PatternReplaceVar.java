@@ -68,7 +68,6 @@ public class PatternReplaceVar extends MultipartVar {
 		String pattern = args[1];
 		String replace = args[2];
 
-		pattern = pattern.replace("*", ".*").replace("?", ".");
-		return stringArg.replaceAll(pattern, replace);
+		return getGlobPattern(pattern).matcher(stringArg).replaceAll(replace);
 	}
 }
\ No newline at end of file
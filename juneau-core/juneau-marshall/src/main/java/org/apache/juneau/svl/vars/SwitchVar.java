@@ -15,8 +15,6 @@ package org.apache.juneau.svl.vars;
 import static org.apache.juneau.internal.ArgUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
-import java.util.regex.*;
-
 import org.apache.juneau.svl.*;
 
 /**
@@ -73,8 +71,7 @@ public class SwitchVar extends MultipartVar {
 			String[] parts = split(pattern, ':', 2);
 			assertArg(parts.length >= 2, "Invalid arguments passed to $SW var.  Each case statement must contains 'pattern:value'.");
 
-			Pattern p = Pattern.compile(parts[0].replace("*", ".*").replace("?", "."));
-			if (p.matcher(stringArg).matches())
+			if (getGlobPattern(parts[0]).matcher(stringArg).matches())
 				return parts[1];
 		}
 
@@ -37,6 +37,7 @@ public class XmlBeanMeta extends ExtendedBeanMeta {
 	private final Map<String,BeanPropertyMeta> collapsedProperties;          // Properties defined with @Xml.childName annotation.
 	private final BeanPropertyMeta contentProperty;
 	private final XmlFormat contentFormat;
+	private final boolean attrsAndContentOnly;                               // Bean only has an ATTRS property and an optional content property.
 
 	/**
 	 * Constructor.
@@ -56,6 +57,14 @@ public class XmlBeanMeta extends ExtendedBeanMeta {
 		collapsedProperties = unmodifiable(b.collapsedProperties);
 		contentProperty = b.contentProperty;
 		contentFormat = b.contentFormat;
+		attrsAndContentOnly = b.attrsAndContentOnly
+			&& attrs.isEmpty()
+			&& elements.isEmpty()
+			&& collapsedProperties.isEmpty()
+			&& attrsProperty != null
+			&& attrsProperty.canRead()
+			&& ! attrsProperty.isUri()
+			&& (contentProperty == null || contentProperty.canRead());
 
 		// Do some validation.
 		if (contentProperty != null || contentFormat == XmlFormat.VOID) {
@@ -80,6 +89,7 @@ public class XmlBeanMeta extends ExtendedBeanMeta {
 			attrsProperty,
 			contentProperty;
 		XmlFormat contentFormat = DEFAULT;
+		boolean attrsAndContentOnly = true;
 
 		XmlBeanMetaBuilder(BeanMeta<?> beanMeta, XmlMetaProvider mp) {
 			Class<?> c = beanMeta.getClassMeta().getInnerClass();
@@ -102,6 +112,8 @@ public class XmlBeanMeta extends ExtendedBeanMeta {
 			beanMeta.forEachProperty(null, p -> {
 				XmlFormat xf = mp.getXmlBeanPropertyMeta(p).getXmlFormat();
 				ClassMeta<?> pcm = p.getClassMeta();
+				if (p.isDyna() || ! xf.isOneOf(ATTRS, ELEMENTS, MIXED, MIXED_PWS, TEXT, TEXT_PWS, XMLTEXT))
+					attrsAndContentOnly = false;
 				if (xf == ATTR) {
 					attrs.put(p.getName(), p);
 				} else if (xf == ELEMENT) {
@@ -254,6 +266,18 @@ public class XmlBeanMeta extends ExtendedBeanMeta {
 		return contentFormat;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this bean consists of only an attributes property and an optional content property.
+	 *
+	 * <p>
+	 * This is the shape of the HTML5 DTO elements and allows the serializer to skip the generic property handling.
+	 *
+	 * @return <jk>true</jk> if this bean consists of only an attributes property and an optional content property.
+	 */
+	protected boolean isAttrsAndContentOnly() {
+		return attrsAndContentOnly;
+	}
+
 	/**
 	 * Returns bean property meta with the specified name.
 	 *
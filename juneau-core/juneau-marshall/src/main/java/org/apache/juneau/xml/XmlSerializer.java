@@ -250,7 +250,7 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 
 		private static final Cache<HashKey,XmlSerializer> CACHE = Cache.of(HashKey.class, XmlSerializer.class).build();
 
-		boolean addBeanTypesXml, addNamespaceUrisToRoot, disableAutoDetectNamespaces, enableNamespaces;
+		boolean addBeanTypesXml, addNamespaceUrisToRoot, detectNamespacesStatically, disableAutoDetectNamespaces, enableNamespaces;
 		Namespace defaultNamespace;
 		List<Namespace> namespaces;
 
@@ -262,6 +262,7 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 			produces("text/xml");
 			addBeanTypesXml = env("XmlSerializer.addBeanTypes", false);
 			addNamespaceUrisToRoot = env("XmlSerializer.addNamespaceUrisToRoot", false);
+			detectNamespacesStatically = env("XmlSerializer.detectNamespacesStatically", false);
 			disableAutoDetectNamespaces = env("XmlSerializer.disableAutoDetectNamespaces", false);
 			enableNamespaces = env("XmlSerializer.enableNamespaces", false);
 			defaultNamespace = null;
@@ -278,6 +279,7 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 			super(copyFrom);
 			addBeanTypesXml = copyFrom.addBeanTypesXml;
 			addNamespaceUrisToRoot = copyFrom.addNamespaceUrlsToRoot;
+			detectNamespacesStatically = copyFrom.detectNamespacesStatically;
 			disableAutoDetectNamespaces = ! copyFrom.autoDetectNamespaces;
 			enableNamespaces = copyFrom.enableNamespaces;
 			defaultNamespace = copyFrom.defaultNamespace;
@@ -293,6 +295,7 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 			super(copyFrom);
 			addBeanTypesXml = copyFrom.addBeanTypesXml;
 			addNamespaceUrisToRoot = copyFrom.addNamespaceUrisToRoot;
+			detectNamespacesStatically = copyFrom.detectNamespacesStatically;
 			disableAutoDetectNamespaces = copyFrom.disableAutoDetectNamespaces;
 			enableNamespaces = copyFrom.enableNamespaces;
 			defaultNamespace = copyFrom.defaultNamespace;
@@ -315,6 +318,7 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 				super.hashKey(),
 				addBeanTypesXml,
 				addNamespaceUrisToRoot,
+				detectNamespacesStatically,
 				disableAutoDetectNamespaces,
 				enableNamespaces,
 				defaultNamespace,
@@ -435,6 +439,50 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 			return this;
 		}
 
+		/**
+		 * Detect namespaces from types instead of values.
+		 *
+		 * <p>
+		 * When namespace auto-detection is enabled, the namespaces used in the document are normally found by crawling the
+		 * entire data structure before the root element is serialized.
+		 * <br>When this setting is enabled, the namespaces are instead computed once per root type from the
+		 * {@link org.apache.juneau.xml.annotation.Xml @Xml} annotations on the class and its bean properties, map values and
+		 * collection elements, and cached on this serializer.
+		 * <br>This allows the document to be serialized in a single pass.
+		 *
+		 * <p>
+		 * This setting is ignored if {@link Builder#enableNamespaces()} is not enabled or if {@link Builder#disableAutoDetectNamespaces()}
+		 * is enabled.
+		 *
+		 * <ul class='notes'>
+		 * 	<li class='note'>
+		 * 		Values are assumed to be instances of their declared types.
+		 * 	<li class='note'>
+		 * 		Namespaces on properties are declared even if the property values are <jk>null</jk>.
+		 * 	<li class='note'>
+		 * 		If the namespaces cannot be determined from the types (e.g. because a property, map value or collection
+		 * 		element is typed as {@link Object} or an abstract class), the data structure is crawled as usual.
+		 * </ul>
+		 *
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder detectNamespacesStatically() {
+			return detectNamespacesStatically(true);
+		}
+
+		/**
+		 * Same as {@link #detectNamespacesStatically()} but allows you to explicitly specify the value.
+		 *
+		 * @param value The value for this setting.
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder detectNamespacesStatically(boolean value) {
+			detectNamespacesStatically = value;
+			return this;
+		}
+
 		/**
 		 * Default namespace.
 		 *
@@ -1160,6 +1208,7 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 
 	final boolean
 		autoDetectNamespaces,
+		detectNamespacesStatically,
 		enableNamespaces,
 		addNamespaceUrlsToRoot,
 		addBeanTypesXml;
@@ -1171,6 +1220,7 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 	private final Map<ClassMeta<?>,XmlClassMeta> xmlClassMetas = new ConcurrentHashMap<>();
 	private final Map<BeanMeta<?>,XmlBeanMeta> xmlBeanMetas = new ConcurrentHashMap<>();
 	private final Map<BeanPropertyMeta,XmlBeanPropertyMeta> xmlBeanPropertyMetas = new ConcurrentHashMap<>();
+	final Map<ClassMeta<?>,Namespace[]> staticNamespaces = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor.
@@ -1181,6 +1231,7 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 	public XmlSerializer(Builder builder) {
 		super(builder);
 		autoDetectNamespaces = ! builder.disableAutoDetectNamespaces;
+		detectNamespacesStatically = builder.detectNamespacesStatically;
 		enableNamespaces = builder.enableNamespaces;
 		addNamespaceUrlsToRoot = builder.addNamespaceUrisToRoot;
 		addBeanTypesXml = builder.addBeanTypesXml;
@@ -1277,6 +1328,17 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 		return autoDetectNamespaces;
 	}
 
+	/**
+	 * Detect namespaces from types instead of values.
+	 *
+	 * @see Builder#detectNamespacesStatically()
+	 * @return
+	 * 	<jk>true</jk> if namespace usage is computed from the types being serialized instead of crawling the values.
+	 */
+	protected final boolean isDetectNamespacesStatically() {
+		return detectNamespacesStatically;
+	}
+
 	/**
 	 * Default namespace.
 	 *
@@ -1318,6 +1380,7 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider {
 	protected JsonMap properties() {
 		return filteredMap()
 			.append("autoDetectNamespaces", autoDetectNamespaces)
+			.append("detectNamespacesStatically", detectNamespacesStatically)
 			.append("enableNamespaces", enableNamespaces)
 			.append("addNamespaceUrlsToRoot", addNamespaceUrlsToRoot)
 			.append("defaultNamespace", defaultNamespace)
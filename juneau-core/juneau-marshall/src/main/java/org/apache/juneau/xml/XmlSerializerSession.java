@@ -296,11 +296,74 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 	@Override /* Serializer */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
-		if (isEnableNamespaces() && isAutoDetectNamespaces())
-			findNsfMappings(o);
+		if (isEnableNamespaces() && isAutoDetectNamespaces()) {
+			Namespace[] ns = isDetectNamespacesStatically() && o != null ? findStaticNamespaces(getClassMetaForObject(o)) : null;
+			if (ns != null) {
+				for (Namespace n : ns)
+					addNamespace(n);
+			} else {
+				findNsfMappings(o);
+			}
+		}
 		serializeAnything(getXmlWriter(out), o, getExpectedRootType(o), null, null, null, isEnableNamespaces() && isAddNamespaceUrisToRoot(), XmlFormat.DEFAULT, false, false, null);
 	}
 
+	/**
+	 * Returns the namespaces used by the specified type as determined by its XML metadata alone.
+	 *
+	 * <p>
+	 * Results are cached on the serializer.
+	 *
+	 * @param cm The root type.
+	 * @return The namespaces in the order they would be found by {@link #findNsfMappings(Object)}, or <jk>null</jk> if they can't be
+	 * 	determined without looking at the values.
+	 */
+	protected final Namespace[] findStaticNamespaces(ClassMeta<?> cm) {
+		Namespace[] ns = ctx.staticNamespaces.get(cm);
+		if (ns == null) {
+			List<Namespace> l = new ArrayList<>();
+			ns = findStaticNamespaces(cm, l, new HashSet<>()) ? l.toArray(new Namespace[l.size()]) : NO_STATIC_NAMESPACES;
+			ctx.staticNamespaces.putIfAbsent(cm, ns);
+		}
+		return ns == NO_STATIC_NAMESPACES ? null : ns;
+	}
+
+	private static final Namespace[] NO_STATIC_NAMESPACES = {};
+
+	private boolean findStaticNamespaces(ClassMeta<?> cm, List<Namespace> l, Set<ClassMeta<?>> visited) {
+		if (cm == null)
+			return false;
+		if (! visited.add(cm))
+			return true;
+
+		if (cm.isOptional())
+			return findStaticNamespaces(cm.getElementType(), l, visited);
+		if (cm.isObject() || cm.isDelegate() || cm.isBeanMap() || cm.getSwap(this) != null || (cm.isAbstract() && ! (cm.isMap() || cm.isCollection())))
+			return false;
+
+		addStaticNamespace(getXmlClassMeta(cm).getNamespace(), l);
+
+		if (cm.isBean()) {
+			for (BeanPropertyMeta p : cm.getBeanMeta().getPropertyMetas()) {
+				if (p.canRead()) {
+					addStaticNamespace(getXmlBeanPropertyMeta(p).getNamespace(), l);
+					if (! findStaticNamespaces(p.getClassMeta(), l, visited))
+						return false;
+				}
+			}
+		} else if (cm.isMap()) {
+			return findStaticNamespaces(cm.getValueType(), l, visited);
+		} else if (cm.isCollection() || (cm.isArray() && ! cm.getElementType().isPrimitive())) {
+			return findStaticNamespaces(cm.getElementType(), l, visited);
+		}
+		return true;
+	}
+
+	private static void addStaticNamespace(Namespace ns, List<Namespace> l) {
+		if (ns != null && ns.uri != null && ! l.contains(ns))
+			l.add(ns);
+	}
+
 	/**
 	 * Recursively searches for the XML namespaces on the specified POJO and adds them to the serializer context object.
 	 *
@@ -701,6 +764,10 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		boolean hasChildren = false;
 		BeanMeta<?> bm = m.getMeta();
 
+		XmlBeanMeta xbm = getXmlBeanMeta(bm);
+		if (xbm.isAttrsAndContentOnly())
+			return serializeAttrsAndContent(out, m, xbm, elementNs, isMixedOrText);
+
 		List<BeanPropertyValue> lp = new ArrayList<>();
 
 		Predicate<Object> checkNull = x -> isKeepNullProperties() || x != null;
@@ -708,8 +775,6 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			lp.add(new BeanPropertyValue(pMeta, key, value, thrown));
 		});
 
-		XmlBeanMeta xbm = getXmlBeanMeta(bm);
-
 		Set<String>
 			attrs = xbm.getAttrPropertyNames(),
 			elements = xbm.getElementPropertyNames(),
@@ -744,18 +809,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					if (pMeta.isUri()  ) {
 						out.attrUri(ns, key, value);
 					} else if (n.equals(attrsProperty)) {
-						if (value instanceof BeanMap) {
-							BeanMap<?> bm2 = (BeanMap)value;
-							bm2.forEachValue(x -> true, (pMeta2,key2,value2,thrown2) -> {
-								if (thrown2 != null)
-									onBeanGetterException(pMeta, thrown2);
-								out.attr(ns, key2, value2);
-							});
-						} else /* Map */ {
-							Map m2 = (Map)value;
-							if (m2 != null)
-								m2.forEach((k,v) -> out.attr(ns, stringify(k), v));
-						}
+						serializeAttrs(out, pMeta, value, ns);
 					} else {
 						out.attr(ns, key, value);
 					}
@@ -810,7 +864,80 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		if (contentProperty == null && ! hasContent)
 			return (hasChildren ? CR_ELEMENTS : isVoidElement ? CR_VOID : CR_EMPTY);
 
-		// Serialize XML content.
+		return serializeContent(out, content, contentType, cf, isMixedOrText, preserveWhitespace);
+	}
+
+	/*
+	 * Same as serializeBeanMap() for beans consisting of only an attributes property and an optional content property
+	 * (e.g. HTML5 DTO elements).
+	 * Reads the two properties directly instead of collecting and filtering all property values.
+	 */
+	private ContentResult serializeAttrsAndContent(XmlWriter out, BeanMap<?> m, XmlBeanMeta xbm, Namespace elementNs,
+			boolean isMixedOrText) throws SerializeException {
+
+		BeanPropertyMeta ap = xbm.getAttrsProperty(), cp = xbm.getContentProperty();
+		XmlFormat cf = xbm.getContentFormat();
+
+		Object value = null;
+		Throwable t = null;
+		try {
+			value = ap.get(m, null);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			t = e;
+		}
+		if (t != null || value != null || isKeepNullProperties()) {
+			if (t != null)
+				onBeanGetterException(ap, t);
+			if (! canIgnoreValue(ap.getClassMeta(), ap.getName(), value)) {
+				Namespace ns = getXmlBeanPropertyMeta(ap).getNamespace();
+				serializeAttrs(out, ap, value, isEnableNamespaces() && ns != elementNs ? ns : null);
+			}
+		}
+
+		if (cp == null)
+			return cf == VOID ? CR_VOID : CR_EMPTY;
+
+		Object content = null;
+		ClassMeta<?> contentType = null;
+		boolean preserveWhitespace = false;
+		try {
+			content = cp.get(m, null);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			contentType = cp.getClassMeta();
+		}
+		if (content != null || isKeepNullProperties())
+			contentType = cp.getClassMeta();
+		if (contentType != null) {
+			if (cf.isOneOf(MIXED,MIXED_PWS,TEXT,TEXT_PWS,XMLTEXT))
+				isMixedOrText = true;
+			if (cf.isOneOf(MIXED_PWS, TEXT_PWS))
+				preserveWhitespace = true;
+		}
+
+		return serializeContent(out, content, contentType, cf, isMixedOrText, preserveWhitespace);
+	}
+
+	private void serializeAttrs(XmlWriter out, BeanPropertyMeta pMeta, Object value, Namespace ns) throws SerializeException {
+		if (value instanceof BeanMap) {
+			BeanMap<?> bm2 = (BeanMap)value;
+			bm2.forEachValue(x -> true, (pMeta2,key2,value2,thrown2) -> {
+				if (thrown2 != null)
+					onBeanGetterException(pMeta, thrown2);
+				out.attr(ns, key2, value2);
+			});
+		} else /* Map */ {
+			Map m2 = (Map)value;
+			if (m2 != null)
+				m2.forEach((k,v) -> out.attr(ns, stringify(k), v));
+		}
+	}
+
+	private ContentResult serializeContent(XmlWriter out, Object content, ClassMeta<?> contentType, XmlFormat cf,
+			boolean isMixedOrText, boolean preserveWhitespace) throws SerializeException {
 		if (content != null) {
 			out.w('>').nlIf(! isMixedOrText, indent);
 			if (contentType == null) {
@@ -929,6 +1056,17 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		return ctx.isAutoDetectNamespaces();
 	}
 
+	/**
+	 * Detect namespaces from types instead of values.
+	 *
+	 * @see XmlSerializer.Builder#detectNamespacesStatically()
+	 * @return
+	 * 	<jk>true</jk> if namespace usage is computed from the types being serialized instead of crawling the values.
+	 */
+	protected final boolean isDetectNamespacesStatically() {
+		return ctx.isDetectNamespacesStatically();
+	}
+
 	/**
 	 * Default namespace.
 	 *
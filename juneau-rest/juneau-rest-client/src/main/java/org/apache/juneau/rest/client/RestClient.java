@@ -36,6 +36,7 @@ import java.nio.charset.*;
 import java.text.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.logging.*;
 import java.util.regex.*;
@@ -70,6 +71,7 @@ import org.apache.juneau.http.remote.RemoteReturn;
 import org.apache.juneau.http.resource.*;
 import org.apache.juneau.http.entity.*;
 import org.apache.juneau.http.header.*;
+import org.apache.juneau.http.metrics.*;
 import org.apache.juneau.http.part.*;
 import org.apache.juneau.http.remote.*;
 import org.apache.juneau.httppart.*;
@@ -1100,6 +1102,7 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 		PrintStream console;
 		ExecutorService executorService;
 		List<RestCallInterceptor> interceptors;
+		MetricsRegistry metricsRegistry;
 
 		/**
 		 * Constructor.
@@ -3845,6 +3848,44 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 			return this;
 		}
 
+		/**
+		 * <i><l>RestClient</l> configuration property:&emsp;</i>  Metrics registry.
+		 *
+		 * <p>
+		 * Specifies the registry to publish client metrics to.
+		 *
+		 * <h5 class='section'>Meters:</h5>
+		 * <ul>
+		 * 	<li><js>"juneau.rest.client.requests"</js> - Timer of request latencies tagged with <js>"method"</js> and
+		 * 		<js>"status"</js> (<js>"error"</js> if no response was received).
+		 * 	<li><js>"juneau.rest.client.connections.leased"</js>, <js>"juneau.rest.client.connections.available"</js>,
+		 * 		<js>"juneau.rest.client.connections.pending"</js>, <js>"juneau.rest.client.connections.max"</js> -
+		 * 		Gauges of the connection pool utilization tagged with <js>"client"</js> (a number identifying the client
+		 * 		instance).
+		 * 		<br>Only published when using a {@link PoolingHttpClientConnectionManager} (see {@link #pooled()}).
+		 * 		<br>They're removed from the registry when the client is closed.
+		 * </ul>
+		 *
+		 * <h5 class='section'>Example:</h5>
+		 * <p class='bjava'>
+		 * 	RestClient <jv>client</jv> = RestClient
+		 * 		.<jsm>create</jsm>()
+		 * 		.pooled()
+		 * 		.metricsRegistry(<jk>new</jk> BasicMetricsRegistry())
+		 * 		.build();
+		 * </p>
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>Can be <jk>null</jk>.
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder metricsRegistry(MetricsRegistry value) {
+			metricsRegistry = value;
+			return this;
+		}
+
 		/**
 		 * <i><l>RestClient</l> configuration property:&emsp;</i>  Root URI.
 		 *
@@ -6317,6 +6358,8 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 	final CloseableHttpClient httpClient;
 
 	private final HttpClientConnectionManager connectionManager;
+	private final MetricsRegistry metricsRegistry;
+	private final String[] poolGaugeTags;
 	private final boolean keepHttpClientOpen, detectLeaks, skipEmptyHeaderData, skipEmptyQueryData, skipEmptyFormData;
 	private final BeanStore beanStore;
 	private final UrlEncodingSerializer urlEncodingSerializer;  // Used for form posts only.
@@ -6335,6 +6378,8 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 	private final PrintStream console;
 	private StackTraceElement[] closedStack;
 	private static final ConcurrentHashMap<Class<?>,Context> requestContexts = new ConcurrentHashMap<>();
+	private static final AtomicInteger clientIds = new AtomicInteger();
+	private static final String[] POOL_GAUGES = {"leased", "available", "pending", "max"};
 
 	// These are read directly by RestCall.
 	final SerializerSet serializers;
@@ -6394,6 +6439,18 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 		partParser = builder.partParser().create();
 		urlEncodingSerializer = builder.urlEncodingSerializer().build();
 		creationStack = isDebug() ? Thread.currentThread().getStackTrace() : null;
+		metricsRegistry = builder.metricsRegistry;
+
+		if (metricsRegistry != null && connectionManager instanceof PoolingHttpClientConnectionManager) {
+			PoolingHttpClientConnectionManager pool = (PoolingHttpClientConnectionManager)connectionManager;
+			poolGaugeTags = new String[]{"client", String.valueOf(clientIds.incrementAndGet())};
+			metricsRegistry.gauge("juneau.rest.client.connections.leased", () -> pool.getTotalStats().getLeased(), poolGaugeTags);
+			metricsRegistry.gauge("juneau.rest.client.connections.available", () -> pool.getTotalStats().getAvailable(), poolGaugeTags);
+			metricsRegistry.gauge("juneau.rest.client.connections.pending", () -> pool.getTotalStats().getPending(), poolGaugeTags);
+			metricsRegistry.gauge("juneau.rest.client.connections.max", () -> pool.getTotalStats().getMax(), poolGaugeTags);
+		} else {
+			poolGaugeTags = null;
+		}
 
 		init();
 	}
@@ -6430,6 +6487,7 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 	@Override
 	public void close() throws IOException {
 		isClosed = true;
+		removePoolGauges();
 		if (! keepHttpClientOpen)
 			httpClient.close();
 		if (executorService != null && executorServiceShutdownOnClose)
@@ -6443,6 +6501,7 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 	 */
 	public void closeQuietly() {
 		isClosed = true;
+		removePoolGauges();
 		try {
 			if (! keepHttpClientOpen)
 				httpClient.close();
@@ -6453,6 +6512,12 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 			closedStack = Thread.currentThread().getStackTrace();
 	}
 
+	private void removePoolGauges() {
+		if (poolGaugeTags != null)
+			for (String g : POOL_GAUGES)
+				metricsRegistry.remove("juneau.rest.client.connections." + g, poolGaugeTags);
+	}
+
 	/**
 	 * Entrypoint for executing all requests and returning a response.
 	 *
@@ -6480,7 +6545,17 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 	 * @throws ClientProtocolException In case of an http protocol error.
 	 */
 	protected HttpResponse run(HttpHost target, HttpRequest request, HttpContext context) throws ClientProtocolException, IOException {
-		return callHandler.run(target, request, context);
+		if (metricsRegistry == null)
+			return callHandler.run(target, request, context);
+		long startTime = System.nanoTime();
+		String status = "error";
+		try {
+			HttpResponse response = callHandler.run(target, request, context);
+			status = String.valueOf(response.getStatusLine().getStatusCode());
+			return response;
+		} finally {
+			metricsRegistry.timer("juneau.rest.client.requests", "method", request.getRequestLine().getMethod(), "status", status).record(System.nanoTime() - startTime);
+		}
 	}
 
 	/**
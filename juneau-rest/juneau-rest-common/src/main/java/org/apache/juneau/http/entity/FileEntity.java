@@ -16,6 +16,7 @@ import static org.apache.juneau.internal.ArgUtils.*;
 import static org.apache.juneau.internal.IOUtils.*;
 
 import java.io.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
 import java.util.function.*;
 
@@ -126,6 +127,19 @@ public class FileEntity extends BasicHttpEntity {
 
 		if (isCached()) {
 			out.write(asBytes());
+		} else if (getMaxLength() < 0) {
+			// Let the file channel transfer the contents directly when the output is itself a channel.
+			try (FileInputStream is = new FileInputStream(content())) {
+				FileChannel fc = is.getChannel();
+				WritableByteChannel wc = out instanceof WritableByteChannel ? (WritableByteChannel)out : Channels.newChannel(out);
+				long size = fc.size(), pos = 0;
+				while (pos < size) {
+					long n = fc.transferTo(pos, size - pos, wc);
+					if (n <= 0)
+						break;
+					pos += n;
+				}
+			}
 		} else {
 			try (InputStream is = getContent()) {
 				IOUtils.pipe(is, out, getMaxLength());
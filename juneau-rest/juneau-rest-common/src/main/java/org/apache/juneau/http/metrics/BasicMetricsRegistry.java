@@ -0,0 +1,213 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.http.metrics;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.apache.juneau.collections.*;
+
+/**
+ * A dependency-free, in-memory implementation of {@link MetricsRegistry}.
+ *
+ * <p>
+ * Timers and distribution summaries keep a count, total, maximum, and a histogram with power-of-two bucket
+ * boundaries.
+ * <br>Timers record their values in microseconds.
+ *
+ * <p>
+ * The current values of all meters can be retrieved through {@link #getMetrics()}, which returns a map that can be
+ * serialized to JSON using any of the Juneau serializers (e.g. for returning from a REST method).
+ *
+ * <h5 class='figure'>Example:</h5>
+ * <p class='bjava'>
+ * 	BasicMetricsRegistry <jv>registry</jv> = <jk>new</jk> BasicMetricsRegistry();
+ * 	<jv>registry</jv>.timer(<js>"my.timer"</js>, <js>"op"</js>, <js>"foo"</js>).record(1_500_000);
+ *
+ * 	<jc>// Produces: {'my.timer{op=foo}':{type:'timer',count:1,total:1500,max:1500,mean:1500,histogram:{'2047':1}}}</jc>
+ * 	String <jv>json</jv> = Json5.<jsm>of</jsm>(<jv>registry</jv>.getMetrics());
+ * </p>
+ */
+public class BasicMetricsRegistry implements MetricsRegistry {
+
+	private final Map<String,Object> meters = new ConcurrentHashMap<>();
+
+	@Override /* MetricsRegistry */
+	public Timer timer(String name, String...tags) {
+		return get(key(name, tags), BasicTimer.class, BasicTimer::new);
+	}
+
+	@Override /* MetricsRegistry */
+	public Counter counter(String name, String...tags) {
+		return get(key(name, tags), BasicCounter.class, BasicCounter::new);
+	}
+
+	@Override /* MetricsRegistry */
+	public Summary summary(String name, String...tags) {
+		return get(key(name, tags), BasicSummary.class, BasicSummary::new);
+	}
+
+	@Override /* MetricsRegistry */
+	public void gauge(String name, Supplier<? extends Number> value, String...tags) {
+		String key = key(name, tags);
+		Object o = meters.putIfAbsent(key, new BasicGauge(value));
+		if (o != null && ! (o instanceof BasicGauge))
+			throw new IllegalArgumentException("Meter '"+key+"' is already registered as a different type.");
+	}
+
+	@Override /* MetricsRegistry */
+	public void remove(String name, String...tags) {
+		meters.remove(key(name, tags));
+	}
+
+	/**
+	 * Returns a snapshot of the current values of all meters in this registry.
+	 *
+	 * <p>
+	 * Keys are the meter names followed by the tags in curly braces (e.g. <js>"my.timer{op=foo}"</js>).
+	 * <br>Values are maps describing the meter values.
+	 *
+	 * @return A snapshot of the current values of all meters sorted by key.
+	 */
+	public JsonMap getMetrics() {
+		JsonMap m = new JsonMap();
+		new TreeMap<>(meters).forEach((k,v) -> m.put(k, ((Meter)v).snapshot()));
+		return m;
+	}
+
+	/**
+	 * Returns a snapshot of the current value of the specified meter.
+	 *
+	 * @param name The meter name.
+	 * @param tags The meter tags as alternating key/value pairs.
+	 * @return A snapshot of the current value of the meter, or <jk>null</jk> if it doesn't exist.
+	 */
+	public JsonMap getMetric(String name, String...tags) {
+		Meter m = (Meter)meters.get(key(name, tags));
+		return m == null ? null : m.snapshot();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return getMetrics().toString();
+	}
+
+	private <T> T get(String key, Class<T> type, Supplier<T> creator) {
+		Object o = meters.computeIfAbsent(key, x -> creator.get());
+		if (! type.isInstance(o))
+			throw new IllegalArgumentException("Meter '"+key+"' is already registered as a different type.");
+		return type.cast(o);
+	}
+
+	private static String key(String name, String...tags) {
+		if (tags.length == 0)
+			return name;
+		if (tags.length % 2 != 0)
+			throw new IllegalArgumentException("Tags must be specified as key/value pairs.");
+		StringBuilder sb = new StringBuilder(name).append('{');
+		for (int i = 0; i < tags.length; i += 2)
+			sb.append(i == 0 ? "" : ",").append(tags[i]).append('=').append(tags[i+1]);
+		return sb.append('}').toString();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Meters
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private interface Meter {
+		JsonMap snapshot();
+	}
+
+	/*
+	 * Count, total, max, and power-of-two histogram of non-negative values.
+	 * Bucket i holds values in [2^(i-1), 2^i - 1], so its upper bound is 2^i - 1.
+	 */
+	private static class Histogram {
+		final AtomicLongArray buckets = new AtomicLongArray(64);
+		final LongAdder count = new LongAdder(), total = new LongAdder();
+		final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+		void record(long value) {
+			if (value < 0)
+				value = 0;
+			buckets.incrementAndGet(Math.min(63, 64 - Long.numberOfLeadingZeros(value)));
+			count.increment();
+			total.add(value);
+			max.accumulate(value);
+		}
+
+		JsonMap snapshot(String type) {
+			long c = count.sum(), t = total.sum();
+			JsonMap h = new JsonMap();
+			for (int i = 0; i < 64; i++) {
+				long n = buckets.get(i);
+				if (n > 0)
+					h.put(i == 63 ? String.valueOf(Long.MAX_VALUE) : String.valueOf((1L << i) - 1), n);
+			}
+			return JsonMap.of("type", type, "count", c, "total", t, "max", max.get(), "mean", c == 0 ? 0 : t / c, "histogram", h);
+		}
+	}
+
+	private static class BasicTimer extends Histogram implements Timer, Meter {
+		@Override /* Timer */
+		public void record(long nanos) {
+			super.record(nanos / 1_000);
+		}
+
+		@Override /* Meter */
+		public JsonMap snapshot() {
+			return snapshot("timer");
+		}
+	}
+
+	private static class BasicSummary extends Histogram implements Summary, Meter {
+		@Override /* Summary */
+		public void record(long amount) {
+			super.record(amount);
+		}
+
+		@Override /* Meter */
+		public JsonMap snapshot() {
+			return snapshot("summary");
+		}
+	}
+
+	private static class BasicCounter implements Counter, Meter {
+		final LongAdder count = new LongAdder();
+
+		@Override /* Counter */
+		public void increment(long amount) {
+			count.add(amount);
+		}
+
+		@Override /* Meter */
+		public JsonMap snapshot() {
+			return JsonMap.of("type", "counter", "count", count.sum());
+		}
+	}
+
+	private static class BasicGauge implements Meter {
+		final Supplier<? extends Number> value;
+
+		BasicGauge(Supplier<? extends Number> value) {
+			this.value = value;
+		}
+
+		@Override /* Meter */
+		public JsonMap snapshot() {
+			return JsonMap.of("type", "gauge", "value", value.get());
+		}
+	}
+}
@@ -0,0 +1,151 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.http.metrics;
+
+import java.util.function.*;
+
+/**
+ * Service provider interface for publishing metrics from REST servers and clients to a monitoring system.
+ *
+ * <p>
+ * Meters are identified by a name and an optional list of tags specified as alternating key/value pairs.
+ * <br>Implementations are expected to return the same meter for the same name and tags, so callers can look up meters
+ * once and hold on to them.
+ *
+ * <p>
+ * {@link BasicMetricsRegistry} is a dependency-free in-memory implementation.
+ * <br>Bindings to other monitoring libraries only need to implement this interface and the meter interfaces below.
+ *
+ * <h5 class='figure'>Example:</h5>
+ * <p class='bjava'>
+ * 	MetricsRegistry <jv>registry</jv> = <jk>new</jk> BasicMetricsRegistry();
+ *
+ * 	<jc>// Publish metrics from a REST resource.</jc>
+ * 	<ja>@RestInit</ja>
+ * 	<jk>public void</jk> init(RestContext.Builder <jv>builder</jv>) {
+ * 		<jv>builder</jv>.metricsRegistry(<jv>registry</jv>);
+ * 	}
+ *
+ * 	<jc>// Publish metrics from a REST client.</jc>
+ * 	RestClient <jv>client</jv> = RestClient.<jsm>create</jsm>().metricsRegistry(<jv>registry</jv>).build();
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>Implementations must be thread safe.
+ * </ul>
+ */
+public interface MetricsRegistry {
+
+	/**
+	 * Returns the timer with the specified name and tags, creating it if it doesn't exist.
+	 *
+	 * @param name The meter name.
+	 * @param tags The meter tags as alternating key/value pairs.
+	 * @return The timer.  Never <jk>null</jk>.
+	 */
+	Timer timer(String name, String...tags);
+
+	/**
+	 * Returns the counter with the specified name and tags, creating it if it doesn't exist.
+	 *
+	 * @param name The meter name.
+	 * @param tags The meter tags as alternating key/value pairs.
+	 * @return The counter.  Never <jk>null</jk>.
+	 */
+	Counter counter(String name, String...tags);
+
+	/**
+	 * Returns the distribution summary with the specified name and tags, creating it if it doesn't exist.
+	 *
+	 * @param name The meter name.
+	 * @param tags The meter tags as alternating key/value pairs.
+	 * @return The distribution summary.  Never <jk>null</jk>.
+	 */
+	Summary summary(String name, String...tags);
+
+	/**
+	 * Registers a gauge whose value is read from the specified supplier whenever metrics are collected.
+	 *
+	 * <p>
+	 * If a gauge with the same name and tags is already registered, it's kept and the specified supplier is ignored.
+	 * <br>Use {@link #remove(String, String...)} first to replace a gauge.
+	 *
+	 * @param name The meter name.
+	 * @param value The supplier of the gauge value.
+	 * @param tags The meter tags as alternating key/value pairs.
+	 * @throws IllegalArgumentException If a meter of a different type is registered with the same name and tags.
+	 */
+	void gauge(String name, Supplier<? extends Number> value, String...tags);
+
+	/**
+	 * Removes the meter with the specified name and tags.
+	 *
+	 * <p>
+	 * Used to unregister gauges that hold on to objects that are being discarded.
+	 * <br>Does nothing if the meter doesn't exist.
+	 *
+	 * @param name The meter name.
+	 * @param tags The meter tags as alternating key/value pairs.
+	 */
+	void remove(String name, String...tags);
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Meters
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Records the durations of events.
+	 */
+	interface Timer {
+
+		/**
+		 * Records a duration.
+		 *
+		 * @param nanos The duration in nanoseconds.
+		 */
+		void record(long nanos);
+	}
+
+	/**
+	 * Counts events.
+	 */
+	interface Counter {
+
+		/**
+		 * Increments this counter by the specified amount.
+		 *
+		 * @param amount The amount to add.
+		 */
+		void increment(long amount);
+
+		/**
+		 * Increments this counter by one.
+		 */
+		default void increment() {
+			increment(1);
+		}
+	}
+
+	/**
+	 * Records the distribution of amounts such as response sizes.
+	 */
+	interface Summary {
+
+		/**
+		 * Records an amount.
+		 *
+		 * @param amount The amount to record.
+		 */
+		void record(long amount);
+	}
+}
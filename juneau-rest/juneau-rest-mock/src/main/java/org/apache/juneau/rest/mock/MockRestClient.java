@@ -49,6 +49,7 @@ import org.apache.http.impl.client.*;
 import org.apache.http.message.*;
 import org.apache.http.protocol.*;
 import org.apache.juneau.*;
+import org.apache.juneau.http.metrics.*;
 import org.apache.juneau.http.remote.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
@@ -1414,6 +1415,12 @@ public class MockRestClient extends RestClient implements HttpClientConnection {
 			return this;
 		}
 
+		@Override /* GENERATED - org.apache.juneau.rest.client.RestClient.Builder */
+		public Builder metricsRegistry(MetricsRegistry value) {
+			super.metricsRegistry(value);
+			return this;
+		}
+
 		@Override /* GENERATED - org.apache.juneau.rest.client.RestClient.Builder */
 		public Builder msgPack() {
 			super.msgPack();
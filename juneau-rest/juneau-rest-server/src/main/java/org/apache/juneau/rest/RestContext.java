@@ -69,6 +69,7 @@ import org.apache.juneau.rest.stats.*;
 import org.apache.juneau.rest.swagger.*;
 import org.apache.juneau.http.annotation.*;
 import org.apache.juneau.http.header.*;
+import org.apache.juneau.http.metrics.*;
 import org.apache.juneau.http.response.*;
 import org.apache.juneau.rest.util.*;
 import org.apache.juneau.rest.vars.*;
@@ -278,9 +279,14 @@ public class RestContext extends Context {
 		UriResolution uriResolution = env("RestContext.uriResolution", UriResolution.ROOT_RELATIVE);
 		Charset defaultCharset = env("RestContext.defaultCharset", IOUtils.UTF8);
 		long maxInput = parseLongWithSuffix(env("RestContext.maxInput", "100M"));
+		long debugCaptureLimit = parseLongWithSuffix(env("RestContext.debugCaptureLimit", "64K"));
+		long contentBufferSize = parseLongWithSuffix(env("RestContext.contentBufferSize", "8K"));
 		List<MediaType> consumes, produces;
 		boolean disableContentParam = env("RestContext.disableContentParam", false);
 		boolean renderResponseStackTraces = env("RestContext.renderResponseStackTraces", false);
+		boolean profileAllocations = env("RestContext.profileAllocations", false);
+		boolean contentEtags = env("RestContext.contentEtags", false);
+		MetricsRegistry metricsRegistry;
 
 		Class<? extends RestChildren> childrenClass = RestChildren.class;
 		Class<? extends RestOpContext> opContextClass = RestOpContext.class;
@@ -3290,6 +3296,151 @@ public class RestContext extends Context {
 			return this;
 		}
 
+		/**
+		 * The maximum number of bytes of HTTP request/response content retained for logging when debug is enabled.
+		 *
+		 * <p>
+		 * When debug is enabled, request and response content is streamed through to the application and client as usual
+		 * while only the first bytes up to this limit are retained in memory for the call logger.
+		 *
+		 * <ul class='notes'>
+		 * 	<li class='note'>
+		 * 		String value that gets resolved to a <jk>long</jk>.
+		 * 	<li class='note'>
+		 * 		Can be suffixed with any of the following representing kilobytes, megabytes, and gigabytes:
+		 * 		<js>'K'</js>, <js>'M'</js>, <js>'G'</js>.
+		 * 	<li class='note'>
+		 * 		A value of <js>"-1"</js> can be used to represent no limit.
+		 * 	<li class='note'>
+		 * 		Request content is captured as it's read, and any content the call didn't read is read into the capture
+		 * 		(up to this limit) when the call is logged.
+		 * 	<li class='note'>
+		 * 		Request content is streamed rather than buffered, so under debug {@link HttpServletRequest#getInputStream()}
+		 * 		returns the same stream on every call and can't be used to re-read content that has already been consumed.
+		 * 		<br>Use {@link RestRequest#getContent()} to access the parsed content more than once.
+		 * </ul>
+		 *
+		 * <ul class='seealso'>
+		 * 	<li class='jc'>{@link CachingHttpServletRequest}
+		 * 	<li class='jc'>{@link CachingHttpServletResponse}
+		 * </ul>
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>The default is the first value found:
+		 * 	<ul>
+		 * 		<li>System property <js>"RestContext.debugCaptureLimit"
+		 * 		<li>Environment variable <js>"RESTCONTEXT_DEBUGCAPTURELIMIT"
+		 * 		<li><js>"64K"</js>
+		 * 	</ul>
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder debugCaptureLimit(String value) {
+			debugCaptureLimit = StringUtils.parseLongWithSuffix(value);
+			return this;
+		}
+
+		/**
+		 * <i><l>RestContext</l> configuration property:&emsp;</i>  Maximum size of buffered serialized responses.
+		 *
+		 * <p>
+		 * Serialized response bodies up to this size are held in memory until the response is complete so that a
+		 * <c>Content-Length</c> header can be set instead of using chunked transfer encoding.
+		 * <br>Larger bodies are streamed to the client once the buffer is full.
+		 *
+		 * <p>
+		 * The buffer is pre-sized using a moving average of the response sizes of each REST operation and media type.
+		 * <br>Operations whose responses usually exceed this size also have the servlet response buffer enlarged to fit
+		 * their typical response.
+		 *
+		 * <ul class='notes'>
+		 * 	<li class='note'>
+		 * 		String value that gets resolved to a <jk>long</jk>.
+		 * 	<li class='note'>
+		 * 		Can be suffixed with any of the following representing kilobytes, megabytes, and gigabytes:
+		 * 		<js>'K'</js>, <js>'M'</js>, <js>'G'</js>.
+		 * 	<li class='note'>
+		 * 		A value of <js>"0"</js> disables buffering.
+		 * 	<li class='note'>
+		 * 		Only applies to responses written by {@link SerializedPojoProcessor}.
+		 * </ul>
+		 *
+		 * <ul class='seealso'>
+		 * 	<li class='jc'>{@link BufferedServletOutputStream}
+		 * </ul>
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>The default is the first value found:
+		 * 	<ul>
+		 * 		<li>System property <js>"RestContext.contentBufferSize"
+		 * 		<li>Environment variable <js>"RESTCONTEXT_CONTENTBUFFERSIZE"
+		 * 		<li><js>"8K"</js>
+		 * 	</ul>
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder contentBufferSize(String value) {
+			contentBufferSize = StringUtils.parseLongWithSuffix(value);
+			return this;
+		}
+
+		/**
+		 * <i><l>RestContext</l> configuration property:&emsp;</i>  Compute entity tags of serialized responses.
+		 *
+		 * <p>
+		 * When enabled, a strong <c>ETag</c> header is computed from a hash of the serialized response body.
+		 * <br>If the <c>If-None-Match</c> header on a <c>GET</c> or <c>HEAD</c> request matches it, the body is dropped
+		 * and a <c>304 Not Modified</c> response is sent instead.
+		 *
+		 * <p>
+		 * This saves bandwidth but not serialization time.
+		 * <br>Responses whose version is known up front can skip serialization entirely by setting an <c>ETag</c>
+		 * header in the REST method or by returning an object that implements {@link Versioned}.
+		 * <br>Those are honored regardless of this setting.
+		 *
+		 * <ul class='notes'>
+		 * 	<li class='note'>
+		 * 		Only applies to responses written by {@link SerializedPojoProcessor} that fit in the buffer defined
+		 * 		by {@link #contentBufferSize(String)}.
+		 * 		<br>Larger responses are sent without an <c>ETag</c>.
+		 * </ul>
+		 *
+		 * <ul class='seealso'>
+		 * 	<li class='jc'>{@link ContentHash}
+		 * </ul>
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>The default is the first value found:
+		 * 	<ul>
+		 * 		<li>System property <js>"RestContext.contentEtags"
+		 * 		<li>Environment variable <js>"RESTCONTEXT_CONTENTETAGS"
+		 * 		<li><jk>false</jk>
+		 * 	</ul>
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder contentEtags(boolean value) {
+			contentEtags = value;
+			return this;
+		}
+
+		/**
+		 * <i><l>RestContext</l> configuration property:&emsp;</i>  Compute entity tags of serialized responses.
+		 *
+		 * <p>
+		 * Shortcut for calling <code>contentEtags(<jk>true</jk>)</code>.
+		 *
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder contentEtags() {
+			contentEtags = true;
+			return this;
+		}
+
 		/**
 		 * Instantiates the debug enablement bean creator.
 		 *
@@ -4366,6 +4517,104 @@ public class RestContext extends Context {
 			return this;
 		}
 
+		/**
+		 * <i><l>RestContext</l> configuration property:&emsp;</i>  Metrics registry.
+		 *
+		 * <p>
+		 * Specifies the registry to publish per-operation metrics to, such as request latencies, in-flight requests,
+		 * response sizes, serialization and parsing times, and serializer/parser match cache hit counts.
+		 *
+		 * <p>
+		 * If not specified, a {@link MetricsRegistry} bean in the bean store is used if present.
+		 * <br>Otherwise no metrics are published.
+		 *
+		 * <h5 class='section'>Example:</h5>
+		 * <p class='bjava'>
+		 * 	<jk>public class</jk> MyResource {
+		 *
+		 * 		<jk>static final</jk> BasicMetricsRegistry <jsf>METRICS</jsf> = <jk>new</jk> BasicMetricsRegistry();
+		 *
+		 * 		<ja>@RestInit</ja>
+		 * 		<jk>public void</jk> init(RestContext.Builder <jv>builder</jv>) {
+		 * 			<jv>builder</jv>.metricsRegistry(<jsf>METRICS</jsf>);
+		 * 		}
+		 *
+		 * 		<ja>@RestGet</ja>(<js>"/metrics"</js>)
+		 * 		<jk>public</jk> JsonMap getMetrics() {
+		 * 			<jk>return</jk> <jsf>METRICS</jsf>.getMetrics();
+		 * 		}
+		 * 	}
+		 * </p>
+		 *
+		 * <ul class='seealso'>
+		 * 	<li class='jc'>{@link RestOpMetrics}
+		 * 	<li class='jc'>{@link BasicMetricsRegistry}
+		 * </ul>
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>Can be <jk>null</jk>.
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder metricsRegistry(MetricsRegistry value) {
+			metricsRegistry = value;
+			return this;
+		}
+
+		/**
+		 * <i><l>RestContext</l> configuration property:&emsp;</i>  Profile allocations and CPU time of REST calls.
+		 *
+		 * <p>
+		 * When enabled, the bytes allocated and CPU time consumed by the request thread are measured in each phase of
+		 * every call (routing, guards, parameter resolution, method invocation, response processing, serialization, and
+		 * encoding) and added to the statistics of the matched Java method.
+		 * <br>The results are available through {@link MethodExecStats#getPhaseStats()} and are included in the
+		 * statistics returned by {@link RestContext#getStats()}.
+		 *
+		 * <ul class='notes'>
+		 * 	<li class='note'>
+		 * 		Reading the thread counters adds a small overhead to each phase, so this setting is meant for
+		 * 		diagnosing allocation hotspots rather than for always-on use.
+		 * 	<li class='note'>
+		 * 		Enabling this setting turns on the JVM-wide thread CPU time and allocated memory counters through
+		 * 		{@link RestOpProfiler#enable()}.
+		 * </ul>
+		 *
+		 * <ul class='seealso'>
+		 * 	<li class='jc'>{@link RestOpProfiler}
+		 * </ul>
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>The default is the first value found:
+		 * 	<ul>
+		 * 		<li>System property <js>"RestContext.profileAllocations"
+		 * 		<li>Environment variable <js>"RESTCONTEXT_PROFILEALLOCATIONS"
+		 * 		<li><jk>false</jk>
+		 * 	</ul>
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder profileAllocations(boolean value) {
+			profileAllocations = value;
+			return this;
+		}
+
+		/**
+		 * <i><l>RestContext</l> configuration property:&emsp;</i>  Profile allocations and CPU time of REST calls.
+		 *
+		 * <p>
+		 * Shortcut for calling <code>profileAllocations(<jk>true</jk>)</code>.
+		 *
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder profileAllocations() {
+			profileAllocations = true;
+			return this;
+		}
+
 		/**
 		 * <i><l>RestContext</l> configuration property:&emsp;</i>  Render response stack traces in responses.
 		 *
@@ -5375,7 +5624,9 @@ public class RestContext extends Context {
 	final Builder builder;
 	private final boolean
 		allowContentParam,
+		profileAllocations,
 		renderResponseStackTraces;
+	private final MetricsRegistry metricsRegistry;
 	private final String
 		clientVersionHeader,
 		uriAuthority,
@@ -5415,6 +5666,8 @@ public class RestContext extends Context {
 	private final Instant startTime;
 	final Charset defaultCharset;
 	final long maxInput;
+	final int debugCaptureLimit, contentBufferSize;
+	final boolean contentEtags;
 
 	final DefaultClassList defaultClasses;
 	final DefaultSettingsMap defaultSettings;
@@ -5489,7 +5742,14 @@ public class RestContext extends Context {
 			clientVersionHeader = builder.clientVersionHeader;
 			defaultCharset = builder.defaultCharset;
 			maxInput = builder.maxInput;
+			debugCaptureLimit = builder.debugCaptureLimit < 0 || builder.debugCaptureLimit > Integer.MAX_VALUE ? -1 : (int)builder.debugCaptureLimit;
+			contentBufferSize = (int)Math.max(0, Math.min(Integer.MAX_VALUE - 8, builder.contentBufferSize));
 			renderResponseStackTraces = builder.renderResponseStackTraces;
+			profileAllocations = builder.profileAllocations;
+			if (profileAllocations)
+				RestOpProfiler.enable();
+			contentEtags = builder.contentEtags;
+			metricsRegistry = builder.metricsRegistry != null ? builder.metricsRegistry : bs.getBean(MetricsRegistry.class).orElse(null);
 			uriContext = builder.uriContext;
 			uriAuthority = builder.uriAuthority;
 			uriResolution = builder.uriResolution;
@@ -5821,6 +6081,26 @@ public class RestContext extends Context {
 		return restChildren;
 	}
 
+	/**
+	 * Returns the registry that per-operation metrics are published to.
+	 *
+	 * @return The metrics registry, or <jk>null</jk> if metrics are not published.
+	 * @see Builder#metricsRegistry(MetricsRegistry)
+	 */
+	public MetricsRegistry getMetricsRegistry() {
+		return metricsRegistry;
+	}
+
+	/**
+	 * Returns whether allocations and CPU time of REST calls are profiled.
+	 *
+	 * @return <jk>true</jk> if setting is enabled.
+	 * @see Builder#profileAllocations()
+	 */
+	public boolean isProfileAllocations() {
+		return profileAllocations;
+	}
+
 	/**
 	 * Returns whether it's safe to render stack traces in HTTP responses.
 	 *
@@ -6662,6 +6942,13 @@ public class RestContext extends Context {
 		}
 
 		restChildren.destroy();
+
+		for (RestOpContext x : restOperations.getOpContexts())
+			if (x.getMetrics() != null)
+				x.getMetrics().close();
+
+		if (callLogger != null)
+			callLogger.close();
 	}
 
 	/**
@@ -6744,12 +7031,16 @@ public class RestContext extends Context {
 			.append("beanStore", beanStore)
 			.append("clientVersionHeader", clientVersionHeader)
 			.append("consumes", consumes)
+			.append("contentBufferSize", contentBufferSize)
+			.append("contentEtags", contentEtags)
 			.append("defaultRequestHeaders", defaultRequestHeaders)
 			.append("defaultResponseHeaders", defaultResponseHeaders)
 			.append("restOpArgs", restOpArgs)
 			.append("partParser", partParser)
 			.append("partSerializer", partSerializer)
+			.append("metricsRegistry", metricsRegistry)
 			.append("produces", produces)
+			.append("profileAllocations", profileAllocations)
 			.append("renderResponseStackTraces", renderResponseStackTraces)
 			.append("responseProcessors", responseProcessors)
 			.append("staticFiles", staticFiles)
@@ -41,6 +41,7 @@ import org.apache.juneau.encoders.*;
 import org.apache.juneau.http.annotation.*;
 import org.apache.juneau.http.annotation.Header;
 import org.apache.juneau.http.header.*;
+import org.apache.juneau.http.metrics.*;
 import org.apache.juneau.http.part.*;
 import org.apache.juneau.http.remote.*;
 import org.apache.juneau.httppart.*;
@@ -59,6 +60,7 @@ import org.apache.juneau.rest.httppart.*;
 import org.apache.juneau.rest.logger.*;
 import org.apache.juneau.http.response.*;
 import org.apache.juneau.rest.matcher.*;
+import org.apache.juneau.rest.stats.*;
 import org.apache.juneau.rest.swagger.*;
 import org.apache.juneau.rest.util.*;
 import org.apache.juneau.serializer.*;
@@ -2252,6 +2254,10 @@ public class RestOpContext extends Context implements Comparable<RestOpContext>
 	private final ResponseBeanMeta responseMeta;
 	private final int hierarchyDepth;
 	private final DebugEnablement debug;
+	private final RestOpMetrics metrics;
+	private final int contentBufferSize;
+	private final ContentSizeEstimator contentSizes;
+	private final boolean contentEtags;
 
 	/**
 	 * Context constructor.
@@ -2331,6 +2337,13 @@ public class RestOpContext extends Context implements Comparable<RestOpContext>
 			methodInvoker = new RestOpInvoker(method, context.findRestOperationArgs(method, bs), context.getMethodExecStats(method));
 
 			this.callLogger = context.getCallLogger();
+
+			MetricsRegistry metricsRegistry = context.getMetricsRegistry();
+			metrics = metricsRegistry == null ? null : new RestOpMetrics(metricsRegistry, context, this, methodInvoker.getStats());
+
+			contentBufferSize = context.contentBufferSize;
+			contentSizes = contentBufferSize > 0 ? new ContentSizeEstimator() : null;
+			contentEtags = context.contentEtags;
 		} catch (Exception e) {
 			throw new ServletException(e);
 		}
@@ -2447,6 +2460,45 @@ public class RestOpContext extends Context implements Comparable<RestOpContext>
 		return pathMatchers[0].toString();
 	}
 
+	/**
+	 * Returns the metrics publisher for this method.
+	 *
+	 * @return The metrics publisher for this method, or <jk>null</jk> if no metrics registry is configured.
+	 * @see RestContext.Builder#metricsRegistry(MetricsRegistry)
+	 */
+	public RestOpMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Returns the maximum size of serialized response bodies that are buffered so a <c>Content-Length</c> can be set.
+	 *
+	 * @return The maximum size in bytes, or <c>0</c> if buffering is disabled.
+	 * @see RestContext.Builder#contentBufferSize(String)
+	 */
+	public int getContentBufferSize() {
+		return contentBufferSize;
+	}
+
+	/**
+	 * Returns the moving averages of the serialized response sizes of this method.
+	 *
+	 * @return The moving averages of the serialized response sizes, or <jk>null</jk> if buffering is disabled.
+	 */
+	public ContentSizeEstimator getContentSizes() {
+		return contentSizes;
+	}
+
+	/**
+	 * Returns whether entity tags are computed from the serialized response bodies of this method.
+	 *
+	 * @return <jk>true</jk> if setting is enabled.
+	 * @see RestContext.Builder#contentEtags(boolean)
+	 */
+	public boolean isContentEtags() {
+		return contentEtags;
+	}
+
 	/**
 	 * Returns the serializers to use for this method.
 	 *
@@ -2621,13 +2673,13 @@ public class RestOpContext extends Context implements Comparable<RestOpContext>
 	 */
 	protected int match(RestSession session) {
 
-		UrlPathMatch pm = matchPattern(session);
+		UrlPathMatcher pm = matchPattern(session);
 
 		if (pm == null)
 			return 0;
 
 		if (requiredMatchers.length == 0 && optionalMatchers.length == 0) {
-			session.urlPathMatch(pm);  // Cache so we don't have to recalculate.
+			session.urlPathMatch(pm.match(session.getUrlPath()));  // Cache so we don't have to recalculate.
 			return 2;
 		}
 
@@ -2646,7 +2698,7 @@ public class RestOpContext extends Context implements Comparable<RestOpContext>
 					return 1;
 			}
 
-			session.urlPathMatch(pm);  // Cache so we don't have to recalculate.
+			session.urlPathMatch(pm.match(session.getUrlPath()));  // Cache so we don't have to recalculate.
 			return 2;
 		} catch (Exception e) {
 			throw new InternalServerError(e);
@@ -2761,11 +2813,12 @@ public class RestOpContext extends Context implements Comparable<RestOpContext>
 		return BeanCreator.of(HttpPartSerializer.class).type(c).orElse(_default);
 	}
 
-	private UrlPathMatch matchPattern(RestSession call) {
-		UrlPathMatch pm = null;
+	// Path variables are only extracted from the path once the operation has been selected.
+	private UrlPathMatcher matchPattern(RestSession call) {
+		UrlPath urlPath = call.getUrlPath();
 		for (UrlPathMatcher pp : pathMatchers)
-			if (pm == null)
-				pm = pp.match(call.getUrlPath());
-		return pm;
+			if (pp.matches(urlPath))
+				return pp;
+		return null;
 	}
 }
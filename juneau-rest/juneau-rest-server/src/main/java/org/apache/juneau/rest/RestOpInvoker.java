@@ -12,6 +12,9 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest;
 
+import static org.apache.juneau.rest.stats.RestOpProfiler.Phase.*;
+
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 
 import org.apache.juneau.http.response.*;
@@ -22,13 +25,27 @@ import org.apache.juneau.rest.stats.*;
 /**
  * A specialized invoker for methods that are called during a servlet request.
  *
+ * <p>
+ * The Java method is bound to a {@link MethodHandle} when the invoker is created so that calls avoid the overhead of
+ * reflection.
+ * <br>Methods with up to {@value #MAX_DIRECT_ARGS} parameters are called without allocating an argument array.
+ * <br>If the method cannot be bound (e.g. because of access restrictions), calls fall back to reflection.
+ *
  * <ul class='seealso'>
  * 	<li class='link'><a class="doclink" href="../../../../overview-summary.html#juneau-rest-server.jrs.RestContext">RestContext</a>
  * </ul>
  */
 public class RestOpInvoker extends MethodInvoker {
 
+	/**
+	 * The maximum number of parameters a method can have to be called without an argument array.
+	 */
+	public static final int MAX_DIRECT_ARGS = 3;
+
 	private final RestOpArg[] opArgs;
+	private final Class<?>[] argTypes;
+	private final boolean[] primitive;
+	private final MethodHandle handle;
 
 	/**
 	 * Constructor.
@@ -40,6 +57,34 @@ public class RestOpInvoker extends MethodInvoker {
 	public RestOpInvoker(Method m, RestOpArg[] opArgs, MethodExecStats stats) {
 		super(m, stats);
 		this.opArgs = opArgs;
+		int n = opArgs.length;
+		argTypes = new Class<?>[n];
+		primitive = new boolean[n];
+		if (n == m.getParameterCount()) {
+			for (int i = 0; i < n; i++) {
+				ClassInfo pt = inner().getParam(i).getParameterType();
+				argTypes[i] = pt.getWrapperIfPrimitive();
+				primitive[i] = pt.isPrimitive();
+			}
+		}
+		handle = n == m.getParameterCount() ? bind(m, n) : null;
+	}
+
+	/*
+	 * Binds the method to a handle of type (Object,Object...)Object, or (Object,Object[])Object if the method has more
+	 * than MAX_DIRECT_ARGS parameters.  Returns null if the method can't be accessed through a handle.
+	 */
+	private MethodHandle bind(Method m, int n) {
+		try {
+			inner().setAccessible();
+			MethodHandle mh = MethodHandles.lookup().unreflect(m);
+			if (Modifier.isStatic(m.getModifiers()))
+				mh = MethodHandles.dropArguments(mh, 0, Object.class);
+			mh = mh.asType(MethodType.genericMethodType(n + 1));
+			return n > MAX_DIRECT_ARGS ? mh.asSpreader(Object[].class, n) : mh;
+		} catch (IllegalAccessException | SecurityException e) {
+			return null;
+		}
 	}
 
 	/**
@@ -49,23 +94,46 @@ public class RestOpInvoker extends MethodInvoker {
 	 * @throws Throwable If an error occurred during either parameter resolution or method invocation.
 	 */
 	public void invoke(RestOpSession opSession) throws Throwable {
-		Object[] args = new Object[opArgs.length];
-		for (int i = 0; i < opArgs.length; i++) {
-			ParamInfo pi = inner().getParam(i);
-			try {
-				args[i] = opArgs[i].resolve(opSession);
-			} catch (BasicHttpException e) {
-				throw e;
-			} catch (Exception e) {
-				throw new BadRequest(e, "Could not resolve parameter {0} of type ''{1}'' on method ''{2}''.", i, pi.getParameterType(), getFullName());
+		RestOpProfiler profiler = opSession.getRestSession().getProfiler();
+		int n = opArgs.length;
+		Object[] args = null;
+		Object a0 = null, a1 = null, a2 = null;
+		if (profiler != null)
+			profiler.start(ARGS);
+		try {
+			if (handle != null && n <= MAX_DIRECT_ARGS) {
+				if (n > 0)
+					a0 = resolve(opSession, 0);
+				if (n > 1)
+					a1 = resolve(opSession, 1);
+				if (n > 2)
+					a2 = resolve(opSession, 2);
+			} else {
+				args = new Object[n];
+				for (int i = 0; i < n; i++)
+					args[i] = resolve(opSession, i);
 			}
+		} finally {
+			if (profiler != null)
+				profiler.stop();
 		}
 		try {
 			RestSession session = opSession.getRestSession();
 			RestRequest req = opSession.getRequest();
 			RestResponse res = opSession.getResponse();
 
-			Object output = super.invoke(session.getResource(), args);
+			Object output;
+			if (profiler != null)
+				profiler.start(INVOCATION);
+			try {
+				if (handle == null)
+					output = super.invoke(session.getResource(), args);
+				else
+					output = invokeHandle(session.getResource(), args, a0, a1, a2);
+			} finally {
+				if (profiler != null)
+					profiler.stop();
+			}
 
 			// Handle manual call to req.setDebug().
 			Boolean debug = req.getAttribute("Debug").as(Boolean.class).orElse(null);
@@ -88,4 +156,92 @@ public class RestOpInvoker extends MethodInvoker {
 			res.setContent(opSession.getRestContext().convertThrowable(e2));
 		}
 	}
+
+	private Object resolve(RestOpSession opSession, int i) throws BasicHttpException {
+		try {
+			return opArgs[i].resolve(opSession);
+		} catch (BasicHttpException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new BadRequest(e, "Could not resolve parameter {0} of type ''{1}'' on method ''{2}''.", i, inner().getParam(i).getParameterType(), getFullName());
+		}
+	}
+
+	/*
+	 * Same as MethodInvoker.invoke(Object,Object...) but calls the bound method handle.
+	 * Arguments are passed in args if the method has more than MAX_DIRECT_ARGS parameters, or a0-a2 otherwise.
+	 */
+	private Object invokeHandle(Object o, Object[] args, Object a0, Object a1, Object a2) throws IllegalArgumentException, InvocationTargetException {
+		MethodExecStats stats = getStats();
+		long startTime = System.nanoTime();
+		stats.started();
+		try {
+			int n = opArgs.length;
+			if (args != null) {
+				for (int i = 0; i < n; i++)
+					checkArg(i, args[i]);
+			} else {
+				if (n > 0)
+					checkArg(0, a0);
+				if (n > 1)
+					checkArg(1, a1);
+				if (n > 2)
+					checkArg(2, a2);
+			}
+		} catch (IllegalArgumentException e) {
+			stats.error(e);
+			stats.finished(System.nanoTime() - startTime);
+			throw e;
+		}
+		try {
+			switch (args != null ? -1 : opArgs.length) {
+				case 0: return (Object)handle.invokeExact(o);
+				case 1: return (Object)handle.invokeExact(o, a0);
+				case 2: return (Object)handle.invokeExact(o, a0, a1);
+				case 3: return (Object)handle.invokeExact(o, a0, a1, a2);
+				default: return (Object)handle.invokeExact(o, args);
+			}
+		} catch (Throwable e) {
+			stats.error(e);
+			throw new InvocationTargetException(e);
+		} finally {
+			stats.finished(System.nanoTime() - startTime);
+		}
+	}
+
+	/*
+	 * Performs the same argument checks as Method.invoke() so that the handle never fails on a conversion.
+	 * Like Method.invoke(), primitive parameters also accept wrapped values that can be widened (e.g. Integer to long).
+	 */
+	private void checkArg(int i, Object arg) {
+		if (arg == null ? primitive[i] : ! (argTypes[i].isInstance(arg) || primitive[i] && isWidening(arg.getClass(), argTypes[i])))
+			throw new IllegalArgumentException("argument type mismatch");
+	}
+
+	/*
+	 * Returns true if the primitive wrapped by 'from' can be widened to the primitive wrapped by 'to' (JLS 5.1.2).
+	 */
+	private static boolean isWidening(Class<?> from, Class<?> to) {
+		int f = rank(from), t = rank(to);
+		return f > 0 && t > f && to != Character.class;
+	}
+
+	/*
+	 * Widening order of the numeric primitive wrappers.  Character ranks with Short since neither widens to the other.
+	 */
+	private static int rank(Class<?> c) {
+		if (c == Byte.class)
+			return 1;
+		if (c == Short.class || c == Character.class)
+			return 2;
+		if (c == Integer.class)
+			return 3;
+		if (c == Long.class)
+			return 4;
+		if (c == Float.class)
+			return 5;
+		if (c == Double.class)
+			return 6;
+		return 0;
+	}
 }
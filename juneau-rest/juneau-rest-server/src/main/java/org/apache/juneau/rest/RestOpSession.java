@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest;
 
+import static org.apache.juneau.rest.stats.RestOpProfiler.Phase.*;
+
 import java.io.*;
 
 import org.apache.http.*;
@@ -21,6 +23,7 @@ import org.apache.juneau.http.response.*;
 import org.apache.juneau.rest.converter.*;
 import org.apache.juneau.rest.guard.*;
 import org.apache.juneau.rest.logger.*;
+import org.apache.juneau.rest.stats.*;
 
 /**
  * A session for a single HTTP request.
@@ -156,15 +159,32 @@ public class RestOpSession extends ContextSession {
 	 */
 	public void run() throws Throwable {
 
-		for (RestGuard guard : ctx.getGuards())
-			if (! guard.guard(req, res))
-				return;
+		RestOpProfiler profiler = session.getProfiler();
+
+		if (profiler != null)
+			profiler.start(GUARDS);
+		try {
+			for (RestGuard guard : ctx.getGuards())
+				if (! guard.guard(req, res))
+					return;
+		} finally {
+			if (profiler != null)
+				profiler.stop();
+		}
 
 		ctx.getMethodInvoker().invoke(this);
 
-		if (res.hasContent())
-			for (RestConverter converter : ctx.getConverters())
-				res.setContent(converter.convert(req, res.getContent().orElse(null)));
+		if (res.hasContent()) {
+			if (profiler != null)
+				profiler.start(RESPONSE);
+			try {
+				for (RestConverter converter : ctx.getConverters())
+					res.setContent(converter.convert(req, res.getContent().orElse(null)));
+			} finally {
+				if (profiler != null)
+					profiler.stop();
+			}
+		}
 	}
 
 	/**
@@ -276,7 +276,7 @@ public final class RestRequest extends HttpServletRequestWrapper {
 			.addDefault(context.getDefaultRequestAttributes());
 
 		if (isDebug())
-			inner = CachingHttpServletRequest.wrap(inner);
+			inner = CachingHttpServletRequest.wrap(inner, context.debugCaptureLimit);
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1377,7 +1377,7 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	public RestRequest setDebug(Boolean b) throws IOException {
 		setAttribute("Debug", b);
 		if (b)
-			inner = CachingHttpServletRequest.wrap(inner);
+			inner = CachingHttpServletRequest.wrap(inner, context.debugCaptureLimit);
 		return this;
 	}
 
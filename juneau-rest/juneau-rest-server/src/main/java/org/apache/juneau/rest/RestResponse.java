@@ -114,6 +114,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	private ServletOutputStream sos;
 	private FinishableServletOutputStream os;
 	private FinishablePrintWriter w;
+	private BufferedServletOutputStream buffer;
 	private ResponseBeanMeta responseBeanMeta;
 	private RestOpContext opContext;
 	private Optional<HttpPartSchema> contentSchema;
@@ -353,6 +354,30 @@ public final class RestResponse extends HttpServletResponseWrapper {
 		return sos;
 	}
 
+	/**
+	 * Buffers the content of this response so that a <c>Content-Length</c> header can be set on small responses.
+	 *
+	 * <p>
+	 * Content written to this response is held back until the response is flushed.
+	 * <br>If the content fits in the buffer, the <c>Content-Length</c> header is set before the content is written so
+	 * that the container doesn't need to use chunked transfer encoding.
+	 * <br>Larger content is streamed to the client once the buffer is full.
+	 *
+	 * <p>
+	 * Must be called before the output stream or writer of this response is retrieved.
+	 *
+	 * @param initialSize The initial size of the buffer.
+	 * @param maxSize The maximum number of bytes to buffer.
+	 * @return The buffer, or <jk>null</jk> if the output stream of this response has already been retrieved.
+	 */
+	public BufferedServletOutputStream bufferContent(int initialSize, int maxSize) {
+		if (sos != null)
+			return null;
+		buffer = new BufferedServletOutputStream(inner, initialSize, maxSize);
+		sos = buffer;
+		return buffer;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if {@link #getOutputStream()} has been called.
 	 *
@@ -600,7 +625,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	public RestResponse setDebug(Boolean b) throws IOException {
 		request.setDebug(b);
 		if (b)
-			inner = CachingHttpServletResponse.wrap(inner);
+			inner = CachingHttpServletResponse.wrap(inner, request.getContext().debugCaptureLimit);
 		return this;
 	}
 
@@ -683,6 +708,8 @@ public final class RestResponse extends HttpServletResponseWrapper {
 			w.flush();
 		if (os != null)
 			os.flush();
+		if (buffer != null)
+			buffer.commit();
 		inner.flushBuffer();
 	}
 
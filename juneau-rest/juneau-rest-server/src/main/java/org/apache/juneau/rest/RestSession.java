@@ -13,6 +13,7 @@
 package org.apache.juneau.rest;
 
 import static org.apache.juneau.internal.CollectionUtils.*;
+import static org.apache.juneau.rest.stats.RestOpProfiler.Phase.*;
 
 import java.io.*;
 import java.util.*;
@@ -25,6 +26,7 @@ import org.apache.juneau.cp.*;
 import org.apache.juneau.http.response.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.logger.*;
+import org.apache.juneau.rest.stats.*;
 import org.apache.juneau.rest.util.*;
 
 /**
@@ -213,6 +215,9 @@ public class RestSession extends ContextSession {
 	private Map<String,String[]> queryParams;
 	private String method;
 	private RestOpSession opSession;
+	private final RestOpProfiler profiler;
+	private RestOpMetrics metrics;
+	private long startNanos;
 
 	private UrlPathMatch urlPathMatch;
 
@@ -232,6 +237,7 @@ public class RestSession extends ContextSession {
 		logger = beanStore.add(CallLogger.class, builder.logger);
 		urlPath = beanStore.add(UrlPath.class, builder.urlPath);
 		pathInfoUndecoded = builder.pathInfoUndecoded;
+		profiler = context.isProfileAllocations() ? new RestOpProfiler() : null;
 	}
 
 	//------------------------------------------------------------------------------------------------------------------
@@ -258,8 +264,8 @@ public class RestSession extends ContextSession {
 	 */
 	public RestSession debug(boolean value) throws IOException {
 		if (value) {
-			req = CachingHttpServletRequest.wrap(req);
-			res = CachingHttpServletResponse.wrap(res);
+			req = CachingHttpServletRequest.wrap(req, context.debugCaptureLimit);
+			res = CachingHttpServletResponse.wrap(res, context.debugCaptureLimit);
 			req.setAttribute("Debug", true);
 		} else {
 			req.removeAttribute("Debug");
@@ -386,14 +392,18 @@ public class RestSession extends ContextSession {
 	public RestSession finish() {
 		try {
 			req.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
-			if (opSession != null)
+			if (opSession != null) {
 				opSession.finish();
-			else {
+				if (profiler != null)
+					opSession.getContext().getMethodInvoker().getStats().profiled(profiler);
+			} else {
 				res.flushBuffer();
 			}
 		} catch (Exception e) {
 			exception(e);
 		}
+		if (metrics != null)
+			metrics.finished(System.nanoTime() - startNanos, res instanceof CachingHttpServletResponse ? ((CachingHttpServletResponse)res).getContentWritten() : -1);
 		if (logger != null)
 			logger.log(req, res);
 		return this;
@@ -536,6 +546,16 @@ public class RestSession extends ContextSession {
 		return opSession;
 	}
 
+	/**
+	 * Returns the allocation profiler of this REST session.
+	 *
+	 * @return The allocation profiler of this REST session, or <jk>null</jk> if profiling is not enabled.
+	 * @see RestContext.Builder#profileAllocations()
+	 */
+	public RestOpProfiler getProfiler() {
+		return profiler;
+	}
+
 	/**
 	 * Runs this session.
 	 *
@@ -553,8 +573,24 @@ public class RestSession extends ContextSession {
 	 * @throws Throwable Any throwable can be thrown.
 	 */
 	public void run() throws Throwable {
+		startNanos = System.nanoTime();
 		try {
-			opSession = context.getRestOperations().findOperation(this).createSession(this).build();
+			if (profiler != null)
+				profiler.start(ROUTING);
+			RestOpContext opContext;
+			try {
+				opContext = context.getRestOperations().findOperation(this);
+			} finally {
+				if (profiler != null)
+					profiler.stop();
+			}
+			if (opContext.getMetrics() != null) {
+				// Count the response bytes as they're written to the wire.
+				// Debug raises the capture limit of this wrapper when it's enabled on the call.
+				res = beanStore.add(HttpServletResponse.class, CachingHttpServletResponse.wrap(res, 0));
+				metrics = opContext.getMetrics().started();
+			}
+			opSession = opContext.createSession(this).build();
 			context.preCall(opSession);
 			opSession.run();
 			context.postCall(opSession);
@@ -563,7 +599,14 @@ public class RestSession extends ContextSession {
 			if (opSession.getResponse().hasContent()) {
 				// Now serialize the output if there was any.
 				// Some subclasses may write to the OutputStream or Writer directly.
-				context.processResponse(opSession);
+				if (profiler != null)
+					profiler.start(RESPONSE);
+				try {
+					context.processResponse(opSession);
+				} finally {
+					if (profiler != null)
+						profiler.stop();
+				}
 			}
 		} catch (NotFound e) {
 			if (getStatus() == 0)
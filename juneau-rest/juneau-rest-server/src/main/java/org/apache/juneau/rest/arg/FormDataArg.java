@@ -24,6 +24,7 @@ import org.apache.juneau.collections.*;
 import org.apache.juneau.http.annotation.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
+import org.apache.juneau.oapi.*;
 import org.apache.juneau.reflect.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
@@ -55,6 +56,7 @@ import org.apache.juneau.rest.httppart.*;
 public class FormDataArg implements RestOpArg {
 	private final boolean multi;
 	private final HttpPartParser partParser;
+	private final OpenApiPrimitivePartParser primitiveParser;
 	private final HttpPartSchema schema;
 	private final String name, def;
 	private final ClassInfo type;
@@ -86,6 +88,7 @@ public class FormDataArg implements RestOpArg {
 		Class<? extends HttpPartParser> pp = schema.getParser();
 		this.partParser = pp != null ? HttpPartParser.creator().type(pp).apply(annotations).create() : null;
 		this.multi = schema.getCollectionFormat() == HttpPartCollectionFormat.MULTI;
+		this.primitiveParser = multi ? null : OpenApiPrimitivePartParser.of(schema, type.inner());
 
 		if (multi && ! type.isCollectionOrArray())
 			throw new ArgException(pi, "Use of multipart flag on @FormData parameter that is not an array or Collection");
@@ -97,6 +100,13 @@ public class FormDataArg implements RestOpArg {
 		RestRequest req = opSession.getRequest();
 		HttpPartParserSession ps = partParser == null ? req.getPartParserSession() : partParser.getPartSession();
 		RequestFormParams rh = req.getFormParams();
+
+		if (primitiveParser != null) {
+			RequestHttpPart p = rh.getLast(name).parser(ps).schema(schema).def(def);
+			Object o = p.as(primitiveParser);
+			return o != null ? o : p.as(type.innerType()).orElse(null);
+		}
+
 		BeanSession bs = req.getBeanSession();
 		ClassMeta<?> cm = bs.getClassMeta(type.innerType());
 
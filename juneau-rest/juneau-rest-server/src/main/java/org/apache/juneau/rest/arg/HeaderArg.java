@@ -25,6 +25,7 @@ import org.apache.juneau.http.annotation.*;
 import org.apache.juneau.http.header.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
+import org.apache.juneau.oapi.*;
 import org.apache.juneau.reflect.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
@@ -95,6 +96,7 @@ import org.apache.juneau.rest.httppart.*;
  */
 public class HeaderArg implements RestOpArg {
 	private final HttpPartParser partParser;
+	private final OpenApiPrimitivePartParser primitiveParser;
 	private final HttpPartSchema schema;
 	private final boolean multi;
 	private final String name, def;
@@ -127,6 +129,7 @@ public class HeaderArg implements RestOpArg {
 		Class<? extends HttpPartParser> pp = schema.getParser();
 		this.partParser = pp != null ? HttpPartParser.creator().type(pp).apply(annotations).create() : null;
 		this.multi = schema.getCollectionFormat() == HttpPartCollectionFormat.MULTI;
+		this.primitiveParser = multi ? null : OpenApiPrimitivePartParser.of(schema, type.inner());
 
 		if (multi && ! type.isCollectionOrArray())
 			throw new ArgException(pi, "Use of multipart flag on @Header parameter that is not an array or Collection");
@@ -138,6 +141,13 @@ public class HeaderArg implements RestOpArg {
 		RestRequest req = opSession.getRequest();
 		HttpPartParserSession ps = partParser == null ? req.getPartParserSession() : partParser.getPartSession();
 		RequestHeaders rh = req.getHeaders();
+
+		if (primitiveParser != null) {
+			RequestHttpPart p = rh.getLast(name).parser(ps).schema(schema).def(def);
+			Object o = p.as(primitiveParser);
+			return o != null ? o : p.as(type.innerType()).orElse(null);
+		}
+
 		BeanSession bs = req.getBeanSession();
 		ClassMeta<?> cm = bs.getClassMeta(type.innerType());
 
@@ -20,6 +20,7 @@ import org.apache.juneau.collections.*;
 import org.apache.juneau.http.annotation.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
+import org.apache.juneau.oapi.*;
 import org.apache.juneau.reflect.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
@@ -48,6 +49,7 @@ import org.apache.juneau.rest.util.*;
  */
 public class PathArg implements RestOpArg {
 	private final HttpPartParser partParser;
+	private final OpenApiPrimitivePartParser primitiveParser;
 	private final HttpPartSchema schema;
 	private final String name, def;
 	private final Type type;
@@ -80,6 +82,7 @@ public class PathArg implements RestOpArg {
 		this.schema = HttpPartSchema.create(Path.class, paramInfo);
 		Class<? extends HttpPartParser> pp = schema.getParser();
 		this.partParser = pp != null ? HttpPartParser.creator().type(pp).apply(annotations).create() : null;
+		this.primitiveParser = type instanceof Class && ! name.equals("*") ? OpenApiPrimitivePartParser.of(schema, (Class<?>)type) : null;
 	}
 
 	private String getName(ParamInfo pi, UrlPathMatcher pathMatcher) {
@@ -119,6 +122,12 @@ public class PathArg implements RestOpArg {
 			return req.getBeanSession().convertToType(m, type);
 		}
 		HttpPartParserSession ps = partParser == null ? req.getPartParserSession() : partParser.getPartSession();
-		return req.getPathParams().get(name).parser(ps).schema(schema).def(def).as(type).orElse(null);
+		RequestHttpPart p = req.getPathParams().get(name).parser(ps).schema(schema).def(def);
+		if (primitiveParser != null) {
+			Object o = p.as(primitiveParser);
+			if (o != null)
+				return o;
+		}
+		return p.as(type).orElse(null);
 	}
 }
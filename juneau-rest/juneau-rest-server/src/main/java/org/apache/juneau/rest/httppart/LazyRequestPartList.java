@@ -0,0 +1,464 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.httppart;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * Base class for lists of request parts that are populated on demand from the underlying servlet request.
+ *
+ * <p>
+ * When created in lazy mode, part wrappers are only created for names that are actually looked up.
+ * <br>Lookups go through a small open-addressing index over the raw part names that is built on first use.
+ * <br>Any operation that needs the full list (iteration, modification, size, etc...) materializes it first, after which
+ * this class behaves exactly like a plain {@link ArrayList}.
+ *
+ * @param <T> The request part type.
+ */
+abstract class LazyRequestPartList<T extends RequestHttpPart> extends ArrayList<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	boolean caseSensitive;
+
+	// Lazy state.  Discarded once the list has been materialized.
+	private transient boolean lazy;
+	private transient String[] names;   // Raw part names in source order.
+	private transient Object[] parts;   // Part wrappers created so far, one List<T> per raw name.
+	private transient int[] index;      // Open-addressing table of raw name positions (+1).
+	private transient List<T> pending;  // Parts added while still in lazy mode.
+
+	/**
+	 * Puts this list into lazy mode.
+	 *
+	 * <p>
+	 * Must be called from the constructor before any parts are added.
+	 */
+	final void lazy() {
+		lazy = true;
+	}
+
+	/**
+	 * Returns the raw part names in source order.
+	 *
+	 * <p>
+	 * Called at most once when the list is in lazy mode.
+	 *
+	 * @return The raw part names.  Never <jk>null</jk>.
+	 */
+	abstract String[] rawNames();
+
+	/**
+	 * Creates the part wrappers for the specified raw name.
+	 *
+	 * @param name The raw part name as returned by {@link #rawNames()}.
+	 * @return A new modifiable list of part wrappers.  Never <jk>null</jk>.
+	 */
+	abstract List<T> rawParts(String name);
+
+	/**
+	 * Returns <jk>true</jk> if this list has not been materialized yet.
+	 *
+	 * @return <jk>true</jk> if this list has not been materialized yet.
+	 */
+	final boolean isLazy() {
+		return lazy;
+	}
+
+	/**
+	 * Materializes this list if it's still in lazy mode.
+	 */
+	final void load() {
+		if (lazy) {
+			lazy = false;
+			String[] n = names != null ? names : rawNames();
+			for (int i = 0; i < n.length; i++)
+				super.addAll(parts != null && parts[i] != null ? parts(i) : rawParts(n[i]));
+			if (pending != null)
+				super.addAll(pending);
+			names = null;
+			parts = null;
+			index = null;
+			pending = null;
+		}
+	}
+
+	/**
+	 * Returns the parts with the specified name in list order.
+	 *
+	 * <p>
+	 * Does not materialize this list.
+	 *
+	 * @param name The part name.
+	 * @return The matching parts.  Never <jk>null</jk>.  The list must not be modified.
+	 */
+	final List<T> find(String name) {
+		if (! lazy) {
+			List<T> l = new ArrayList<>();
+			for (T t : this)
+				if (eq(t.getName(), name))
+					l.add(t);
+			return l;
+		}
+		if (name == null)
+			return Collections.emptyList();
+		int[] t = index();
+		int mask = t.length - 1;
+		List<T> l = null;
+		boolean shared = false;
+		for (int h = hash(name) & mask; t[h] != 0; h = (h + 1) & mask) {
+			int i = t[h] - 1;
+			if (eq(names[i], name)) {
+				if (l == null) {
+					l = parts(i);
+					shared = true;
+				} else {
+					if (shared) {
+						l = new ArrayList<>(l);
+						shared = false;
+					}
+					l.addAll(parts(i));
+				}
+			}
+		}
+		if (pending != null) {
+			for (T p : pending) {
+				if (eq(p.getName(), name)) {
+					if (l == null)
+						l = new ArrayList<>();
+					else if (shared)
+						l = new ArrayList<>(l);
+					shared = false;
+					l.add(p);
+				}
+			}
+		}
+		return l == null ? Collections.emptyList() : l;
+	}
+
+	/**
+	 * Performs the specified action on all parts whose names match the specified filter, in list order.
+	 *
+	 * <p>
+	 * Does not materialize this list, and only creates part wrappers for matching names.
+	 *
+	 * @param filter The name filter.
+	 * @param action The action to perform.
+	 */
+	final void forEachMatching(Predicate<String> filter, Consumer<T> action) {
+		if (! lazy) {
+			for (T t : this)
+				if (filter.test(t.getName()))
+					action.accept(t);
+			return;
+		}
+		index();
+		for (int i = 0; i < names.length; i++)
+			if (filter.test(names[i]))
+				parts(i).forEach(action);
+		if (pending != null)
+			for (T p : pending)
+				if (filter.test(p.getName()))
+					action.accept(p);
+	}
+
+	/**
+	 * Performs the specified action on all part wrappers created so far.
+	 *
+	 * <p>
+	 * Does not materialize this list.
+	 * <br>Used for applying settings (e.g. parsers) that are otherwise applied when the wrappers are created.
+	 *
+	 * @param action The action to perform.
+	 */
+	final void forEachCreated(Consumer<T> action) {
+		if (! lazy) {
+			forEach(action);
+			return;
+		}
+		if (parts != null)
+			for (Object o : parts)
+				if (o != null)
+					cast(o).forEach(action);
+		if (pending != null)
+			pending.forEach(action);
+	}
+
+	/**
+	 * Adds a part to the end of this list without materializing it.
+	 *
+	 * @param part The part to add.
+	 */
+	final void addPending(T part) {
+		if (! lazy) {
+			add(part);
+			return;
+		}
+		if (pending == null)
+			pending = new ArrayList<>();
+		pending.add(part);
+	}
+
+	/**
+	 * Name comparison honoring the case sensitivity setting.
+	 *
+	 * @param s1 The first name.
+	 * @param s2 The second name.
+	 * @return <jk>true</jk> if the names match.
+	 */
+	final boolean eq(String s1, String s2) {
+		if (caseSensitive)
+			return StringUtils.eq(s1, s2);
+		return StringUtils.eqic(s1, s2);
+	}
+
+	private List<T> parts(int i) {
+		Object o = parts[i];
+		if (o == null)
+			parts[i] = o = rawParts(names[i]);
+		return cast(o);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> cast(Object o) {
+		return (List<T>)o;
+	}
+
+	private int[] index() {
+		if (index == null) {
+			if (names == null)
+				names = rawNames();
+			parts = new Object[names.length];
+			int[] t = new int[Integer.highestOneBit(Math.max(names.length, 1) * 2) * 2];
+			int mask = t.length - 1;
+			for (int i = 0; i < names.length; i++) {
+				int h = hash(names[i]) & mask;
+				while (t[h] != 0)
+					h = (h + 1) & mask;
+				t[h] = i + 1;
+			}
+			index = t;
+		}
+		return index;
+	}
+
+	/*
+	 * Case-insensitive hash so that the same index works regardless of the case sensitivity setting.
+	 * Names that are equal in the same probe chain are always visited in insertion order.
+	 */
+	private static int hash(String s) {
+		int h = 0;
+		for (int i = 0, j = s.length(); i < j; i++)
+			h = 31 * h + Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+		return h ^ (h >>> 16);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// ArrayList methods that require the materialized list.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* List */
+	public int size() {
+		load();
+		return super.size();
+	}
+
+	@Override /* List */
+	public boolean isEmpty() {
+		load();
+		return super.isEmpty();
+	}
+
+	@Override /* List */
+	public boolean contains(Object o) {
+		load();
+		return super.contains(o);
+	}
+
+	@Override /* List */
+	public int indexOf(Object o) {
+		load();
+		return super.indexOf(o);
+	}
+
+	@Override /* List */
+	public int lastIndexOf(Object o) {
+		load();
+		return super.lastIndexOf(o);
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		load();
+		return super.clone();
+	}
+
+	@Override /* List */
+	public Object[] toArray() {
+		load();
+		return super.toArray();
+	}
+
+	@Override /* List */
+	public <A> A[] toArray(A[] a) {
+		load();
+		return super.toArray(a);
+	}
+
+	@Override /* List */
+	public T get(int index) {
+		load();
+		return super.get(index);
+	}
+
+	@Override /* List */
+	public T set(int index, T element) {
+		load();
+		return super.set(index, element);
+	}
+
+	@Override /* List */
+	public boolean add(T e) {
+		load();
+		return super.add(e);
+	}
+
+	@Override /* List */
+	public void add(int index, T element) {
+		load();
+		super.add(index, element);
+	}
+
+	@Override /* List */
+	public T remove(int index) {
+		load();
+		return super.remove(index);
+	}
+
+	@Override /* List */
+	public boolean remove(Object o) {
+		load();
+		return super.remove(o);
+	}
+
+	@Override /* List */
+	public void clear() {
+		load();
+		super.clear();
+	}
+
+	@Override /* List */
+	public boolean addAll(Collection<? extends T> c) {
+		load();
+		return super.addAll(c);
+	}
+
+	@Override /* List */
+	public boolean addAll(int index, Collection<? extends T> c) {
+		load();
+		return super.addAll(index, c);
+	}
+
+	@Override /* ArrayList */
+	protected void removeRange(int fromIndex, int toIndex) {
+		load();
+		super.removeRange(fromIndex, toIndex);
+	}
+
+	@Override /* List */
+	public boolean removeAll(Collection<?> c) {
+		load();
+		return super.removeAll(c);
+	}
+
+	@Override /* List */
+	public boolean retainAll(Collection<?> c) {
+		load();
+		return super.retainAll(c);
+	}
+
+	@Override /* List */
+	public boolean containsAll(Collection<?> c) {
+		load();
+		return super.containsAll(c);
+	}
+
+	@Override /* List */
+	public ListIterator<T> listIterator(int index) {
+		load();
+		return super.listIterator(index);
+	}
+
+	@Override /* List */
+	public ListIterator<T> listIterator() {
+		load();
+		return super.listIterator();
+	}
+
+	@Override /* List */
+	public Iterator<T> iterator() {
+		load();
+		return super.iterator();
+	}
+
+	@Override /* List */
+	public List<T> subList(int fromIndex, int toIndex) {
+		load();
+		return super.subList(fromIndex, toIndex);
+	}
+
+	@Override /* Iterable */
+	public void forEach(Consumer<? super T> action) {
+		load();
+		super.forEach(action);
+	}
+
+	@Override /* List */
+	public Spliterator<T> spliterator() {
+		load();
+		return super.spliterator();
+	}
+
+	@Override /* Collection */
+	public boolean removeIf(Predicate<? super T> filter) {
+		load();
+		return super.removeIf(filter);
+	}
+
+	@Override /* List */
+	public void replaceAll(UnaryOperator<T> operator) {
+		load();
+		super.replaceAll(operator);
+	}
+
+	@Override /* List */
+	public void sort(Comparator<? super T> c) {
+		load();
+		super.sort(c);
+	}
+
+	@Override /* Object */
+	public boolean equals(Object o) {
+		load();
+		return super.equals(o);
+	}
+
+	@Override /* Object */
+	public int hashCode() {
+		load();
+		return super.hashCode();
+	}
+}
@@ -32,6 +32,7 @@ import org.apache.juneau.parser.*;
 import org.apache.juneau.http.header.*;
 import org.apache.juneau.http.response.*;
 import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.stats.*;
 import org.apache.juneau.rest.util.*;
 
 /**
@@ -517,11 +518,16 @@ public class RequestContent {
 				.outer(req.getContext().getResource())
 				.build();
 			;
+			RestOpMetrics metrics = req.getOpContext().getMetrics();
+			long startTime = metrics == null ? 0 : System.nanoTime();
 			try (Closeable in = session.isReaderParser() ? getUnbufferedReader() : getInputStream()) {
 				T o = session.parse(in, cm);
 				if (schema != null)
 					schema.validateOutput(o, cm.getBeanContext());
 				return o;
+			} finally {
+				if (metrics != null)
+					metrics.parsed(System.nanoTime() - startTime);
 			}
 		}
 
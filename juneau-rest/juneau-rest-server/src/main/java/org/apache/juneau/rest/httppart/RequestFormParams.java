@@ -107,18 +107,22 @@ import org.apache.juneau.svl.*;
  * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.HttpParts">HTTP Parts</a>
  * </ul>
  */
-public class RequestFormParams extends ArrayList<RequestFormParam> {
+public class RequestFormParams extends LazyRequestPartList<RequestFormParam> {
 
 	private static final long serialVersionUID = 1L;
 
 	private final RestRequest req;
-	private boolean caseSensitive;
 	private HttpPartParserSession parser;
 	private final VarResolverSession vs ;
+	private Map<String,String[]> params;
 
 	/**
 	 * Constructor.
 	 *
+	 * <p>
+	 * Parameter objects for URL-encoded form data are created lazily from the raw values as they're looked up by name.
+	 * <br>Multipart parts have already been parsed by the servlet container and are added up front.
+	 *
 	 * @param req The request creating this bean.
 	 * @param caseSensitive Whether case-sensitive name matching is enabled.
 	 * @throws Exception Any exception can be thrown.
@@ -141,25 +145,8 @@ public class RequestFormParams extends ArrayList<RequestFormParam> {
 		}
 
 		if (m != null) {
-			for (Map.Entry<String,String[]> e : m.entrySet()) {
-				String name = e.getKey();
-
-				String[] values = e.getValue();
-				if (values == null)
-					values = new String[0];
-
-				// Fix for behavior difference between Tomcat and WAS.
-				// getParameter("foo") on "&foo" in Tomcat returns "".
-				// getParameter("foo") on "&foo" in WAS returns null.
-				if (values.length == 1 && values[0] == null)
-					values[0] = "";
-
-				if (values.length == 0)
-					values = new String[]{null};
-
-				for (String value : values)
-					add(new RequestFormParam(req, name, value));
-			}
+			this.params = m;
+			lazy();
 		} else if (c != null) {
 			c.stream().forEach(x->add(x));
 		}
@@ -186,7 +173,33 @@ public class RequestFormParams extends ArrayList<RequestFormParam> {
 		parser = copyFrom.parser;
 		vs = copyFrom.vs;
 		for (String n : names)
-			copyFrom.stream().filter(x -> eq(x.getName(), n)).forEach(x -> add(x));
+			copyFrom.find(n).forEach(x -> add(x));
+	}
+
+	@Override /* LazyRequestPartList */
+	String[] rawNames() {
+		return params.keySet().toArray(new String[params.size()]);
+	}
+
+	@Override /* LazyRequestPartList */
+	List<RequestFormParam> rawParts(String name) {
+		String[] values = params.get(name);
+		if (values == null)
+			values = new String[0];
+
+		// Fix for behavior difference between Tomcat and WAS.
+		// getParameter("foo") on "&foo" in Tomcat returns "".
+		// getParameter("foo") on "&foo" in WAS returns null.
+		if (values.length == 1 && values[0] == null)
+			values[0] = "";
+
+		if (values.length == 0)
+			values = new String[]{null};
+
+		List<RequestFormParam> l = new ArrayList<>(values.length);
+		for (String value : values)
+			l.add(new RequestFormParam(req, name, value).parser(parser));
+		return l;
 	}
 
 	/**
@@ -197,7 +210,7 @@ public class RequestFormParams extends ArrayList<RequestFormParam> {
 	 */
 	public RequestFormParams parser(HttpPartParserSession value) {
 		this.parser = value;
-		forEach(x -> x.parser(parser));
+		forEachCreated(x -> x.parser(parser));
 		return this;
 	}
 
@@ -230,11 +243,15 @@ public class RequestFormParams extends ArrayList<RequestFormParam> {
 	public RequestFormParams addDefault(List<? extends NameValuePair> pairs) {
 		for (NameValuePair p : pairs) {
 			String name = p.getName();
-			Stream<RequestFormParam> l = stream(name);
-			boolean hasAllBlanks = l.allMatch(x -> StringUtils.isEmpty(x.getValue()));
+			List<RequestFormParam> l = find(name);
+			boolean hasAllBlanks = l.stream().allMatch(x -> StringUtils.isEmpty(x.getValue()));
 			if (hasAllBlanks) {
-				removeAll(getAll(name));
-				add(new RequestFormParam(req, name, vs.resolve(p.getValue())));
+				if (l.isEmpty()) {
+					addPending(new RequestFormParam(req, name, vs.resolve(p.getValue())));
+				} else {
+					removeAll(getAll(name));
+					add(new RequestFormParam(req, name, vs.resolve(p.getValue())));
+				}
 			}
 		}
 		return this;
@@ -424,7 +441,7 @@ public class RequestFormParams extends ArrayList<RequestFormParam> {
 	 * @return The stream of all headers with matching names.  Never <jk>null</jk>.
 	 */
 	public Stream<RequestFormParam> stream(String name) {
-		return stream().filter(x -> eq(x.getName(), name));
+		return find(name).stream();
 	}
 
 	/**
@@ -553,12 +570,6 @@ public class RequestFormParams extends ArrayList<RequestFormParam> {
 		return new RequestFormParams(this);
 	}
 
-	private boolean eq(String s1, String s2) {
-		if (caseSensitive)
-			return StringUtils.eq(s1, s2);
-		return StringUtils.eqic(s1, s2);
-	}
-
 	@Override /* Object */
 	public String toString() {
 		JsonMap m = new JsonMap();
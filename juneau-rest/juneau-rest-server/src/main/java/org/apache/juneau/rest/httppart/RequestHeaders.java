@@ -105,12 +105,11 @@ import org.apache.juneau.http.header.*;
  * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.HttpParts">HTTP Parts</a>
  * </ul>
  */
-public class RequestHeaders extends ArrayList<RequestHeader> {
+public class RequestHeaders extends LazyRequestPartList<RequestHeader> {
 
 	private static final long serialVersionUID = 1L;
 
 	private final RestRequest req;
-	private boolean caseSensitive;
 	private final VarResolverSession vs;
 
 	private HttpPartParserSession parser;
@@ -118,6 +117,9 @@ public class RequestHeaders extends ArrayList<RequestHeader> {
 	/**
 	 * Constructor.
 	 *
+	 * <p>
+	 * Header objects are created lazily from the servlet request as they're looked up by name.
+	 *
 	 * @param req The request creating this bean.
 	 * @param query The query parameters on the request (used for overloaded header values).
 	 * @param caseSensitive Whether case-sensitive name matching is enabled.
@@ -126,23 +128,14 @@ public class RequestHeaders extends ArrayList<RequestHeader> {
 		this.req = req;
 		this.caseSensitive = caseSensitive;
 		this.vs = req.getVarResolverSession();
-
-		for (Enumeration<String> e = req.getHttpServletRequest().getHeaderNames(); e.hasMoreElements();) {
-			String name = e.nextElement();
-			for (Enumeration<String> ve = req.getHttpServletRequest().getHeaders(name); ve.hasMoreElements();) {
-				add(new RequestHeader(req, name, ve.nextElement()));
-			}
-		}
+		lazy();
 
 		// Parameters defined on the request URL overwrite existing headers.
 		Set<String> allowedHeaderParams = req.getContext().getAllowedHeaderParams();
-		query.forEach(p -> {
-			String name = p.getName();
-			String key = key(name);
-			if (allowedHeaderParams.contains(key) || allowedHeaderParams.contains("*")) {
-				set(name, p.getValue());
-			}
-		});
+		if (! allowedHeaderParams.isEmpty()) {
+			boolean all = allowedHeaderParams.contains("*");
+			query.forEachMatching(x -> all || allowedHeaderParams.contains(key(x)), p -> set(p.getName(), p.getValue()));
+		}
 	}
 
 	/**
@@ -165,7 +158,23 @@ public class RequestHeaders extends ArrayList<RequestHeader> {
 		parser = copyFrom.parser;
 		vs = copyFrom.vs;
 		for (String n : names)
-			copyFrom.stream().filter(x -> eq(x.getName(), n)).forEach(x -> add(x));
+			copyFrom.find(n).forEach(x -> add(x));
+	}
+
+	@Override /* LazyRequestPartList */
+	String[] rawNames() {
+		List<String> l = new ArrayList<>();
+		for (Enumeration<String> e = req.getHttpServletRequest().getHeaderNames(); e.hasMoreElements();)
+			l.add(e.nextElement());
+		return l.toArray(new String[l.size()]);
+	}
+
+	@Override /* LazyRequestPartList */
+	List<RequestHeader> rawParts(String name) {
+		List<RequestHeader> l = new ArrayList<>(1);
+		for (Enumeration<String> e = req.getHttpServletRequest().getHeaders(name); e.hasMoreElements();)
+			l.add(new RequestHeader(req, name, e.nextElement()).parser(parser));
+		return l;
 	}
 
 	/**
@@ -176,7 +185,7 @@ public class RequestHeaders extends ArrayList<RequestHeader> {
 	 */
 	public RequestHeaders parser(HttpPartParserSession value) {
 		this.parser = value;
-		forEach(x -> x.parser(parser));
+		forEachCreated(x -> x.parser(parser));
 		return this;
 	}
 
@@ -208,11 +217,15 @@ public class RequestHeaders extends ArrayList<RequestHeader> {
 		assertArgNotNull("pairs", pairs);
 		for (Header p : pairs) {
 			String name = p.getName();
-			Stream<RequestHeader> l = stream(name);
-			boolean hasAllBlanks = l.allMatch(x -> StringUtils.isEmpty(x.getValue()));
+			List<RequestHeader> l = find(name);
+			boolean hasAllBlanks = l.stream().allMatch(x -> StringUtils.isEmpty(x.getValue()));
 			if (hasAllBlanks) {
-				removeAll(getAll(name));
-				add(new RequestHeader(req, name, vs.resolve(p.getValue())));
+				if (l.isEmpty()) {
+					addPending(new RequestHeader(req, name, vs.resolve(p.getValue())));
+				} else {
+					removeAll(getAll(name));
+					add(new RequestHeader(req, name, vs.resolve(p.getValue())));
+				}
 			}
 		}
 		return this;
@@ -383,7 +396,7 @@ public class RequestHeaders extends ArrayList<RequestHeader> {
 	 * @return The stream of all headers with matching names.  Never <jk>null</jk>.
 	 */
 	public Stream<RequestHeader> stream(String name) {
-		return stream().filter(x -> eq(x.getName(), name));
+		return find(name).stream();
 	}
 
 	/**
@@ -498,12 +511,6 @@ public class RequestHeaders extends ArrayList<RequestHeader> {
 		return caseSensitive ? name : name.toLowerCase();
 	}
 
-	private boolean eq(String s1, String s2) {
-		if (caseSensitive)
-			return StringUtils.eq(s1, s2);
-		return StringUtils.eqic(s1, s2);
-	}
-
 	@Override /* Object */
 	public String toString() {
 		JsonMap m = new JsonMap();
@@ -259,6 +259,26 @@ public class RequestHttpPart {
 		}
 	}
 
+	/**
+	 * Converts this part using the specified fast-path primitive parser.
+	 *
+	 * <p>
+	 * Used by REST operation arguments that have pre-selected an {@link OpenApiPrimitivePartParser} for their parameter type.
+	 *
+	 * @param parser The fast-path parser.
+	 * @return
+	 * 	The converted value, or <jk>null</jk> if the fast path does not apply to this part and it must be converted
+	 * 	using one of the {@link #as(Class)} methods instead.
+	 * @throws BasicHttpException If value could not be parsed.
+	 */
+	public Object as(OpenApiPrimitivePartParser parser) throws BasicHttpException {
+		try {
+			return parser.parse(this.parser, getValue());
+		} catch (ParseException e) {
+			throw new BadRequest(e, "Could not parse {0} parameter ''{1}''.", partType.toString().toLowerCase(), getName());
+		}
+	}
+
 	/**
 	 * Matches the specified pattern against this part value.
 	 *
@@ -116,18 +116,21 @@ import org.apache.juneau.http.part.*;
  * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.HttpParts">HTTP Parts</a>
  * </ul>
  */
-public class RequestQueryParams extends ArrayList<RequestQueryParam> {
+public class RequestQueryParams extends LazyRequestPartList<RequestQueryParam> {
 
 	private static final long serialVersionUID = 1L;
 
 	private final RestRequest req;
-	private boolean caseSensitive;
 	private final VarResolverSession vs;
 	private HttpPartParserSession parser;
+	private Map<String,String[]> query;
 
 	/**
 	 * Constructor.
 	 *
+	 * <p>
+	 * Parameter objects are created lazily from the raw values as they're looked up by name.
+	 *
 	 * @param req The request creating this bean.
 	 * @param query The raw parsed query parameter values.
 	 * @param caseSensitive Whether case-sensitive name matching is enabled.
@@ -136,26 +139,8 @@ public class RequestQueryParams extends ArrayList<RequestQueryParam> {
 		this.req = req;
 		this.caseSensitive = caseSensitive;
 		this.vs = req.getVarResolverSession();
-
-		for (Map.Entry<String,String[]> e : query.entrySet()) {
-			String name = e.getKey();
-
-			String[] values = e.getValue();
-			if (values == null)
-				values = new String[0];
-
-			// Fix for behavior difference between Tomcat and WAS.
-			// getParameter("foo") on "&foo" in Tomcat returns "".
-			// getParameter("foo") on "&foo" in WAS returns null.
-			if (values.length == 1 && values[0] == null)
-				values[0] = "";
-
-			if (values.length == 0)
-				values = new String[]{null};
-
-			for (String value : values)
-				add(new RequestQueryParam(req, name, value));
-		}
+		this.query = query;
+		lazy();
 	}
 
 	/**
@@ -178,7 +163,33 @@ public class RequestQueryParams extends ArrayList<RequestQueryParam> {
 		parser = copyFrom.parser;
 		vs = copyFrom.vs;
 		for (String n : names)
-			copyFrom.stream().filter(x -> eq(x.getName(), n)).forEach(x -> add(x));
+			copyFrom.find(n).forEach(x -> add(x));
+	}
+
+	@Override /* LazyRequestPartList */
+	String[] rawNames() {
+		return query.keySet().toArray(new String[query.size()]);
+	}
+
+	@Override /* LazyRequestPartList */
+	List<RequestQueryParam> rawParts(String name) {
+		String[] values = query.get(name);
+		if (values == null)
+			values = new String[0];
+
+		// Fix for behavior difference between Tomcat and WAS.
+		// getParameter("foo") on "&foo" in Tomcat returns "".
+		// getParameter("foo") on "&foo" in WAS returns null.
+		if (values.length == 1 && values[0] == null)
+			values[0] = "";
+
+		if (values.length == 0)
+			values = new String[]{null};
+
+		List<RequestQueryParam> l = new ArrayList<>(values.length);
+		for (String value : values)
+			l.add(new RequestQueryParam(req, name, value).parser(parser));
+		return l;
 	}
 
 	/**
@@ -189,7 +200,7 @@ public class RequestQueryParams extends ArrayList<RequestQueryParam> {
 	 */
 	public RequestQueryParams parser(HttpPartParserSession value) {
 		this.parser = value;
-		forEach(x -> x.parser(parser));
+		forEachCreated(x -> x.parser(parser));
 		return this;
 	}
 
@@ -222,11 +233,15 @@ public class RequestQueryParams extends ArrayList<RequestQueryParam> {
 	public RequestQueryParams addDefault(List<? extends NameValuePair> pairs) {
 		for (NameValuePair p : pairs) {
 			String name = p.getName();
-			Stream<RequestQueryParam> l = stream(name);
-			boolean hasAllBlanks = l.allMatch(x -> StringUtils.isEmpty(x.getValue()));
+			List<RequestQueryParam> l = find(name);
+			boolean hasAllBlanks = l.stream().allMatch(x -> StringUtils.isEmpty(x.getValue()));
 			if (hasAllBlanks) {
-				removeAll(getAll(name));
-				add(new RequestQueryParam(req, name, vs.resolve(p.getValue())));
+				if (l.isEmpty()) {
+					addPending(new RequestQueryParam(req, name, vs.resolve(p.getValue())));
+				} else {
+					removeAll(getAll(name));
+					add(new RequestQueryParam(req, name, vs.resolve(p.getValue())));
+				}
 			}
 		}
 		return this;
@@ -399,7 +414,7 @@ public class RequestQueryParams extends ArrayList<RequestQueryParam> {
 	 * @return The stream of all headers with matching names.  Never <jk>null</jk>.
 	 */
 	public Stream<RequestQueryParam> stream(String name) {
-		return stream().filter(x -> eq(x.getName(), name));
+		return find(name).stream();
 	}
 
 	/**
@@ -568,12 +583,6 @@ public class RequestQueryParams extends ArrayList<RequestQueryParam> {
 		return ofNullable(PageArgs.create(get("p").asInteger().orElse(null), get("l").asInteger().orElse(null)));
 	}
 
-	private boolean eq(String s1, String s2) {
-		if (caseSensitive)
-			return StringUtils.eq(s1, s2);
-		return StringUtils.eqic(s1, s2);
-	}
-
 	@Override /* Object */
 	public String toString() {
 		JsonMap m = new JsonMap();
@@ -21,7 +21,10 @@ import static org.apache.juneau.internal.StringUtils.*;
 import static org.apache.juneau.internal.SystemEnv.*;
 import static org.apache.juneau.rest.logger.CallLoggingDetail.*;
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.logging.*;
 
@@ -171,6 +174,15 @@ public class CallLogger {
 	 */
 	public static final String SP_level = "juneau.restLogger.level";
 
+	/**
+	 * System property name for the asynchronous buffer size setting for {@link CallLogger} objects.
+	 * <p>
+	 * Can also use a <c>JUNEAU_RESTLOGGER_ASYNCBUFFERSIZE</c> environment variable.
+	 * <p>
+	 * If not specified, the default is <js>"0"</js> (log entries are written synchronously on the request thread).
+	 */
+	public static final String SP_asyncBufferSize = "juneau.restLogger.asyncBufferSize";
+
 	/**
 	 * Static creator.
 	 *
@@ -198,6 +210,7 @@ public class CallLogger {
 		Predicate<HttpServletRequest> enabledTest;
 		CallLoggingDetail requestDetail, responseDetail;
 		Level level;
+		int asyncBufferSize;
 
 		/**
 		 * Constructor.
@@ -211,6 +224,7 @@ public class CallLogger {
 			requestDetail = env(SP_requestDetail, STATUS_LINE);
 			responseDetail = env(SP_responseDetail, STATUS_LINE);
 			level = env(SP_level).map(Level::parse).orElse(OFF);
+			asyncBufferSize = env(SP_asyncBufferSize).map(Integer::parseInt).orElse(0);
 		}
 
 		//-------------------------------------------------------------------------------------------------------------
@@ -445,6 +459,35 @@ public class CallLogger {
 			return this;
 		}
 
+		/**
+		 * Enables asynchronous writing of log entries.
+		 *
+		 * <p>
+		 * When enabled, the information needed for a log entry is captured on the request thread and placed on a bounded
+		 * buffer that is drained by a background thread that formats and writes the entries.
+		 * <br>If the buffer is full, the entry is dropped and counted instead of blocking the request
+		 * (see {@link CallLogger#getDroppedCount()}).
+		 * <br>The background thread is started when the first entry is logged.
+		 * <br>It's stopped and the remaining entries are written when {@link CallLogger#close()} is called, which happens
+		 * when the owning {@link org.apache.juneau.rest.RestContext} is destroyed.
+		 *
+		 * <p>
+		 * If not specified, the setting is determined via the following:
+		 * <ul>
+		 * 	<li><js>{@link CallLogger#SP_asyncBufferSize "juneau.restLogger.asyncBufferSize"} system property.
+		 * 	<li><js>{@link CallLogger#SP_asyncBufferSize "JUNEAU_RESTLOGGER_ASYNCBUFFERSIZE"} environment variable.
+		 * 	<li><js>"0"</js>.
+		 * </ul>
+		 *
+		 * @param value
+		 * 	The maximum number of log entries waiting to be written, or <c>0</c> to write entries synchronously.
+		 * @return This object.
+		 */
+		public Builder asyncBufferSize(int value) {
+			asyncBufferSize = value;
+			return this;
+		}
+
 		/**
 		 * Adds logging rules to use when debug mode is not enabled.
 		 *
@@ -517,6 +560,11 @@ public class CallLogger {
 	private final Predicate<HttpServletRequest> enabledTest;
 	private final Level level;
 	private final CallLoggingDetail requestDetail, responseDetail;
+	private final BlockingQueue<Entry> queue;
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicBoolean writeFailed = new AtomicBoolean();
+	private volatile Thread writer;
+	private volatile boolean closed;
 
 	/**
 	 * Constructor.
@@ -536,6 +584,7 @@ public class CallLogger {
 		this.requestDetail = builder.requestDetail;
 		this.responseDetail = builder.responseDetail;
 		this.level = builder.level;
+		this.queue = builder.asyncBufferSize > 0 ? new ArrayBlockingQueue<>(builder.asyncBufferSize) : null;
 	}
 
 	/**
@@ -553,6 +602,77 @@ public class CallLogger {
 		this.requestDetail = builder.requestDetail;
 		this.responseDetail = builder.responseDetail;
 		this.level = builder.level;
+		this.queue = builder.asyncBufferSize > 0 ? new ArrayBlockingQueue<>(builder.asyncBufferSize) : null;
+	}
+
+	/*
+	 * Starts the background writer on the first asynchronous entry, so that the thread never sees a partially
+	 * constructed logger.
+	 * Returns false if this logger has been closed, in which case entries are written synchronously.
+	 */
+	private boolean startWriter() {
+		synchronized (queue) {
+			if (closed)
+				return false;
+			if (writer == null) {
+				Thread t = new Thread(() -> {
+					try {
+						while (true)
+							write(queue.take());
+					} catch (InterruptedException e) {
+						// Stopped by close().
+					}
+				}, getClass().getSimpleName() + "-writer");
+				t.setDaemon(true);
+				writer = t;
+				t.start();
+			}
+			return true;
+		}
+	}
+
+	/*
+	 * Writes an entry from the asynchronous buffer.
+	 * A bad entry must not stop the writer, so failures are reported to the fallback logger instead of propagated.
+	 */
+	private void write(Entry x) {
+		try {
+			log(x);
+		} catch (Exception e) {
+			if (writeFailed.compareAndSet(false, true))
+				Logger.getLogger(CallLogger.class.getName()).log(WARNING, "Error occurred writing REST call log entry.  Further errors will not be reported.", e);
+		}
+	}
+
+	/**
+	 * Stops the background thread used for asynchronous writing and writes any entries still in the buffer.
+	 *
+	 * <p>
+	 * Called when the {@link org.apache.juneau.rest.RestContext} that uses this logger is destroyed.
+	 * <br>Entries logged afterwards are written synchronously.
+	 * <br>A no-op if asynchronous writing is not enabled or the logger has already been closed.
+	 */
+	public void close() {
+		if (queue == null)
+			return;
+		Thread t;
+		synchronized (queue) {
+			if (closed)
+				return;
+			closed = true;
+			t = writer;
+			writer = null;
+		}
+		if (t != null) {
+			t.interrupt();
+			try {
+				t.join(1000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		for (Entry x = queue.poll(); x != null; x = queue.poll())
+			write(x);
 	}
 
 	/**
@@ -584,80 +704,85 @@ public class CallLogger {
 
 		Level level = firstNonNull(rule.getLevel(), this.level);
 
-		if (level == Level.OFF)
+		if (level == Level.OFF || ! rule.isSampled())
 			return;
 
-		Throwable e = castOrNull(req.getAttribute("Exception"), Throwable.class);
-		Long execTime = castOrNull(req.getAttribute("ExecTime"), Long.class);
+		Entry x = new Entry(req, res, rule, level);
+
+		if (queue == null || closed || (writer == null && ! startWriter()))
+			log(x);
+		else if (! queue.offer(x))
+			dropped.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of log entries dropped because the asynchronous buffer was full.
+	 *
+	 * @return The number of log entries dropped since this logger was created.
+	 * @see Builder#asyncBufferSize(int)
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if log entries are written by a background thread.
+	 *
+	 * @return <jk>true</jk> if log entries are written by a background thread.
+	 * @see Builder#asyncBufferSize(int)
+	 */
+	public boolean isAsync() {
+		return queue != null && ! closed;
+	}
 
-		CallLoggingDetail reqd = firstNonNull(rule.getRequestDetail(), requestDetail);
-		CallLoggingDetail resd = firstNonNull(rule.getResponseDetail(), responseDetail);
+	private void log(Entry x) {
 
-		String method = req.getMethod();
-		int status = res.getStatus();
-		String uri = req.getRequestURI();
-		byte[] reqContent = getRequestContent(req);
-		byte[] resContent = getResponseContent(req, res);
+		CallLoggingDetail reqd = x.reqd, resd = x.resd;
+		byte[] reqContent = x.reqContent, resContent = x.resContent;
 
 		StringBuilder sb = new StringBuilder();
 
 		if (reqd != STATUS_LINE || resd != STATUS_LINE)
 			sb.append("\n=== HTTP Call (incoming) ======================================================\n");
 
-		ThrownStats sti = getThrownStats(e);
+		sb.append('[').append(x.status);
 
-		sb.append('[').append(status);
-
-		if (sti != null) {
-			int count = sti.getCount();
-			sb.append(',').append(StringUtils.toHex8(sti.getHash())).append('.').append(count);
-			if (count > 1)
-				e = null;
-		}
+		if (x.thrownCount > 0)
+			sb.append(',').append(StringUtils.toHex8(x.thrownHash)).append('.').append(x.thrownCount);
 
 		sb.append("] ");
 
-		sb.append("HTTP ").append(method).append(' ').append(uri);
+		sb.append("HTTP ").append(x.method).append(' ').append(x.uri);
 
 		if (reqd != STATUS_LINE || resd != STATUS_LINE) {
 
 			if (reqd.isOneOf(HEADER, ENTITY)) {
-				String qs = req.getQueryString();
-				if (qs != null)
-					sb.append('?').append(qs);
+				if (x.queryString != null)
+					sb.append('?').append(x.queryString);
 			}
 
 			if (reqContent != null && reqd.isOneOf(HEADER ,ENTITY))
-				sb.append("\n\tRequest length: ").append(reqContent.length).append(" bytes");
+				sb.append("\n\tRequest length: ").append(x.reqLength).append(" bytes");
 
 			if (resd.isOneOf(HEADER, ENTITY))
-				sb.append("\n\tResponse code: ").append(status);
+				sb.append("\n\tResponse code: ").append(x.status);
 
 			if (resContent != null && resd.isOneOf(HEADER, ENTITY))
-				sb.append("\n\tResponse length: ").append(resContent.length).append(" bytes");
+				sb.append("\n\tResponse length: ").append(x.resLength).append(" bytes");
 
-			if (execTime != null && resd.isOneOf(HEADER, ENTITY))
-				sb.append("\n\tExec time: ").append(execTime).append("ms");
+			if (x.execTime != null && resd.isOneOf(HEADER, ENTITY))
+				sb.append("\n\tExec time: ").append(x.execTime).append("ms");
 
-			if (reqd.isOneOf(HEADER, ENTITY)) {
-				Enumeration<String> hh = req.getHeaderNames();
-				if (hh.hasMoreElements()) {
-					sb.append("\n---Request Headers---");
-					while (hh.hasMoreElements()) {
-						String h = hh.nextElement();
-						sb.append("\n\t").append(h).append(": ").append(req.getHeader(h));
-					}
-				}
+			if (x.reqHeaders != null && x.reqHeaders.length > 0) {
+				sb.append("\n---Request Headers---");
+				for (int i = 0; i < x.reqHeaders.length; i+=2)
+					sb.append("\n\t").append(x.reqHeaders[i]).append(": ").append(x.reqHeaders[i+1]);
 			}
 
-			if (resd.isOneOf(HEADER, ENTITY)) {
-				Collection<String> hh = res.getHeaderNames();
-				if (hh.size() > 0) {
-					sb.append("\n---Response Headers---");
-					for (String h : hh) {
-						sb.append("\n\t").append(h).append(": ").append(res.getHeader(h));
-					}
-				}
+			if (x.resHeaders != null && x.resHeaders.length > 0) {
+				sb.append("\n---Response Headers---");
+				for (int i = 0; i < x.resHeaders.length; i+=2)
+					sb.append("\n\t").append(x.resHeaders[i]).append(": ").append(x.resHeaders[i+1]);
 			}
 
 			if (reqContent != null && reqContent.length > 0 && reqd == ENTITY) {
@@ -684,11 +809,80 @@ public class CallLogger {
 			sb.append("\n=== END ======================================================================");
 		}
 
-		if (rule.isLogStackTrace() && e == null)
-			e = new Throwable("Stacktrace");
+		log(x.level, sb.toString(), x.thrown);
+	}
 
-		log(level, sb.toString(), e);
+	/*
+	 * Snapshot of everything needed to format a log entry.
+	 * Captured on the request thread so that formatting can happen after the servlet request/response are recycled.
+	 */
+	private final class Entry {
+		final Level level;
+		final CallLoggingDetail reqd, resd;
+		final String method, uri, queryString;
+		final int status;
+		final Long execTime;
+		final byte[] reqContent, resContent;
+		final long reqLength, resLength;
+		final String[] reqHeaders, resHeaders;
+		final Throwable thrown;
+		final long thrownHash;
+		final int thrownCount;
+
+		Entry(HttpServletRequest req, HttpServletResponse res, CallLoggerRule rule, Level level) {
+			this.level = level;
+			reqd = firstNonNull(rule.getRequestDetail(), requestDetail);
+			resd = firstNonNull(rule.getResponseDetail(), responseDetail);
+			method = req.getMethod();
+			status = res.getStatus();
+			uri = req.getRequestURI();
+			execTime = castOrNull(req.getAttribute("ExecTime"), Long.class);
+
+			Throwable e = castOrNull(req.getAttribute("Exception"), Throwable.class);
+			ThrownStats sti = getThrownStats(e);
+			if (sti != null) {
+				thrownHash = sti.getHash();
+				thrownCount = sti.getCount();
+				if (thrownCount > 1)
+					e = null;
+			} else {
+				thrownHash = 0;
+				thrownCount = 0;
+			}
+			if (rule.isLogStackTrace() && e == null)
+				e = new Throwable("Stacktrace");
+			thrown = e;
+
+			boolean details = reqd != STATUS_LINE || resd != STATUS_LINE;
+			reqContent = details ? getRequestContent(req, reqd.isOneOf(HEADER, ENTITY)) : null;
+			resContent = details ? getResponseContent(req, res) : null;
+			reqLength = reqContent == null ? 0 : getRequestLength(req, reqContent);
+			resLength = resContent == null ? 0 : getResponseLength(res, resContent);
+			queryString = details && reqd.isOneOf(HEADER, ENTITY) ? req.getQueryString() : null;
+
+			if (details && reqd.isOneOf(HEADER, ENTITY)) {
+				List<String> l = list();
+				for (Enumeration<String> hh = req.getHeaderNames(); hh.hasMoreElements();) {
+					String h = hh.nextElement();
+					l.add(h);
+					l.add(req.getHeader(h));
+				}
+				reqHeaders = l.toArray(new String[l.size()]);
+			} else {
+				reqHeaders = null;
+			}
 
+			if (details && resd.isOneOf(HEADER, ENTITY)) {
+				List<String> l = list();
+				for (String h : res.getHeaderNames()) {
+					l.add(h);
+					l.add(res.getHeader(h));
+				}
+				resHeaders = l.toArray(new String[l.size()]);
+			} else {
+				resHeaders = null;
+			}
+		}
 	}
 
 	/**
@@ -781,16 +975,41 @@ public class CallLogger {
 		getLogger().log(level, msg, e);
 	}
 
-	private byte[] getRequestContent(HttpServletRequest req) {
-		if (req instanceof CachingHttpServletRequest)
-			return ((CachingHttpServletRequest)req).getContent();
+	private byte[] getRequestContent(HttpServletRequest req, boolean logged) {
+		if (req instanceof CachingHttpServletRequest) {
+			CachingHttpServletRequest req2 = (CachingHttpServletRequest)req;
+			if (logged) {
+				try {
+					req2.captureUnread();
+				} catch (IOException e) {
+					// Log whatever was captured.
+				}
+			}
+			return req2.getContent();
+		}
 		return castOrNull(req.getAttribute("RequestContent"), byte[].class);
 	}
 
 	private byte[] getResponseContent(HttpServletRequest req, HttpServletResponse res) {
+		byte[] content = castOrNull(req.getAttribute("ResponseContent"), byte[].class);
+		if (res instanceof CachingHttpServletResponse) {
+			byte[] captured = ((CachingHttpServletResponse)res).getContent();
+			if (captured.length > 0 || content == null)
+				return captured;
+		}
+		return content;
+	}
+
+	private long getRequestLength(HttpServletRequest req, byte[] content) {
+		if (req instanceof CachingHttpServletRequest)
+			return ((CachingHttpServletRequest)req).getContentRead();
+		return content.length;
+	}
+
+	private long getResponseLength(HttpServletResponse res, byte[] content) {
 		if (res instanceof CachingHttpServletResponse)
-			return ((CachingHttpServletResponse)res).getContent();
-		return castOrNull(req.getAttribute("ResponseContent"), byte[].class);
+			return ((CachingHttpServletResponse)res).getContentWritten();
+		return content.length;
 	}
 
 	private ThrownStats getThrownStats(Throwable e) {
@@ -808,6 +1027,7 @@ public class CallLogger {
 			.append("level", level)
 			.append("requestDetail", requestDetail)
 			.append("responseDetail", responseDetail)
+			.append("async", queue == null ? null : true)
 			.append("normalRules", normalRules.length == 0 ? null : normalRules)
 			.append("debugRules", debugRules.length == 0 ? null : debugRules)
 			.asReadableString();
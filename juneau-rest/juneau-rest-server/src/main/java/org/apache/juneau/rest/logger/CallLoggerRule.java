@@ -14,6 +14,7 @@ package org.apache.juneau.rest.logger;
 
 import static org.apache.juneau.collections.JsonMap.*;
 
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.logging.*;
 
@@ -65,6 +66,7 @@ public class CallLoggerRule {
 		Level level;
 		CallLoggingDetail requestDetail, responseDetail;
 		boolean logStackTrace;
+		float sampleRate = 1f;
 
 		/**
 		 * Constructor.
@@ -303,6 +305,37 @@ public class CallLoggerRule {
 			return this;
 		}
 
+		/**
+		 * The fraction of matching calls that are actually logged.
+		 *
+		 * <p>
+		 * Sampling is decided independently for each call after the rule matches and logging is enabled.
+		 *
+		 * <h5 class='section'>Example:</h5>
+		 * <p class='bjava'>
+		 * 	<jc>// Log 1% of successful calls.</jc>
+		 * 	RestLogger
+		 * 		.<jsm>createRule</jsm>()
+		 * 		.statusFilter(<jv>x</jv> -&gt; <jv>x</jv> &lt; 400)
+		 * 		.sampleRate(0.01f)
+		 * 		.build();
+		 * </p>
+		 *
+		 * <p>
+		 * The default value is <c>1.0</c> (log every call).
+		 *
+		 * @param value
+		 * 	The sample rate between <c>0.0</c> (never log) and <c>1.0</c> (always log).
+		 * @return This object.
+		 * @throws IllegalArgumentException If the value is not between <c>0.0</c> and <c>1.0</c>.
+		 */
+		public Builder sampleRate(float value) {
+			if (! (value >= 0f && value <= 1f))
+				throw new IllegalArgumentException("Sample rate must be between 0.0 and 1.0: " + value);
+			this.sampleRate = value;
+			return this;
+		}
+
 		// <FluentSetters>
 
 		@Override /* GENERATED - org.apache.juneau.BeanBuilder */
@@ -333,6 +366,7 @@ public class CallLoggerRule {
 	private final Predicate<HttpServletRequest> enabledTest;
 	private final CallLoggingDetail requestDetail, responseDetail;
 	private final boolean logStackTrace;
+	private final float sampleRate;
 
 	/**
 	 * Constructor.
@@ -350,6 +384,7 @@ public class CallLoggerRule {
 		this.requestDetail = b.requestDetail;
 		this.responseDetail = b.responseDetail;
 		this.logStackTrace = b.logStackTrace;
+		this.sampleRate = b.sampleRate;
 	}
 
 	/**
@@ -428,6 +463,24 @@ public class CallLoggerRule {
 		return logStackTrace;
 	}
 
+	/**
+	 * Returns the fraction of matching calls that are logged.
+	 *
+	 * @return The sample rate between <c>0.0</c> and <c>1.0</c>.
+	 */
+	public float getSampleRate() {
+		return sampleRate;
+	}
+
+	/**
+	 * Decides whether the current call should be logged based on the sample rate of this rule.
+	 *
+	 * @return <jk>true</jk> if the current call should be logged.
+	 */
+	public boolean isSampled() {
+		return sampleRate >= 1f || (sampleRate > 0f && ThreadLocalRandom.current().nextFloat() < sampleRate);
+	}
+
 	@Override /* Object */
 	public String toString() {
 		return filteredMap()
@@ -440,6 +493,7 @@ public class CallLoggerRule {
 			.append("responseDetail", responseDetail)
 			.append("enabled", enabled)
 			.append("enabledTest", enabledTest)
+			.append("sampleRate", sampleRate >= 1f ? null : sampleRate)
 			.asReadableString();
 	}
 }
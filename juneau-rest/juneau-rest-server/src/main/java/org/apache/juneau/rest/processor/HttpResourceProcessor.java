@@ -13,15 +13,29 @@
 package org.apache.juneau.rest.processor;
 
 import static org.apache.juneau.http.HttpHeaders.*;
+import static org.apache.juneau.internal.ObjectUtils.*;
 
 import java.io.*;
+import java.nio.channels.*;
+import java.time.*;
 
+import org.apache.http.*;
+import org.apache.juneau.cp.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.*;
+import org.apache.juneau.http.header.*;
 import org.apache.juneau.http.resource.*;
 
 /**
  * Response handler for {@link HttpResource} objects.
  *
+ * <p>
+ * Resources with <c>ETag</c> or <c>Last-Modified</c> headers are answered with <c>304 Not Modified</c> when the
+ * <c>If-None-Match</c> or <c>If-Modified-Since</c> request headers show that the client already has the current content.
+ * <br>Resources with an <c>Accept-Ranges: bytes</c> header and a known length also support single byte-range requests
+ * through the <c>Range</c> and <c>If-Range</c> request headers.
+ * <br>Requests for multiple ranges are answered with the entire content.
+ *
  * <ul class='seealso'>
  * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.ResponseProcessors">Response Processors</a>
  * </ul>
@@ -31,6 +45,7 @@ public final class HttpResourceProcessor implements ResponseProcessor {
 	@Override /* ResponseProcessor */
 	public int process(RestOpSession opSession) throws IOException {
 
+		RestRequest req = opSession.getRequest();
 		RestResponse res = opSession.getResponse();
 		HttpResource r = res.getContent(HttpResource.class);
 
@@ -40,17 +55,166 @@ public final class HttpResourceProcessor implements ResponseProcessor {
 		res.setHeader(r.getContentType());
 		res.setHeader(r.getContentEncoding());
 		long contentLength = r.getContentLength();
-		if (contentLength >= 0)
-			res.setHeader(contentLength(contentLength));
 
 		r.getHeaders().forEach(x -> res.addHeader(x));
 
+		String method = req.getMethod();
+		boolean isGet = "GET".equalsIgnoreCase(method);
+		if (isGet || "HEAD".equalsIgnoreCase(method)) {
+			if (isNotModified(req, r)) {
+				res.setStatus(304);
+				return FINISHED;
+			}
+			if (isGet && contentLength >= 0 && r.getContentEncoding() == null && "bytes".equals(header(r, "Accept-Ranges"))) {
+				long[] range = getRange(req, r, contentLength);
+				if (range != null) {
+					if (range.length == 0) {
+						res.setStatus(416);
+						res.setHeader(contentRange("bytes */" + contentLength));
+						return FINISHED;
+					}
+					long start = range[0], length = range[1] - range[0] + 1;
+					res.setStatus(206);
+					res.setHeader(contentRange("bytes " + range[0] + "-" + range[1] + "/" + contentLength));
+					res.setHeader(contentLength(length));
+					try (InputStream is = r.getContent(); OutputStream os = res.getOutputStream()) {
+						copy(is, os, start, length);
+						os.flush();
+					}
+					return FINISHED;
+				}
+			}
+		}
+
+		// The length is only known if the content isn't encoded on the way out.
+		String encoding = res.getHeader("Content-Encoding");
 		try (OutputStream os = res.getNegotiatedOutputStream()) {
-			r.writeTo(os);
+			if (contentLength >= 0 && eq(encoding, res.getHeader("Content-Encoding")))
+				res.setHeader(contentLength(contentLength));
+			if (contentLength >= 0 && "bytes".equals(header(r, "Accept-Ranges"))) {
+				try (InputStream is = r.getContent()) {
+					copy(is, os, 0, contentLength);
+				}
+			} else {
+				r.writeTo(os);
+			}
 			os.flush();
 		}
 
 		return FINISHED;
 	}
+
+	private static String header(HttpResource r, String name) {
+		return r.getHeaders().getLast(name).map(Header::getValue).orElse(null);
+	}
+
+	/*
+	 * Evaluates If-None-Match and If-Modified-Since against the ETag and Last-Modified headers of the resource.
+	 * If-Modified-Since is ignored when If-None-Match is present.
+	 */
+	private static boolean isNotModified(RestRequest req, HttpResource r) {
+		String ifNoneMatch = req.getHeaderParam("If-None-Match").orElse(null);
+		if (ifNoneMatch != null) {
+			String etag = header(r, "ETag");
+			if (etag == null)
+				return false;
+			try {
+				String v = EntityTag.of(etag).getEntityValue();
+				for (EntityTag t : EntityTags.of(ifNoneMatch).toList())
+					if (t.isAny() || t.getEntityValue().equals(v))
+						return true;
+			} catch (RuntimeException e) {
+				// Malformed header.
+			}
+			return false;
+		}
+		String ifModifiedSince = req.getHeaderParam("If-Modified-Since").orElse(null);
+		String lastModified = header(r, "Last-Modified");
+		if (ifModifiedSince != null && lastModified != null) {
+			ZonedDateTime since = IfModifiedSince.of(ifModifiedSince).asZonedDateTime().orElse(null);
+			ZonedDateTime modified = LastModified.of(lastModified).asZonedDateTime().orElse(null);
+			return since != null && modified != null && ! modified.isAfter(since);
+		}
+		return false;
+	}
+
+	/*
+	 * Returns the inclusive bounds of the requested range, an empty array if the range can't be satisfied, or null if
+	 * the entire content should be sent.
+	 */
+	private static long[] getRange(RestRequest req, HttpResource r, long contentLength) {
+		String range = req.getHeaderParam("Range").orElse(null);
+		if (range == null || ! range.startsWith("bytes="))
+			return null;
+
+		String ifRange = req.getHeaderParam("If-Range").orElse(null);
+		if (ifRange != null && ! (ifRange.equals(header(r, "ETag")) || ifRange.equals(header(r, "Last-Modified"))))
+			return null;
+
+		String spec = range.substring(6).trim();
+		int i = spec.indexOf('-');
+		if (i == -1 || spec.indexOf(',') != -1)
+			return null;
+		try {
+			String first = spec.substring(0, i).trim(), last = spec.substring(i+1).trim();
+			long start, end;
+			if (first.isEmpty()) {
+				if (last.isEmpty())
+					return null;
+				long suffix = Long.parseLong(last);
+				if (suffix <= 0 || contentLength == 0)
+					return new long[0];
+				start = Math.max(0, contentLength - suffix);
+				end = contentLength - 1;
+			} else {
+				start = Long.parseLong(first);
+				end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+				if (end < start)
+					return null;
+				if (start >= contentLength)
+					return new long[0];
+				end = Math.min(end, contentLength - 1);
+			}
+			return new long[]{start, end};
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Copies exactly the specified range of the content.
+	 * The length has already been sent to the client, so content that ends early fails the response.
+	 */
+	private static void copy(InputStream is, OutputStream os, long start, long length) throws IOException {
+		FileChannel fc = is instanceof FileInputStream ? ((FileInputStream)is).getChannel() : is instanceof LocalFileInputStream ? ((LocalFileInputStream)is).getChannel() : null;
+		if (fc != null) {
+			WritableByteChannel wc = os instanceof WritableByteChannel ? (WritableByteChannel)os : Channels.newChannel(os);
+			long pos = start, end = start + length;
+			while (pos < end) {
+				long n = fc.transferTo(pos, end - pos, wc);
+				if (n <= 0)
+					throw new EOFException("Content ended at byte " + pos + " of " + end + ".");
+				pos += n;
+			}
+			return;
+		}
+		long pos = 0;
+		byte[] buff = null;
+		while (pos < start) {
+			long n = is.skip(start - pos);
+			if (n <= 0) {
+				// Not all streams support skipping, so fall back on reading.
+				if (buff == null)
+					buff = new byte[8192];
+				n = is.read(buff, 0, (int)Math.min(buff.length, start - pos));
+				if (n == -1)
+					throw new EOFException("Content ended at byte " + pos + " of " + start + ".");
+			}
+			pos += n;
+		}
+		long n = IOUtils.pipe(is, os, length);
+		if (n < length)
+			throw new EOFException("Content ended at byte " + (start + n) + " of " + (start + length) + ".");
+	}
 }
 
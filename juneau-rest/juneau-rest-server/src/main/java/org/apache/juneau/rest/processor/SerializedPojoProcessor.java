@@ -12,10 +12,13 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.processor;
 
+import static org.apache.juneau.rest.stats.RestOpProfiler.Phase.*;
+
 import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.stats.*;
 import org.apache.juneau.rest.util.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.*;
@@ -28,12 +31,22 @@ import org.apache.juneau.marshaller.*;
 /**
  * Response handler for plain-old Java objects.
  *
+ * <p>
+ * <c>GET</c> and <c>HEAD</c> requests whose <c>If-None-Match</c> header matches the <c>ETag</c> of the response are
+ * answered with <c>304 Not Modified</c>.
+ * <br>If the <c>ETag</c> is known before serialization, either because the REST method set the header or because the
+ * returned object implements {@link Versioned}, the object is not serialized at all.
+ * <br>Otherwise, if {@link RestContext.Builder#contentEtags(boolean)} is enabled, a strong <c>ETag</c> is computed
+ * from the buffered response body and the body is dropped if the client already has it.
+ *
  * <ul class='seealso'>
  * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.ResponseProcessors">Response Processors</a>
  * </ul>
  */
 public final class SerializedPojoProcessor implements ResponseProcessor {
 
+	private static final int MAX_SERVLET_BUFFER_SIZE = 1024 * 1024;
+
 	@Override /* ResponseProcessor */
 	public int process(RestOpSession opSession) throws IOException, NotAcceptable, BasicHttpException {
 		RestRequest req = opSession.getRequest();
@@ -59,6 +72,22 @@ public final class SerializedPojoProcessor implements ResponseProcessor {
 				else
 					res.setHeader(ContentType.of(responseType.toString()));
 
+				// Short-circuit conditional requests when the version of the content is known up front.
+				String method = req.getMethod();
+				String ifNoneMatch = "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method) ? req.getHeaderParam("If-None-Match").orElse(null) : null;
+				String etag = res.getHeader("ETag");
+				if (etag == null && o instanceof Versioned) {
+					String version = ((Versioned)o).version();
+					if (version != null) {
+						etag = "W/\"" + Long.toHexString(ContentHash.hash(version + ';' + responseType)) + "\"";
+						res.setHeader("ETag", etag);
+					}
+				}
+				if (etag != null && ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+					res.setStatus(304);
+					return FINISHED;
+				}
+
 				SerializerSession session = s
 					.createSession()
 					.properties(req.getAttributes().asMap())
@@ -76,25 +105,72 @@ public final class SerializedPojoProcessor implements ResponseProcessor {
 				for (Map.Entry<String,String> h : session.getResponseHeaders().entrySet())
 					res.addHeader(h.getKey(), h.getValue());
 
-				if (! session.isWriterSerializer()) {
-					if (req.isPlainText()) {
+				// Size the response from previous responses so that small bodies can be sent with a Content-Length.
+				RestOpContext opContext = res.getOpContext();
+				ContentSizeEstimator sizes = opContext.getContentSizes();
+				String sizeKey = responseType.toString();
+				BufferedServletOutputStream buffer = null;
+				if (sizes != null) {
+					int maxSize = opContext.getContentBufferSize(), expected = sizes.estimate(sizeKey);
+					if (expected > maxSize)
+						growBuffer(res, expected);
+					buffer = res.bufferContent(expected < 0 ? 512 : expected + (expected >> 3), maxSize);
+				}
+
+				// Encoding happens while serializing, so only the final flush of the encoded stream is profiled as encoding.
+				RestOpProfiler profiler = opSession.getRestSession().getProfiler();
+				RestOpMetrics metrics = res.getOpContext().getMetrics();
+				long startTime = metrics == null ? 0 : System.nanoTime();
+				if (profiler != null)
+					profiler.start(SERIALIZATION);
+				try {
+					if (! session.isWriterSerializer()) {
+						if (req.isPlainText()) {
+							FinishablePrintWriter w = res.getNegotiatedWriter();
+							ByteArrayOutputStream baos = new ByteArrayOutputStream();
+							session.serialize(o, baos);
+							w.write(StringUtils.toSpacedHex(baos.toByteArray()));
+							if (profiler != null)
+								profiler.stop().start(ENCODING);
+							w.flush();
+							w.finish();
+						} else {
+							FinishableServletOutputStream os = res.getNegotiatedOutputStream();
+							session.serialize(o, os);
+							if (profiler != null)
+								profiler.stop().start(ENCODING);
+							os.flush();
+							os.finish();
+						}
+					} else {
 						FinishablePrintWriter w = res.getNegotiatedWriter();
-						ByteArrayOutputStream baos = new ByteArrayOutputStream();
-						session.serialize(o, baos);
-						w.write(StringUtils.toSpacedHex(baos.toByteArray()));
+						session.serialize(o, w);
+						if (profiler != null)
+							profiler.stop().start(ENCODING);
 						w.flush();
 						w.finish();
-					} else {
-						FinishableServletOutputStream os = res.getNegotiatedOutputStream();
-						session.serialize(o, os);
-						os.flush();
-						os.finish();
 					}
-				} else {
-					FinishablePrintWriter w = res.getNegotiatedWriter();
-					session.serialize(o, w);
-					w.flush();
-					w.finish();
+					if (buffer != null) {
+						sizes.record(sizeKey, buffer.getSize());
+						if (etag == null && opContext.isContentEtags() && buffer.isBuffered()) {
+							etag = "\"" + Long.toHexString(buffer.hash()) + "\"";
+							res.setHeader("ETag", etag);
+							if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+								buffer.discard();
+								res.setStatus(304);
+							}
+						}
+					}
+				} catch (IOException | RuntimeException e) {
+					// Don't send a partial body along with the error response.
+					if (buffer != null)
+						buffer.discard();
+					throw e;
+				} finally {
+					if (profiler != null)
+						profiler.stop();
+					if (metrics != null)
+						metrics.serialized(System.nanoTime() - startTime);
 				}
 			} catch (SerializeException e) {
 				throw new InternalServerError(e);
@@ -110,5 +186,29 @@ public final class SerializedPojoProcessor implements ResponseProcessor {
 			req.getHeaderParam("Accept").orElse(""), Json5.of(res.getOpContext().getSerializers().getSupportedMediaTypes())
 		);
 	}
+
+	/*
+	 * Uses the weak comparison required for If-None-Match.
+	 */
+	private static boolean matches(String ifNoneMatch, String etag) {
+		try {
+			String v = EntityTag.of(etag).getEntityValue();
+			for (EntityTag t : EntityTags.of(ifNoneMatch).toList())
+				if (t.isAny() || t.getEntityValue().equals(v))
+					return true;
+		} catch (RuntimeException e) {
+			// Malformed header.
+		}
+		return false;
+	}
+
+	private static void growBuffer(RestResponse res, int size) {
+		try {
+			if (res.getBufferSize() < size)
+				res.setBufferSize(Math.min(size, MAX_SERVLET_BUFFER_SIZE));
+		} catch (IllegalStateException e) {
+			// Content has already been written.
+		}
+	}
 }
 
@@ -20,12 +20,14 @@ import static org.apache.juneau.internal.FileUtils.*;
 import static org.apache.juneau.internal.ObjectUtils.*;
 
 import java.io.*;
+import java.time.*;
 import java.util.*;
 
 import javax.activation.*;
 
 import org.apache.http.*;
 import org.apache.juneau.cp.*;
+import org.apache.juneau.http.header.*;
 import org.apache.juneau.http.resource.*;
 import org.apache.juneau.http.response.*;
 import org.apache.juneau.internal.*;
@@ -38,6 +40,13 @@ import org.apache.juneau.rest.*;
  * Provides the same functionality as {@link BasicFileFinder} but adds support for returning files as {@link HttpResource}
  * objects with arbitrary headers.
  *
+ * <p>
+ * When files are located through a {@link BasicFileFinder}, resources are returned with <c>Last-Modified</c>,
+ * <c>ETag</c>, and <c>Accept-Ranges</c> headers so that conditional and byte-range requests can be answered with
+ * <c>304</c> and <c>206</c> responses.
+ * <br>Files larger than the {@link StaticFiles.Builder#caching(long) caching} limit are never held in memory and are
+ * streamed from the file system instead.
+ *
  * <ul class='seealso'>
  * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.StaticFiles">Static files</a>
  * </ul>
@@ -120,6 +129,8 @@ public class BasicStaticFiles implements StaticFiles {
 			Optional<InputStream> is = getStream(path, locale);
 			if (! is.isPresent())
 				return empty();
+			if (is.get() instanceof LocalFileInputStream)
+				return optional(resolve((LocalFileInputStream)is.get(), path));
 			return optional(
 				streamResource(is.get())
 					.setHeaders(contentType(mimeTypes == null ? null : mimeTypes.getContentType(getFileName(path))))
@@ -130,6 +141,36 @@ public class BasicStaticFiles implements StaticFiles {
 		}
 	}
 
+	/**
+	 * Creates the resource for the specified file contents.
+	 *
+	 * <p>
+	 * The validators and length of the resource are taken from the stream so that they always describe the contents
+	 * that are sent, even if the file changes in the meantime.
+	 * <br>Files on the file system that aren't cached in memory are copied to the response through their file channel.
+	 *
+	 * @param is The contents of the file, as returned by {@link #getStream(String, Locale)}.
+	 * @param path The path used to resolve the file.
+	 * @return A new resource.
+	 * @throws IOException If the file could not be read.
+	 */
+	protected HttpResource resolve(LocalFileInputStream is, String path) throws IOException {
+		ContentType ct = contentType(mimeTypes == null ? null : mimeTypes.getContentType(getFileName(path)));
+		long size = is.getSize(), lastModified = is.getLastModified();
+
+		BasicResource r = streamResource(is, size, ct);
+
+		r.setHeaders(ct);
+		if (lastModified > 0) {
+			r.addHeaders(lastModified(ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastModified), ZoneOffset.UTC)));
+			if (size >= 0)
+				r.addHeaders(eTag('"' + Long.toHexString(size) + '-' + Long.toHexString(lastModified) + '"'));
+		}
+		if (size >= 0)
+			r.addHeaders(acceptRanges("bytes"));
+		return r.addHeaders(headers);
+	}
+
 	@Override
 	public int hashCode() {
 		return hashCode;
@@ -136,6 +136,11 @@ public class MethodExecStats {
 	private AtomicLong
 		totalTime = new AtomicLong();
 
+	private final AtomicLongArray
+		phaseRuns = new AtomicLongArray(RestOpProfiler.Phase.values().length),
+		phaseBytes = new AtomicLongArray(RestOpProfiler.Phase.values().length),
+		phaseCpuTime = new AtomicLongArray(RestOpProfiler.Phase.values().length);
+
 	/**
 	 * Constructor.
 	 *
@@ -185,6 +190,27 @@ public class MethodExecStats {
 		return this;
 	}
 
+	/**
+	 * Call when a profiled call is finished.
+	 *
+	 * <p>
+	 * Adds the per-phase allocations and CPU time of the call to the totals of this method.
+	 *
+	 * @param profiler The profiler of the finished call.
+	 * @return This object.
+	 */
+	public MethodExecStats profiled(RestOpProfiler profiler) {
+		for (RestOpProfiler.Phase p : RestOpProfiler.Phase.values()) {
+			if (profiler.isRecorded(p)) {
+				int i = p.ordinal();
+				phaseRuns.incrementAndGet(i);
+				phaseBytes.addAndGet(i, profiler.getAllocatedBytes(p));
+				phaseCpuTime.addAndGet(i, profiler.getCpuTime(p));
+			}
+		}
+		return this;
+	}
+
 	/**
 	 * Returns a globally unique ID for this object.
 	 *
@@ -272,6 +298,31 @@ public class MethodExecStats {
 		return totalTime.get() / 1_000_000;
 	}
 
+	/**
+	 * Returns the allocation and CPU time statistics of each phase of profiled calls to this method.
+	 *
+	 * @return
+	 * 	The statistics of each phase of profiled calls to this method, or <jk>null</jk> if no calls have been profiled.
+	 * @see RestOpProfiler
+	 */
+	public List<RestOpPhaseStats> getPhaseStats() {
+		long total = 0;
+		boolean profiled = false;
+		for (int i = 0; i < phaseRuns.length(); i++) {
+			total += phaseBytes.get(i);
+			profiled |= phaseRuns.get(i) > 0;
+		}
+		if (! profiled)
+			return null;
+		List<RestOpPhaseStats> l = new ArrayList<>();
+		for (RestOpProfiler.Phase p : RestOpProfiler.Phase.values()) {
+			int i = p.ordinal();
+			if (phaseRuns.get(i) > 0)
+				l.add(new RestOpPhaseStats(p, phaseRuns.get(i), phaseBytes.get(i), phaseCpuTime.get(i), total));
+		}
+		return l;
+	}
+
 	/**
 	 * Returns information on all stack traces of all exceptions encountered.
 	 *
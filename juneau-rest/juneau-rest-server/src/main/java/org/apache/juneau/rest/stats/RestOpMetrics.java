@@ -0,0 +1,159 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.stats;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.http.metrics.*;
+import org.apache.juneau.rest.*;
+
+/**
+ * Publishes the metrics of a single REST operation to a {@link MetricsRegistry}.
+ *
+ * <p>
+ * Created for each {@link RestOpContext} when a metrics registry is configured on the REST context (see
+ * {@link RestContext.Builder#metricsRegistry(MetricsRegistry)}).
+ *
+ * <p>
+ * All meters are tagged with <js>"resource"</js> (the simple name of the resource class), <js>"method"</js> (the HTTP
+ * method), and <js>"path"</js> (the path pattern of the operation).
+ * <br>Gauges are also tagged with <js>"instance"</js>, a number that's unique to this object, so that the gauges of a
+ * rebuilt REST context don't collide with the ones of the context it replaces.
+ * <br>The gauges are removed from the registry by {@link #close()}, which is called when the REST context is destroyed.
+ *
+ * <h5 class='section'>Meters:</h5>
+ * <ul>
+ * 	<li><js>"juneau.rest.server.requests"</js> - Timer of request latencies from routing to finished response.
+ * 	<li><js>"juneau.rest.server.requests.active"</js> - Gauge of requests currently in flight.
+ * 	<li><js>"juneau.rest.server.response.size"</js> - Summary of response content sizes in bytes as written to the wire.
+ * 	<li><js>"juneau.rest.server.serialize"</js> - Timer of response serialization.
+ * 	<li><js>"juneau.rest.server.parse"</js> - Timer of request content parsing.
+ * 	<li><js>"juneau.rest.server.errors"</js> - Gauge of the number of exceptions thrown by the Java method.
+ * 	<li><js>"juneau.rest.server.serializers.cache.hits"</js>, <js>"juneau.rest.server.serializers.cache.misses"</js> -
+ * 		Gauges of the <c>Accept</c> header match cache of the serializers of the operation.
+ * 	<li><js>"juneau.rest.server.parsers.cache.hits"</js>, <js>"juneau.rest.server.parsers.cache.misses"</js> -
+ * 		Gauges of the <c>Content-Type</c> header match cache of the parsers of the operation.
+ * </ul>
+ *
+ * <ul class='seealso'>
+ * 	<li class='jic'>{@link MetricsRegistry}
+ * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.ExecutionStatistics">REST method execution statistics</a>
+ * </ul>
+ */
+public class RestOpMetrics {
+
+	private static final AtomicLong INSTANCE_IDS = new AtomicLong();
+	private static final String[] GAUGES = {
+		"juneau.rest.server.requests.active",
+		"juneau.rest.server.errors",
+		"juneau.rest.server.serializers.cache.hits",
+		"juneau.rest.server.serializers.cache.misses",
+		"juneau.rest.server.parsers.cache.hits",
+		"juneau.rest.server.parsers.cache.misses"
+	};
+
+	private final MetricsRegistry registry;
+	private final String[] gaugeTags;
+	private final MetricsRegistry.Timer requests, serialize, parse;
+	private final MetricsRegistry.Summary responseSize;
+	private final AtomicInteger active = new AtomicInteger();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param registry The registry to publish metrics to.
+	 * @param context The REST resource the operation belongs to.
+	 * @param opContext The REST operation.
+	 * @param stats The execution statistics of the Java method of the REST operation.
+	 */
+	public RestOpMetrics(MetricsRegistry registry, RestContext context, RestOpContext opContext, MethodExecStats stats) {
+		String[] tags = {
+			"resource", context.getResourceClass().getSimpleName(),
+			"method", opContext.getHttpMethod(),
+			"path", opContext.getPathPattern()
+		};
+		this.registry = registry;
+		gaugeTags = Arrays.copyOf(tags, tags.length + 2);
+		gaugeTags[tags.length] = "instance";
+		gaugeTags[tags.length + 1] = String.valueOf(INSTANCE_IDS.incrementAndGet());
+		requests = registry.timer("juneau.rest.server.requests", tags);
+		serialize = registry.timer("juneau.rest.server.serialize", tags);
+		parse = registry.timer("juneau.rest.server.parse", tags);
+		responseSize = registry.summary("juneau.rest.server.response.size", tags);
+		registry.gauge("juneau.rest.server.requests.active", active::get, gaugeTags);
+		registry.gauge("juneau.rest.server.errors", stats::getErrors, gaugeTags);
+		registry.gauge("juneau.rest.server.serializers.cache.hits", opContext.getSerializers()::getMatchCacheHits, gaugeTags);
+		registry.gauge("juneau.rest.server.serializers.cache.misses", opContext.getSerializers()::getMatchCacheMisses, gaugeTags);
+		registry.gauge("juneau.rest.server.parsers.cache.hits", opContext.getParsers()::getMatchCacheHits, gaugeTags);
+		registry.gauge("juneau.rest.server.parsers.cache.misses", opContext.getParsers()::getMatchCacheMisses, gaugeTags);
+	}
+
+	/**
+	 * Removes the gauges of this operation from the registry.
+	 *
+	 * <p>
+	 * The gauges hold on to the operation, so this must be called when the operation is discarded.
+	 */
+	public void close() {
+		for (String g : GAUGES)
+			registry.remove(g, gaugeTags);
+	}
+
+	/**
+	 * Call when a request has been routed to this operation.
+	 *
+	 * @return This object.
+	 */
+	public RestOpMetrics started() {
+		active.incrementAndGet();
+		return this;
+	}
+
+	/**
+	 * Call when a request routed to this operation is finished.
+	 *
+	 * @param nanoTime The latency of the request in nanoseconds.
+	 * @param bytes The number of response content bytes written, or <c>-1</c> if not known.
+	 * @return This object.
+	 */
+	public RestOpMetrics finished(long nanoTime, long bytes) {
+		active.decrementAndGet();
+		requests.record(nanoTime);
+		if (bytes >= 0)
+			responseSize.record(bytes);
+		return this;
+	}
+
+	/**
+	 * Call when the response of this operation has been serialized.
+	 *
+	 * @param nanoTime The serialization time in nanoseconds.
+	 * @return This object.
+	 */
+	public RestOpMetrics serialized(long nanoTime) {
+		serialize.record(nanoTime);
+		return this;
+	}
+
+	/**
+	 * Call when the request content of this operation has been parsed.
+	 *
+	 * @param nanoTime The parse time in nanoseconds.
+	 * @return This object.
+	 */
+	public RestOpMetrics parsed(long nanoTime) {
+		parse.record(nanoTime);
+		return this;
+	}
+}
@@ -0,0 +1,119 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.stats;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.marshaller.*;
+
+/**
+ * A snapshot of the allocation and CPU time statistics of a single phase of a REST method.
+ *
+ * <p>
+ * Only collected when allocation profiling is enabled on the REST context (see
+ * {@link org.apache.juneau.rest.RestContext.Builder#profileAllocations()}).
+ *
+ * <ul class='seealso'>
+ * 	<li class='jc'>{@link RestOpProfiler}
+ * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.ExecutionStatistics">REST method execution statistics</a>
+ * </ul>
+ */
+@Bean(properties="phase,runs,avgBytes,totalBytes,bytesPercent,avgCpuTime,totalCpuTime")
+public class RestOpPhaseStats {
+	private final RestOpProfiler.Phase phase;
+	private final long runs, totalBytes, totalCpuTime, requestBytes;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param phase The phase.
+	 * @param runs The number of calls that went through this phase.
+	 * @param totalBytes The total bytes allocated in this phase.
+	 * @param totalCpuTime The total CPU time consumed in this phase in nanoseconds.
+	 * @param requestBytes The total bytes allocated in all phases of the method.
+	 */
+	public RestOpPhaseStats(RestOpProfiler.Phase phase, long runs, long totalBytes, long totalCpuTime, long requestBytes) {
+		this.phase = phase;
+		this.runs = runs;
+		this.totalBytes = totalBytes;
+		this.totalCpuTime = totalCpuTime;
+		this.requestBytes = requestBytes;
+	}
+
+	/**
+	 * Returns the phase.
+	 *
+	 * @return The phase.
+	 */
+	public RestOpProfiler.Phase getPhase() {
+		return phase;
+	}
+
+	/**
+	 * Returns the number of calls that went through this phase.
+	 *
+	 * @return The number of calls that went through this phase.
+	 */
+	public long getRuns() {
+		return runs;
+	}
+
+	/**
+	 * Returns the average number of bytes allocated in this phase per call.
+	 *
+	 * @return The average number of bytes allocated in this phase per call.
+	 */
+	public long getAvgBytes() {
+		return runs == 0 ? 0 : totalBytes / runs;
+	}
+
+	/**
+	 * Returns the total number of bytes allocated in this phase.
+	 *
+	 * @return The total number of bytes allocated in this phase.
+	 */
+	public long getTotalBytes() {
+		return totalBytes;
+	}
+
+	/**
+	 * Returns the share of the bytes allocated by the method that were allocated in this phase.
+	 *
+	 * @return The share of the bytes allocated by the method that were allocated in this phase, as a percentage.
+	 */
+	public int getBytesPercent() {
+		return requestBytes == 0 ? 0 : (int)(totalBytes * 100 / requestBytes);
+	}
+
+	/**
+	 * Returns the average CPU time consumed in this phase per call.
+	 *
+	 * @return The average CPU time consumed in this phase per call in microseconds.
+	 */
+	public long getAvgCpuTime() {
+		return runs == 0 ? 0 : totalCpuTime / runs / 1_000;
+	}
+
+	/**
+	 * Returns the total CPU time consumed in this phase.
+	 *
+	 * @return The total CPU time consumed in this phase in microseconds.
+	 */
+	public long getTotalCpuTime() {
+		return totalCpuTime / 1_000;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return Json5.of(this);
+	}
+}
@@ -0,0 +1,240 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.stats;
+
+import java.lang.invoke.*;
+import java.lang.management.*;
+import java.util.*;
+
+/**
+ * Measures the bytes allocated and CPU time consumed by the current thread in each phase of a REST call.
+ *
+ * <p>
+ * Created for each request when allocation profiling is enabled on the REST context (see
+ * {@link org.apache.juneau.rest.RestContext.Builder#profileAllocations()}), and added to the
+ * {@link MethodExecStats} of the matched Java method when the call finishes.
+ *
+ * <p>
+ * Phases can be nested.  Time and allocations in a nested phase are only counted against the nested phase, so the
+ * values reported for the different phases of a call never overlap.
+ * <br>Allocations and CPU time that occur outside of any phase are not recorded.
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>Measurements use the {@link ThreadMXBean} counters of the thread that created this object.
+ * 		<br>Calls to {@link #start(Phase)} and {@link #stop()} made from other threads are ignored.
+ * 	<li class='note'>The counters are switched on for the whole JVM by {@link #enable()}, which is called when the first
+ * 		profiler is created.
+ * 	<li class='note'>Allocated bytes are only available on JVMs that support <c>com.sun.management.ThreadMXBean</c>.
+ * 		<br>That interface is looked up reflectively so that this package doesn't depend on it.
+ * 		<br>They're reported as zero otherwise.
+ * 	<li class='note'>This class is not thread safe.
+ * </ul>
+ *
+ * <ul class='seealso'>
+ * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.ExecutionStatistics">REST method execution statistics</a>
+ * </ul>
+ */
+public final class RestOpProfiler {
+
+	/**
+	 * The profiled phases of a REST call.
+	 */
+	public enum Phase {
+
+		/** Finding the Java method to invoke, including evaluation of matchers. */
+		ROUTING,
+
+		/** Running the guards on the Java method. */
+		GUARDS,
+
+		/** Resolving the parameter values for the Java method. */
+		ARGS,
+
+		/** Invoking the Java method. */
+		INVOCATION,
+
+		/** Converting the output and finding the response processor for it. */
+		RESPONSE,
+
+		/** Serializing the output. */
+		SERIALIZATION,
+
+		/** Flushing and finishing the possibly-encoded response stream. */
+		ENCODING
+	}
+
+	private static final Phase[] PHASES = Phase.values();
+	private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+	private static volatile boolean enabled, cpuTimeEnabled;
+	private static volatile MethodHandle allocatedBytesHandle;
+
+	/**
+	 * Turns on the thread CPU time and allocated memory counters of the JVM if they're supported.
+	 *
+	 * <p>
+	 * These settings affect every thread in the JVM, so they're only changed once profiling has been configured.
+	 * <br>Subsequent calls are no-ops.
+	 */
+	public static synchronized void enable() {
+		if (enabled)
+			return;
+		try {
+			if (THREAD_BEAN.isCurrentThreadCpuTimeSupported()) {
+				if (! THREAD_BEAN.isThreadCpuTimeEnabled())
+					THREAD_BEAN.setThreadCpuTimeEnabled(true);
+				cpuTimeEnabled = true;
+			}
+		} catch (Throwable e) {
+			// Not available on this JVM.
+		}
+		try {
+			Class<?> c = Class.forName("com.sun.management.ThreadMXBean", false, THREAD_BEAN.getClass().getClassLoader());
+			if (c.isInstance(THREAD_BEAN) && (Boolean)c.getMethod("isThreadAllocatedMemorySupported").invoke(THREAD_BEAN)) {
+				if (! (Boolean)c.getMethod("isThreadAllocatedMemoryEnabled").invoke(THREAD_BEAN))
+					c.getMethod("setThreadAllocatedMemoryEnabled", boolean.class).invoke(THREAD_BEAN, true);
+				allocatedBytesHandle = MethodHandles.publicLookup()
+					.findVirtual(c, "getThreadAllocatedBytes", MethodType.methodType(long.class, long.class))
+					.bindTo(THREAD_BEAN);
+			}
+		} catch (Throwable e) {
+			// Not available on this JVM.
+		}
+		enabled = true;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if per-thread allocated bytes are being measured.
+	 *
+	 * <p>
+	 * Always <jk>false</jk> until {@link #enable()} has been called.
+	 *
+	 * @return <jk>true</jk> if per-thread allocated bytes are being measured.
+	 */
+	public static boolean isAllocationSupported() {
+		return allocatedBytesHandle != null;
+	}
+
+	private final Thread thread = Thread.currentThread();
+	private final long threadId = thread.getId();
+	private final long[] bytes = new long[PHASES.length], cpuTimes = new long[PHASES.length];
+	private final boolean[] recorded = new boolean[PHASES.length];
+	private int[] stack = new int[4];
+	private int depth, current = -1;
+	private long markBytes, markCpuTime;
+	private final MethodHandle allocatedBytes;
+	private final boolean cpuTime;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Calls {@link #enable()} if it hasn't been called yet.
+	 */
+	public RestOpProfiler() {
+		if (! enabled)
+			enable();
+		allocatedBytes = allocatedBytesHandle;
+		cpuTime = cpuTimeEnabled;
+	}
+
+	/**
+	 * Starts measuring the specified phase.
+	 *
+	 * <p>
+	 * If another phase is currently being measured, it's suspended until {@link #stop()} is called.
+	 *
+	 * @param phase The phase to start.
+	 * @return This object.
+	 */
+	public RestOpProfiler start(Phase phase) {
+		if (Thread.currentThread() != thread)
+			return this;
+		long b = allocatedBytes(), c = threadCpuTime();
+		if (current != -1) {
+			add(current, b, c);
+			if (depth == stack.length)
+				stack = Arrays.copyOf(stack, depth * 2);
+			stack[depth++] = current;
+		}
+		current = phase.ordinal();
+		recorded[current] = true;
+		markBytes = b;
+		markCpuTime = c;
+		return this;
+	}
+
+	/**
+	 * Stops measuring the current phase and resumes the phase it was started from.
+	 *
+	 * @return This object.
+	 */
+	public RestOpProfiler stop() {
+		if (Thread.currentThread() != thread || current == -1)
+			return this;
+		long b = allocatedBytes(), c = threadCpuTime();
+		add(current, b, c);
+		current = depth == 0 ? -1 : stack[--depth];
+		markBytes = b;
+		markCpuTime = c;
+		return this;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified phase was started at least once.
+	 *
+	 * @param phase The phase to check.
+	 * @return <jk>true</jk> if the specified phase was started at least once.
+	 */
+	public boolean isRecorded(Phase phase) {
+		return recorded[phase.ordinal()];
+	}
+
+	/**
+	 * Returns the number of bytes allocated during the specified phase.
+	 *
+	 * @param phase The phase to check.
+	 * @return The number of bytes allocated during the specified phase.
+	 */
+	public long getAllocatedBytes(Phase phase) {
+		return bytes[phase.ordinal()];
+	}
+
+	/**
+	 * Returns the CPU time consumed during the specified phase.
+	 *
+	 * @param phase The phase to check.
+	 * @return The CPU time consumed during the specified phase in nanoseconds.
+	 */
+	public long getCpuTime(Phase phase) {
+		return cpuTimes[phase.ordinal()];
+	}
+
+	private void add(int phase, long b, long c) {
+		bytes[phase] += b - markBytes;
+		cpuTimes[phase] += c - markCpuTime;
+	}
+
+	private long allocatedBytes() {
+		if (allocatedBytes == null)
+			return 0;
+		try {
+			return (long)allocatedBytes.invokeExact(threadId);
+		} catch (Throwable e) {
+			return 0;
+		}
+	}
+
+	private long threadCpuTime() {
+		return cpuTime ? THREAD_BEAN.getCurrentThreadCpuTime() : 0;
+	}
+}
@@ -156,8 +156,9 @@ public class ThrownStats implements Cloneable {
 	private final List<String> stackTrace;
 	private final Optional<ThrownStats> causedBy;
 
-	private final AtomicInteger count;
-	private final AtomicLong firstOccurrence, lastOccurrence;
+	private final LongAdder count;
+	private final long firstOccurrence;
+	private volatile long lastOccurrence;
 
 	/**
 	 * Constructor.
@@ -171,10 +172,10 @@ public class ThrownStats implements Cloneable {
 		this.stackTrace = listBuilder(builder.stackTrace).copy().unmodifiable().build();
 		this.causedBy = optional(builder.causedBy);
 		this.hash = builder.hash;
-		this.count = new AtomicInteger(0);
+		this.count = new LongAdder();
 		long ct = System.currentTimeMillis();
-		this.firstOccurrence = new AtomicLong(ct);
-		this.lastOccurrence = new AtomicLong(ct);
+		this.firstOccurrence = ct;
+		this.lastOccurrence = ct;
 	}
 
 	/**
@@ -187,9 +188,10 @@ public class ThrownStats implements Cloneable {
 		this.stackTrace = listBuilder(x.stackTrace).copy().unmodifiable().build();
 		this.causedBy = optional(x.causedBy.isPresent() ? x.causedBy.get().clone() : null);
 		this.hash = x.hash;
-		this.count = new AtomicInteger(x.count.get());
-		this.firstOccurrence = new AtomicLong(x.firstOccurrence.get());
-		this.lastOccurrence = new AtomicLong(x.lastOccurrence.get());
+		this.count = new LongAdder();
+		this.count.add(x.count.sum());
+		this.firstOccurrence = x.firstOccurrence;
+		this.lastOccurrence = x.lastOccurrence;
 	}
 
 	/**
@@ -239,7 +241,7 @@ public class ThrownStats implements Cloneable {
 	 * @return The UTC time of the first occurrence of this exception at a specific location in code.
 	 */
 	public long getFirstOccurrence() {
-		return firstOccurrence.longValue();
+		return firstOccurrence;
 	}
 
 	/**
@@ -248,7 +250,7 @@ public class ThrownStats implements Cloneable {
 	 * @return The UTC time of the last occurrence of this exception at a specific location in code.
 	 */
 	public long getLastOccurrence() {
-		return lastOccurrence.longValue();
+		return lastOccurrence;
 	}
 
 	/**
@@ -284,9 +286,25 @@ public class ThrownStats implements Cloneable {
 	 * @return This object.
 	 */
 	public ThrownStats increment() {
-		count.incrementAndGet();
-		lastOccurrence.set(System.currentTimeMillis());
-		causedBy.ifPresent(ThrownStats::increment);
+		return increment(1);
+	}
+
+	/**
+	 * Increments the occurrence count of this exception by the specified amount.
+	 *
+	 * <p>
+	 * Used by {@link ThrownStore} to weight sampled occurrences.
+	 *
+	 * @param amount The amount to add to the occurrence count.
+	 * @return This object.
+	 */
+	public ThrownStats increment(long amount) {
+		count.add(amount);
+		long ct = System.currentTimeMillis();
+		if (ct != lastOccurrence)
+			lastOccurrence = ct;
+		if (causedBy.isPresent())
+			causedBy.get().increment(amount);
 		return this;
 	}
 
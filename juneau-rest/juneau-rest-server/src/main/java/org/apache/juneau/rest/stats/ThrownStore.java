@@ -19,6 +19,7 @@ import static java.util.Comparator.*;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.cp.*;
@@ -30,6 +31,20 @@ import org.apache.juneau.internal.*;
  * <p>
  * Used for preventing duplication of stack traces in log files and replacing them with small hashes.
  *
+ * <p>
+ * The store is designed to stay cheap during error storms:
+ * <ul>
+ * 	<li>Exceptions are identified by a hash of only the top {@link Builder#maxFrames(int) maxFrames} frames of their
+ * 		stack traces.
+ * 	<li>The number of distinct exceptions is bounded by {@link Builder#maxSize(int) maxSize}.
+ * 		<br>When full, an exception that hasn't been seen recently is evicted to make room for a new one.
+ * 		<br>Exceptions are evicted in the order they were first seen, except that exceptions seen again since they were
+ * 		last checked get a second chance.
+ * 	<li>When more than {@link Builder#sampleThreshold(int) sampleThreshold} exceptions are added within a second,
+ * 		only one out of every {@link Builder#sampleRate(int) sampleRate} is recorded and counted with a weight of
+ * 		<c>sampleRate</c>, so counts become estimates for the remainder of that second.
+ * </ul>
+ *
  * <ul class='seealso'>
  * 	<li class='link'><a class="doclink" href="../../../../../overview-summary.html#juneau-rest-server.jrs.ExecutionStatistics">REST method execution statistics</a>
  * </ul>
@@ -75,6 +90,7 @@ public class ThrownStore {
 		ThrownStore parent;
 		Class<? extends ThrownStats> statsImplClass;
 		Set<Class<?>> ignoreClasses;
+		int maxSize = 1000, maxFrames = 32, sampleThreshold = 1000, sampleRate = 10;
 
 		/**
 		 * Constructor.
@@ -134,6 +150,60 @@ public class ThrownStore {
 			return this;
 		}
 
+		/**
+		 * Specifies the maximum number of distinct exceptions to keep in this store.
+		 *
+		 * <p>
+		 * When the store is full, an exception that hasn't been seen recently is evicted when a new one is added.
+		 *
+		 * @param value The new value for this setting.  The default is <c>1000</c>.
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder maxSize(int value) {
+			this.maxSize = value;
+			return this;
+		}
+
+		/**
+		 * Specifies the maximum number of stack trace frames used when calculating exception hashes.
+		 *
+		 * <p>
+		 * Exceptions whose stack traces differ only below this depth are treated as the same exception.
+		 *
+		 * @param value The new value for this setting.  The default is <c>32</c>.
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder maxFrames(int value) {
+			this.maxFrames = value;
+			return this;
+		}
+
+		/**
+		 * Specifies the number of exceptions per second above which exceptions are sampled.
+		 *
+		 * @param value The new value for this setting.  Use <c>0</c> to disable sampling.  The default is <c>1000</c>.
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder sampleThreshold(int value) {
+			this.sampleThreshold = value;
+			return this;
+		}
+
+		/**
+		 * Specifies how many exceptions are represented by each recorded exception while sampling.
+		 *
+		 * @param value The new value for this setting.  The default is <c>10</c>.
+		 * @return This object.
+		 */
+		@FluentSetter
+		public Builder sampleRate(int value) {
+			this.sampleRate = value;
+			return this;
+		}
+
 		// <FluentSetters>
 
 		@Override /* GENERATED - org.apache.juneau.BeanBuilder */
@@ -156,10 +226,14 @@ public class ThrownStore {
 	//-----------------------------------------------------------------------------------------------------------------
 
 	private final ConcurrentHashMap<Long,ThrownStats> db = new ConcurrentHashMap<>();
+	private final Queue<QueueEntry> queue = new ArrayDeque<>();
 	private final Optional<ThrownStore> parent;
 	private final BeanStore beanStore;
 	private final Class<? extends ThrownStats> statsImplClass;
 	private final Set<String> ignoreClasses;
+	private final int maxSize, maxFrames, sampleThreshold, sampleRate;
+	private final LongAdder windowCount = new LongAdder();
+	private volatile long window;
 
 	/**
 	 * Constructor.
@@ -187,22 +261,46 @@ public class ThrownStore {
 		if (s == null)
 			s = Collections.emptySet();
 		this.ignoreClasses = unmodifiable(s);
+		this.maxSize = Math.max(1, builder.maxSize);
+		this.maxFrames = builder.maxFrames <= 0 ? Integer.MAX_VALUE : builder.maxFrames;
+		this.sampleThreshold = builder.sampleThreshold;
+		this.sampleRate = Math.max(1, builder.sampleRate);
 	}
 
 
 	/**
 	 * Adds the specified thrown exception to this database.
 	 *
+	 * <p>
+	 * While sampling is active (see {@link Builder#sampleThreshold(int)}), most exceptions are not counted.
+	 * <br>The exception is always passed on to the parent store, which applies its own sampling.
+	 *
 	 * @param e The exception to add.
-	 * @return This object.
+	 * @return The stats for the exception.
 	 */
 	public ThrownStats add(Throwable e) {
-		ThrownStats s = find(e);
-		s.increment();
+		ThrownStats s = find(e, weight());
 		parent.ifPresent(x->x.add(e));
 		return s;
 	}
 
+	/*
+	 * Returns the weight to record the current exception with, or 0 if it should be skipped.
+	 */
+	private int weight() {
+		if (sampleThreshold <= 0 || sampleRate == 1)
+			return 1;
+		long w = System.currentTimeMillis() / 1000;
+		if (w != window) {
+			window = w;
+			windowCount.reset();
+		}
+		windowCount.increment();
+		if (windowCount.sum() <= sampleThreshold)
+			return 1;
+		return ThreadLocalRandom.current().nextInt(sampleRate) == 0 ? sampleRate : 0;
+	}
+
 	/**
 	 * Retrieves the stats for the specified thrown exception.
 	 *
@@ -237,11 +335,18 @@ public class ThrownStore {
 	 * Clears out the stack trace cache.
 	 */
 	public void reset() {
-		db.clear();
+		synchronized (queue) {
+			db.clear();
+			queue.clear();
+		}
 	}
 
 	/**
-	 * Calculates a 32-bit hash for the specified throwable based on the stack trace generated by {@link #createStackTrace(Throwable)}.
+	 * Calculates a 64-bit hash for the specified throwable based on the top frames of the stack trace generated by
+	 * {@link #createStackTrace(Throwable)}.
+	 *
+	 * <p>
+	 * Only the first {@link Builder#maxFrames(int) maxFrames} included frames are normalized and hashed.
 	 *
 	 * <p>
 	 * Subclasses can override this method to provide their own implementation.
@@ -251,10 +356,17 @@ public class ThrownStore {
 	 */
 	protected long hash(Throwable t) {
 		long h = 1125899906842597L; // prime
-		for (String s : createStackTrace(t)) {
+		int n = 0;
+		for (StackTraceElement e : t.getStackTrace()) {
+			if (n == maxFrames)
+				break;
+			if (! include(e))
+				continue;
+			String s = normalize(e);
 			int len = s.length();
 			for (int i = 0; i < len; i++)
 				h = 31*h + s.charAt(i);
+			n++;
 		}
 		return h;
 	}
@@ -310,7 +422,7 @@ public class ThrownStore {
 		return s2 + "..." + s3;
 	}
 
-	private ThrownStats find(final Throwable t) {
+	private ThrownStats find(final Throwable t, int weight) {
 
 		if (t == null)
 			return null;
@@ -325,13 +437,68 @@ public class ThrownStore {
 				.throwable(t)
 				.hash(hash)
 				.stackTrace(createStackTrace(t))
-				.causedBy(find(t.getCause()))
+				.causedBy(find(t.getCause(), 0))
 				.build();
 
-			db.putIfAbsent(hash, stc);
-			stc = db.get(hash);
+			ThrownStats stc2 = insert(hash, stc, weight);
+			if (stc2 != null)
+				stc = stc2;
 		}
 
+		if (weight > 0)
+			stc.increment(weight);
 		return stc;
 	}
+
+	/*
+	 * Adds a new entry and evicts entries until the store is back within its maximum size.
+	 * Only runs when a new distinct exception is seen, so lookups of existing exceptions never lock.
+	 * The first occurrence is about to be counted with the specified weight, so it's not treated as a repeat occurrence.
+	 * Returns the existing entry if another thread added one first.
+	 */
+	private ThrownStats insert(long hash, ThrownStats stats, int weight) {
+		synchronized (queue) {
+			ThrownStats stats2 = db.putIfAbsent(hash, stats);
+			if (stats2 != null)
+				return stats2;
+			queue.add(new QueueEntry(hash, weight));
+			while (db.size() > maxSize && evict()) {}
+			return null;
+		}
+	}
+
+	/*
+	 * Removes the entry at the head of the queue, re-queuing entries that were seen since they were last checked.
+	 * Every re-queue is paid for by an earlier call to add(), and after one pass over the queue the head is evicted
+	 * unconditionally.
+	 */
+	private boolean evict() {
+		for (int i = queue.size(); i >= 0; i--) {
+			QueueEntry e = queue.poll();
+			if (e == null)
+				return false;
+			ThrownStats s = db.get(e.hash);
+			if (s == null)
+				continue;
+			int count = s.getCount();
+			if (count > e.count && i > 0) {
+				e.count = count;
+				queue.add(e);
+			} else {
+				db.remove(e.hash);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class QueueEntry {
+		final long hash;
+		int count;
+
+		QueueEntry(long hash, int count) {
+			this.hash = hash;
+			this.count = count;
+		}
+	}
 }
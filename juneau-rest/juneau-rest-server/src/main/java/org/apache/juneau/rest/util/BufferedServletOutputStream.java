@@ -0,0 +1,191 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.io.*;
+import java.util.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+/**
+ * A {@link ServletOutputStream} that holds back small response bodies so that a <c>Content-Length</c> header can be set.
+ *
+ * <p>
+ * Content is buffered in memory until {@link #commit()} is called.
+ * <br>If the content fits in the buffer, the <c>Content-Length</c> header is set and the content is written to the
+ * response in a single write, which lets the container avoid chunked transfer encoding.
+ * <br>If the content grows past the maximum size, the buffered content is written to the response and the remaining
+ * content is passed through as-is.
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>Calls to {@link #flush()} are ignored while content is being buffered.
+ * </ul>
+ */
+public final class BufferedServletOutputStream extends ServletOutputStream {
+
+	private final HttpServletResponse res;
+	private final int maxSize;
+	private byte[] buf;
+	private int count;
+	private long size;
+	private ServletOutputStream out;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param res The response to write to.
+	 * @param initialSize The initial size of the buffer.
+	 * @param maxSize The maximum number of bytes to buffer.
+	 */
+	public BufferedServletOutputStream(HttpServletResponse res, int initialSize, int maxSize) {
+		this.res = res;
+		this.maxSize = maxSize;
+		this.buf = new byte[Math.max(0, Math.min(initialSize, maxSize))];
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		size++;
+		if (buf != null && count == maxSize)
+			spill();
+		if (buf == null) {
+			out().write(b);
+		} else {
+			ensureCapacity(count + 1);
+			buf[count++] = (byte)b;
+		}
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		size += len;
+		if (buf != null && count + len > maxSize)
+			spill();
+		if (buf == null) {
+			out().write(b, off, len);
+		} else {
+			ensureCapacity(count + len);
+			System.arraycopy(b, off, buf, count, len);
+			count += len;
+		}
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		if (out != null)
+			out.flush();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		commit();
+		if (out != null)
+			out.close();
+	}
+
+	@Override /* ServletOutputStream */
+	public boolean isReady() {
+		return out == null || out.isReady();
+	}
+
+	@Override /* ServletOutputStream */
+	public void setWriteListener(WriteListener listener) {
+		try {
+			spill();
+			out().setWriteListener(listener);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Sets the <c>Content-Length</c> header and writes the buffered content to the response.
+	 *
+	 * <p>
+	 * A no-op if the content has already been written or discarded.
+	 *
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public void commit() throws IOException {
+		if (buf != null) {
+			res.setContentLength(count);
+			byte[] b = buf;
+			buf = null;
+			if (count > 0)
+				out().write(b, 0, count);
+		}
+	}
+
+	/**
+	 * Discards any buffered content.
+	 *
+	 * <p>
+	 * Used when an error occurs while writing the content so that a partial body is not sent with the error response.
+	 * <br>Content written afterwards is passed through to the response.
+	 */
+	public void discard() {
+		buf = null;
+	}
+
+	/**
+	 * Returns whether all the content written so far is still held in the buffer.
+	 *
+	 * @return <jk>true</jk> if the content has not been written to the response or discarded.
+	 */
+	public boolean isBuffered() {
+		return buf != null;
+	}
+
+	/**
+	 * Returns a hash of the buffered content.
+	 *
+	 * @return The hash of the buffered content.
+	 * @throws IllegalStateException If the content is no longer buffered.
+	 * @see ContentHash
+	 */
+	public long hash() {
+		if (buf == null)
+			throw new IllegalStateException("Content is no longer buffered.");
+		return ContentHash.hash(buf, 0, count);
+	}
+
+	/**
+	 * Returns the total number of bytes written to this stream.
+	 *
+	 * @return The total number of bytes written to this stream, including bytes that were not buffered.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	private void spill() throws IOException {
+		if (buf != null) {
+			byte[] b = buf;
+			buf = null;
+			if (count > 0)
+				out().write(b, 0, count);
+		}
+	}
+
+	private ServletOutputStream out() throws IOException {
+		if (out == null)
+			out = res.getOutputStream();
+		return out;
+	}
+
+	private void ensureCapacity(int minCapacity) {
+		if (minCapacity > buf.length)
+			buf = Arrays.copyOf(buf, Math.min(maxSize, Math.max(minCapacity, Math.max(256, buf.length * 2))));
+	}
+}
@@ -12,23 +12,41 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.util;
 
-import static org.apache.juneau.internal.IOUtils.*;
-
 import java.io.IOException;
 
+import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 
 /**
- * Wraps an {@link HttpServletRequest} and preloads the content into memory for debugging purposes.
+ * Wraps an {@link HttpServletRequest} and captures the content as it's read for debugging purposes.
+ *
+ * <p>
+ * Content is streamed through to the reader unchanged while only the first bytes up to a configurable limit are
+ * retained in memory.
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>
+ * 		Unlike a fully-buffered request, {@link #getInputStream()} returns the same stream on every call, so content
+ * 		can only be read once.
+ * 	<li class='note'>
+ * 		Content that the call never reads can be captured afterwards through {@link #captureUnread()}.
+ * </ul>
  *
  * <ul class='seealso'>
+ * 	<li class='jm'>{@link org.apache.juneau.rest.RestContext.Builder#debugCaptureLimit(String)}
  * </ul>
  */
 public class CachingHttpServletRequest extends HttpServletRequestWrapper {
 
-	private final byte[] content;
+	/**
+	 * The default maximum number of content bytes retained.
+	 */
+	public static final int DEFAULT_CAPTURE_LIMIT = 65536;
+
+	private final CaptureBuffer capture;
+	private ServletInputStream in;
 
 	/**
 	 * Wraps the specified request inside a {@link CachingHttpServletRequest} if it isn't already.
@@ -38,33 +56,150 @@ public class CachingHttpServletRequest extends HttpServletRequestWrapper {
 	 * @throws IOException Thrown by underlying content stream.
 	 */
 	public static CachingHttpServletRequest wrap(HttpServletRequest req) throws IOException {
-		if (req instanceof CachingHttpServletRequest)
-			return (CachingHttpServletRequest)req;
-		return new CachingHttpServletRequest(req);
+		return wrap(req, DEFAULT_CAPTURE_LIMIT);
+	}
+
+	/**
+	 * Wraps the specified request inside a {@link CachingHttpServletRequest} if it isn't already.
+	 *
+	 * <p>
+	 * If it already is, the capture limit of the existing wrapper is raised to the specified limit.
+	 *
+	 * @param req The request to wrap.
+	 * @param captureLimit The maximum number of content bytes to retain, or <c>-1</c> for no limit.
+	 * @return The wrapped request.
+	 * @throws IOException Thrown by underlying content stream.
+	 */
+	public static CachingHttpServletRequest wrap(HttpServletRequest req, int captureLimit) throws IOException {
+		if (req instanceof CachingHttpServletRequest) {
+			CachingHttpServletRequest x = (CachingHttpServletRequest)req;
+			x.capture.raiseLimit(captureLimit);
+			return x;
+		}
+		return new CachingHttpServletRequest(req, captureLimit);
 	}
 
 	/**
 	 * Constructor.
 	 *
 	 * @param req The request being wrapped.
-	 * @throws IOException If content could not be loaded into memory.
+	 * @throws IOException Thrown by underlying content stream.
 	 */
 	protected CachingHttpServletRequest(HttpServletRequest req) throws IOException {
+		this(req, DEFAULT_CAPTURE_LIMIT);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param req The request being wrapped.
+	 * @param captureLimit The maximum number of content bytes to retain, or <c>-1</c> for no limit.
+	 * @throws IOException Thrown by underlying content stream.
+	 */
+	protected CachingHttpServletRequest(HttpServletRequest req, int captureLimit) throws IOException {
 		super(req);
-		this.content = readBytes(req.getInputStream());
+		this.capture = new CaptureBuffer(captureLimit);
 	}
 
 	@Override
-	public ServletInputStream getInputStream() {
-		return new BoundedServletInputStream(content);
+	public ServletInputStream getInputStream() throws IOException {
+		if (in == null)
+			in = new TeeInputStream(super.getInputStream());
+		return in;
 	}
 
 	/**
-	 * Returns the content of the servlet request without consuming the stream.
+	 * Returns the content of the servlet request that has been read so far without consuming the stream.
+	 *
+	 * <p>
+	 * Only the first bytes up to the capture limit are returned.
 	 *
-	 * @return The content of the request.
+	 * @return The captured content of the request.
 	 */
 	public byte[] getContent() {
-		return content;
+		return capture.toByteArray();
+	}
+
+	/**
+	 * Reads content that hasn't been read yet into the capture, up to the capture limit.
+	 *
+	 * <p>
+	 * Used by the call logger once the call has finished so that content the call never read (for example because the
+	 * request was rejected by a guard or matcher before the content was parsed) is still logged.
+	 * <br>Content beyond the capture limit is left unread.
+	 *
+	 * @throws IOException Thrown by underlying content stream.
+	 */
+	public void captureUnread() throws IOException {
+		if (capture.remaining() <= 0)
+			return;
+		ServletInputStream is;
+		try {
+			is = getInputStream();
+		} catch (IllegalStateException e) {
+			return;  // Content was consumed through getReader().
+		}
+		byte[] b = new byte[Math.min(8192, capture.remaining())];
+		while (capture.remaining() > 0)
+			if (is.read(b, 0, Math.min(b.length, capture.remaining())) == -1)
+				break;
+	}
+
+	/**
+	 * Returns the total number of content bytes read so far, including bytes beyond the capture limit.
+	 *
+	 * @return The total number of content bytes read so far.
+	 */
+	public long getContentRead() {
+		return capture.getTotal();
+	}
+
+	private class TeeInputStream extends ServletInputStream {
+		private final ServletInputStream is;
+
+		TeeInputStream(ServletInputStream is) {
+			this.is = is;
+		}
+
+		@Override /* InputStream */
+		public int read() throws IOException {
+			int b = is.read();
+			if (b != -1)
+				capture.write(b);
+			return b;
+		}
+
+		@Override /* InputStream */
+		public int read(byte[] b, int off, int len) throws IOException {
+			int r = is.read(b, off, len);
+			if (r > 0)
+				capture.write(b, off, r);
+			return r;
+		}
+
+		@Override /* InputStream */
+		public int available() throws IOException {
+			return is.available();
+		}
+
+		@Override /* InputStream */
+		public void close() throws IOException {
+			is.close();
+		}
+
+		@Override /* ServletInputStream */
+		public boolean isFinished() {
+			return is.isFinished();
+		}
+
+		@Override /* ServletInputStream */
+		public boolean isReady() {
+			return is.isReady();
+		}
+
+		@Override /* ServletInputStream */
+		public void setReadListener(ReadListener readListener) {
+			is.setReadListener(readListener);
+		}
 	}
 }
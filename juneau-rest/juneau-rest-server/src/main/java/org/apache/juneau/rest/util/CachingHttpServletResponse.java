@@ -12,7 +12,6 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.util;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import javax.servlet.ServletOutputStream;
@@ -20,15 +19,26 @@ import javax.servlet.WriteListener;
 import javax.servlet.http.*;
 
 /**
- * Wraps an {@link HttpServletResponse} and caches the output stream in a separate buffer for debugging purposes.
+ * Wraps an {@link HttpServletResponse} and captures the output stream content for debugging purposes.
+ *
+ * <p>
+ * Content is streamed through to the client unchanged while only the first bytes up to a configurable limit are
+ * retained in memory.
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>The output stream of the wrapped response isn't requested until {@link #getOutputStream()} is first
+ * 		called, so {@link #getWriter()} can still be used instead.
+ * 		<br>Content written through {@link #getWriter()} isn't captured.
+ * </ul>
  *
  * <ul class='seealso'>
+ * 	<li class='jm'>{@link org.apache.juneau.rest.RestContext.Builder#debugCaptureLimit(String)}
  * </ul>
  */
 public class CachingHttpServletResponse extends HttpServletResponseWrapper {
 
-	final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-	final ServletOutputStream os;
+	final CaptureBuffer capture;
+	private ServletOutputStream out;
 
 	/**
 	 * Wraps the specified response inside a {@link CachingHttpServletResponse} if it isn't already.
@@ -38,9 +48,27 @@ public class CachingHttpServletResponse extends HttpServletResponseWrapper {
 	 * @throws IOException Thrown by underlying content stream.
 	 */
 	public static CachingHttpServletResponse wrap(HttpServletResponse res) throws IOException {
-		if (res instanceof CachingHttpServletResponse)
-			return (CachingHttpServletResponse)res;
-		return new CachingHttpServletResponse(res);
+		return wrap(res, CachingHttpServletRequest.DEFAULT_CAPTURE_LIMIT);
+	}
+
+	/**
+	 * Wraps the specified response inside a {@link CachingHttpServletResponse} if it isn't already.
+	 *
+	 * <p>
+	 * If it already is, the capture limit of the existing wrapper is raised to the specified limit.
+	 *
+	 * @param res The response to wrap.
+	 * @param captureLimit The maximum number of content bytes to retain, or <c>-1</c> for no limit.
+	 * @return The wrapped request.
+	 * @throws IOException Thrown by underlying content stream.
+	 */
+	public static CachingHttpServletResponse wrap(HttpServletResponse res, int captureLimit) throws IOException {
+		if (res instanceof CachingHttpServletResponse) {
+			CachingHttpServletResponse x = (CachingHttpServletResponse)res;
+			x.capture.raiseLimit(captureLimit);
+			return x;
+		}
+		return new CachingHttpServletResponse(res, captureLimit);
 	}
 
 	/**
@@ -50,48 +78,81 @@ public class CachingHttpServletResponse extends HttpServletResponseWrapper {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	protected CachingHttpServletResponse(HttpServletResponse res) throws IOException {
+		this(res, CachingHttpServletRequest.DEFAULT_CAPTURE_LIMIT);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param res The wrapped servlet response.
+	 * @param captureLimit The maximum number of content bytes to retain, or <c>-1</c> for no limit.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected CachingHttpServletResponse(HttpServletResponse res, int captureLimit) throws IOException {
 		super(res);
-		os = res.getOutputStream();
+		capture = new CaptureBuffer(captureLimit);
 	}
 
 	@Override
 	public ServletOutputStream getOutputStream() throws IOException {
-		return new ServletOutputStream() {
-
-			@Override
-			public boolean isReady() {
-				return os.isReady();
-			}
-
-			@Override
-			public void setWriteListener(WriteListener writeListener) {
-				os.setWriteListener(writeListener);
-			}
-
-			@Override
-			public void write(int b) throws IOException {
-				baos.write(b);
-				os.write(b);
-			}
-
-			@Override
-			public void flush() throws IOException {
-				os.flush();
-			}
-
-			@Override
-			public void close() throws IOException {
-				os.close();
-			}
-		};
+		if (out == null) {
+			ServletOutputStream os = getResponse().getOutputStream();
+			out = new ServletOutputStream() {
+
+				@Override
+				public boolean isReady() {
+					return os.isReady();
+				}
+
+				@Override
+				public void setWriteListener(WriteListener writeListener) {
+					os.setWriteListener(writeListener);
+				}
+
+				@Override
+				public void write(int b) throws IOException {
+					capture.write(b);
+					os.write(b);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					capture.write(b, off, len);
+					os.write(b, off, len);
+				}
+
+				@Override
+				public void flush() throws IOException {
+					os.flush();
+				}
+
+				@Override
+				public void close() throws IOException {
+					os.close();
+				}
+			};
+		}
+		return out;
 	}
 
 	/**
 	 * Returns the content of the servlet response without consuming the stream.
 	 *
-	 * @return The content of the response.
+	 * <p>
+	 * Only the first bytes up to the capture limit are returned.
+	 *
+	 * @return The captured content of the response.
 	 */
 	public byte[] getContent() {
-		return baos.toByteArray();
+		return capture.toByteArray();
+	}
+
+	/**
+	 * Returns the total number of content bytes written so far, including bytes beyond the capture limit.
+	 *
+	 * @return The total number of content bytes written so far.
+	 */
+	public long getContentWritten() {
+		return capture.getTotal();
 	}
 }
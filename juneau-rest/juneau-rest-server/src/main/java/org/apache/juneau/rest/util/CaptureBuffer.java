@@ -0,0 +1,110 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.util.*;
+
+/**
+ * Retains a bounded prefix of the bytes streamed through a request or response for logging purposes.
+ *
+ * <p>
+ * The buffer starts small and grows on demand up to the limit, so small bodies stay cheap and large bodies never cost
+ * more than the limit.
+ */
+final class CaptureBuffer {
+
+	private static final int INITIAL_SIZE = 256;
+
+	private int limit;
+	private byte[] buf;
+	private int count;
+	private long total;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param limit The maximum number of bytes to retain, or <c>-1</c> for no limit.
+	 */
+	CaptureBuffer(int limit) {
+		this.limit = limit < 0 ? Integer.MAX_VALUE - 8 : limit;
+	}
+
+	/**
+	 * Raises the maximum number of bytes to retain.
+	 *
+	 * <p>
+	 * Only affects bytes streamed through after this call.
+	 *
+	 * @param limit The new maximum number of bytes to retain, or <c>-1</c> for no limit.
+	 * 	<br>Ignored if it's lower than the current limit.
+	 */
+	void raiseLimit(int limit) {
+		this.limit = Math.max(this.limit, limit < 0 ? Integer.MAX_VALUE - 8 : limit);
+	}
+
+	void write(int b) {
+		total++;
+		if (count < limit) {
+			ensureCapacity(count + 1);
+			buf[count++] = (byte)b;
+		}
+	}
+
+	void write(byte[] b, int off, int len) {
+		if (len <= 0)
+			return;
+		total += len;
+		int n = Math.min(len, limit - count);
+		if (n > 0) {
+			ensureCapacity(count + n);
+			System.arraycopy(b, off, buf, count, n);
+			count += n;
+		}
+	}
+
+	/**
+	 * Returns the number of bytes that can still be retained.
+	 *
+	 * @return The number of bytes that can still be retained.
+	 */
+	int remaining() {
+		return limit - count;
+	}
+
+	/**
+	 * Returns the retained bytes.
+	 *
+	 * @return A copy of the retained bytes.  Never <jk>null</jk>.
+	 */
+	byte[] toByteArray() {
+		return buf == null ? new byte[0] : Arrays.copyOf(buf, count);
+	}
+
+	/**
+	 * Returns the total number of bytes that have streamed through, including bytes that were not retained.
+	 *
+	 * @return The total number of bytes that have streamed through.
+	 */
+	long getTotal() {
+		return total;
+	}
+
+	private void ensureCapacity(int min) {
+		if (buf == null) {
+			buf = new byte[Math.min(Math.max(INITIAL_SIZE, min), limit)];
+		} else if (min > buf.length) {
+			int n = (int)Math.min(Math.max((long)buf.length << 1, min), limit);
+			buf = Arrays.copyOf(buf, n);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import static java.nio.charset.StandardCharsets.*;
+
+/**
+ * Fast non-cryptographic 64-bit hash of response content.
+ *
+ * <p>
+ * Implements the xxHash64 algorithm with a seed of zero.
+ * <br>Used for computing strong entity tags of serialized response bodies.
+ *
+ * <ul class='seealso'>
+ * 	<li class='jm'>{@link BufferedServletOutputStream#hash()}
+ * </ul>
+ */
+public final class ContentHash {
+
+	private static final long
+		P1 = 0x9E3779B185EBCA87L,
+		P2 = 0xC2B2AE3D27D4EB4FL,
+		P3 = 0x165667B19E3779F9L,
+		P4 = 0x85EBCA77C2B2AE63L,
+		P5 = 0x27D4EB2F165667C5L;
+
+	private ContentHash() {}
+
+	/**
+	 * Computes the hash of the specified bytes.
+	 *
+	 * @param b The bytes to hash.
+	 * @param off The start offset in the array.
+	 * @param len The number of bytes to hash.
+	 * @return The 64-bit hash.
+	 */
+	public static long hash(byte[] b, int off, int len) {
+		int i = off, end = off + len;
+		long h;
+
+		if (len >= 32) {
+			long v1 = P1 + P2, v2 = P2, v3 = 0, v4 = -P1;
+			for (int limit = end - 32; i <= limit; i += 32) {
+				v1 = round(v1, getLong(b, i));
+				v2 = round(v2, getLong(b, i+8));
+				v3 = round(v3, getLong(b, i+16));
+				v4 = round(v4, getLong(b, i+24));
+			}
+			h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+			h = merge(h, v1);
+			h = merge(h, v2);
+			h = merge(h, v3);
+			h = merge(h, v4);
+		} else {
+			h = P5;
+		}
+
+		h += len;
+
+		for (; i + 8 <= end; i += 8) {
+			h ^= round(0, getLong(b, i));
+			h = Long.rotateLeft(h, 27) * P1 + P4;
+		}
+		if (i + 4 <= end) {
+			h ^= (getInt(b, i) & 0xFFFFFFFFL) * P1;
+			h = Long.rotateLeft(h, 23) * P2 + P3;
+			i += 4;
+		}
+		for (; i < end; i++) {
+			h ^= (b[i] & 0xFFL) * P5;
+			h = Long.rotateLeft(h, 11) * P1;
+		}
+
+		h ^= h >>> 33;
+		h *= P2;
+		h ^= h >>> 29;
+		h *= P3;
+		h ^= h >>> 32;
+		return h;
+	}
+
+	/**
+	 * Computes the hash of the UTF-8 encoding of the specified string.
+	 *
+	 * @param s The string to hash.
+	 * @return The 64-bit hash.
+	 */
+	public static long hash(String s) {
+		byte[] b = s.getBytes(UTF_8);
+		return hash(b, 0, b.length);
+	}
+
+	private static long round(long acc, long input) {
+		acc += input * P2;
+		acc = Long.rotateLeft(acc, 31);
+		return acc * P1;
+	}
+
+	private static long merge(long acc, long v) {
+		acc ^= round(0, v);
+		return acc * P1 + P4;
+	}
+
+	private static long getLong(byte[] b, int i) {
+		return (b[i] & 0xFFL)
+			| (b[i+1] & 0xFFL) << 8
+			| (b[i+2] & 0xFFL) << 16
+			| (b[i+3] & 0xFFL) << 24
+			| (b[i+4] & 0xFFL) << 32
+			| (b[i+5] & 0xFFL) << 40
+			| (b[i+6] & 0xFFL) << 48
+			| (b[i+7] & 0xFFL) << 56;
+	}
+
+	private static int getInt(byte[] b, int i) {
+		return (b[i] & 0xFF)
+			| (b[i+1] & 0xFF) << 8
+			| (b[i+2] & 0xFF) << 16
+			| (b[i+3] & 0xFF) << 24;
+	}
+}
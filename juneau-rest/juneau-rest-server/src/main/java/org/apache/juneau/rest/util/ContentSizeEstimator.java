@@ -0,0 +1,70 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Keeps a moving average of the sizes of response bodies per media type.
+ *
+ * <p>
+ * Used to pre-size response buffers based on the sizes of previous responses of the same REST operation.
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>This class is thread safe and reusable.
+ * </ul>
+ */
+public final class ContentSizeEstimator {
+
+	private static final int MAX_KEYS = 32;
+
+	private final Map<String,AtomicLong> sizes = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the expected size of the next response body of the specified media type.
+	 *
+	 * @param mediaType The media type of the response body.
+	 * @return The moving average of previous response sizes, or <c>-1</c> if no responses have been recorded.
+	 */
+	public int estimate(String mediaType) {
+		AtomicLong x = sizes.get(mediaType);
+		return x == null ? -1 : (int)Math.min(Integer.MAX_VALUE, x.get());
+	}
+
+	/**
+	 * Adds the size of a response body to the moving average of the specified media type.
+	 *
+	 * <p>
+	 * Recent responses are weighted so that the average follows changes in response sizes within a few calls.
+	 *
+	 * @param mediaType The media type of the response body.
+	 * @param size The size of the response body in bytes.
+	 */
+	public void record(String mediaType, long size) {
+		AtomicLong x = sizes.get(mediaType);
+		if (x == null) {
+			if (sizes.size() >= MAX_KEYS)
+				return;
+			x = sizes.putIfAbsent(mediaType, new AtomicLong(size));
+			if (x == null)
+				return;
+		}
+		long prev, next;
+		do {
+			prev = x.get();
+			next = prev + ((size - prev) >> 2);
+		} while (! x.compareAndSet(prev, next));
+	}
+}
@@ -21,13 +21,22 @@ import java.util.*;
 /**
  * Represents a parsed URL path-info string.
  *
+ * <p>
+ * The path is not split into strings up front.
+ * <br>Instead, the offsets of the path segments are recorded so that path patterns can be matched against the original
+ * string, and segments are only extracted and decoded when they're actually needed (e.g. for path variable values).
+ *
  * <ul class='seealso'>
  * </ul>
  */
 public class UrlPath {
 
-	final String[] parts;
 	final String path;
+	private final int size;
+	private final int[] starts;  // Start offsets of each segment, plus one past the end of the path.  null if parts were split eagerly.
+	private final int[] hashes;  // Hash codes of the undecoded segments.  Same as String.hashCode().
+	private final long encoded;  // Bitmask of segments containing '%' or '+' characters.  Segments past 64 are always considered encoded.
+	private String[] parts;      // Decoded segments.  Populated lazily.
 
 	/**
 	 * Creates a new parsed {@link UrlPath} object from the specified string.
@@ -48,9 +57,54 @@ public class UrlPath {
 	 */
 	UrlPath(String path) {
 		this.path = path;
-		parts = path == null ? new String[0] : split(path.substring(1), '/');
-		for (int i = 0; i < parts.length; i++)
-			parts[i] = urlDecode(parts[i]);
+
+		// Paths containing whitespace or escape characters are split the same way as StringUtils.split() which trims
+		// and unescapes segments.
+		boolean simple = path != null;
+		int n = 0;
+		long encoded = 0;
+		for (int i = 1, len = simple ? path.length() : 0; i < len && simple; i++) {
+			char c = path.charAt(i);
+			if (c == '/')
+				n++;
+			else if (c == '%' || c == '+')
+				encoded |= n < 64 ? 1L << n : 0;
+			else if (c == '\\' || c <= ' ')
+				simple = false;
+		}
+
+		if (! simple) {
+			parts = path == null ? new String[0] : split(path.substring(1), '/');
+			for (int i = 0; i < parts.length; i++)
+				parts[i] = urlDecode(parts[i]);
+			size = parts.length;
+			starts = hashes = null;
+			this.encoded = -1;
+		} else if (path.length() <= 1) {
+			size = 0;
+			starts = hashes = null;
+			parts = new String[0];
+			this.encoded = -1;
+		} else {
+			size = n + 1;
+			starts = new int[size + 1];
+			hashes = new int[size];
+			int h = 0, j = 0;
+			for (int i = 1, len = path.length(); i < len; i++) {
+				char c = path.charAt(i);
+				if (c == '/') {
+					hashes[j++] = h;
+					starts[j] = i + 1;
+					h = 0;
+				} else {
+					h = 31 * h + c;
+				}
+			}
+			hashes[j] = h;
+			starts[0] = 1;
+			starts[size] = path.length() + 1;
+			this.encoded = encoded;
+		}
 	}
 
 	/**
@@ -59,9 +113,63 @@ public class UrlPath {
 	 * @return The path parts.
 	 */
 	public String[] getParts() {
+		for (int i = 0; i < size; i++)
+			getPart(i);
 		return parts;
 	}
 
+	/**
+	 * Returns the number of parts in this path.
+	 *
+	 * @return The number of parts in this path.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the decoded path part at the specified index.
+	 *
+	 * @param index The part index.  Must be less than {@link #size()}.
+	 * @return The decoded path part.
+	 */
+	public String getPart(int index) {
+		if (parts == null)
+			parts = new String[size];
+		String s = parts[index];
+		if (s == null) {
+			s = path.substring(starts[index], starts[index+1]-1);
+			if (isEncoded(index))
+				s = urlDecode(s);
+			parts[index] = s;
+		}
+		return s;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the decoded path part at the specified index is equal to the specified string.
+	 *
+	 * <p>
+	 * Unlike <c>getPart(index).equals(value)</c>, this doesn't extract the part from the path unless it needs to be
+	 * decoded.
+	 *
+	 * @param index The part index.  Must be less than {@link #size()}.
+	 * @param value The string to compare against.
+	 * @return <jk>true</jk> if the path part is equal to the specified string.
+	 */
+	public boolean partEquals(int index, String value) {
+		if (starts == null || isEncoded(index))
+			return getPart(index).equals(value);
+		if (hashes[index] != value.hashCode())
+			return false;
+		int start = starts[index], len = starts[index+1]-1-start;
+		return len == value.length() && path.regionMatches(start, value, 0, len);
+	}
+
+	private boolean isEncoded(int index) {
+		return index >= 64 || (encoded & (1L << index)) != 0;
+	}
+
 
 	/**
 	 * Returns the filename portion of the path if there is one.
@@ -72,9 +180,9 @@ public class UrlPath {
 	 * @return The filename portion of the path, or <jk>null</jk> if the path doesn't match a file name.
 	 */
 	public Optional<String> getFileName() {
-		if (parts.length == 0)
+		if (size == 0)
 			return empty();
-		String p = parts[parts.length-1];
+		String p = getPart(size-1);
 		if (p.indexOf('.') == -1)
 			return empty();
 		return optional(p);
@@ -102,7 +210,7 @@ public class UrlPath {
 	public String toString() {
 		return filteredMap()
 			.append("raw", path)
-			.append("parts", parts)
+			.append("parts", getParts())
 			.asReadableString();
 	}
 }
@@ -67,13 +67,20 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 		}
 
 		@Override /* UrlPathMatcher */
-		public UrlPathMatch match(UrlPath pathInfo) {
+		public boolean matches(UrlPath pathInfo) {
 			Optional<String> fileName = pathInfo.getFileName();
 			if (fileName.isPresent()) {
 				String base = getBaseName(fileName.get()), ext = getExtension(fileName.get());
 				if ((basePattern == null || basePattern.equals(base)) && (extPattern == null || extPattern.equals(ext)))
-					return new UrlPathMatch(pathInfo.getPath(), pathInfo.getParts().length, new String[0], new String[0]);
+					return true;
 			}
+			return false;
+		}
+
+		@Override /* UrlPathMatcher */
+		public UrlPathMatch match(UrlPath pathInfo) {
+			if (matches(pathInfo))
+				return new UrlPathMatch(pathInfo.getPath(), pathInfo.size(), new String[0], new String[0]);
 			return null;
 		}
 
@@ -125,6 +132,30 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 			this.varKeys = vars.isEmpty() ? null : vars.toArray(new String[vars.size()]);
 		}
 
+		@Override
+		public boolean matches(UrlPath urlPath) {
+
+			int size = urlPath.size();
+
+			if (parts.length != size) {
+				if (hasRemainder) {
+					if (size == parts.length - 1 && ! urlPath.isTrailingSlash())
+						return false;
+					else if (size < parts.length)
+						return false;
+				} else {
+					if (size != parts.length + 1 || ! urlPath.isTrailingSlash())
+						return false;
+				}
+			}
+
+			for (int i = 0; i < parts.length; i++)
+				if (vars[i] == null && (size <= i || ! ("*".equals(parts[i]) || urlPath.partEquals(i, parts[i]))))
+					return false;
+
+			return true;
+		}
+
 		/**
 		 * Returns a non-<jk>null</jk> value if the specified path matches this pattern.
 		 *
@@ -135,23 +166,8 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 		@Override
 		public UrlPathMatch match(UrlPath urlPath) {
 
-			String[] pip = urlPath.getParts();
-
-			if (parts.length != pip.length) {
-				if (hasRemainder) {
-					if (pip.length == parts.length - 1 && ! urlPath.isTrailingSlash())
-						return null;
-					else if (pip.length < parts.length)
-						return null;
-				} else {
-					if (pip.length != parts.length + 1 || ! urlPath.isTrailingSlash())
-						return null;
-				}
-			}
-
-			for (int i = 0; i < parts.length; i++)
-				if (vars[i] == null && (pip.length <= i || ! ("*".equals(parts[i]) || pip[i].equals(parts[i]))))
-					return null;
+			if (! matches(urlPath))
+				return null;
 
 			String[] vals = varKeys == null ? null : new String[varKeys.length];
 
@@ -159,7 +175,7 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 			if (vals != null)
 				for (int i = 0; i < parts.length; i++)
 					if (vars[i] != null)
-						vals[j++] = pip[i];
+						vals[j++] = urlPath.getPart(i);
 
 			return new UrlPathMatch(urlPath.getPath(), parts.length, varKeys, vals);
 		}
@@ -189,6 +205,20 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 	 */
 	public abstract UrlPathMatch match(UrlPath pathInfo);
 
+	/**
+	 * Returns <jk>true</jk> if the specified path matches this pattern.
+	 *
+	 * <p>
+	 * Same as <c>match(pathInfo) != <jk>null</jk></c>.
+	 * <br>Subclasses can override this method to avoid extracting the path variable values or creating a match object.
+	 *
+	 * @param pathInfo The path to match against.
+	 * @return <jk>true</jk> if the specified path matches this pattern.
+	 */
+	public boolean matches(UrlPath pathInfo) {
+		return match(pathInfo) != null;
+	}
+
 	/**
 	 * Returns a string that can be used to compare this matcher with other matchers to provide the ability to
 	 * order URL patterns from most-specific to least-specific.
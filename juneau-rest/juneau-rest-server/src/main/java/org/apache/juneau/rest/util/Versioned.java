@@ -0,0 +1,54 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+/**
+ * Interface for response objects that can identify their own version.
+ *
+ * <p>
+ * When a REST method returns an object implementing this interface, the version is used to create a weak
+ * <c>ETag</c> header for the response.
+ * <br>If the <c>If-None-Match</c> header on a <c>GET</c> or <c>HEAD</c> request matches it, a
+ * <c>304 Not Modified</c> response is sent and the object is never serialized.
+ *
+ * <h5 class='figure'>Example:</h5>
+ * <p class='bjava'>
+ * 	<jk>public class</jk> Order <jk>implements</jk> Versioned {
+ * 		<jk>private long</jk> <jf>revision</jf>;
+ *
+ * 		<ja>@Override</ja>
+ * 		<jk>public</jk> String version() {
+ * 			<jk>return</jk> String.<jsm>valueOf</jsm>(<jf>revision</jf>);
+ * 		}
+ * 		...
+ * 	}
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li class='note'>The version must change whenever the serialized form of the object would change.
+ * 	<li class='note'>The method is deliberately not a bean getter so that the version is not serialized as a property.
+ * </ul>
+ *
+ * <ul class='seealso'>
+ * 	<li class='jc'>{@link org.apache.juneau.rest.processor.SerializedPojoProcessor}
+ * </ul>
+ */
+public interface Versioned {
+
+	/**
+	 * Returns the version of this object.
+	 *
+	 * @return The version of this object, or <jk>null</jk> if it is not known.
+	 */
+	String version();
+}
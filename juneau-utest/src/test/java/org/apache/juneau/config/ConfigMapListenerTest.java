@@ -389,6 +389,45 @@ public class ConfigMapListenerTest {
 		assertString(cm).asReplaceAll("\\r?\\n", "|").is("#Da||k = v # cv||#S1|[S1]|#k1|k1 = v1 # cv1|[S2]|#k2|k2 = v2 # cv2|[S3]|");
 	}
 
+	@Test
+	public void testUpdateFromStoreUnchangedSectionsReused() throws Exception {
+		ConfigStore s = initStore("A.cfg",
+			"k = v",
+			"[S1]",
+			"k1 = v1",
+			"[S2]",
+			"k2 = v2"
+		);
+
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		LatchedListener l = new LatchedListener(latch) {
+			@Override
+			public void check(ConfigEvents events) throws Exception {
+				assertObject(events).asString().is("[SET(S1/k1 = v1b)]");
+			}
+		};
+
+		ConfigMap cm = s.getMap("A.cfg");
+		ConfigMapEntry k = cm.getEntry("", "k"), k1 = cm.getEntry("S1", "k1"), k2 = cm.getEntry("S2", "k2");
+		cm.register(l);
+		s.update("A.cfg",
+			"k = v",
+			"[S1]",
+			"k1 = v1b",
+			"[S2]",
+			"k2 = v2"
+		);
+		wait(latch);
+		assertNull(l.error);
+		cm.unregister(l);
+
+		assertObject(cm.getEntry("", "k")).isSame(k);
+		assertObject(cm.getEntry("S2", "k2")).isSame(k2);
+		assertBoolean(cm.getEntry("S1", "k1") == k1).isFalse();
+		assertString(cm.getEntry("S1", "k1").getValue()).is("v1b");
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Merges.
 	//-----------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,78 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.config;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.config.store.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class ConfigValueCacheTest {
+
+	private static Config init(MemoryStore store, String...lines) {
+		store.update("Test.cfg", lines);
+		return Config.create().store(store).name("Test.cfg").build();
+	}
+
+	@Test
+	public void a01_conversionsReused() throws Exception {
+		Config c = init(MemoryStore.create().build(), "a=1", "[S]", "b=true", "c<*>={AwwJVhwUQFZEMg==}");
+		assertObject(c.get("a").asInteger()).isSame(c.get("a").asInteger());
+		assertObject(c.get("a").as(int.class)).isSame(c.get("a").asInteger());
+		assertObject(c.get("S/b").asBoolean()).isSame(c.get("S/b").asBoolean());
+		assertObject(c.get("S/c").get()).isSame(c.get("S/c").get());
+		assertObject(c.get("S/c").asString()).isSame(c.get("S/c").asString());
+		assertBoolean(c.get("a").asList().get() == c.get("a").asList().get()).isFalse();
+		c.close();
+	}
+
+	@Test
+	public void a02_localChangesSeen() throws Exception {
+		Config c = init(MemoryStore.create().build(), "a=1");
+		assertInteger(c.get("a").asInteger().get()).is(1);
+		c.set("a", "2");
+		assertInteger(c.get("a").asInteger().get()).is(2);
+		c.rollback();
+		assertInteger(c.get("a").asInteger().get()).is(1);
+		c.remove("a");
+		assertBoolean(c.get("a").asInteger().isPresent()).isFalse();
+		c.close();
+	}
+
+	@Test
+	public void a03_storeChangesSeen() throws Exception {
+		MemoryStore store = MemoryStore.create().build();
+		Config c = init(store, "a=1", "[S]", "b=2");
+		assertInteger(c.get("a").asInteger().get()).is(1);
+		assertInteger(c.get("S/b").asInteger().get()).is(2);
+		store.update("Test.cfg", "a=3", "[S]", "b=2");
+		assertInteger(c.get("a").asInteger().get()).is(3);
+		assertInteger(c.get("S/b").asInteger().get()).is(2);
+		store.update("Test.cfg", "a=3");
+		assertBoolean(c.get("S/b").asInteger().isPresent()).isFalse();
+		c.close();
+	}
+
+	@Test
+	public void a04_variablesNotCached() throws Exception {
+		Config c = init(MemoryStore.create().build(), "a=$S{ConfigValueCacheTest.a04}");
+		System.setProperty("ConfigValueCacheTest.a04", "1");
+		assertInteger(c.get("a").asInteger().get()).is(1);
+		System.setProperty("ConfigValueCacheTest.a04", "2");
+		assertInteger(c.get("a").asInteger().get()).is(2);
+		System.clearProperty("ConfigValueCacheTest.a04");
+		c.close();
+	}
+}
@@ -18,7 +18,10 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.testutils.StreamUtils.*;
 
 import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.internal.*;
 import org.junit.*;
@@ -179,6 +182,61 @@ public class ConfigFileStoreTest {
 			throw new Exception("CountDownLatch never reached zero.");
 	}
 
+	@Test
+	public void testWatcherDebounce_LONGRUNNING() throws Exception {
+		FileStore fs = FileStore.create().directory(DIR).enableWatcher().watcherSensitivity(WatcherSensitivity.HIGH).watcherDebounce(1000).build();
+
+		final AtomicInteger count = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+		fs.register("X.cfg", new ConfigStoreListener() {
+			@Override
+			public void onChange(String contents) {
+				count.incrementAndGet();
+				if ("x5".equals(contents))
+					latch.countDown();
+			}
+		});
+		for (int i = 1; i <= 5; i++)
+			pipe(reader("x" + i), new File(DIR, "X.cfg"));
+		if (! latch.await(10, TimeUnit.SECONDS))
+			throw new Exception("CountDownLatch never reached zero.");
+		Thread.sleep(1500);
+		assertEquals(1, count.get());
+		fs.close();
+	}
+
+	@Test
+	public void testAtomicWrite() throws Exception {
+		FileStore fs = FileStore.create().directory(DIR).build();
+		assertNull(fs.write("X.cfg", null, "foobar"));
+		assertNull(fs.write("X.cfg", "foobar", "baz"));
+		assertEquals("baz", read(new File(DIR, "X.cfg")));
+		assertEquals("baz", fs.read("X.cfg"));
+		for (String f : DIR.list())
+			assertTrue(f, f.equals("X.cfg") || f.equals(".X.cfg.lock"));
+	}
+
+	@Test
+	public void testWritePreservesPermissions() throws Exception {
+		FileStore fs = FileStore.create().directory(DIR).build();
+		assertNull(fs.write("X.cfg", null, "foo"));
+		Path p = new File(DIR, "X.cfg").toPath();
+		Assume.assumeNotNull(Files.getFileAttributeView(p, PosixFileAttributeView.class));
+		Files.setPosixFilePermissions(p, PosixFilePermissions.fromString("rw-r--r--"));
+		assertNull(fs.write("X.cfg", "foo", "bar"));
+		assertEquals("rw-r--r--", PosixFilePermissions.toString(Files.getPosixFilePermissions(p)));
+		assertEquals("bar", read(p.toFile()));
+	}
+
+	@Test
+	public void testMemoryMappedRead() throws Exception {
+		FileStore fs = FileStore.create().directory(DIR).charset(IOUtils.UTF8).memoryMapThreshold(0).build();
+		assertNull(FileStore.create().directory(DIR).charset(IOUtils.UTF8).build().write("X.cfg", null, "[S]\nk = \u00e9\u20ac"));
+		assertEquals("[S]\nk = \u00e9\u20ac", fs.read("X.cfg"));
+		assertNull(fs.write("X.cfg", "[S]\nk = \u00e9\u20ac", "foo"));
+		assertEquals("foo", fs.read("X.cfg"));
+	}
+
 	@Test
 	public void testUpdate() throws Exception {
 		FileStore fs = FileStore.create().directory(DIR).build();
@@ -233,6 +291,7 @@ public class ConfigFileStoreTest {
 		cs.write("foo.cfg", "foo", null);
 		assertFalse(cs.exists("foo.cfg"));
 		assertFalse(cs.exists("foo"));
+		new File(".foo.cfg.lock").delete();
 
 		pipe(reader("xxx"), new File("Foox.cfg"));
 		assertTrue(cs.exists("Foox.cfg"));
@@ -0,0 +1,158 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.csv;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class CsvStreaming_Test {
+
+	public static class A {
+		public String s;
+		public int i;
+		public double d;
+		public boolean b;
+
+		public A init(String s, int i, double d, boolean b) {
+			this.s = s;
+			this.i = i;
+			this.d = d;
+			this.b = b;
+			return this;
+		}
+	}
+
+	private static Stream<A> beans() {
+		return Stream.of(new A().init("foo",1,1.5,true), new A().init("bar, \"baz\"",2,2.5,false), new A().init(null,3,0,true));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializer
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_serializeStream() throws Exception {
+		assertString(CsvSerializer.DEFAULT.serialize(beans())).is("b,d,i,s\ntrue,1.5,1,foo\nfalse,2.5,2,\"bar, \"\"baz\"\"\"\ntrue,0.0,3,null\n");
+	}
+
+	@Test
+	public void a02_serializeIterator() throws Exception {
+		assertString(CsvSerializer.DEFAULT.serialize(Arrays.asList("a","b c").iterator())).is("value\na\n\"b c\"\n");
+		assertString(CsvSerializer.DEFAULT.serialize(Collections.emptyIterator())).is("");
+	}
+
+	@Test
+	public void a03_serializeMapsInHeaderOrder() throws Exception {
+		Map<String,Object> m1 = new LinkedHashMap<>(), m2 = new LinkedHashMap<>();
+		m1.put("x", 1);
+		m1.put("y", 2);
+		m2.put("y", 4);
+		m2.put("x", 3);
+		assertString(CsvSerializer.DEFAULT.serialize(Stream.of(m1, m2))).is("x,y\n1,2\n3,4\n");
+	}
+
+	@Test
+	public void a04_serializeClosesStream() throws Exception {
+		boolean[] closed = new boolean[1];
+		CsvSerializer.DEFAULT.serialize(Stream.of("a").onClose(() -> closed[0] = true));
+		assertBoolean(closed[0]).isTrue();
+	}
+
+	@Test
+	public void a05_serializeMapsWithUnknownKeys() throws Exception {
+		Map<String,Object> m1 = new LinkedHashMap<>(), m2 = new LinkedHashMap<>();
+		m1.put("x", 1);
+		m1.put("y", null);
+		m2.put("x", 3);
+		m2.put("z", 4);
+		assertThrown(()->CsvSerializer.DEFAULT.serialize(Arrays.asList(m1, m2))).isType(SerializeException.class).asMessage().isContains("Map contains keys not found in the first row: [x, z]");
+		m2.remove("z");
+		assertString(CsvSerializer.DEFAULT.serialize(Arrays.asList(m1, m2))).is("x,y\n1,null\n3,null\n");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parser
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_streamBeans() throws Exception {
+		String csv = CsvSerializer.DEFAULT.serialize(beans());
+		try (Stream<A> s = CsvParser.DEFAULT.getSession().stream(csv, A.class)) {
+			List<A> l = s.collect(Collectors.toList());
+			assertInteger(l.size()).is(3);
+			assertString(l.get(0).s).is("foo");
+			assertInteger(l.get(0).i).is(1);
+			assertObject(l.get(0).d).is(1.5);
+			assertBoolean(l.get(0).b).isTrue();
+			assertString(l.get(1).s).is("bar, \"baz\"");
+			assertBoolean(l.get(1).b).isFalse();
+			assertString(l.get(2).s).isNull();
+			assertInteger(l.get(2).i).is(3);
+		}
+	}
+
+	@Test
+	public void b02_streamMaps() throws Exception {
+		try (Stream<Map> s = CsvParser.DEFAULT.getSession().stream("a,b\r\n1,\"x\ny\"\r\n\r\n2,\"null\"\r\n3,null", Map.class)) {
+			List<Map> l = s.collect(Collectors.toList());
+			assertInteger(l.size()).is(3);
+			assertObject(l.get(0).get("b")).is("x\ny");
+			assertObject(l.get(1).get("b")).is("null");
+			assertObject(l.get(2).get("b")).isNull();
+		}
+	}
+
+	@Test
+	public void b03_whitespace() throws Exception {
+		try (Stream<A> s = CsvParser.DEFAULT.getSession().stream("s, i\n\" foo \", 1 \n bar ,2\n null ,3", A.class)) {
+			List<A> l = s.collect(Collectors.toList());
+			assertString(l.get(0).s).is(" foo ");
+			assertInteger(l.get(0).i).is(1);
+			assertString(l.get(1).s).is("bar");
+			assertString(l.get(2).s).isNull();
+		}
+	}
+
+	@Test
+	public void b04_streamSimple() throws Exception {
+		try (Stream<Integer> s = CsvParser.DEFAULT.getSession().stream("value\n1\n2\n", Integer.class)) {
+			assertInteger(s.mapToInt(x -> x).sum()).is(3);
+		}
+	}
+
+	@Test
+	public void b05_parseCollectionsAndArrays() throws Exception {
+		String csv = CsvSerializer.DEFAULT.serialize(beans());
+		List<A> l = CsvParser.DEFAULT.parse(csv, List.class, A.class);
+		assertInteger(l.size()).is(3);
+		assertString(l.get(1).s).is("bar, \"baz\"");
+		A[] a = CsvParser.DEFAULT.parse(csv, A[].class);
+		assertInteger(a.length).is(3);
+		assertObject(a[2].d).is(0.0);
+	}
+
+	@Test
+	public void b06_errors() throws Exception {
+		assertThrown(()->CsvParser.DEFAULT.parse("i\nfoo\n", List.class, A.class)).isType(ParseException.class).asMessage().isContains("Could not convert value 'foo' in column 'i' on row 2.");
+		assertThrown(()->CsvParser.DEFAULT.parse("s\n\"foo\n", List.class, A.class)).isType(ParseException.class).asMessage().isContains("Unterminated quoted value on row 2.");
+		assertThrown(()->CsvParser.DEFAULT.parse("x\n1\n", List.class, A.class)).isType(ParseException.class).asMessage().isContains("Unknown property 'x'");
+	}
+}
@@ -0,0 +1,141 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.dto;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.lang.reflect.*;
+import java.sql.*;
+import java.util.*;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class ColumnarResultSetList_Test {
+
+	private static final String[] NAMES = {"ID","NAME","SCORE","ACTIVE","TOTAL"};
+	private static final int[] TYPES = {Types.INTEGER, Types.VARCHAR, Types.DOUBLE, Types.BOOLEAN, Types.BIGINT};
+	private static final String[] CLASSES = {"java.lang.Integer", "java.lang.String", "java.lang.Double", "java.lang.Boolean", "java.lang.Long"};
+	private static final Object[][] ROWS = {
+		{1, "foo", 1.5d, true, 10l},
+		{2, null, null, false, null},
+		{3, "bar", 2.0d, null, 30l},
+		{4, "baz", 0.25d, true, 40l},
+	};
+
+	private static final class TestResultSet implements InvocationHandler {
+		int row = -1;
+		Object last;
+		boolean closed;
+		String[] classes = CLASSES;
+		Set<String> calls = new TreeSet<>();
+
+		@Override
+		public Object invoke(Object proxy, Method m, Object[] args) {
+			calls.add(m.getName());
+			switch (m.getName()) {
+				case "getMetaData": return Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{ResultSetMetaData.class}, (p,m2,a2) -> {
+					switch (m2.getName()) {
+						case "getColumnCount": return NAMES.length;
+						case "getColumnName": return NAMES[(Integer)a2[0]-1];
+						case "getColumnType": return TYPES[(Integer)a2[0]-1];
+						case "getColumnClassName":
+							if (classes == null)
+								throw new SQLFeatureNotSupportedException();
+							return classes[(Integer)a2[0]-1];
+						default: throw new UnsupportedOperationException(m2.getName());
+					}
+				});
+				case "next": return ++row < ROWS.length;
+				case "close": closed = true; return null;
+				case "wasNull": return last == null;
+				case "getObject": return last = ROWS[row][(Integer)args[0]-1];
+				case "getInt": last = ROWS[row][(Integer)args[0]-1]; return last == null ? 0 : last;
+				case "getLong": last = ROWS[row][(Integer)args[0]-1]; return last == null ? 0l : last;
+				case "getDouble": last = ROWS[row][(Integer)args[0]-1]; return last == null ? 0d : last;
+				case "getBoolean": last = ROWS[row][(Integer)args[0]-1]; return last == null ? false : last;
+				default: throw new UnsupportedOperationException(m.getName());
+			}
+		}
+	}
+
+	private static ResultSet resultSet(TestResultSet h) {
+		return (ResultSet)Proxy.newProxyInstance(ColumnarResultSetList_Test.class.getClassLoader(), new Class[]{ResultSet.class}, h);
+	}
+
+	private static ResultSet resultSet() {
+		return resultSet(new TestResultSet());
+	}
+
+	@Test
+	public void a01_sameAsResultSetList() throws Exception {
+		for (boolean rowNums : new boolean[]{false,true}) {
+			for (int[] range : new int[][]{{0,100},{2,2},{0,0}}) {
+				ResultSetList l1 = new ResultSetList(resultSet(), range[0], range[1], rowNums);
+				ColumnarResultSetList l2 = new ColumnarResultSetList(resultSet(), range[0], range[1], rowNums);
+				assertObject(l2).isType(List.class);
+				assertInteger(l2.size()).is(l1.size());
+				assertString(JsonSerializer.DEFAULT.serialize(l2)).is(JsonSerializer.DEFAULT.serialize(l1));
+				assertString(HtmlSerializer.DEFAULT.serialize(l2)).is(HtmlSerializer.DEFAULT.serialize(l1));
+			}
+		}
+	}
+
+	@Test
+	public void a02_values() throws Exception {
+		TestResultSet h = new TestResultSet();
+		ColumnarResultSetList l = new ColumnarResultSetList(resultSet(h), 0, 100, true);
+		assertBoolean(h.closed).isTrue();
+		assertString(Json5Serializer.DEFAULT.serialize(l.get(1))).is("{ROW:1,ID:2,NAME:null,SCORE:null,ACTIVE:false,TOTAL:null}");
+		assertObject(l.get(0).get("TOTAL")).isType(Long.class);
+		assertObject(l.get(3).get("SCORE")).isType(Double.class);
+		assertThrown(()->l.get(4)).isType(IndexOutOfBoundsException.class);
+	}
+
+	@Test
+	public void a03_unexpectedColumnClasses() throws Exception {
+		TestResultSet h = new TestResultSet();
+		h.classes = new String[]{"java.lang.Short", "java.lang.String", "java.math.BigDecimal", "java.lang.Integer", "java.math.BigInteger"};
+		ColumnarResultSetList l = new ColumnarResultSetList(resultSet(h), 0, 100, false);
+		assertString(h.calls).is("[close, getMetaData, getObject, next]");
+		assertString(JsonSerializer.DEFAULT.serialize(l)).is(JsonSerializer.DEFAULT.serialize(new ResultSetList(resultSet(), 0, 100, false)));
+
+		h = new TestResultSet();
+		h.classes = null;
+		l = new ColumnarResultSetList(resultSet(h), 0, 100, false);
+		assertString(h.calls).is("[close, getMetaData, getObject, next]");
+		assertString(JsonSerializer.DEFAULT.serialize(l)).is(JsonSerializer.DEFAULT.serialize(new ResultSetList(resultSet(), 0, 100, false)));
+	}
+
+	@Test
+	public void b01_stream() throws Exception {
+		TestResultSet h = new TestResultSet();
+		Collection<Map<String,Object>> c = ColumnarResultSetList.stream(resultSet(h), 0, 100, false);
+		assertBoolean(c.isEmpty()).isFalse();
+		assertInteger(h.row).is(0);
+		assertString(JsonSerializer.DEFAULT.serialize(c)).is(JsonSerializer.DEFAULT.serialize(new ResultSetList(resultSet(), 0, 100, false)));
+		assertBoolean(h.closed).isTrue();
+		assertThrown(()->c.iterator().forEachRemaining(x -> {})).isType(IllegalStateException.class);
+		assertThrown(()->c.size()).isType(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void b02_stream_empty() throws Exception {
+		Collection<Map<String,Object>> c = ColumnarResultSetList.stream(resultSet(), 0, 0, false);
+		assertBoolean(c.isEmpty()).isTrue();
+		assertString(JsonSerializer.DEFAULT.serialize(c)).is("[]");
+	}
+}
@@ -0,0 +1,54 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.dto.html5;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.dto.html5.HtmlBuilder.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class HtmlFragment_Test {
+
+	private static HtmlElement content() {
+		return ul(li(a("http://foo", "Foo")), li("Bar & Baz"))._class("menu");
+	}
+
+	@Test
+	public void a01_serializedOnce() throws Exception {
+		HtmlFragment f = HtmlFragment.of(content());
+		assertString(f).is("<ul class=\"menu\"><li><a href=\"http://foo\">Foo</a></li><li>Bar &amp; Baz</li></ul>");
+		assertObject(f.toString()).isSame(f.toString());
+	}
+
+	@Test
+	public void a02_asChild() throws Exception {
+		HtmlFragment f = HtmlFragment.of(content());
+		assertString(HtmlSerializer.DEFAULT.serialize(div(p("x"), f))).is(HtmlSerializer.DEFAULT.serialize(div(p("x"), content())));
+		assertString(XmlSerializer.DEFAULT.serialize(div(p("x"), f))).is(XmlSerializer.DEFAULT.serialize(div(p("x"), content())));
+	}
+
+	@Test
+	public void a03_asRoot() throws Exception {
+		assertString(HtmlSerializer.DEFAULT.serialize(HtmlFragment.of(content()))).is(HtmlSerializer.DEFAULT.serialize(content()));
+	}
+
+	@Test
+	public void a04_customSerializer() throws Exception {
+		HtmlFragment f = HtmlFragment.of(HtmlSerializer.DEFAULT_SQ, content());
+		assertString(f).isContains("<ul class='menu'>");
+	}
+}
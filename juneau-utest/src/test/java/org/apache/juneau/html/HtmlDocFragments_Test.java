@@ -0,0 +1,114 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.html;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.utils.*;
+import org.junit.*;
+
+/**
+ * Tests reuse of request-independent page fragments by {@link BasicHtmlDocTemplate}.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class HtmlDocFragments_Test {
+
+	private static String serialize(HtmlDocSerializer s, UriContext uc) throws Exception {
+		return s.createSession().uriContext(uc).build().serialize("foo");
+	}
+
+	@Test
+	public void a01_staticFragmentsReused() throws Exception {
+		HtmlDocSerializer s = HtmlDocSerializer.create().header("<h1>Header</h1>").footer("Footer").aside("Aside").build();
+		String r1 = s.serialize("foo");
+		assertString(r1).isContains("<header><h1>Header</h1></header>", "<aside>Aside</aside>", "<footer>Footer</footer>");
+		assertInteger(s.fragments.size()).is(4);
+		assertString(s.serialize("foo")).is(r1);
+		assertInteger(s.dynamicFragments.size()).is(0);
+	}
+
+	@Test
+	public void a02_variablesNotReused() throws Exception {
+		HtmlDocSerializer s = HtmlDocSerializer.create().header("$S{HtmlDocFragments_Test.a02}").footer("Footer").build();
+		System.setProperty("HtmlDocFragments_Test.a02", "foo");
+		assertString(s.serialize("foo")).isContains("<header>foo</header>");
+		System.setProperty("HtmlDocFragments_Test.a02", "bar");
+		assertString(s.serialize("foo")).isContains("<header>bar</header>", "<footer>Footer</footer>");
+		System.clearProperty("HtmlDocFragments_Test.a02");
+		assertBoolean(s.dynamicFragments.contains("header")).isTrue();
+		assertBoolean(s.dynamicFragments.contains("footer")).isFalse();
+	}
+
+	@Test
+	public void a03_urisReusedPerUriContext() throws Exception {
+		HtmlDocSerializer s = HtmlDocSerializer.create().navlinks("up: servlet:/up").build();
+		UriContext uc1 = UriContext.of("http://localhost", "/ctx", "/s1", null), uc2 = UriContext.of("http://localhost", "/ctx", "/s2", null);
+		assertString(serialize(s, uc1)).isContains("href=\"/ctx/s1/up\"");
+		assertString(serialize(s, uc2)).isContains("href=\"/ctx/s2/up\"");
+		assertString(serialize(s, uc1)).isContains("href=\"/ctx/s1/up\"");
+		assertInteger(s.fragments.size()).is(3);
+	}
+
+	@Test
+	public void a04_urisReusedAcrossPathInfo() throws Exception {
+		HtmlDocSerializer s = HtmlDocSerializer.create().navlinks("up: servlet:/up2").build();
+		assertString(serialize(s, UriContext.of("http://localhost", "/ctx", "/s1", "/p1"))).isContains("href=\"/ctx/s1/up2\"");
+		assertString(serialize(s, UriContext.of("http://localhost", "/ctx", "/s1", "/p2"))).isContains("href=\"/ctx/s1/up2\"");
+		assertInteger(s.fragments.size()).is(2);
+	}
+
+	@Test
+	public void a05_requestUrisNotReused() throws Exception {
+		HtmlDocSerializer s = HtmlDocSerializer.create().navlinks("up: request:/..").build();
+		assertString(serialize(s, UriContext.of("http://localhost", "/ctx", "/s1", "/p1/x"))).isContains("href=\"/ctx/s1/p1\"");
+		assertString(serialize(s, UriContext.of("http://localhost", "/ctx", "/s1", "/p2/x"))).isContains("href=\"/ctx/s1/p2\"");
+		assertBoolean(s.fragments.containsKey(HashKey.of("head"))).isTrue();
+		assertInteger(s.fragments.size()).is(1);
+	}
+
+	public static class A06 extends BasicHtmlDocTemplate {
+		static int count;
+		@Override
+		protected void header(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
+			w.append(String.valueOf(++count));
+		}
+	}
+
+	@Test
+	public void a06_subclassesNotReusedByDefault() throws Exception {
+		A06.count = 0;
+		HtmlDocSerializer s = HtmlDocSerializer.create().header("x").footer("Footer").template(A06.class).build();
+		assertString(s.serialize("foo")).isContains("<header>1</header>");
+		assertString(s.serialize("foo")).isContains("<header>2</header>", "<footer>Footer</footer>");
+		assertInteger(s.fragments.size()).is(0);
+	}
+
+	public static class A07 extends A06 {
+		@Override
+		protected boolean isReusable(String section) {
+			return ! section.equals("header");
+		}
+	}
+
+	@Test
+	public void a07_subclassOptIn() throws Exception {
+		A06.count = 0;
+		HtmlDocSerializer s = HtmlDocSerializer.create().header("x").footer("Footer").template(A07.class).build();
+		assertString(s.serialize("foo")).isContains("<header>1</header>");
+		assertString(s.serialize("foo")).isContains("<header>2</header>", "<footer>Footer</footer>");
+		assertBoolean(s.fragments.containsKey(HashKey.of("footer"))).isTrue();
+		assertBoolean(s.fragments.containsKey(HashKey.of("header"))).isFalse();
+	}
+}
@@ -181,4 +181,15 @@ public class MediaRanges_FindMatch_Test {
 		int expected2 = expectedReverse == -1 ? -1 : mt.length-expectedReverse-1;
 		assertInteger(r).setMsg("{0} failed", label).is(expected2);
 	}
+
+	@Test
+	public void testMatcher() throws Exception {
+		MediaType[] mt = JsonParser.DEFAULT.parse(mediaTypes, MediaType[].class);
+		int r = new MediaTypeMatcher(alist(mt)).match(MediaRanges.of(this.accept));
+		assertInteger(r).setMsg("{0} failed", label).is(expected);
+		Collections.reverse(Arrays.asList(mt));
+		r = new MediaTypeMatcher(alist(mt)).match(MediaRanges.of(this.accept));
+		int expected2 = expectedReverse == -1 ? -1 : mt.length-expectedReverse-1;
+		assertInteger(r).setMsg("{0} failed", label).is(expected2);
+	}
 }
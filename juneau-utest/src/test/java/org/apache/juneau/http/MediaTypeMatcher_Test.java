@@ -0,0 +1,91 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.http;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class MediaTypeMatcher_Test {
+
+	private static final String[] TYPES = {
+		"text/json", "text/json+*", "text/*", "*/*", "*/json", "text/json+lax", "text/lax+json", "text/json+lax+*",
+		"text/xml", "text/xml+rdf", "application/json", "text/foo+foo", "text/*+*", "text/a+b+c", "text/c+a", "text"
+	};
+
+	private static final String[] HEADERS = {
+		"text/json", "text/json+lax", "text/lax+json", "text/json+activity", "text/*", "*/*", "*/json", "text/xml+id",
+		"text/foo", "text/foo+foo", "text/unknown+unknown", "text/a+b+c+d", "text/json;q=0.5,text/xml;q=0.9",
+		"text/json+*;q=0.8,application/*", "text/*+*", "application/json;charset=utf-8", "image/png", "text"
+	};
+
+	private static List<MediaType> mediaTypes(int mask) {
+		List<MediaType> l = new ArrayList<>();
+		for (int i = 0; i < TYPES.length; i++)
+			if ((mask & (1 << i)) != 0)
+				l.add(MediaType.of(TYPES[i]));
+		return l;
+	}
+
+	@Test
+	public void a01_sameAsMediaRanges() throws Exception {
+		Random r = new Random(1);
+		for (int i = 0; i < 500; i++) {
+			List<MediaType> l = mediaTypes(r.nextInt(1 << TYPES.length));
+			MediaTypeMatcher m = new MediaTypeMatcher(l);
+			for (String h : HEADERS) {
+				MediaRanges mr = MediaRanges.of(h);
+				assertInteger(m.match(mr)).setMsg("Accept ''{0}'' against {1}", h, l).is(mr.match(l));
+			}
+		}
+	}
+
+	@Test
+	public void a02_sameAsMediaType() throws Exception {
+		Random r = new Random(2);
+		for (int i = 0; i < 500; i++) {
+			List<MediaType> l = mediaTypes(r.nextInt(1 << TYPES.length));
+			MediaTypeMatcher m = new MediaTypeMatcher(l);
+			for (String h : HEADERS) {
+				MediaType mt = MediaType.of(h);
+				assertInteger(m.match(mt)).setMsg("Content-Type ''{0}'' against {1}", h, l).is(mt.match(l));
+			}
+		}
+	}
+
+	@Test
+	public void a03_tooManySubtypes() throws Exception {
+		List<MediaType> l = new ArrayList<>();
+		for (int i = 0; i < 70; i++)
+			l.add(MediaType.of("text/x" + i + "+json"));
+		MediaTypeMatcher m = new MediaTypeMatcher(l);
+		assertInteger(m.match(MediaRanges.of("text/x65+json"))).is(65);
+		assertInteger(m.match(MediaType.of("text/json+x3"))).is(3);
+		assertInteger(m.match(MediaRanges.of("text/foo"))).is(-1);
+	}
+
+	@Test
+	public void a04_empty() throws Exception {
+		MediaTypeMatcher m = new MediaTypeMatcher(Collections.emptyList());
+		assertInteger(m.match(MediaRanges.of("text/json"))).is(-1);
+		assertInteger(m.match(MediaType.of("text/json"))).is(-1);
+		m = new MediaTypeMatcher(Arrays.asList(MediaType.of("text/json")));
+		assertInteger(m.match(MediaRanges.EMPTY)).is(-1);
+		assertInteger(m.match((MediaType)null)).is(-1);
+	}
+}
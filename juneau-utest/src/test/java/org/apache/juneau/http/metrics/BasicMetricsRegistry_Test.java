@@ -0,0 +1,86 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.http.metrics;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.concurrent.atomic.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class BasicMetricsRegistry_Test {
+
+	@Test
+	public void a01_timer() {
+		BasicMetricsRegistry r = new BasicMetricsRegistry();
+		r.timer("t", "op", "foo").record(1_500_000);
+		r.timer("t", "op", "foo").record(3_000);
+		assertObject(r.timer("t", "op", "foo")).isSame(r.timer("t", "op", "foo"));
+		assertString(r.getMetric("t", "op", "foo")).is("{type:'timer',count:2,total:1503,max:1500,mean:751,histogram:{'3':1,'2047':1}}");
+		assertObject(r.getMetric("t")).isNull();
+	}
+
+	@Test
+	public void a02_summary() {
+		BasicMetricsRegistry r = new BasicMetricsRegistry();
+		r.summary("s").record(0);
+		r.summary("s").record(100);
+		r.summary("s").record(127);
+		assertString(r.getMetric("s")).is("{type:'summary',count:3,total:227,max:127,mean:75,histogram:{'0':1,'127':2}}");
+	}
+
+	@Test
+	public void a03_counter() {
+		BasicMetricsRegistry r = new BasicMetricsRegistry();
+		r.counter("c").increment();
+		r.counter("c").increment(2);
+		assertString(r.getMetric("c")).is("{type:'counter',count:3}");
+	}
+
+	@Test
+	public void a04_gauge() {
+		BasicMetricsRegistry r = new BasicMetricsRegistry();
+		AtomicInteger i = new AtomicInteger();
+		r.gauge("g", i::get, "a", "b");
+		i.set(5);
+		assertString(r.getMetric("g", "a", "b")).is("{type:'gauge',value:5}");
+		r.gauge("g", () -> 6, "a", "b");
+		assertString(r.getMetric("g", "a", "b")).is("{type:'gauge',value:5}");
+		r.remove("g", "a", "b");
+		assertObject(r.getMetric("g", "a", "b")).isNull();
+		r.gauge("g", () -> 6, "a", "b");
+		assertString(r.getMetric("g", "a", "b")).is("{type:'gauge',value:6}");
+	}
+
+	@Test
+	public void a05_getMetrics() {
+		BasicMetricsRegistry r = new BasicMetricsRegistry();
+		r.counter("b", "x", "1", "y", "2");
+		r.counter("a");
+		assertObject(r.getMetrics().keySet()).asJson().is("['a','b{x=1,y=2}']");
+		assertString(r).is("{a:{type:'counter',count:0},'b{x=1,y=2}':{type:'counter',count:0}}");
+	}
+
+	@Test
+	public void a06_errors() {
+		BasicMetricsRegistry r = new BasicMetricsRegistry();
+		r.counter("a");
+		assertThrown(()->r.timer("a")).isType(IllegalArgumentException.class).asMessage().isContains("different type");
+		assertThrown(()->r.timer("b", "x")).isType(IllegalArgumentException.class);
+		assertThrown(()->r.gauge("a", () -> 1)).isType(IllegalArgumentException.class).asMessage().isContains("different type");
+		r.gauge("g", () -> 1);
+		assertThrown(()->r.counter("g")).isType(IllegalArgumentException.class).asMessage().isContains("different type");
+	}
+}
@@ -0,0 +1,135 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.httppart;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.internal.CollectionUtils.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class HttpPartSchemaValidator_Test {
+
+	private static final BeanContext BC = BeanContext.DEFAULT;
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Compilation
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_noConstraints() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().allowEmptyValue().build();
+		assertBoolean(s.getValidator().isNoop()).isTrue();
+		assertString(s.validateInput(null)).isNull();
+		assertString(s.validateInput("")).is("");
+		assertObject(s.validateOutput(null, BC)).isNull();
+		assertInteger(s.validateOutput(123, BC)).is(123);
+	}
+
+	@Test
+	public void a02_defaultDisallowsEmpty() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().build();
+		assertBoolean(s.getValidator().isNoop()).isFalse();
+		assertThrown(()->s.validateInput("")).asMessage().is("Empty value not allowed.");
+	}
+
+	@Test
+	public void a03_sameValidatorReused() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().build();
+		assertObject(s.getValidator()).isSame(s.getValidator());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Input
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_smallEnum() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create()._enum("foo","bar").build();
+		s.validateInput("foo");
+		s.validateInput("bar");
+		assertThrown(()->s.validateInput("baz")).asMessage().is("Value does not match one of the expected values.  Must be one of the following:  foo, bar");
+	}
+
+	@Test
+	public void b02_largeEnum() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create()._enum("a","b","c","d","e","f").build();
+		s.validateInput("a");
+		s.validateInput("f");
+		assertThrown(()->s.validateInput("g")).asMessage().is("Value does not match one of the expected values.  Must be one of the following:  a, b, c, d, e, f");
+	}
+
+	@Test
+	public void b03_lengthOnlyMax() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().maxLength(2l).build();
+		s.validateInput("x");
+		s.validateInput("xx");
+		assertThrown(()->s.validateInput("xxx")).asMessage().is("Maximum length of value exceeded.");
+	}
+
+	@Test
+	public void b04_lengthOnlyMin() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().minLength(2l).build();
+		s.validateInput("xx");
+		assertThrown(()->s.validateInput("x")).asMessage().is("Minimum length of value not met.");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Output
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_numberWithoutType() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().minimum(10).build();
+		s.validateOutput(10, BC);
+		s.validateOutput("5", BC);
+		assertThrown(()->s.validateOutput(5, BC)).asMessage().is("Minimum value not met.");
+	}
+
+	@Test
+	public void c02_nestedItems() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().tArray().items(HttpPartSchema.create().tArray().maxItems(1l)).build();
+		s.validateOutput(new int[][]{{1},{2}}, BC);
+		s.validateOutput(list(list(1),list(2)), BC);
+		assertThrown(()->s.validateOutput(new int[][]{{1},{2,3}}, BC)).asMessage().is("Maximum number of items exceeded.");
+		assertThrown(()->s.validateOutput(list(list(1),list(2,3)), BC)).asMessage().is("Maximum number of items exceeded.");
+	}
+
+	@Test
+	public void c03_requiredItems() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().tArray().items(HttpPartSchema.create().required()).build();
+		s.validateOutput(new String[]{"a"}, BC);
+		assertThrown(()->s.validateOutput(new String[]{"a",null}, BC)).asMessage().is("Required value not provided.");
+	}
+
+	@Test
+	public void c04_properties() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().tObject()
+			.p("a", HttpPartSchema.create().maximum(1))
+			.ap(HttpPartSchema.create().minimum(5))
+			.build();
+		s.validateOutput(JsonMap.of("a",1,"b",5), BC);
+		assertThrown(()->s.validateOutput(JsonMap.of("a",2), BC)).asMessage().is("Maximum value exceeded.");
+		assertThrown(()->s.validateOutput(JsonMap.of("b",4), BC)).asMessage().is("Minimum value not met.");
+	}
+
+	@Test
+	public void c05_unconstrainedPropertiesSkipped() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create().tObject().p("a", HttpPartSchema.create()).build();
+		assertBoolean(s.getValidator().isNoop()).isFalse();
+		s.validateOutput(JsonMap.of("a",null), BC);
+	}
+}
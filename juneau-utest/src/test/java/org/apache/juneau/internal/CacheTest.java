@@ -0,0 +1,105 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class CacheTest {
+
+	@Test
+	public void a01_clearedWhenFull() {
+		Cache<String,String> c = Cache.of(String.class, String.class).maxSize(2).build();
+		c.get("a", () -> "A");
+		c.get("b", () -> "B");
+		c.get("c", () -> "C");
+		assertInteger(c.size()).is(3);
+		c.get("d", () -> "D");
+		assertInteger(c.size()).is(1);
+		assertLong(c.getMisses()).is(4l);
+	}
+
+	@Test
+	public void a02_lru() {
+		Cache<String,String> c = Cache.of(String.class, String.class).maxSize(2).lru().build();
+		c.get("a", () -> "A");
+		c.get("b", () -> "B");
+		assertString(c.get("a", () -> "X")).is("A");
+		c.get("c", () -> "C");
+		assertInteger(c.size()).is(2);
+		assertString(c.get("a", () -> "X")).is("A");
+		assertString(c.get("b", () -> "X")).is("X");
+		assertLong(c.getHits()).is(2l);
+		assertLong(c.getMisses()).is(4l);
+	}
+
+	@Test
+	public void a03_disabled() {
+		Cache<String,String> c = Cache.of(String.class, String.class).lru().disabled().build();
+		assertString(c.get("a", () -> "A")).is("A");
+		assertString(c.get("a", () -> "X")).is("X");
+		assertInteger(c.size()).is(0);
+	}
+
+	@Test
+	public void a04_lru_hitsDontBlock() throws Exception {
+		Cache<String,String> c = Cache.of(String.class, String.class).maxSize(2).lru().build();
+		c.get("a", () -> "A");
+		ExecutorService es = Executors.newFixedThreadPool(4);
+		try {
+			// Evictions lock the cache, so hits from other threads must complete while it's locked.
+			synchronized (c) {
+				List<Future<String>> l = new ArrayList<>();
+				for (int i = 0; i < 4; i++)
+					l.add(es.submit(() -> c.get("a", () -> "X")));
+				for (Future<String> f : l)
+					assertString(f.get(10, TimeUnit.SECONDS)).is("A");
+			}
+		} finally {
+			es.shutdownNow();
+		}
+		assertLong(c.getHits()).is(4l);
+	}
+
+	@Test
+	public void a05_lru_concurrent() throws Exception {
+		Cache<String,String> c = Cache.of(String.class, String.class).maxSize(100).lru().build();
+		ExecutorService es = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> l = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int t2 = t;
+				l.add(es.submit(() -> {
+					for (int i = 0; i < 10000; i++) {
+						assertString(c.get("hot", () -> "HOT")).is("HOT");
+						String k = t2 + "/" + i;
+						assertString(c.get(k, () -> k)).is(k);
+					}
+				}));
+			}
+			for (Future<?> f : l)
+				f.get(60, TimeUnit.SECONDS);
+		} finally {
+			es.shutdownNow();
+		}
+		assertInteger(c.size()).isLte(100);
+		assertLong(c.getHits() + c.getMisses()).is(160000l);
+		assertLong(c.getMisses()).isLt(80100l);
+	}
+}
@@ -0,0 +1,178 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.mstat;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+
+import javax.servlet.http.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.http.metrics.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.logger.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestOpMetrics_Test {
+
+	private static final BasicMetricsRegistry SERVER = new BasicMetricsRegistry();
+
+	public static class A0 {
+		@RestGet("/c")
+		public void c(HttpServletResponse res) throws IOException {
+			res.setContentType("text/plain");
+			res.getWriter().append("foo").flush();
+		}
+	}
+
+	@Rest(serializers=JsonSerializer.class, parsers=JsonParser.class)
+	public static class A extends A0 {
+		@RestInit
+		public void init(RestContext.Builder builder) {
+			builder.metricsRegistry(SERVER);
+		}
+
+		@RestPost("/a")
+		public JsonMap a(@Content JsonMap in) {
+			return in;
+		}
+
+		@RestGet("/b")
+		public String b() {
+			throw new RuntimeException("foo");
+		}
+	}
+
+	private static final String[] A_TAGS = {"resource", "A", "method", "POST", "path", "/a"};
+
+	private static JsonMap gauge(BasicMetricsRegistry r, String name, String...tags) {
+		String prefix = name + "{resource=" + tags[1] + ",method=" + tags[3] + ",path=" + tags[5] + ",instance=";
+		return r.getMetrics().entrySet().stream().filter(x -> x.getKey().startsWith(prefix)).map(x -> (JsonMap)x.getValue()).findFirst().orElse(null);
+	}
+
+	@Test
+	public void a01_server() throws Exception {
+		MockRestClient c = MockRestClient.create(A.class).json().ignoreErrors().build();
+		c.post("/a", JsonMap.of("foo","bar")).run().assertContent("{\"foo\":\"bar\"}");
+		c.post("/a", JsonMap.of("foo","bar")).run().assertContent("{\"foo\":\"bar\"}");
+		c.get("/b").run().assertStatus(500);
+
+		assertString(SERVER.getMetric("juneau.rest.server.requests", A_TAGS)).isContains("type:'timer',count:2,");
+		assertString(SERVER.getMetric("juneau.rest.server.parse", A_TAGS)).isContains("count:2,");
+		assertString(SERVER.getMetric("juneau.rest.server.serialize", A_TAGS)).isContains("count:2,");
+		assertString(SERVER.getMetric("juneau.rest.server.response.size", A_TAGS)).isContains("count:2,total:26,max:13,");
+		assertString(gauge(SERVER, "juneau.rest.server.requests.active", A_TAGS)).is("{type:'gauge',value:0}");
+		assertString(gauge(SERVER, "juneau.rest.server.serializers.cache.misses", A_TAGS)).is("{type:'gauge',value:1}");
+		assertString(gauge(SERVER, "juneau.rest.server.serializers.cache.hits", A_TAGS)).isNot("{type:'gauge',value:0}");
+		assertString(gauge(SERVER, "juneau.rest.server.errors", "resource", "A", "method", "GET", "path", "/b")).is("{type:'gauge',value:1}");
+	}
+
+	@Test
+	public void a02_inheritedMethodAndWriter() throws Exception {
+		MockRestClient c = MockRestClient.create(A.class).ignoreErrors().build();
+		c.get("/c").run().assertStatus(200).assertContent("foo");
+		assertString(SERVER.getMetric("juneau.rest.server.requests", "resource", "A", "method", "GET", "path", "/c")).isContains("count:1,");
+		assertObject(SERVER.getMetric("juneau.rest.server.requests", "resource", "A0", "method", "GET", "path", "/c")).isNull();
+	}
+
+	@Test
+	public void a03_client() throws Exception {
+		BasicMetricsRegistry r = new BasicMetricsRegistry();
+		MockRestClient c = MockRestClient.create(A.class).json().ignoreErrors().metricsRegistry(r).build();
+		c.post("/a", JsonMap.of("foo","bar")).run();
+		c.get("/b").run();
+		assertString(r.getMetric("juneau.rest.client.requests", "method", "POST", "status", "200")).isContains("type:'timer',count:1,");
+		assertString(r.getMetric("juneau.rest.client.requests", "method", "GET", "status", "500")).isContains("type:'timer',count:1,");
+	}
+
+	@Test
+	public void a04_clientPoolGauges() throws Exception {
+		BasicMetricsRegistry r = new BasicMetricsRegistry();
+		RestClient c1 = RestClient.create().pooled().metricsRegistry(r).build(), c2 = RestClient.create().pooled().metricsRegistry(r).build();
+		assertInteger(r.getMetrics().size()).is(8);
+		assertString(r.getMetrics().keySet()).isContains("juneau.rest.client.connections.max{client=");
+		c1.close();
+		assertInteger(r.getMetrics().size()).is(4);
+		c2.closeQuietly();
+		assertObject(r.getMetrics()).asJson().is("{}");
+	}
+
+	private static final BasicMetricsRegistry B_REGISTRY = new BasicMetricsRegistry();
+
+	@Rest
+	public static class B {
+		@RestInit
+		public void init(RestContext.Builder builder) {
+			builder.metricsRegistry(B_REGISTRY);
+		}
+
+		@RestGet("/a")
+		public String a() {
+			return "foo";
+		}
+	}
+
+	private static RestContext b() throws Exception {
+		B b = new B();
+		return RestContext.create(B.class, null, null).init(()->b).build().postInit().postInitChildFirst();
+	}
+
+	private static long bErrorGauges() {
+		return B_REGISTRY.getMetrics().keySet().stream().filter(x -> x.startsWith("juneau.rest.server.errors{")).count();
+	}
+
+	@Test
+	public void a05_gaugesRemovedOnDestroy() throws Exception {
+		RestContext c1 = b(), c2 = b();
+		assertLong(bErrorGauges()).is(2l);
+		c1.destroy();
+		assertLong(bErrorGauges()).is(1l);
+		c2.destroy();
+		assertLong(bErrorGauges()).is(0l);
+	}
+
+	public static class CaptureLogger extends BasicTestCaptureCallLogger {
+		public static CaptureLogger getInstance() {
+			return C_LOGGER;
+		}
+	}
+
+	private static final CaptureLogger C_LOGGER = new CaptureLogger();
+
+	@Rest(callLogger=CaptureLogger.class, debug="true", serializers=JsonSerializer.class)
+	public static class C {
+		@RestInit
+		public void init(RestContext.Builder builder) {
+			builder.metricsRegistry(new BasicMetricsRegistry());
+		}
+
+		@RestGet("/a")
+		public String a() {
+			return "foobar";
+		}
+	}
+
+	@Test
+	public void a06_debugWithMetrics() throws Exception {
+		MockRestClient.create(C.class).json().suppressLogging().build().get("/a").run().assertContent("\"foobar\"");
+		C_LOGGER.assertMessageAndReset().isContains("foobar");
+	}
+}
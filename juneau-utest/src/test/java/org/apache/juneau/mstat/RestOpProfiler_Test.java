@@ -0,0 +1,146 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.mstat;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.rest.stats.RestOpProfiler.Phase.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.marshaller.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock.*;
+import org.apache.juneau.rest.stats.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestOpProfiler_Test {
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Profiler
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_nestedPhases() {
+		RestOpProfiler p = new RestOpProfiler();
+		byte[][] b = new byte[2][];
+		p.start(RESPONSE);
+		p.start(SERIALIZATION);
+		b[0] = new byte[1_000_000];
+		p.stop();
+		p.stop();
+		p.start(ROUTING).stop();
+		assertBoolean(p.isRecorded(RESPONSE)).isTrue();
+		assertBoolean(p.isRecorded(SERIALIZATION)).isTrue();
+		assertBoolean(p.isRecorded(ROUTING)).isTrue();
+		assertBoolean(p.isRecorded(GUARDS)).isFalse();
+		assertLong(p.getAllocatedBytes(GUARDS)).is(0L);
+		if (RestOpProfiler.isAllocationSupported()) {
+			assertLong(p.getAllocatedBytes(SERIALIZATION)).isGte(1_000_000L);
+			assertLong(p.getAllocatedBytes(RESPONSE)).isLt(1_000_000L);
+		}
+	}
+
+	@Test
+	public void a02_unbalancedStopIgnored() {
+		RestOpProfiler p = new RestOpProfiler();
+		p.stop();
+		p.start(ARGS).stop().stop();
+		assertBoolean(p.isRecorded(ARGS)).isTrue();
+	}
+
+	@Test
+	public void a03_otherThreadsIgnored() throws Exception {
+		RestOpProfiler p = new RestOpProfiler();
+		Thread t = new Thread(() -> p.start(INVOCATION).stop());
+		t.start();
+		t.join();
+		assertBoolean(p.isRecorded(INVOCATION)).isFalse();
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// REST calls
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest(serializers=JsonSerializer.class)
+	public static class B1 {
+		static RestContext context;
+
+		@RestInit
+		public void init(RestContext.Builder builder) {
+			builder.profileAllocations();
+		}
+
+		@RestPostInit
+		public void postInit(RestContext context) {
+			B1.context = context;
+		}
+
+		@RestGet("/a")
+		public List<String> a(@Query("x") String x) {
+			return Arrays.asList(x, x);
+		}
+	}
+
+	@Rest(serializers=JsonSerializer.class)
+	public static class B2 {
+		static RestContext context;
+
+		@RestPostInit
+		public void postInit(RestContext context) {
+			B2.context = context;
+		}
+
+		@RestGet("/a")
+		public List<String> a(@Query("x") String x) {
+			return Arrays.asList(x, x);
+		}
+	}
+
+	private static MethodExecStats stats(RestContext context, String name) {
+		return context.getStats().getMethodStats().stream().filter(x -> x.getMethod().getName().equals(name)).findFirst().get();
+	}
+
+	@Test
+	public void b01_profiled() throws Exception {
+		MockRestClient c = MockRestClient.build(B1.class);
+		c.get("/a?x=foo").accept("application/json").run().assertContent("[\"foo\",\"foo\"]");
+		c.get("/a?x=bar").accept("application/json").run().assertContent("[\"bar\",\"bar\"]");
+
+		List<RestOpPhaseStats> l = stats(B1.context, "a").getPhaseStats();
+		Map<RestOpProfiler.Phase,RestOpPhaseStats> m = new LinkedHashMap<>();
+		l.forEach(x -> m.put(x.getPhase(), x));
+		assertObject(m.keySet()).asJson().is("['ROUTING','GUARDS','ARGS','INVOCATION','RESPONSE','SERIALIZATION','ENCODING']");
+		assertLong(m.get(ARGS).getRuns()).is(2L);
+		assertLong(m.get(SERIALIZATION).getRuns()).is(2L);
+		if (RestOpProfiler.isAllocationSupported()) {
+			assertLong(m.get(SERIALIZATION).getTotalBytes()).isGt(0L);
+			int pct = 0;
+			for (RestOpPhaseStats x : l)
+				pct += x.getBytesPercent();
+			assertInteger(pct).isBetween(90, 100);
+		}
+		assertString(Json5.of(B1.context.getStats())).isContains("phaseStats:[{phase:'ROUTING',runs:2,");
+	}
+
+	@Test
+	public void b02_notProfiledByDefault() throws Exception {
+		MockRestClient.build(B2.class).get("/a?x=foo").accept("application/json").run().assertContent("[\"foo\",\"foo\"]");
+		assertObject(stats(B2.context, "a").getPhaseStats()).isNull();
+		assertString(Json5.of(B2.context.getStats())).isNotContains("phaseStats");
+	}
+}
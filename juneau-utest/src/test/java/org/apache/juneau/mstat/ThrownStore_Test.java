@@ -16,6 +16,7 @@ import static org.junit.runners.MethodSorters.*;
 import static org.apache.juneau.assertions.AssertionPredicates.*;
 import static org.apache.juneau.assertions.Assertions.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.cp.*;
 import org.apache.juneau.rest.stats.*;
@@ -371,4 +372,107 @@ public class ThrownStore_Test {
 		assertInteger(db.getStats(t1).get().getCount()).is(4);
 		assertInteger(db.getStats(t2).get().getCount()).is(4);
 	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Bounds and sampling
+	//------------------------------------------------------------------------------------------------------------------
+
+	private static Throwable thrown(String...methods) {
+		Throwable t = new Throwable();
+		StackTraceElement[] st = new StackTraceElement[methods.length];
+		for (int i = 0; i < methods.length; i++)
+			st[i] = new StackTraceElement("Foo", methods[i], "Foo.class", i);
+		t.setStackTrace(st);
+		return t;
+	}
+
+	@Test
+	public void e01_maxSize() throws Exception {
+		ThrownStore db = ThrownStore.create().maxSize(2).build();
+		Throwable t1 = thrown("a"), t2 = thrown("b"), t3 = thrown("c");
+
+		db.add(t1);
+		Thread.sleep(2);
+		db.add(t2);
+		Thread.sleep(2);
+		db.add(t3);
+
+		assertInteger(db.getStats().size()).is(2);
+		assertBoolean(db.getStats(t1).isPresent()).isFalse();
+		assertBoolean(db.getStats(t2).isPresent()).isTrue();
+		assertBoolean(db.getStats(t3).isPresent()).isTrue();
+	}
+
+	@Test
+	public void e02_maxFrames() {
+		ThrownStore db = ThrownStore.create().maxFrames(2).build();
+		Throwable t1 = thrown("a", "b", "c"), t2 = thrown("a", "b", "d"), t3 = thrown("a", "x", "c");
+
+		db.add(t1);
+		db.add(t2);
+		db.add(t3);
+
+		assertLong(db.getStats(t1).get().getHash()).is(db.getStats(t2).get().getHash());
+		assertLong(db.getStats(t1).get().getHash()).isNot(db.getStats(t3).get().getHash());
+		assertInteger(db.getStats(t1).get().getCount()).is(2);
+		assertInteger(db.getStats(t3).get().getCount()).is(1);
+	}
+
+	@Test
+	public void e03_sampling() {
+		ThrownStore db = ThrownStore.create().sampleThreshold(10).sampleRate(5).build();
+		Throwable t1 = thrown("a");
+
+		for (int i = 0; i < 10; i++)
+			assertInteger(db.add(t1).getCount()).is(i+1);
+
+		for (int i = 0; i < 10000; i++)
+			assertObject(db.add(t1)).isNotNull();
+		assertInteger(db.getStats(t1).get().getCount()).isBetween(5000, 20000);
+	}
+
+	@Test
+	public void e04_sampling_disabled() {
+		ThrownStore db = ThrownStore.create().sampleThreshold(0).build();
+		Throwable t1 = thrown("a");
+		for (int i = 0; i < 2000; i++)
+			assertObject(db.add(t1)).isNotNull();
+		assertInteger(db.getStats(t1).get().getCount()).is(2000);
+	}
+
+	@Test
+	public void e05_evictionKeepsRepeatedExceptions() {
+		ThrownStore db = ThrownStore.create().maxSize(3).build();
+		Throwable t1 = thrown("a");
+		db.add(t1);
+		for (int i = 0; i < 100; i++) {
+			db.add(thrown("x" + i));
+			db.add(t1);
+			assertInteger(db.getStats().size()).isLte(3);
+		}
+		assertInteger(db.getStats(t1).get().getCount()).is(101);
+		assertBoolean(db.getStats(thrown("x98")).isPresent()).isTrue();
+		assertBoolean(db.getStats(thrown("x0")).isPresent()).isFalse();
+	}
+
+	@Test
+	public void e06_concurrentMaxSize() throws Exception {
+		ThrownStore db = ThrownStore.create().maxSize(10).sampleThreshold(0).build();
+		ExecutorService es = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> l = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int t2 = t;
+				l.add(es.submit(() -> {
+					for (int i = 0; i < 1000; i++)
+						db.add(thrown("t" + t2, "m" + (i % 50)));
+				}));
+			}
+			for (Future<?> f : l)
+				f.get(60, TimeUnit.SECONDS);
+		} finally {
+			es.shutdownNow();
+		}
+		assertInteger(db.getStats().size()).is(10);
+	}
 }
@@ -0,0 +1,120 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.oapi;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.httppart.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class OpenApiPrimitivePartParser_Test {
+
+	private static final OpenApiParserSession S = OpenApiParser.DEFAULT.getPartSession();
+
+	public static enum E { FOO, BAR }
+
+	private static void assertSameAsParser(HttpPartSchema schema, Class<?> type, String...inputs) throws Exception {
+		OpenApiPrimitivePartParser p = OpenApiPrimitivePartParser.of(schema, type);
+		assertObject(p).isNotNull();
+		for (String in : inputs) {
+			Object o = p.parse(S, in);
+			if (o != null)
+				assertObject(o).is(S.parse(HttpPartType.QUERY, schema, in, S.getClassMeta(type)));
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Selection
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_eligibleTypes() throws Exception {
+		HttpPartSchema s = HttpPartSchema.DEFAULT;
+		for (Class<?> c : new Class<?>[]{String.class, E.class, int.class, Integer.class, long.class, Long.class, boolean.class, Boolean.class})
+			assertObject(OpenApiPrimitivePartParser.of(s, c)).isNotNull();
+		for (Class<?> c : new Class<?>[]{Object.class, double.class, Float.class, int[].class, StringBuilder.class})
+			assertObject(OpenApiPrimitivePartParser.of(s, c)).isNull();
+	}
+
+	@Test
+	public void a02_ineligibleSchemas() throws Exception {
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.create().cf("csv").build(), String.class)).isNull();
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.create().f("uon").build(), String.class)).isNull();
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.create().f("byte").build(), String.class)).isNull();
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.create().tString().build(), Integer.class)).isNull();
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.create().tInteger().build(), Integer.class)).isNotNull();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_strings() throws Exception {
+		assertSameAsParser(HttpPartSchema.T_STRING, String.class, "foo", " foo ", "'foo'", "a~b", "(foo)");
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.DEFAULT, String.class).parse(S, "null")).isNull();
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.DEFAULT, String.class).parse(S, null)).isNull();
+	}
+
+	@Test
+	public void b02_integers() throws Exception {
+		assertSameAsParser(HttpPartSchema.DEFAULT, Integer.class, "0", "1", "-1", "123", "2147483647", "-2147483648", "2147483648", "007", "-0", "+1", "1.0", "1e3", "0x10");
+		assertSameAsParser(HttpPartSchema.DEFAULT, int.class, "0", "42", "-42");
+		OpenApiPrimitivePartParser p = OpenApiPrimitivePartParser.of(HttpPartSchema.DEFAULT, Integer.class);
+		assertInteger((Integer)p.parse(S, "123")).is(123);
+		assertObject(p.parse(S, "2147483648")).isNull();
+		assertObject(p.parse(S, "007")).isNull();
+		assertObject(p.parse(S, "1.0")).isNull();
+	}
+
+	@Test
+	public void b03_longs() throws Exception {
+		assertSameAsParser(HttpPartSchema.DEFAULT, Long.class, "0", "1", "-1", "123456789012345678", "9223372036854775807", "-0", "1.0");
+		assertSameAsParser(HttpPartSchema.DEFAULT, long.class, "0", "42", "-42");
+		assertLong((Long)OpenApiPrimitivePartParser.of(HttpPartSchema.DEFAULT, Long.class).parse(S, "123456789012")).is(123456789012l);
+	}
+
+	@Test
+	public void b04_booleans() throws Exception {
+		assertSameAsParser(HttpPartSchema.DEFAULT, Boolean.class, "true", "false", "TRUE", "1");
+		assertSameAsParser(HttpPartSchema.DEFAULT, boolean.class, "true", "false");
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.DEFAULT, Boolean.class).parse(S, "TRUE")).isNull();
+	}
+
+	@Test
+	public void b05_enums() throws Exception {
+		assertSameAsParser(HttpPartSchema.DEFAULT, E.class, "FOO", "BAR", "foo", "BAZ");
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.DEFAULT, E.class).parse(S, "FOO")).isSame(E.FOO);
+		assertObject(OpenApiPrimitivePartParser.of(HttpPartSchema.DEFAULT, E.class).parse(S, "BAZ")).isNull();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Validation
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_validation() throws Exception {
+		OpenApiPrimitivePartParser p = OpenApiPrimitivePartParser.of(HttpPartSchema.create().minimum(10).build(), Integer.class);
+		assertThrown(()->p.parse(S, "5")).asMessage().is("Minimum value not met.");
+		OpenApiPrimitivePartParser p2 = OpenApiPrimitivePartParser.of(HttpPartSchema.create()._enum("a","b").build(), String.class);
+		assertThrown(()->p2.parse(S, "c")).asMessage().is("Value does not match one of the expected values.  Must be one of the following:  a, b");
+	}
+
+	@Test
+	public void c02_nonOpenApiSession() throws Exception {
+		OpenApiPrimitivePartParser p = OpenApiPrimitivePartParser.of(HttpPartSchema.DEFAULT, Integer.class);
+		assertObject(p.parse(SimplePartParser.DEFAULT_SESSION, "123")).isNull();
+	}
+}
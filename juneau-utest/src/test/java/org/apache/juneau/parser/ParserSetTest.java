@@ -75,4 +75,23 @@ public class ParserSetTest {
 	public static class P3 extends JsonParser { public P3(JsonParser.Builder b) { super(b.consumes("text/3")); }}
 	public static class P4 extends JsonParser { public P4(JsonParser.Builder b) { super(b.consumes("text/4,text/4a"));} }
 	public static class P5 extends JsonParser { public P5(JsonParser.Builder b) { super(b.consumes("text/5"));}}
+
+	//====================================================================================================
+	// Test match cache
+	//====================================================================================================
+	@Test
+	public void testMatchCache() throws Exception {
+		ParserSet s = ParserSet.create().add(Parser1.class, Parser2.class, Parser3.class).build();
+		assertObject(s.getParser("text/foo+bar; charset=utf-8")).isType(Parser2.class);
+		assertObject(s.getParser("text/foo+bar;charset = utf-8 ")).isType(Parser2.class);
+		assertLong(s.getMatchCacheMisses()).is(1l);
+		assertLong(s.getMatchCacheHits()).is(1l);
+
+		assertObject(s.getParserMatch("text/xxx")).isNull();
+		assertObject(s.getParserMatch("text/xxx")).isNull();
+		assertLong(s.getMatchCacheMisses()).is(2l);
+		assertLong(s.getMatchCacheHits()).is(2l);
+
+		assertObject(s.getParserMatch((String)null)).isNull();
+	}
 }
@@ -0,0 +1,114 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.reflect.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.arg.*;
+import org.apache.juneau.rest.mock.*;
+import org.apache.juneau.rest.stats.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestOpInvoker_Test {
+
+	@Rest
+	public static class A {
+		@RestGet public String a0() { return "a0"; }
+		@RestGet public String a1(@Query("a") String a) { return a; }
+		@RestGet public String a2(@Query("a") String a, @Query("b") int b) { return a + b; }
+		@RestGet public String a3(@Query("a") String a, @Query("b") int b, @Query("c") Boolean c) { return a + b + c; }
+		@RestGet public String a4(@Query("a") String a, @Query("b") int b, @Query("c") Boolean c, @Query("d") long d) { return a + b + c + d; }
+		@RestGet public static String a5(@Query("a") String a) { return "static" + a; }
+		@RestGet public void a6(RestResponse res) { res.setContent("void"); }
+		@RestGet public String a7() throws Exception { throw new IllegalStateException("foo"); }
+		@RestGet public String a8(@Query("a") String a, @Query("b") String b, @Query("c") String c, @Query("d") String d) throws Exception { throw new IllegalStateException("bar"); }
+	}
+
+	@Test
+	public void a01_args() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(A.class);
+		c.get("/a0").run().assertContent("a0");
+		c.get("/a1?a=x").run().assertContent("x");
+		c.get("/a2?a=x&b=1").run().assertContent("x1");
+		c.get("/a2?a=x").run().assertContent("x0");
+		c.get("/a3?a=x&b=1&c=true").run().assertContent("x1true");
+		c.get("/a4?a=x&b=1&c=true&d=2").run().assertContent("x1true2");
+		c.get("/a5?a=x").run().assertContent("staticx");
+		c.get("/a6").run().assertContent("void");
+	}
+
+	@Test
+	public void a02_thrown() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(A.class);
+		c.get("/a7").run().assertStatus(500).assertContent().isContains("foo");
+		c.get("/a8").run().assertStatus(500).assertContent().isContains("bar");
+	}
+
+	@Test
+	public void a03_stats() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(A.class);
+		c.get("/a1?a=x").run();
+		c.get("/a7").run();
+		c.get("/a8").run();
+		MethodExecStore store = RestContext.getGlobalRegistry().get(A.class).getMethodExecStore();
+		MethodExecStats s1 = store.getStats(A.class.getMethod("a1", String.class));
+		MethodExecStats s7 = store.getStats(A.class.getMethod("a7"));
+		MethodExecStats s8 = store.getStats(A.class.getMethod("a8", String.class, String.class, String.class, String.class));
+		assertInteger(s1.getRuns()).isNot(0);
+		assertInteger(s7.getErrors()).isNot(0);
+		assertInteger(s8.getErrors()).isNot(0);
+		assertString(s7.getThrownStore().getStats().get(0).getFirstMessage()).is("foo");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Widening conversions.
+	//------------------------------------------------------------------------------------------------------------------
+
+	public static class B0 implements RestOpArg {
+
+		public static B0 create(ParamInfo pi) {
+			if (pi.isType(long.class) || pi.isType(double.class) || pi.isType(short.class) || pi.isType(Long.class))
+				return new B0();
+			return null;
+		}
+
+		@Override
+		public Object resolve(RestOpSession opSession) throws Exception {
+			return Integer.valueOf(5);
+		}
+	}
+
+	@Rest(restOpArgs=B0.class)
+	public static class B {
+		@RestGet public String b1(long a) { return "" + a; }
+		@RestGet public String b2(long a, double b) { return a + "/" + b; }
+		@RestGet public String b3(long a, double b, long c, double d) { return a + "/" + b + "/" + c + "/" + d; }
+		@RestGet public String b4(Long a) { return "" + a; }
+		@RestGet public String b5(short a) { return "" + a; }
+	}
+
+	@Test
+	public void b01_widening() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(B.class);
+		c.get("/b1").run().assertContent("5");
+		c.get("/b2").run().assertContent("5/5.0");
+		c.get("/b3").run().assertContent("5/5.0/5/5.0");
+		c.get("/b4").run().assertStatus(500);
+		c.get("/b5").run().assertStatus(500);
+	}
+}
@@ -0,0 +1,126 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.stream.*;
+
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.httppart.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestRequest_LazyParts_Test {
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Query parameters
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class A {
+		@RestGet(defaultRequestQueryData={"d1:dv1","d2:dv2"})
+		public String a(RequestQueryParams q) {
+			// Lookups before materialization.
+			String s1 = q.getFirst("a").orElse(null) + "," + q.getLast("a").orElse(null) + "," + q.get("d1").orElse(null) + "," + q.get("d2").orElse(null) + "," + q.contains("x");
+			// Full list after materialization.
+			String s2 = q.stream().map(x -> x.getName() + "=" + x.getValue()).collect(Collectors.joining("&"));
+			return s1 + "|" + s2 + "|" + q.getFirst("a").asInteger().orElse(null);
+		}
+		@RestGet
+		public String b(RequestQueryParams q) {
+			RequestQueryParam p = q.getFirst("a");
+			q.add("b", "2");
+			return (p == q.getFirst("a")) + "," + q.size() + "," + q.getLast("b").orElse(null);
+		}
+	}
+
+	@Test
+	public void a01_queryLookups() throws Exception {
+		RestClient a = MockRestClient.build(A.class);
+		a.get("/a?a=1&b=x&a=2&d2=").run().assertContent("1,2,dv1,dv2,false|a=1&a=2&b=x&d1=dv1&d2=dv2|1");
+		a.get("/a").run().assertContent("null,null,dv1,dv2,false|d1=dv1&d2=dv2|null");
+	}
+
+	@Test
+	public void a02_queryIdentityPreserved() throws Exception {
+		RestClient a = MockRestClient.build(A.class);
+		a.get("/b?a=1").run().assertContent("true,2,2");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Headers
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class B {
+		@RestGet(defaultRequestHeaders={"H1:dv1","H2:dv2"})
+		public String a(RequestHeaders h) {
+			String s1 = h.getFirst("x-foo").orElse(null) + "," + h.getLast("X-FOO").orElse(null) + "," + h.get("h1").orElse(null) + "," + h.get("h2").orElse(null) + "," + h.contains("x-bar");
+			String s2 = h.subset("X-Foo","H1").stream().map(x -> x.getName() + "=" + x.getValue()).collect(Collectors.joining("&"));
+			return s1 + "|" + s2;
+		}
+		@RestGet(defaultRequestHeaders={"H1:dv1"})
+		public String b(RequestHeaders h) {
+			h.caseSensitive(true);
+			return h.get("h1").orElse(null) + "," + h.get("H1").orElse(null);
+		}
+	}
+
+	@Test
+	public void b01_headerLookups() throws Exception {
+		RestClient b = MockRestClient.build(B.class);
+		b.get("/a").header("X-Foo", "foo1").header("X-Foo", "foo2").header("H2", "").run().assertContent("foo1,foo2,dv1,dv2,false|X-Foo=foo1&X-Foo=foo2&H1=dv1");
+	}
+
+	@Test
+	public void b02_headerCaseSensitivity() throws Exception {
+		RestClient b = MockRestClient.build(B.class);
+		b.get("/b").run().assertContent("null,dv1");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Form data
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class C {
+		@RestPost(defaultRequestFormData={"d1:dv1","d2:dv2"})
+		public String a(RequestFormParams f) {
+			String s1 = f.getFirst("a").orElse(null) + "," + f.getLast("a").orElse(null) + "," + f.get("d1").orElse(null) + "," + f.get("d2").orElse(null) + "," + f.contains("x");
+			String s2 = f.stream().map(x -> x.getName() + "=" + x.getValue()).collect(Collectors.joining("&"));
+			return s1 + "|" + s2 + "|" + f.getFirst("a").asInteger().orElse(null);
+		}
+		@RestPost
+		public String b(RequestFormParams f) {
+			RequestFormParam p = f.getFirst("a");
+			f.caseSensitive(true);
+			return (p == f.getFirst("a")) + "," + f.getFirst("A").orElse(null) + "," + f.subset("a").size() + "," + f.size();
+		}
+	}
+
+	@Test
+	public void c01_formDataLookups() throws Exception {
+		RestClient c = MockRestClient.build(C.class);
+		c.post("/a", "a=1&b=x&a=2&d2=").contentType("application/x-www-form-urlencoded").run().assertContent("1,2,dv1,dv2,false|a=1&a=2&b=x&d1=dv1&d2=dv2|1");
+		c.post("/a", "").contentType("application/x-www-form-urlencoded").run().assertContent("null,null,dv1,dv2,false|d1=dv1&d2=dv2|null");
+	}
+
+	@Test
+	public void c02_formDataCaseSensitivity() throws Exception {
+		RestClient c = MockRestClient.build(C.class);
+		c.post("/b", "a=1&b=2").contentType("application/x-www-form-urlencoded").run().assertContent("true,null,1,2");
+	}
+}
@@ -0,0 +1,119 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock.*;
+import org.apache.juneau.rest.util.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestResponse_ContentBuffer_Test {
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Content-Length on buffered responses
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest(serializers=JsonSerializer.class, encoders=GzipEncoder.class)
+	public static class A {
+		@RestInit
+		public void init(RestContext.Builder builder) {
+			builder.contentBufferSize("32");
+		}
+
+		@RestGet
+		public String a(@Query("n") int n) {
+			return StringUtils.repeat(n, "x");
+		}
+
+		@RestGet
+		public A1 b() {
+			return new A1();
+		}
+	}
+
+	public static class A1 {
+		public String getFoo() {
+			return StringUtils.repeat(10, "x");
+		}
+		public String getBar() {
+			throw new RuntimeException("bar");
+		}
+	}
+
+	@Test
+	public void a01_small() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(A.class);
+		c.get("/a?n=3").header("Accept-Encoding", "identity").run().assertStatus(200).assertHeader("Content-Length").is("5").assertContent("\"xxx\"");
+		c.get("/a?n=0").header("Accept-Encoding", "identity").run().assertHeader("Content-Length").is("2").assertContent("\"\"");
+	}
+
+	@Test
+	public void a02_large() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(A.class);
+		c.get("/a?n=100").header("Accept-Encoding", "identity").run().assertStatus(200).assertHeader("Content-Length").isNull().assertContent("\"" + StringUtils.repeat(100, "x") + "\"");
+	}
+
+	@Test
+	public void a03_encoded() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(A.class);
+		c.get("/a?n=100").header("Accept-Encoding", "gzip").run().assertStatus(200).assertHeader("Content-Length").isNotNull().assertContent("\"" + StringUtils.repeat(100, "x") + "\"");
+	}
+
+	@Test
+	public void a04_errorDiscardsBuffer() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(A.class);
+		c.get("/b").run().assertStatus(500).assertHeader("Content-Length").isNull().assertContent().isContains("bar").assertContent().isNotContains("{");
+	}
+
+	@Rest(serializers=JsonSerializer.class)
+	public static class B {
+		@RestInit
+		public void init(RestContext.Builder builder) {
+			builder.contentBufferSize("0");
+		}
+
+		@RestGet
+		public String a() {
+			return "foo";
+		}
+	}
+
+	@Test
+	public void b01_disabled() throws Exception {
+		MockRestClient.buildLax(B.class).get("/a").run().assertStatus(200).assertHeader("Content-Length").isNull().assertContent("\"foo\"");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Size estimates
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_estimator() {
+		ContentSizeEstimator x = new ContentSizeEstimator();
+		assertInteger(x.estimate("text/json")).is(-1);
+		x.record("text/json", 100);
+		assertInteger(x.estimate("text/json")).is(100);
+		for (int i = 0; i < 20; i++)
+			x.record("text/json", 1000);
+		assertInteger(x.estimate("text/json")).isBetween(990, 1000);
+		assertInteger(x.estimate("text/xml")).is(-1);
+	}
+}
@@ -0,0 +1,145 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock.*;
+import org.apache.juneau.rest.util.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestResponse_ETag_Test {
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Computed entity tags
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest(serializers=JsonSerializer.class)
+	public static class A {
+		@RestInit
+		public void init(RestContext.Builder builder) {
+			builder.contentBufferSize("64").contentEtags();
+		}
+
+		@RestGet
+		public String a(RestRequest req) {
+			return req.getQueryParam("v").orElse("foo");
+		}
+
+		@RestPost
+		public String b() {
+			return "foo";
+		}
+	}
+
+	@Test
+	public void a01_computed() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(A.class);
+		String etag = c.get("/a").header("Accept-Encoding", "identity").run().assertStatus(200).assertContent("\"foo\"").getHeader("ETag").asString().orElse(null);
+		assertString(etag).isMatches("\"*\"");
+		c.get("/a").header("Accept-Encoding", "identity").run().assertHeader("ETag").is(etag);
+		c.get("/a?v=bar").header("Accept-Encoding", "identity").run().assertHeader("ETag").isNot(etag);
+		c.get("/a").header("Accept-Encoding", "identity").header("If-None-Match", etag).run().assertStatus(304).assertHeader("ETag").is(etag).assertContent("");
+		c.get("/a").header("Accept-Encoding", "identity").header("If-None-Match", "W/" + etag).run().assertStatus(304);
+		c.get("/a").header("Accept-Encoding", "identity").header("If-None-Match", "\"x\", " + etag).run().assertStatus(304);
+		c.get("/a?v=bar").header("Accept-Encoding", "identity").header("If-None-Match", etag).run().assertStatus(200).assertContent("\"bar\"");
+		c.post("/b", null).header("Accept-Encoding", "identity").header("If-None-Match", "*").run().assertStatus(200).assertContent("\"foo\"");
+	}
+
+	@Test
+	public void a02_largeContentNotTagged() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(A.class);
+		c.get("/a?v=" + StringUtils.repeat(100, "x")).header("Accept-Encoding", "identity").run().assertStatus(200).assertHeader("ETag").isNull();
+	}
+
+	@Rest(serializers=JsonSerializer.class)
+	public static class B {
+		@RestGet
+		public String a() {
+			return "foo";
+		}
+	}
+
+	@Test
+	public void b01_disabledByDefault() throws Exception {
+		MockRestClient.buildLax(B.class).get("/a").header("If-None-Match", "*").run().assertStatus(200).assertHeader("ETag").isNull().assertContent("\"foo\"");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Known versions
+	//------------------------------------------------------------------------------------------------------------------
+
+	public static class C1 implements Versioned {
+		static int serialized;
+		public String getFoo() {
+			serialized++;
+			return "bar";
+		}
+		@Override
+		public String version() {
+			return "1";
+		}
+	}
+
+	@Rest(serializers=JsonSerializer.class)
+	public static class C {
+		@RestGet
+		public C1 a() {
+			return new C1();
+		}
+
+		@RestGet
+		public String b(RestResponse res) {
+			res.setHeader("ETag", "\"v2\"");
+			return "foo";
+		}
+	}
+
+	@Test
+	public void c01_versioned() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(C.class);
+		String etag = c.get("/a").run().assertStatus(200).assertContent("{\"foo\":\"bar\"}").getHeader("ETag").asString().orElse(null);
+		assertString(etag).isMatches("W/\"*\"");
+		int count = C1.serialized;
+		c.get("/a").header("If-None-Match", etag).run().assertStatus(304).assertHeader("ETag").is(etag).assertContent("");
+		assertInteger(C1.serialized).is(count);
+		c.get("/a").header("If-None-Match", "\"x\"").run().assertStatus(200).assertContent("{\"foo\":\"bar\"}");
+		assertInteger(C1.serialized).is(count + 1);
+	}
+
+	@Test
+	public void c02_methodSetsEtag() throws Exception {
+		MockRestClient c = MockRestClient.buildLax(C.class);
+		c.get("/b").run().assertStatus(200).assertHeader("ETag").is("\"v2\"").assertContent("\"foo\"");
+		c.get("/b").header("If-None-Match", "\"v2\"").run().assertStatus(304).assertContent("");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Hash
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void d01_hash() throws Exception {
+		assertString(Long.toHexString(ContentHash.hash(""))).is("ef46db3751d8e999");
+		assertString(Long.toHexString(ContentHash.hash("a"))).is("d24ec4f1a98c6e5b");
+		assertString(Long.toHexString(ContentHash.hash("abc"))).is("44bc2cf5ad770999");
+		assertString(Long.toHexString(ContentHash.hash("Nobody inspects the spammish repetition"))).is("fbcea83c8a378bf1");
+		byte[] b = "xxabcxx".getBytes("UTF-8");
+		assertLong(ContentHash.hash(b, 2, 3)).is(ContentHash.hash("abc"));
+	}
+}
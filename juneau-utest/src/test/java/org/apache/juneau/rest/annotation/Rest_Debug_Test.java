@@ -14,9 +14,11 @@ package org.apache.juneau.rest.annotation;
 
 import static org.junit.runners.MethodSorters.*;
 
+import org.apache.juneau.http.annotation.*;
 import org.apache.juneau.rest.RestRequest;
 import org.apache.juneau.rest.client.*;
 import org.apache.juneau.rest.config.*;
+import org.apache.juneau.rest.guard.*;
 import org.apache.juneau.rest.logger.*;
 import org.apache.juneau.rest.mock.*;
 import org.apache.juneau.rest.servlet.*;
@@ -1204,4 +1206,42 @@ public class Rest_Debug_Test {
 		assertNotLogged();
 	}
 
+	//------------------------------------------------------------------------------------------------------------------
+	// Request content that's never read.
+	//------------------------------------------------------------------------------------------------------------------
+
+	public static class D1_Reject extends RestGuard {
+		@Override
+		public boolean isRequestAllowed(RestRequest req) {
+			return false;
+		}
+	}
+
+	@Rest(callLogger=CaptureLogger.class, debug="true")
+	public static class D1 implements BasicUniversalConfig {
+		@RestPost(guards=D1_Reject.class)
+		public String a(@Content String content) {
+			return content;
+		}
+		@RestPost
+		public String b() {
+			return "ok";
+		}
+		@RestPost
+		public String c(RestRequest req) throws Exception {
+			return String.valueOf((char)req.getInputStream().read());
+		}
+	}
+
+	@Test
+	public void d01_unreadContentLogged() throws Exception {
+		RestClient d1 = MockRestClient.create(D1.class).plainText().suppressLogging().ignoreErrors().build();
+
+		d1.post("/a", "foo").run().assertStatus(403);
+		assertLogged("foo");
+		d1.post("/b", "bar").run().assertContent("ok");
+		assertLogged("bar");
+		d1.post("/c", "baz").run().assertContent("b");
+		assertLogged("baz");
+	}
 }
@@ -85,6 +85,7 @@ public class RestClient_Logging_Test {
 			"HTTP/1.1 200 ",
 			"---response headers---",
 			"	Content-Type: application/json5",
+			"	Content-Length: 5",
 			"---response content---",
 			"{f:1}",
 			"=== END ======================================================================="
@@ -102,6 +103,7 @@ public class RestClient_Logging_Test {
 			"HTTP/1.1 200 ",
 			"---response headers---",
 			"	Content-Type: application/json5",
+			"	Content-Length: 5",
 			"---response content---",
 			"{f:1}",
 			"=== END ======================================================================="
@@ -161,6 +163,7 @@ public class RestClient_Logging_Test {
 			"HTTP/1.1 200 ",
 			"---response headers---",
 			"	Content-Type: application/json5",
+			"	Content-Length: 5",
 			"---response content---",
 			"{f:1}",
 			"=== END ======================================================================="
@@ -180,6 +183,7 @@ public class RestClient_Logging_Test {
 			"HTTP/1.1 200 ",
 			"---response headers---",
 			"	Content-Type: application/json5",
+			"	Content-Length: 5",
 			"---response content---",
 			"{f:1}",
 			"=== END ======================================================================="
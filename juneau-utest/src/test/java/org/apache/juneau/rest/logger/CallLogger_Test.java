@@ -0,0 +1,181 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.logger;
+
+import static java.util.concurrent.TimeUnit.*;
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import org.apache.juneau.cp.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class CallLogger_Test {
+
+	private static class TestLogger extends CallLogger {
+		final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+		volatile CountDownLatch gate;
+		volatile int failures;
+
+		TestLogger(Builder builder) {
+			super(builder);
+		}
+
+		@Override
+		protected void log(Level level, String msg, Throwable e) {
+			try {
+				if (gate != null)
+					gate.await();
+			} catch (InterruptedException e1) {
+				Thread.currentThread().interrupt();
+			}
+			if (failures > 0) {
+				failures--;
+				throw new RuntimeException("bad");
+			}
+			messages.add(msg);
+		}
+	}
+
+	private static CallLogger.Builder builder(float sampleRate) {
+		return CallLogger.create(BeanStore.INSTANCE)
+			.level(Level.INFO)
+			.normalRules(CallLoggerRule.create(BeanStore.INSTANCE).sampleRate(sampleRate).build());
+	}
+
+	private static void log(CallLogger logger, String uri) {
+		logger.log(MockServletRequest.create("GET", uri), MockServletResponse.create().status(200));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Sampling
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_sampleRate() throws Exception {
+		assertBoolean(CallLoggerRule.create(BeanStore.INSTANCE).build().isSampled()).isTrue();
+		assertBoolean(CallLoggerRule.create(BeanStore.INSTANCE).sampleRate(0f).build().isSampled()).isFalse();
+
+		TestLogger never = new TestLogger(builder(0f));
+		for (int i = 0; i < 100; i++)
+			log(never, "/foo");
+		assertInteger(never.messages.size()).is(0);
+
+		TestLogger always = new TestLogger(builder(1f));
+		log(always, "/foo");
+		assertString(always.messages.poll()).is("[200] HTTP GET /foo");
+
+		TestLogger half = new TestLogger(builder(0.5f));
+		for (int i = 0; i < 1000; i++)
+			log(half, "/foo");
+		assertInteger(half.messages.size()).isBetween(300, 700);
+	}
+
+	@Test
+	public void a02_sampleRateValidation() throws Exception {
+		assertThrown(()->CallLoggerRule.create(BeanStore.INSTANCE).sampleRate(-0.1f)).isType(IllegalArgumentException.class);
+		assertThrown(()->CallLoggerRule.create(BeanStore.INSTANCE).sampleRate(1.1f)).isType(IllegalArgumentException.class);
+		assertThrown(()->CallLoggerRule.create(BeanStore.INSTANCE).sampleRate(Float.NaN)).isType(IllegalArgumentException.class);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Asynchronous writing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_async() throws Exception {
+		TestLogger x = new TestLogger(builder(1f).asyncBufferSize(10));
+		assertBoolean(x.isAsync()).isTrue();
+		log(x, "/foo");
+		assertString(x.messages.poll(10, SECONDS)).is("[200] HTTP GET /foo");
+		assertLong(x.getDroppedCount()).is(0l);
+	}
+
+	@Test
+	public void b02_asyncDropsWhenFull() throws Exception {
+		TestLogger x = new TestLogger(builder(1f).asyncBufferSize(2));
+		x.gate = new CountDownLatch(1);
+		for (int i = 0; i < 10; i++)
+			log(x, "/foo");
+		x.gate.countDown();
+		// One entry may be held by the writer thread, two more fit in the buffer.
+		assertLong(x.getDroppedCount()).isBetween(7l, 8l);
+		for (int i = 0; i < 10 - x.getDroppedCount(); i++)
+			assertString(x.messages.poll(10, SECONDS)).is("[200] HTTP GET /foo");
+	}
+
+	@Test
+	public void b03_syncByDefault() throws Exception {
+		TestLogger x = new TestLogger(builder(1f));
+		assertBoolean(x.isAsync()).isFalse();
+		log(x, "/foo");
+		assertInteger(x.messages.size()).is(1);
+	}
+
+	@Test
+	public void b04_closeDrainsBuffer() throws Exception {
+		TestLogger x = new TestLogger(builder(1f).asyncBufferSize(10));
+		x.gate = new CountDownLatch(1);
+		for (int i = 0; i < 5; i++)
+			log(x, "/foo");
+		x.gate.countDown();
+		x.close();
+		assertInteger(x.messages.size()).is(5);
+		assertBoolean(x.isAsync()).isFalse();
+		log(x, "/bar");
+		assertString(x.messages.toArray()[5]).is("[200] HTTP GET /bar");
+		x.close();
+	}
+
+	@Test
+	public void b05_writerSurvivesErrors() throws Exception {
+		TestLogger x = new TestLogger(builder(1f).asyncBufferSize(10));
+		x.failures = 2;
+		for (int i = 0; i < 3; i++)
+			log(x, "/foo");
+		assertString(x.messages.poll(10, SECONDS)).is("[200] HTTP GET /foo");
+		x.close();
+	}
+
+	private static class LazyTestLogger extends TestLogger {
+		LazyTestLogger(Builder builder) {
+			super(builder);
+		}
+	}
+
+	private static long writerThreads() {
+		return Thread.getAllStackTraces().keySet().stream().filter(x -> x.getName().equals("LazyTestLogger-writer")).count();
+	}
+
+	@Test
+	public void b06_writerStartedOnFirstEntry() throws Exception {
+		TestLogger x = new LazyTestLogger(builder(1f).asyncBufferSize(10));
+		assertBoolean(x.isAsync()).isTrue();
+		assertLong(writerThreads()).is(0l);
+		log(x, "/foo");
+		assertString(x.messages.poll(10, SECONDS)).is("[200] HTTP GET /foo");
+		assertLong(writerThreads()).is(1l);
+		x.close();
+		assertLong(writerThreads()).is(0l);
+
+		x = new LazyTestLogger(builder(1f).asyncBufferSize(10));
+		x.close();
+		log(x, "/bar");
+		assertInteger(x.messages.size()).is(1);
+		assertLong(writerThreads()).is(0l);
+	}
+}
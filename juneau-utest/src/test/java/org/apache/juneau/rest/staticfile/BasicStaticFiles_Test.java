@@ -0,0 +1,258 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.staticfile;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.http.HttpHeaders.*;
+import static org.apache.juneau.http.HttpResources.*;
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+
+import org.apache.juneau.cp.*;
+import org.apache.juneau.http.annotation.Path;
+import org.apache.juneau.http.resource.*;
+import org.apache.juneau.http.response.*;
+import org.apache.juneau.rest.RestContext;
+import org.apache.juneau.rest.RestRequest;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.RestClient;
+import org.apache.juneau.rest.client.RestResponse;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class BasicStaticFiles_Test {
+
+	private static final String SMALL = "hello", LARGE = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+	private static java.nio.file.Path dir;
+
+	@BeforeClass
+	public static void beforeClass() throws Exception {
+		dir = Files.createTempDirectory("BasicStaticFiles_Test");
+		Files.write(dir.resolve("small.txt"), SMALL.getBytes("UTF-8"));
+		Files.write(dir.resolve("large.txt"), LARGE.getBytes("UTF-8"));
+	}
+
+	@AfterClass
+	public static void afterClass() throws Exception {
+		Files.delete(dir.resolve("small.txt"));
+		Files.delete(dir.resolve("large.txt"));
+		Files.delete(dir);
+	}
+
+	@Rest
+	public static class A {
+		@RestInit
+		public void init(RestContext.Builder builder) {
+			builder.staticFiles(StaticFiles.create(BeanStore.INSTANCE).path(dir).caching(16).build());
+		}
+
+		@RestGet(path="/*")
+		public HttpResource get(@Path("/*") String path, RestRequest req) {
+			return req.getStaticFiles().resolve(path, null).orElseThrow(NotFound::new);
+		}
+
+		@RestGet(path="/unskippable")
+		public HttpResource unskippable() {
+			InputStream is = new FilterInputStream(new ByteArrayInputStream(LARGE.getBytes())) {
+				@Override
+				public long skip(long n) {
+					return 0;
+				}
+			};
+			return streamResource(is, LARGE.length(), null).addHeaders(acceptRanges("bytes"));
+		}
+	}
+
+	private static RestClient client() {
+		return MockRestClient.create(A.class).ignoreErrors().noTrace().build();
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Metadata headers
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_headers() throws Exception {
+		RestClient c = client();
+		for (String f : new String[]{"small.txt","large.txt"}) {
+			RestResponse r = c.get("/" + f).run().assertStatus(200);
+			r.assertHeader("ETag").isNotNull();
+			r.assertHeader("Last-Modified").isNotNull();
+			r.assertHeader("Accept-Ranges").is("bytes");
+		}
+		c.get("/small.txt").run().assertContent(SMALL).assertHeader("Content-Length").is("5");
+		c.get("/large.txt").run().assertContent(LARGE).assertHeader("Content-Length").is("36");
+	}
+
+	@Test
+	public void a02_resourceContents() throws Exception {
+		StaticFiles sf = StaticFiles.create(BeanStore.INSTANCE).path(dir).caching(16).build();
+		try (InputStream is = sf.resolve("small.txt", null).get().getContent()) {
+			assertObject(is).isType(LocalFileInputStream.class);
+			assertObject(((LocalFileInputStream)is).getChannel()).isNull();
+		}
+		try (InputStream is = sf.resolve("large.txt", null).get().getContent()) {
+			assertObject(((LocalFileInputStream)is).getChannel()).isNotNull();
+		}
+	}
+
+	@Test
+	public void a03_overriddenLookup() throws Exception {
+		StaticFiles sf = new BasicStaticFiles(StaticFiles.create(BeanStore.INSTANCE).path(dir)) {
+			@Override
+			public Optional<InputStream> getStream(String name, Locale locale) throws IOException {
+				return Optional.of(new ByteArrayInputStream("overridden".getBytes()));
+			}
+		};
+		assertString(read(sf.resolve("small.txt", null).get().getContent())).is("overridden");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Conditional requests
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_ifNoneMatch() throws Exception {
+		RestClient c = client();
+		for (String f : new String[]{"small.txt","large.txt"}) {
+			String etag = c.get("/" + f).run().getHeader("ETag").asString().get();
+			c.get("/" + f).header("If-None-Match", etag).run().assertStatus(304).assertContent().isEmpty();
+			c.get("/" + f).header("If-None-Match", "\"foo\", " + etag).run().assertStatus(304);
+			c.get("/" + f).header("If-None-Match", "*").run().assertStatus(304);
+			c.get("/" + f).header("If-None-Match", "\"foo\"").run().assertStatus(200);
+		}
+	}
+
+	@Test
+	public void b02_ifModifiedSince() throws Exception {
+		RestClient c = client();
+		String lastModified = c.get("/small.txt").run().getHeader("Last-Modified").asString().get();
+		c.get("/small.txt").header("If-Modified-Since", lastModified).run().assertStatus(304);
+		c.get("/small.txt").header("If-Modified-Since", "Sat, 29 Oct 1994 19:43:31 GMT").run().assertStatus(200).assertContent(SMALL);
+		c.get("/small.txt").header("If-Modified-Since", lastModified).header("If-None-Match", "\"foo\"").run().assertStatus(200);
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Range requests
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_range() throws Exception {
+		RestClient c = client();
+		c.get("/large.txt").header("Range", "bytes=2-4").run().assertStatus(206).assertContent("234").assertHeader("Content-Range").is("bytes 2-4/36").assertHeader("Content-Length").is("3");
+		c.get("/large.txt").header("Range", "bytes=30-").run().assertStatus(206).assertContent("uvwxyz").assertHeader("Content-Range").is("bytes 30-35/36");
+		c.get("/large.txt").header("Range", "bytes=-3").run().assertStatus(206).assertContent("xyz");
+		c.get("/large.txt").header("Range", "bytes=30-100").run().assertStatus(206).assertContent("uvwxyz");
+		c.get("/small.txt").header("Range", "bytes=1-2").run().assertStatus(206).assertContent("el").assertHeader("Content-Range").is("bytes 1-2/5");
+		c.get("/small.txt").header("Range", "bytes=-100").run().assertStatus(206).assertContent(SMALL);
+	}
+
+	@Test
+	public void c02_range_unsatisfiable() throws Exception {
+		RestClient c = client();
+		c.get("/large.txt").header("Range", "bytes=36-").run().assertStatus(416).assertHeader("Content-Range").is("bytes */36");
+		c.get("/large.txt").header("Range", "bytes=-0").run().assertStatus(416);
+	}
+
+	@Test
+	public void c03_range_ignored() throws Exception {
+		RestClient c = client();
+		c.get("/large.txt").header("Range", "bytes=0-1,4-5").run().assertStatus(200).assertContent(LARGE);
+		c.get("/large.txt").header("Range", "bytes=5-2").run().assertStatus(200).assertContent(LARGE);
+		c.get("/large.txt").header("Range", "bytes=x-").run().assertStatus(200).assertContent(LARGE);
+		c.get("/large.txt").header("Range", "items=0-1").run().assertStatus(200).assertContent(LARGE);
+	}
+
+	@Test
+	public void c04_ifRange() throws Exception {
+		RestClient c = client();
+		RestResponse r = c.get("/large.txt").run();
+		String etag = r.getHeader("ETag").asString().get(), lastModified = r.getHeader("Last-Modified").asString().get();
+		c.get("/large.txt").header("Range", "bytes=0-1").header("If-Range", etag).run().assertStatus(206).assertContent("01");
+		c.get("/large.txt").header("Range", "bytes=0-1").header("If-Range", lastModified).run().assertStatus(206).assertContent("01");
+		c.get("/large.txt").header("Range", "bytes=0-1").header("If-Range", "\"foo\"").run().assertStatus(200).assertContent(LARGE);
+	}
+
+	@Test
+	public void c05_range_unskippableStream() throws Exception {
+		RestClient c = client();
+		c.get("/unskippable").header("Range", "bytes=30-").run().assertStatus(206).assertContent("uvwxyz");
+		c.get("/unskippable").run().assertStatus(200).assertContent(LARGE);
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// LocalFile metadata
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void d01_classpathMetadata() throws Exception {
+		LocalFile f = new LocalFile(BasicStaticFiles_Test.class, "BasicStaticFiles_Test.class");
+		assertLong(f.size()).isGt(0L);
+		assertLong(f.lastModified()).isGt(0L);
+		assertObject(f.getPath()).isNull();
+		assertBoolean(f.isCached()).isFalse();
+		f.cache();
+		assertBoolean(f.isCached()).isTrue();
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Consistency
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void e01_replacedAfterLookup() throws Exception {
+		StaticFiles sf = StaticFiles.create(BeanStore.INSTANCE).path(dir).caching(16).build();
+		java.nio.file.Path large = dir.resolve("large.txt"), tmp = dir.resolve("large.tmp");
+		HttpResource r = sf.resolve("large.txt", null).get();
+		String etag = r.getHeaders().getLast("ETag").get().getValue();
+		try {
+			Files.write(tmp, "replaced".getBytes("UTF-8"));
+			Files.setLastModifiedTime(tmp, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+			Files.move(tmp, large, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			// The resource still describes and contains the contents that were looked up.
+			assertLong(r.getContentLength()).is(36L);
+			assertString(read(r.getContent())).is(LARGE);
+
+			HttpResource r2 = sf.resolve("large.txt", null).get();
+			assertString(read(r2.getContent())).is("replaced");
+			assertString(r2.getHeaders().getLast("ETag").get().getValue()).isNot(etag);
+		} finally {
+			Files.write(large, LARGE.getBytes("UTF-8"));
+		}
+	}
+
+	@Test
+	public void e02_cachedValidators() throws Exception {
+		java.nio.file.Path small = dir.resolve("small.txt");
+		LocalFile f = new LocalFile(small).cache();
+		long lastModified = f.lastModified();
+		try {
+			Files.setLastModifiedTime(small, FileTime.fromMillis(lastModified + 60_000));
+			assertLong(f.lastModified()).is(lastModified);
+			try (LocalFileInputStream is = (LocalFileInputStream)f.read()) {
+				assertLong(is.getLastModified()).is(lastModified);
+				assertLong(is.getSize()).is(5L);
+			}
+		} finally {
+			Files.setLastModifiedTime(small, FileTime.fromMillis(lastModified));
+		}
+	}
+}
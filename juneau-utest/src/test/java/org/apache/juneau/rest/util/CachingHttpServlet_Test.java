@@ -0,0 +1,146 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class CachingHttpServlet_Test {
+
+	private static class TestResponse extends HttpServletResponseWrapper {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		boolean writerCalled, streamCalled;
+
+		TestResponse() {
+			super(MockServletResponse.create());
+		}
+
+		@Override
+		public PrintWriter getWriter() {
+			if (streamCalled)
+				throw new IllegalStateException("getOutputStream() already called.");
+			writerCalled = true;
+			return new PrintWriter(baos);
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() {
+			if (writerCalled)
+				throw new IllegalStateException("getWriter() already called.");
+			streamCalled = true;
+			return new ServletOutputStream() {
+				@Override
+				public void write(int b) {
+					baos.write(b);
+				}
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+				@Override
+				public void setWriteListener(WriteListener writeListener) {}
+			};
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Request
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_request_streamsThrough() throws Exception {
+		CachingHttpServletRequest req = CachingHttpServletRequest.wrap(MockServletRequest.create().content("foobar"));
+		assertObject(CachingHttpServletRequest.wrap(req)).isSame(req);
+		assertString(read(req.getContent())).isEmpty();
+		assertString(read(req.getInputStream())).is("foobar");
+		assertString(read(req.getContent())).is("foobar");
+		assertLong(req.getContentRead()).is(6l);
+	}
+
+	@Test
+	public void a02_request_boundedCapture() throws Exception {
+		CachingHttpServletRequest req = CachingHttpServletRequest.wrap(MockServletRequest.create().content("foobar"), 3);
+		InputStream is = req.getInputStream();
+		assertInteger(is.read()).is((int)'f');
+		assertString(read(is)).is("oobar");
+		assertString(read(req.getContent())).is("foo");
+		assertLong(req.getContentRead()).is(6l);
+	}
+
+	@Test
+	public void a03_request_noLimit() throws Exception {
+		CachingHttpServletRequest req = CachingHttpServletRequest.wrap(MockServletRequest.create().content("foobar"), -1);
+		assertString(read(req.getInputStream())).is("foobar");
+		assertString(read(req.getContent())).is("foobar");
+	}
+
+	@Test
+	public void a04_request_captureUnread() throws Exception {
+		CachingHttpServletRequest req = CachingHttpServletRequest.wrap(MockServletRequest.create().content("foobar"), 4);
+		assertInteger(req.getInputStream().read()).is((int)'f');
+		req.captureUnread();
+		assertString(read(req.getContent())).is("foob");
+		assertLong(req.getContentRead()).is(4l);
+		assertString(read(req.getInputStream())).is("ar");
+
+		req = CachingHttpServletRequest.wrap(MockServletRequest.create().content("foobar"), -1);
+		req.captureUnread();
+		assertString(read(req.getContent())).is("foobar");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Response
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_response_streamsThrough() throws Exception {
+		TestResponse inner = new TestResponse();
+		CachingHttpServletResponse res = CachingHttpServletResponse.wrap(inner);
+		assertObject(CachingHttpServletResponse.wrap(res)).isSame(res);
+		res.getOutputStream().write("foo".getBytes());
+		res.getOutputStream().write('b');
+		assertString(read(inner.baos.toByteArray())).is("foob");
+		assertString(read(res.getContent())).is("foob");
+		assertLong(res.getContentWritten()).is(4l);
+	}
+
+	@Test
+	public void b02_response_boundedCapture() throws Exception {
+		TestResponse inner = new TestResponse();
+		CachingHttpServletResponse res = CachingHttpServletResponse.wrap(inner, 2);
+		res.getOutputStream().write("foobar".getBytes(), 1, 4);
+		res.getOutputStream().write('x');
+		assertString(read(inner.baos.toByteArray())).is("oobax");
+		assertString(read(res.getContent())).is("oo");
+		assertLong(res.getContentWritten()).is(5l);
+	}
+
+	@Test
+	public void b03_response_writer() throws Exception {
+		TestResponse inner = new TestResponse();
+		CachingHttpServletResponse res = CachingHttpServletResponse.wrap(inner, 0);
+		res.getWriter().append("foo").flush();
+		assertString(read(inner.baos.toByteArray())).is("foo");
+		assertLong(res.getContentWritten()).is(0l);
+	}
+}
@@ -27,11 +27,14 @@ public class UrlPathMatcher_Test {
 
 	private void check(UrlPathMatcher p, String path, String expected) {
 		assertObject(p.match(UrlPath.of(path))).asString().is(expected);
+		assertBoolean(p.matches(UrlPath.of(path))).setMsg("path={0}", path).isTrue();
 	}
 
 	private void shouldNotMatch(UrlPathMatcher p, String...paths) {
-		for (String path : paths)
+		for (String path : paths) {
 			assertObject(p.match(UrlPath.of(path))).setMsg("path={0}", path).asJson().is("null");
+			assertBoolean(p.matches(UrlPath.of(path))).setMsg("path={0}", path).isFalse();
+		}
 	}
 
 	//------------------------------------------------------------------------------------------------------------------
@@ -392,4 +395,73 @@ public class UrlPathMatcher_Test {
 		check(p, "/*.*", "{}");
 		shouldNotMatch(p, "/foo", "/foo", "/*", null);
 	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Encoded literals
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void g02_encodedLiterals() throws Exception {
+		UrlPathMatcher p = of("/foo%2Fbar/{baz}");
+		check(p, "/foo%2Fbar/qux", "{v:{baz:'qux'}}");
+		shouldNotMatch(p, "/foo/bar/qux", "/foo%2Fbaz/qux");
+
+		p = of("/foo+bar/{baz}");
+		check(p, "/foo+bar/qux", "{v:{baz:'qux'}}");
+		check(p, "/foo%20bar/qux", "{v:{baz:'qux'}}");
+		shouldNotMatch(p, "/foo%2Bbar/qux");
+
+		p = of("/foo%2Bbar");
+		check(p, "/foo%2Bbar", "{}");
+		shouldNotMatch(p, "/foo+bar");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// UrlPath
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void j01_urlPathParts() throws Exception {
+		assertObject(UrlPath.of("/foo/b%2Fr/baz+qux/").getParts()).asJson().is("['foo','b/r','baz qux','']");
+		assertObject(UrlPath.of("//").getParts()).asJson().is("['','']");
+		assertObject(UrlPath.of("/").getParts()).asJson().is("[]");
+		assertObject(UrlPath.of(null).getParts()).asJson().is("[]");
+		assertObject(UrlPath.of("/foo\\/bar/ baz ").getParts()).asJson().is("['foo/bar','baz']");
+
+		UrlPath u = UrlPath.of("/foo/bar%20baz");
+		assertInteger(u.size()).is(2);
+		assertBoolean(u.partEquals(0, "foo")).isTrue();
+		assertBoolean(u.partEquals(0, "fo")).isFalse();
+		assertBoolean(u.partEquals(1, "bar baz")).isTrue();
+		assertBoolean(u.partEquals(1, "bar%20baz")).isFalse();
+		assertString(u.getPart(1)).is("bar baz");
+		assertString(u.getFileName().orElse(null)).isNull();
+	}
+
+	@Test
+	public void j02_manyParts() throws Exception {
+		StringBuilder path = new StringBuilder(), pattern = new StringBuilder();
+		for (int i = 0; i < 70; i++) {
+			path.append('/').append(i == 66 ? "x+y" : "p" + i);
+			pattern.append('/').append(i == 68 ? "{v}" : i == 66 ? "x y" : "p" + i);
+		}
+		check(of(pattern.toString()), path.toString(), "{v:{v:'p68'}}");
+		shouldNotMatch(of(pattern.toString().replace("/p67/", "/p99/")), path.toString());
+	}
+
+	@Test
+	public void j03_defaultMatches() throws Exception {
+		UrlPathMatcher p = new UrlPathMatcher("/foo") {
+			@Override
+			public UrlPathMatch match(UrlPath pathInfo) {
+				return "/foo".equals(pathInfo.getPath()) ? new UrlPathMatch("/foo", 1, new String[0], new String[0]) : null;
+			}
+			@Override
+			protected String getComparator() {
+				return "foo";
+			}
+		};
+		assertBoolean(p.matches(UrlPath.of("/foo"))).isTrue();
+		assertBoolean(p.matches(UrlPath.of("/bar"))).isFalse();
+	}
 }
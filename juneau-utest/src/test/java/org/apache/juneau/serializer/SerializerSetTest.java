@@ -151,4 +151,23 @@ public class SerializerSetTest {
 			super(builder.accept("*/*"));
 		}
 	}
+
+	//====================================================================================================
+	// Test match cache
+	//====================================================================================================
+	@Test
+	public void testMatchCache() throws Exception {
+		SerializerSet sg = SerializerSet.create().add(SA1.class, SA2.class, SA3.class).build();
+		assertObject(sg.getSerializer("text/foo;q=0.8,text/foo+bar;q=0.9")).isType(SA2.class);
+		assertObject(sg.getSerializer(" text/foo ; q=0.8 , text/foo+bar;q = 0.9 ")).isType(SA2.class);
+		assertLong(sg.getMatchCacheMisses()).is(1l);
+		assertLong(sg.getMatchCacheHits()).is(1l);
+
+		assertObject(sg.getSerializerMatch("text/xxx")).isNull();
+		assertObject(sg.getSerializerMatch("text/xxx")).isNull();
+		assertLong(sg.getMatchCacheMisses()).is(2l);
+		assertLong(sg.getMatchCacheHits()).is(2l);
+
+		assertObject(sg.getSerializerMatch((String)null)).isNull();
+	}
 }
@@ -0,0 +1,126 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.svl.vars.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class VarTemplateTest {
+
+	public static class CountingVar extends SimpleVar {
+		int count;
+
+		public CountingVar() {
+			super("C");
+		}
+
+		@Override
+		public String resolve(VarResolverSession session, String key) {
+			count++;
+			return "[" + key + "]";
+		}
+	}
+
+	private static VarResolver resolver() {
+		return VarResolver.create().vars(CountingVar.class, UpperCaseVar.class).build();
+	}
+
+	@Test
+	public void a01_cached() throws Exception {
+		VarResolver vr = resolver();
+		assertObject(vr.getTemplate("a$C{b}c")).isSame(vr.getTemplate("a$C{b}c"));
+		assertString(vr.resolve("a$C{b}c")).is("a[b]c");
+		assertString(vr.resolve("a$C{b}c")).is("a[b]c");
+	}
+
+	@Test
+	public void a02_parts() throws Exception {
+		VarTemplate t = resolver().getTemplate("a$C{b}c$UC{d}");
+		assertInteger(t.parts.length).is(4);
+		assertObject(t.constant).isNull();
+		assertObject(t.simpleVar).isNull();
+
+		t = resolver().getTemplate("$C{b}");
+		assertString(t.simpleVar).is("C");
+		assertString(t.simpleValue).is("b");
+	}
+
+	@Test
+	public void a03_constants() throws Exception {
+		VarResolver vr = resolver();
+
+		// Escapes and false triggers.
+		assertString(vr.getTemplate("a\\$C{b}c").constant).is("a$C{b}c");
+		assertString(vr.getTemplate("a$ b").constant).is("a$ b");
+
+		// Unregistered vars are looked up when resolved.
+		assertObject(vr.getTemplate("a$X{b}c").constant).isNull();
+		assertString(vr.resolve("a$X{b}c")).is("a$X{b}c");
+		assertString(vr.resolve("$X{b}")).is("$X{b}");
+
+		// Nested values that don't contain vars are resolved once.
+		VarTemplate t = vr.getTemplate("a$C{{x}}c");
+		assertString(((VarTemplate.Node)t.parts[1]).nested).is("{x}");
+		assertString(vr.resolve("a$C{{x}}c")).is("a[{x}]c");
+		t = vr.getTemplate("a$C{$X{b}}c");
+		assertObject(((VarTemplate.Node)t.parts[1]).nested).isNull();
+		assertString(vr.resolve("a$C{$X{b}}c")).is("a[$X{b}]c");
+		assertString(vr.resolve("a$C{$C{b}}c")).is("a[[b]]c");
+	}
+
+	@Test
+	public void a04_varsStillResolvedEachTime() throws Exception {
+		VarResolver vr = resolver();
+		CountingVar v = (CountingVar)vr.getVarMap().get("C");
+		vr.resolve("a$C{b}c");
+		vr.resolve("a$C{b}c");
+		vr.resolve("$C{b}");
+		assertInteger(v.count).is(3);
+	}
+
+	@Test
+	public void a05_frequentlyUsedTemplatesSurviveEviction() throws Exception {
+		VarResolver vr = resolver();
+		VarTemplate t = vr.getTemplate("a$C{b}c");
+		for (int i = 0; i < 5000; i++) {
+			vr.getTemplate("x$C{" + i + "}");
+			if (i % 100 == 0)
+				assertObject(vr.getTemplate("a$C{b}c")).isSame(t);
+		}
+		assertObject(vr.getTemplate("a$C{b}c")).isSame(t);
+	}
+
+	@Test
+	public void a06_sessionVarLookup() throws Exception {
+		VarResolver vr = resolver();
+		VarResolverSession s = new VarResolverSession(vr, null) {
+			@Override
+			protected Var getVar(String name) {
+				return super.getVar("X".equals(name) ? "UC" : name);
+			}
+		};
+
+		// Templates cached by the resolver don't prevent sessions from resolving unregistered names.
+		assertString(vr.resolve("a$X{b}c")).is("a$X{b}c");
+		assertString(s.resolve("a$X{b}c")).is("aBc");
+		assertString(vr.resolve("$X{b}")).is("$X{b}");
+		assertString(s.resolve("$X{b}")).is("B");
+		assertString(s.resolve("a$C{$X{b}}c")).is("a[B]c");
+		assertBoolean(s.isConstant("$X{b}")).isFalse();
+		assertBoolean(s.isConstant("a\\$X{b}")).isTrue();
+	}
+}
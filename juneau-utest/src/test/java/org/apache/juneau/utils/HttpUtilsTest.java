@@ -168,4 +168,19 @@ public class HttpUtilsTest {
 		assertEquals("/post", detectHttpPath(B2.class.getMethod("post",int.class,A.class), "get"));
 		assertEquals("/createFoo", detectHttpPath(B2.class.getMethod("createFoo",int.class,A.class), "get"));
 	}
+
+	//====================================================================================================
+	// normalizeHeaderValue()
+	//====================================================================================================
+
+	@Test
+	public void testNormalizeHeaderValue() throws Exception {
+		String s = "text/html;q=0.9,*/*";
+		assertSame(s, normalizeHeaderValue(s));
+		assertEquals("text/html;q=0.9,*/*", normalizeHeaderValue(" text/html ; q = 0.9 ,\t*/* "));
+		assertEquals("text/html;foo=\" a , b \";q=1", normalizeHeaderValue("text/html; foo=\" a , b \" ;q=1"));
+		assertEquals("text/html;foo=\"a\\\" b\"", normalizeHeaderValue("text/html; foo=\"a\\\" b\""));
+		assertEquals("text /  html", normalizeHeaderValue("text /  html"));
+		assertNull(normalizeHeaderValue(null));
+	}
 }
@@ -0,0 +1,94 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.xml;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.xml.annotation.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class XmlStaticNamespacesTest {
+
+	private static final XmlSerializer
+		DYNAMIC = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().build(),
+		STATIC = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().detectNamespacesStatically().build();
+
+	@Xml(prefix="a", namespace="http://a")
+	public static class A {
+		@Xml(prefix="b", namespace="http://b")
+		public String f1 = "1";
+		public B f2 = new B();
+		public List<C> f3 = Arrays.asList(new C());
+		public Map<String,C> f4 = Collections.singletonMap("x", new C());
+	}
+
+	@Xml(prefix="b", namespace="http://b")
+	public static class B {
+		@Xml(prefix="c", namespace="http://c")
+		public int f1 = 1;
+	}
+
+	@Xml(prefix="d", namespace="http://d")
+	public static class C {
+		public B f1;
+	}
+
+	public static class D {
+		public Object f1 = new B();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Tests
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_sameAsDynamic() throws Exception {
+		A a = new A();
+		assertString(STATIC.serialize(a)).is(DYNAMIC.serialize(a));
+		assertString(STATIC.serialize(a)).is("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:a='http://a' xmlns:b='http://b' xmlns:c='http://c' xmlns:d='http://d'><b:f1>1</b:f1><a:f2><c:f1>1</c:f1></a:f2><a:f3><object/></a:f3><a:f4><d:x/></a:f4></object>");
+	}
+
+	@Test
+	public void a02_cached() throws Exception {
+		XmlSerializer s = XmlSerializer.create().ns().detectNamespacesStatically().build();
+		s.serialize(new A());
+		assertObject(s.staticNamespaces.get(BeanContext.DEFAULT_SESSION.getClassMeta(A.class))).asJson().is("[{name:'a',uri:'http://a'},{name:'b',uri:'http://b'},{name:'c',uri:'http://c'},{name:'d',uri:'http://d'}]");
+	}
+
+	@Test
+	public void a03_fallbackForOpenTypes() throws Exception {
+		D d = new D();
+		assertString(STATIC.serialize(d)).is(DYNAMIC.serialize(d));
+		assertString(STATIC.serialize(d)).isContains("xmlns:c='http://c'");
+		assertString(STATIC.serialize(Collections.singletonMap("x", new B()))).isContains("xmlns:c='http://c'");
+	}
+
+	@Test
+	public void a04_nullPropertiesStillDeclared() throws Exception {
+		C c = new C();
+		assertString(DYNAMIC.serialize(c)).is("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:d='http://d'/>");
+		assertString(STATIC.serialize(c)).is("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:d='http://d' xmlns:b='http://b' xmlns:c='http://c'/>");
+	}
+
+	@Test
+	public void a05_disabledByDefault() throws Exception {
+		assertBoolean(XmlSerializer.DEFAULT.isDetectNamespacesStatically()).isFalse();
+		assertBoolean(STATIC.isDetectNamespacesStatically()).isTrue();
+		assertBoolean(STATIC.copy().build().isDetectNamespacesStatically()).isTrue();
+	}
+}